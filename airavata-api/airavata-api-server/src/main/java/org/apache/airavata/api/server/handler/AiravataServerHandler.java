@@ -53,6 +53,7 @@ import org.apache.airavata.model.util.ExecutionType;
 import org.apache.airavata.model.workspace.Project;
 import org.apache.airavata.model.workspace.experiment.*;
 import org.apache.airavata.orchestrator.client.OrchestratorClientFactory;
+import org.apache.airavata.orchestrator.cpi.OrchestratorBusyException;
 import org.apache.airavata.orchestrator.cpi.OrchestratorService;
 import org.apache.airavata.orchestrator.cpi.OrchestratorService.Client;
 import org.apache.airavata.persistance.registry.jpa.ResourceUtils;
@@ -70,6 +71,8 @@ import java.util.*;
 
 public class AiravataServerHandler implements Airavata.Iface {
     private static final AiravataLogger logger = AiravataLoggerFactory.getLogger(AiravataServerHandler.class);
+    public static final String EXPERIMENT_SEARCH_LIMIT = "api.server.experiment.search.limit";
+    private static final int DEFAULT_EXPERIMENT_SEARCH_LIMIT = 1000;
     private Registry registry;
     private AppCatalog appCatalog;
     private Publisher publisher;
@@ -406,7 +409,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             Map<String, String> filters = new HashMap<String, String>();
             filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
             filters.put(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_NAME, expName);
-            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            List<Object> results = searchExperiments(filters);
             for (Object object : results) {
                 summaries.add((ExperimentSummary) object);
             }
@@ -444,7 +447,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             Map<String, String> filters = new HashMap<String, String>();
             filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
             filters.put(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_DESC, description);
-            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            List<Object> results = searchExperiments(filters);
             for (Object object : results) {
                 summaries.add((ExperimentSummary) object);
             }
@@ -479,7 +482,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             Map<String, String> filters = new HashMap<String, String>();
             filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
             filters.put(Constants.FieldConstants.ExperimentConstants.APPLICATION_ID, applicationId);
-            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            List<Object> results = searchExperiments(filters);
             for (Object object : results) {
                 summaries.add((ExperimentSummary) object);
             }
@@ -515,7 +518,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             Map<String, String> filters = new HashMap<String, String>();
             filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
             filters.put(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_STATUS, experimentState.toString());
-            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            List<Object> results = searchExperiments(filters);
             for (Object object : results) {
                 summaries.add((ExperimentSummary) object);
             }
@@ -552,7 +555,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
             filters.put(Constants.FieldConstants.ExperimentConstants.FROM_DATE, String.valueOf(fromTime));
             filters.put(Constants.FieldConstants.ExperimentConstants.TO_DATE, String.valueOf(toTime));
-            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            List<Object> results = searchExperiments(filters);
             for (Object object : results) {
                 summaries.add((ExperimentSummary) object);
             }
@@ -566,6 +569,31 @@ public class AiravataServerHandler implements Airavata.Iface {
         }
     }
 
+    /**
+     * Runs an experiment search for the searchExperimentsBy* calls. Their API signatures have no paging parameters, so
+     * instead of every match they return the newest matches up to the {@link #EXPERIMENT_SEARCH_LIMIT} setting.
+     */
+    private List<Object> searchExperiments(Map<String, String> filters) throws RegistryException {
+        int limit = getExperimentSearchLimit();
+        List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters, limit, 0,
+                Constants.FieldConstants.ExperimentConstants.CREATION_TIME, ResultOrderType.DESC);
+        if (limit > 0 && results.size() == limit) {
+            logger.warn("Experiment search " + filters + " matched at least " + limit + " experiments, only the " +
+                    "newest " + limit + " are returned");
+        }
+        return results;
+    }
+
+    private int getExperimentSearchLimit() {
+        try {
+            return Integer.parseInt(ServerSettings.getSetting(EXPERIMENT_SEARCH_LIMIT,
+                    String.valueOf(DEFAULT_EXPERIMENT_SEARCH_LIMIT)).trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value for " + EXPERIMENT_SEARCH_LIMIT + ", using " + DEFAULT_EXPERIMENT_SEARCH_LIMIT);
+            return DEFAULT_EXPERIMENT_SEARCH_LIMIT;
+        }
+    }
+
     /**
      * Get all Experiments within a Project
      *
@@ -593,7 +621,7 @@ public class AiravataServerHandler implements Airavata.Iface {
                 throw exception;
             }
             List<Experiment> experiments = new ArrayList<Experiment>();
-            List<Object> list = registry.get(RegistryModelType.EXPERIMENT, Constants.FieldConstants.ExperimentConstants.PROJECT_ID, projectId);
+            List<Object> list = registry.get(RegistryModelType.EXPERIMENT, Constants.FieldConstants.ExperimentConstants.PROJECT_ID, projectId, FetchDepth.FULL);
             if (list != null && !list.isEmpty()) {
                 for (Object o : list) {
                     experiments.add((Experiment) o);
@@ -609,6 +637,51 @@ public class AiravataServerHandler implements Airavata.Iface {
         }
     }
 
+    /**
+     * Get the summaries of all Experiments within a Project
+     *
+     * @param projectId
+     */
+    @Override
+    public List<ExperimentSummary> getAllExperimentSummariesInProject(String projectId) throws InvalidRequestException,
+                                                                                               AiravataClientException,
+                                                                                               AiravataSystemException,
+                                                                                               ProjectNotFoundException,
+                                                                                               TException {
+        if (!validateString(projectId)){
+            logger.error("Project id cannot be empty. Please provide a valid project ID...");
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Project id cannot be empty. Please provide a valid project ID...");
+            throw exception;
+        }
+        try {
+            registry = RegistryFactory.getDefaultRegistry();
+            if (!registry.isExist(RegistryModelType.PROJECT, projectId)){
+                logger.error("Project does not exist in the system. Please provide a valid project ID...");
+                ProjectNotFoundException exception = new ProjectNotFoundException();
+                exception.setMessage("Project does not exist in the system. Please provide a valid project ID...");
+                throw exception;
+            }
+            List<ExperimentSummary> summaries = new ArrayList<ExperimentSummary>();
+            Map<String, String> filters = new HashMap<String, String>();
+            filters.put(Constants.FieldConstants.ExperimentConstants.PROJECT_ID, projectId);
+            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            for (Object object : results) {
+                summaries.add((ExperimentSummary) object);
+            }
+            return summaries;
+        } catch (ProjectNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error while retrieving the experiments", e);
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Error while retrieving the experiments. More info : " + e.getMessage());
+            throw exception;
+        }
+    }
+
     /**
      * Get all Experiments by user
      *
@@ -633,7 +706,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             }
             List<Experiment> experiments = new ArrayList<Experiment>();
             registry = RegistryFactory.getDefaultRegistry();
-            List<Object> list = registry.get(RegistryModelType.EXPERIMENT, Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
+            List<Object> list = registry.get(RegistryModelType.EXPERIMENT, Constants.FieldConstants.ExperimentConstants.USER_NAME, userName, FetchDepth.FULL);
             if (list != null && !list.isEmpty()){
                 for (Object o : list){
                     experiments.add((Experiment)o);
@@ -649,6 +722,49 @@ public class AiravataServerHandler implements Airavata.Iface {
         }
     }
 
+    /**
+     * Get the summaries of all Experiments by user
+     *
+     * @param userName
+     */
+    @Override
+    public List<ExperimentSummary> getAllUserExperimentSummaries(String userName) throws InvalidRequestException,
+                                                                                         AiravataClientException,
+                                                                                         AiravataSystemException,
+                                                                                         TException {
+        if (!validateString(userName)){
+            logger.error("Username cannot be empty. Please provide a valid user..");
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Username cannot be empty. Please provide a valid user..");
+            throw exception;
+        }
+        try {
+            if (!ResourceUtils.isUserExist(userName)){
+                logger.error("User does not exist in the system. Please provide a valid user..");
+                AiravataSystemException exception = new AiravataSystemException();
+                exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+                exception.setMessage("User does not exist in the system. Please provide a valid user..");
+                throw exception;
+            }
+            List<ExperimentSummary> summaries = new ArrayList<ExperimentSummary>();
+            registry = RegistryFactory.getDefaultRegistry();
+            Map<String, String> filters = new HashMap<String, String>();
+            filters.put(Constants.FieldConstants.ExperimentConstants.USER_NAME, userName);
+            List<Object> results = registry.search(RegistryModelType.EXPERIMENT, filters);
+            for (Object object : results) {
+                summaries.add((ExperimentSummary) object);
+            }
+            return summaries;
+        } catch (Exception e) {
+            logger.error("Error while retrieving the experiments", e);
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Error while retrieving the experiments. More info : " + e.getMessage());
+            throw exception;
+        }
+    }
+
     /**
      * Create an experiment for the specified user belonging to the gateway. The gateway identity is not explicitly passed
      * but inferred from the authentication header. This experiment is just a persistent place holder. The client
@@ -1202,6 +1318,9 @@ public class AiravataServerHandler implements Airavata.Iface {
     }
 
     private class SingleAppExperimentRunner implements Runnable {
+        // a busy orchestrator is asked again after 1, 2, 4 and 8 seconds
+        private static final int LAUNCH_ATTEMPTS = 5;
+        private static final long LAUNCH_RETRY_DELAY = 1000;
 
         String experimentId;
         String airavataCredStoreToken;
@@ -1216,7 +1335,7 @@ public class AiravataServerHandler implements Airavata.Iface {
             try {
                 launchSingleAppExperiment();
             } catch (TException e) {
-                e.printStackTrace();
+                logger.errorId(experimentId, "Error while launching experiment " + experimentId, e);
             }
         }
 
@@ -1235,43 +1354,35 @@ public class AiravataServerHandler implements Airavata.Iface {
                             logger.errorId(experimentId, "Error retrieving the Experiment by the given experimentID: {}", experimentId);
                             return false;
                         }
-                        ExperimentStatus status = new ExperimentStatus();
-                        status.setExperimentState(ExperimentState.LAUNCHED);
-                        status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
-                        experiment.setExperimentStatus(status);
-                        registry.update(RegistryModelType.EXPERIMENT_STATUS, status, experimentId);
-                        if (ServerSettings.isRabbitMqPublishEnabled()) {
-                            String gatewayId = ServerSettings.getDefaultUserGateway();
-                            ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent(ExperimentState.LAUNCHED,
-                                    experimentId,
-                                    gatewayId);
-                            String messageId = AiravataUtils.getId("EXPERIMENT");
-                            MessageContext messageContext = new MessageContext(event, MessageType.EXPERIMENT, messageId, gatewayId);
-                            messageContext.setUpdatedTime(AiravataUtils.getCurrentTimestamp());
-                            publisher.publish(messageContext);
-                        }
+                        updateExperimentStatus(ExperimentState.LAUNCHED);
                         registry.update(RegistryModelType.TASK_DETAIL, taskData, taskData.getTaskID());
                         //launching the experiment
-                        client.launchTask(taskData.getTaskID(), airavataCredStoreToken);
+                        launchTask(taskData.getTaskID());
                     }
                 }
 
+            } catch (OrchestratorBusyException e) {
+                // the orchestrator did not take the launch, so the experiment can be launched again later
+                logger.errorId(experimentId, "Orchestrator is still busy after " + LAUNCH_ATTEMPTS
+                        + " attempts, experiment status is set back to " + ExperimentState.CREATED, e);
+                try {
+                    updateExperimentStatus(ExperimentState.CREATED);
+                } catch (Exception e1) {
+                    logger.errorId(experimentId, "Error while updating experiment status to " + ExperimentState.CREATED, e1);
+                }
+                throw e;
             } catch (Exception e) {
                 // Here we really do not have to do much because only potential failure can happen
                 // is in gfac, if there are errors in gfac, it will handle the experiment/task/job statuses
                 // We might get failures in registry access before submitting the jobs to gfac, in that case we
                 // leave the status of these as created.
-                ExperimentStatus status = new ExperimentStatus();
-                status.setExperimentState(ExperimentState.FAILED);
-                status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
-                experiment.setExperimentStatus(status);
                 try {
-                    registry.update(RegistryModelType.EXPERIMENT_STATUS, status, experimentId);
-                } catch (RegistryException e1) {
-                    logger.errorId(experimentId, "Error while updating experiment status to " + status.toString(), e);
+                    updateExperimentStatus(ExperimentState.FAILED);
+                } catch (Exception e1) {
+                    logger.errorId(experimentId, "Error while updating experiment status to " + ExperimentState.FAILED, e);
                     throw new TException(e);
                 }
-                logger.errorId(experimentId, "Error while updating task status, hence updated experiment status to " + status.toString(), e);
+                logger.errorId(experimentId, "Error while updating task status, hence updated experiment status to " + ExperimentState.FAILED, e);
                 throw new TException(e);
             } finally {
                 client.getOutputProtocol().getTransport().close();
@@ -1280,6 +1391,47 @@ public class AiravataServerHandler implements Airavata.Iface {
             }
             return true;
         }
+
+        /**
+         * Launches the task through the orchestrator, asking again with a doubling delay while the orchestrator's
+         * launch queue is full.
+         */
+        private void launchTask(String taskId) throws TException {
+            long delay = LAUNCH_RETRY_DELAY;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    client.launchTask(taskId, airavataCredStoreToken);
+                    return;
+                } catch (OrchestratorBusyException e) {
+                    if (attempt == LAUNCH_ATTEMPTS) {
+                        throw e;
+                    }
+                    logger.warnId(experimentId, "Orchestrator is busy, launching task {} again in {} ms.", taskId, delay);
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException e1) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                    delay *= 2;
+                }
+            }
+        }
+
+        private void updateExperimentStatus(ExperimentState state) throws Exception {
+            ExperimentStatus status = new ExperimentStatus();
+            status.setExperimentState(state);
+            status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
+            registry.update(RegistryModelType.EXPERIMENT_STATUS, status, experimentId);
+            if (ServerSettings.isRabbitMqPublishEnabled()) {
+                String gatewayId = ServerSettings.getDefaultUserGateway();
+                ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent(state, experimentId, gatewayId);
+                String messageId = AiravataUtils.getId("EXPERIMENT");
+                MessageContext messageContext = new MessageContext(event, MessageType.EXPERIMENT, messageId, gatewayId);
+                messageContext.setUpdatedTime(AiravataUtils.getCurrentTimestamp());
+                publisher.publish(messageContext);
+            }
+        }
     }
     
 	private OrchestratorService.Client getOrchestratorClient() {
@@ -183,6 +183,17 @@ service Airavata {
                   3: airavataErrors.AiravataSystemException ase,
                   4: airavataErrors.ProjectNotFoundException pnfe)
 
+  /**
+     * Get the summaries of all Experiments within a Project. Only the experiment fields, the experiment status
+     * and the errors are loaded, use getExperiment to fetch a complete experiment.
+     *
+  */
+  list<experimentModel.ExperimentSummary> getAllExperimentSummariesInProject(1: required string projectId)
+          throws (1: airavataErrors.InvalidRequestException ire,
+                  2: airavataErrors.AiravataClientException ace,
+                  3: airavataErrors.AiravataSystemException ase,
+                  4: airavataErrors.ProjectNotFoundException pnfe)
+
   /**
      * Get all Experiments by user
      *
@@ -192,6 +203,16 @@ service Airavata {
                     2: airavataErrors.AiravataClientException ace,
                     3: airavataErrors.AiravataSystemException ase)
 
+  /**
+     * Get the summaries of all Experiments by user. Only the experiment fields, the experiment status and the
+     * errors are loaded, use getExperiment to fetch a complete experiment.
+     *
+  */
+  list<experimentModel.ExperimentSummary> getAllUserExperimentSummaries(1: required string userName)
+            throws (1: airavataErrors.InvalidRequestException ire,
+                    2: airavataErrors.AiravataClientException ace,
+                    3: airavataErrors.AiravataSystemException ase)
+
   /**
      * Create an experiment for the specified user belonging to the gateway. The gateway identity is not explicitly passed
      *   but inferred from the authentication header. This experiment is just a persistent place holder. The client
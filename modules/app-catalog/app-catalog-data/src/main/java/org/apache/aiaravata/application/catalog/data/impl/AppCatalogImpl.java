@@ -23,30 +23,59 @@ package org.apache.aiaravata.application.catalog.data.impl;
 
 import org.airavata.appcatalog.cpi.*;
 import org.airavata.appcatalog.cpi.GwyResourceProfile;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogCache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 
 public class AppCatalogImpl implements AppCatalog {
     @Override
     public ComputeResource getComputeResource() {
-        return new ComputeResourceImpl();
+        return invalidatingCacheOnWrite(new ComputeResourceImpl(), ComputeResource.class);
     }
 
     @Override
     public ApplicationInterface getApplicationInterface() {
-        return new ApplicationInterfaceImpl();
+        return invalidatingCacheOnWrite(new ApplicationInterfaceImpl(), ApplicationInterface.class);
     }
 
     @Override
     public ApplicationDeployment getApplicationDeployment() {
-        return new ApplicationDeploymentImpl();
+        return invalidatingCacheOnWrite(new ApplicationDeploymentImpl(), ApplicationDeployment.class);
     }
 
 	@Override
 	public GwyResourceProfile getGatewayProfile() throws AppCatalogException {
-		return new GwyResourceProfileImpl();
+		return invalidatingCacheOnWrite(new GwyResourceProfileImpl(), GwyResourceProfile.class);
 	}
 
     @Override
     public WorkflowCatalog getWorkflowCatalog() throws AppCatalogException {
         return new WorkflowCatalogImpl();
     }
+
+    /**
+     * Drops the cached descriptors in {@link AppCatalogCache} after every add, update or remove call, whether it
+     * succeeded or not, so readers never keep a descriptor which was changed through this catalog.
+     */
+    private static <T> T invalidatingCacheOnWrite(final T target, Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(AppCatalogImpl.class.getClassLoader(), new Class[]{type},
+                new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String name = method.getName();
+                        boolean write = name.startsWith("add") || name.startsWith("update") || name.startsWith("remove");
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (write) {
+                                AppCatalogCache.invalidateAll();
+                            }
+                        }
+                    }
+                }));
+    }
 }
@@ -24,6 +24,7 @@ package org.apache.aiaravata.application.catalog.data.impl;
 import org.airavata.appcatalog.cpi.AppCatalogException;
 import org.airavata.appcatalog.cpi.ApplicationDeployment;
 import org.apache.aiaravata.application.catalog.data.resources.*;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogBulkLoader;
 import org.apache.aiaravata.application.catalog.data.util.AppCatalogThriftConversion;
 import org.apache.aiaravata.application.catalog.data.util.AppCatalogUtils;
 import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
@@ -225,9 +226,7 @@ public class ApplicationDeploymentImpl implements ApplicationDeployment {
     @Override
     public ApplicationDeploymentDescription getApplicationDeployement(String deploymentId) throws AppCatalogException {
         try {
-            AppDeploymentResource deploymentResource = new AppDeploymentResource();
-            AppDeploymentResource appDep = (AppDeploymentResource)deploymentResource.get(deploymentId);
-            return AppCatalogThriftConversion.getApplicationDeploymentDescription(appDep);
+            return AppCatalogBulkLoader.getApplicationDeployment(deploymentId);
         }catch (Exception e) {
             logger.error("Error while retrieving application deployment...", e);
             throw new AppCatalogException(e);
@@ -285,11 +284,7 @@ public class ApplicationDeploymentImpl implements ApplicationDeployment {
     public List<ApplicationDeploymentDescription> getAllApplicationDeployements() throws AppCatalogException {
         List<ApplicationDeploymentDescription> deploymentDescriptions = new ArrayList<ApplicationDeploymentDescription>();
         try {
-            AppDeploymentResource resource = new AppDeploymentResource();
-            List<Resource> resources = resource.getAll();
-            if (resources != null && !resources.isEmpty()){
-                deploymentDescriptions = AppCatalogThriftConversion.getAppDepDescList(resources);
-            }
+            deploymentDescriptions = AppCatalogBulkLoader.getAllApplicationDeployments();
 
         }catch (Exception e){
             logger.error("Error while retrieving app deployment list...", e);
@@ -26,6 +26,7 @@ import java.util.*;
 import org.airavata.appcatalog.cpi.AppCatalogException;
 import org.airavata.appcatalog.cpi.ComputeResource;
 import org.apache.aiaravata.application.catalog.data.resources.*;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogBulkLoader;
 import org.apache.aiaravata.application.catalog.data.util.AppCatalogThriftConversion;
 import org.apache.aiaravata.application.catalog.data.util.AppCatalogUtils;
 import org.apache.airavata.model.appcatalog.computeresource.*;
@@ -382,9 +383,7 @@ public class ComputeResourceImpl implements ComputeResource {
     @Override
     public ComputeResourceDescription getComputeResource(String resourceId) throws AppCatalogException {
         try {
-            ComputeResourceResource resource = new ComputeResourceResource();
-            ComputeResourceResource computeResource = (ComputeResourceResource)resource.get(resourceId);
-            return AppCatalogThriftConversion.getComputeHostDescription(computeResource);
+            return AppCatalogBulkLoader.getComputeResource(resourceId);
         }catch (Exception e){
             logger.error("Error while retrieving compute resource...", e);
             throw new AppCatalogException(e);
@@ -419,11 +418,7 @@ public class ComputeResourceImpl implements ComputeResource {
     public List<ComputeResourceDescription> getAllComputeResourceList() throws AppCatalogException {
         List<ComputeResourceDescription> computeResourceDescriptions = new ArrayList<ComputeResourceDescription>();
         try {
-            ComputeResourceResource resource = new ComputeResourceResource();
-            List<Resource> resources = resource.getAll();
-            if (resources != null && !resources.isEmpty()){
-                computeResourceDescriptions = AppCatalogThriftConversion.getComputeDescriptionList(resources);
-            }
+            computeResourceDescriptions = AppCatalogBulkLoader.getAllComputeResources();
         }catch (Exception e){
             logger.error("Error while retrieving compute resource list...", e);
             throw new AppCatalogException(e);
@@ -0,0 +1,272 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.aiaravata.application.catalog.data.util;
+
+import org.airavata.appcatalog.cpi.AppCatalogException;
+import org.apache.airavata.common.exception.ApplicationSettingsException;
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationParallelismType;
+import org.apache.airavata.model.appcatalog.appdeployment.SetEnvPaths;
+import org.apache.airavata.model.appcatalog.computeresource.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads complete compute resource and application deployment descriptions with a fixed number of queries. The
+ * descriptions are assembled from one query per table, each restricted to the requested ids (or unrestricted when
+ * everything is loaded), in a single entity manager. Building them through the resources instead costs a query and
+ * an entity manager per child table for every description.
+ *
+ * Only the columns needed for the descriptions are selected, so the parent entities the child entities refer to are
+ * not loaded.
+ */
+public class AppCatalogBulkLoader {
+    private final static Logger logger = LoggerFactory.getLogger(AppCatalogBulkLoader.class);
+
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    public static ComputeResourceDescription getComputeResource(String resourceId) throws AppCatalogException {
+        List<String> ids = new ArrayList<String>();
+        ids.add(resourceId);
+        List<ComputeResourceDescription> descriptions = getComputeResources(ids);
+        if (descriptions.isEmpty()) {
+            throw new AppCatalogException("Compute resource " + resourceId + " does not exist");
+        }
+        return descriptions.get(0);
+    }
+
+    /**
+     * @return descriptions of the given compute resources, in the given order. Ids which do not exist are skipped.
+     */
+    public static List<ComputeResourceDescription> getComputeResources(List<String> resourceIds) throws AppCatalogException {
+        if (resourceIds.isEmpty()) {
+            return new ArrayList<ComputeResourceDescription>();
+        }
+        return loadComputeResources(resourceIds);
+    }
+
+    public static List<ComputeResourceDescription> getAllComputeResources() throws AppCatalogException {
+        return loadComputeResources(null);
+    }
+
+    public static ApplicationDeploymentDescription getApplicationDeployment(String deploymentId) throws AppCatalogException {
+        List<String> ids = new ArrayList<String>();
+        ids.add(deploymentId);
+        List<ApplicationDeploymentDescription> descriptions = getApplicationDeployments(ids);
+        if (descriptions.isEmpty()) {
+            throw new AppCatalogException("Application deployment " + deploymentId + " does not exist");
+        }
+        return descriptions.get(0);
+    }
+
+    /**
+     * @return descriptions of the given application deployments, in the given order. Ids which do not exist are
+     * skipped.
+     */
+    public static List<ApplicationDeploymentDescription> getApplicationDeployments(List<String> deploymentIds)
+            throws AppCatalogException {
+        if (deploymentIds.isEmpty()) {
+            return new ArrayList<ApplicationDeploymentDescription>();
+        }
+        return loadApplicationDeployments(deploymentIds);
+    }
+
+    public static List<ApplicationDeploymentDescription> getAllApplicationDeployments() throws AppCatalogException {
+        return loadApplicationDeployments(null);
+    }
+
+    private static List<ComputeResourceDescription> loadComputeResources(List<String> ids) throws AppCatalogException {
+        EntityManager em = null;
+        try {
+            em = AppCatalogJPAUtils.getEntityManager();
+            em.getTransaction().begin();
+            Map<String, ComputeResourceDescription> descriptions = new LinkedHashMap<String, ComputeResourceDescription>();
+            for (Object[] row : query(em, "SELECT c.resourceId, c.hostName, c.resourceDescription FROM ComputeResource c",
+                    "c.resourceId", ids)) {
+                ComputeResourceDescription description = new ComputeResourceDescription();
+                description.setComputeResourceId((String) row[0]);
+                description.setHostName((String) row[1]);
+                description.setResourceDescription((String) row[2]);
+                description.setFileSystems(new HashMap<FileSystems, String>());
+                descriptions.put(description.getComputeResourceId(), description);
+            }
+            if (!descriptions.isEmpty()) {
+                List<String> foundIds = ids == null ? null : new ArrayList<String>(descriptions.keySet());
+                for (Object[] row : query(em, "SELECT h.resourceID, h.alias FROM HostAlias h", "h.resourceID", foundIds)) {
+                    descriptions.get(row[0]).addToHostAliases((String) row[1]);
+                }
+                for (Object[] row : query(em, "SELECT i.resourceID, i.ipaddress FROM HostIPAddress i", "i.resourceID",
+                        foundIds)) {
+                    descriptions.get(row[0]).addToIpAddresses((String) row[1]);
+                }
+                for (Object[] row : query(em, "SELECT b.computeResourceId, b.queueName, b.queueDescription, b.maxRuntime, " +
+                        "b.maxNodes, b.maxProcessors, b.maxJobInQueue FROM BatchQueue b", "b.computeResourceId", foundIds)) {
+                    BatchQueue batchQueue = new BatchQueue();
+                    batchQueue.setQueueName((String) row[1]);
+                    batchQueue.setQueueDescription((String) row[2]);
+                    batchQueue.setMaxRunTime((Integer) row[3]);
+                    batchQueue.setMaxNodes((Integer) row[4]);
+                    batchQueue.setMaxProcessors((Integer) row[5]);
+                    batchQueue.setMaxJobsInQueue((Integer) row[6]);
+                    descriptions.get(row[0]).addToBatchQueues(batchQueue);
+                }
+                for (Object[] row : query(em, "SELECT f.computeResourceId, f.fileSystem, f.path FROM ComputeResourceFileSystem f",
+                        "f.computeResourceId", foundIds)) {
+                    descriptions.get(row[0]).putToFileSystems(FileSystems.valueOf((String) row[1]), (String) row[2]);
+                }
+                for (Object[] row : query(em, "SELECT j.computeResourceId, j.jobSubmissionInterfaceId, " +
+                        "j.jobSubmissionProtocol, j.priorityOrder FROM JobSubmissionInterface j", "j.computeResourceId",
+                        foundIds)) {
+                    JobSubmissionInterface jobSubmissionInterface = new JobSubmissionInterface();
+                    jobSubmissionInterface.setJobSubmissionInterfaceId((String) row[1]);
+                    jobSubmissionInterface.setJobSubmissionProtocol(JobSubmissionProtocol.valueOf((String) row[2]));
+                    jobSubmissionInterface.setPriorityOrder((Integer) row[3]);
+                    descriptions.get(row[0]).addToJobSubmissionInterfaces(jobSubmissionInterface);
+                }
+                for (Object[] row : query(em, "SELECT d.computeResourceId, d.dataMovementInterfaceId, " +
+                        "d.dataMovementProtocol, d.priorityOrder FROM DataMovementInterface d", "d.computeResourceId",
+                        foundIds)) {
+                    DataMovementInterface dataMovementInterface = new DataMovementInterface();
+                    dataMovementInterface.setDataMovementInterfaceId((String) row[1]);
+                    dataMovementInterface.setDataMovementProtocol(DataMovementProtocol.valueOf((String) row[2]));
+                    dataMovementInterface.setPriorityOrder((Integer) row[3]);
+                    descriptions.get(row[0]).addToDataMovementInterfaces(dataMovementInterface);
+                }
+            }
+            em.getTransaction().commit();
+            em.close();
+            return ordered(descriptions, ids);
+        } catch (ApplicationSettingsException e) {
+            logger.error(e.getMessage(), e);
+            throw new AppCatalogException(e);
+        } finally {
+            close(em);
+        }
+    }
+
+    private static List<ApplicationDeploymentDescription> loadApplicationDeployments(List<String> ids)
+            throws AppCatalogException {
+        EntityManager em = null;
+        try {
+            em = AppCatalogJPAUtils.getEntityManager();
+            em.getTransaction().begin();
+            Map<String, ApplicationDeploymentDescription> descriptions =
+                    new LinkedHashMap<String, ApplicationDeploymentDescription>();
+            for (Object[] row : query(em, "SELECT d.deploymentID, d.appModuleID, d.hostID, d.executablePath, " +
+                    "d.applicationDesc, d.parallelism FROM ApplicationDeployment d", "d.deploymentID", ids)) {
+                ApplicationDeploymentDescription description = new ApplicationDeploymentDescription();
+                description.setAppDeploymentId((String) row[0]);
+                description.setAppModuleId((String) row[1]);
+                description.setComputeHostId((String) row[2]);
+                description.setExecutablePath((String) row[3]);
+                description.setAppDeploymentDescription((String) row[4]);
+                if (row[5] != null) {
+                    description.setParallelism(ApplicationParallelismType.valueOf((String) row[5]));
+                }
+                descriptions.put(description.getAppDeploymentId(), description);
+            }
+            if (!descriptions.isEmpty()) {
+                List<String> foundIds = ids == null ? null : new ArrayList<String>(descriptions.keySet());
+                for (Object[] row : query(em, "SELECT m.appDeploymentId, m.cmd FROM ModuleLoadCmd m", "m.appDeploymentId",
+                        foundIds)) {
+                    descriptions.get(row[0]).addToModuleLoadCmds((String) row[1]);
+                }
+                for (Object[] row : query(em, "SELECT p.deploymentID, p.name, p.value FROM LibraryPrepandPath p",
+                        "p.deploymentID", foundIds)) {
+                    descriptions.get(row[0]).addToLibPrependPaths(setEnvPaths(row));
+                }
+                for (Object[] row : query(em, "SELECT a.deploymentID, a.name, a.value FROM LibraryApendPath a",
+                        "a.deploymentID", foundIds)) {
+                    descriptions.get(row[0]).addToLibAppendPaths(setEnvPaths(row));
+                }
+                for (Object[] row : query(em, "SELECT e.deploymentID, e.name, e.value FROM AppEnvironment e",
+                        "e.deploymentID", foundIds)) {
+                    descriptions.get(row[0]).addToSetEnvironment(setEnvPaths(row));
+                }
+            }
+            em.getTransaction().commit();
+            em.close();
+            return ordered(descriptions, ids);
+        } catch (ApplicationSettingsException e) {
+            logger.error(e.getMessage(), e);
+            throw new AppCatalogException(e);
+        } finally {
+            close(em);
+        }
+    }
+
+    private static SetEnvPaths setEnvPaths(Object[] row) {
+        SetEnvPaths envPaths = new SetEnvPaths();
+        envPaths.setName((String) row[1]);
+        envPaths.setValue((String) row[2]);
+        return envPaths;
+    }
+
+    /**
+     * Runs the select for all rows, or for the rows whose id field is one of the ids in chunks of
+     * MAX_IDS_PER_QUERY.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object[]> query(EntityManager em, String select, String idField, List<String> ids) {
+        if (ids == null) {
+            return em.createQuery(select).getResultList();
+        }
+        List<Object[]> rows = new ArrayList<Object[]>();
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_QUERY) {
+            Query q = em.createQuery(select + " WHERE " + idField + " IN :ids");
+            q.setParameter("ids", ids.subList(i, Math.min(ids.size(), i + MAX_IDS_PER_QUERY)));
+            rows.addAll(q.getResultList());
+        }
+        return rows;
+    }
+
+    private static <T> List<T> ordered(Map<String, T> descriptions, List<String> ids) {
+        if (ids == null) {
+            return new ArrayList<T>(descriptions.values());
+        }
+        List<T> list = new ArrayList<T>();
+        for (String id : ids) {
+            T description = descriptions.get(id);
+            if (description != null) {
+                list.add(description);
+            }
+        }
+        return list;
+    }
+
+    private static void close(EntityManager em) {
+        if (em != null && em.isOpen()) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
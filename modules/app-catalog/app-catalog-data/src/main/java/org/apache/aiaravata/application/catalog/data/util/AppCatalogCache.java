@@ -0,0 +1,255 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.aiaravata.application.catalog.data.util;
+
+import org.airavata.appcatalog.cpi.AppCatalog;
+import org.airavata.appcatalog.cpi.AppCatalogException;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
+import org.apache.airavata.model.appcatalog.appinterface.ApplicationInterfaceDescription;
+import org.apache.airavata.model.appcatalog.computeresource.ComputeResourceDescription;
+import org.apache.airavata.model.appcatalog.computeresource.LOCALSubmission;
+import org.apache.airavata.model.appcatalog.computeresource.SSHJobSubmission;
+import org.apache.airavata.model.appcatalog.computeresource.UnicoreJobSubmission;
+import org.apache.airavata.model.appcatalog.gatewayprofile.ComputeResourcePreference;
+import org.apache.thrift.TBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in memory cache of the app catalog descriptors needed for every job submission. Descriptors change rarely, so
+ * they are kept until they expire or the app catalog is written to. Every write made through
+ * {@link org.apache.aiaravata.application.catalog.data.impl.AppCatalogImpl} increments the catalog version and drops
+ * all entries; a descriptor read while a write was in progress is not cached because the version it was read at is
+ * no longer current. Writes made by other processes are picked up once the entries expire.
+ *
+ * Thrift descriptors are copied on the way in and out because they are mutable.
+ */
+public class AppCatalogCache {
+    private final static Logger logger = LoggerFactory.getLogger(AppCatalogCache.class);
+
+    public static final String APP_CATALOG_CACHE_SIZE = "appcatalog.cache.size";
+    public static final String APP_CATALOG_CACHE_TTL = "appcatalog.cache.ttl";
+
+    private static final Object NULL_VALUE = new Object();
+    private static final AtomicLong version = new AtomicLong();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private static final int maxSize = readSetting(APP_CATALOG_CACHE_SIZE, 1000);
+    private static final long timeToLive = readSetting(APP_CATALOG_CACHE_TTL, 300000);
+    private static final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private interface Loader {
+        Object load() throws AppCatalogException;
+    }
+
+    /**
+     * @return the current catalog version, which changes whenever the app catalog is written to
+     */
+    public static long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Drops every cached descriptor. Called after each write to the app catalog.
+     */
+    public static void invalidateAll() {
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public static ApplicationInterfaceDescription getApplicationInterface(final AppCatalog appCatalog,
+                                                                          final String interfaceId) throws AppCatalogException {
+        return (ApplicationInterfaceDescription) get("interface:" + interfaceId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getApplicationInterface().getApplicationInterface(interfaceId);
+            }
+        });
+    }
+
+    public static ApplicationDeploymentDescription getApplicationDeployment(final AppCatalog appCatalog,
+                                                                            final String deploymentId) throws AppCatalogException {
+        return (ApplicationDeploymentDescription) get("deployment:" + deploymentId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getApplicationDeployment().getApplicationDeployement(deploymentId);
+            }
+        });
+    }
+
+    public static ComputeResourceDescription getComputeResource(final AppCatalog appCatalog,
+                                                                final String computeResourceId) throws AppCatalogException {
+        return (ComputeResourceDescription) get("resource:" + computeResourceId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getComputeResource().getComputeResource(computeResourceId);
+            }
+        });
+    }
+
+    public static ComputeResourcePreference getComputeResourcePreference(final AppCatalog appCatalog, final String gatewayId,
+                                                                         final String computeResourceId) throws AppCatalogException {
+        return (ComputeResourcePreference) get("preference:" + gatewayId + "," + computeResourceId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getGatewayProfile().getComputeResourcePreference(gatewayId, computeResourceId);
+            }
+        });
+    }
+
+    /**
+     * @return id of the first gateway profile of the given gateway which has a preference for the compute resource,
+     * or null if there is none
+     */
+    public static String getPreferredGatewayProfileId(final AppCatalog appCatalog, final String gatewayId,
+                                                      final String computeResourceId) throws AppCatalogException {
+        return (String) get("profile:" + gatewayId + "," + computeResourceId, new Loader() {
+            public Object load() throws AppCatalogException {
+                List<String> gatewayProfileIds = appCatalog.getGatewayProfile().getGatewayProfileIds(gatewayId);
+                for (String profileId : gatewayProfileIds) {
+                    if (getComputeResourcePreference(appCatalog, profileId, computeResourceId) != null) {
+                        return profileId;
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    public static SSHJobSubmission getSSHJobSubmission(final AppCatalog appCatalog,
+                                                       final String submissionId) throws AppCatalogException {
+        return (SSHJobSubmission) get("ssh:" + submissionId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getComputeResource().getSSHJobSubmission(submissionId);
+            }
+        });
+    }
+
+    public static LOCALSubmission getLocalJobSubmission(final AppCatalog appCatalog,
+                                                        final String submissionId) throws AppCatalogException {
+        return (LOCALSubmission) get("local:" + submissionId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getComputeResource().getLocalJobSubmission(submissionId);
+            }
+        });
+    }
+
+    public static UnicoreJobSubmission getUNICOREJobSubmission(final AppCatalog appCatalog,
+                                                               final String submissionId) throws AppCatalogException {
+        return (UnicoreJobSubmission) get("unicore:" + submissionId, new Loader() {
+            public Object load() throws AppCatalogException {
+                return appCatalog.getComputeResource().getUNICOREJobSubmission(submissionId);
+            }
+        });
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    public static long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public static int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    private static Object get(String key, Loader loader) throws AppCatalogException {
+        if (maxSize <= 0) {
+            return loader.load();
+        }
+        Entry entry;
+        long loadVersion;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(key);
+                entry = null;
+            }
+            loadVersion = version.get();
+        }
+        if (entry != null) {
+            hits.incrementAndGet();
+            return copy(entry.value);
+        }
+        misses.incrementAndGet();
+        Object value = loader.load();
+        synchronized (entries) {
+            if (loadVersion == version.get()) {
+                entries.put(key, new Entry(value == null ? NULL_VALUE : copy(value)));
+            }
+        }
+        return value;
+    }
+
+    private static Object copy(Object value) {
+        if (value == NULL_VALUE) {
+            return null;
+        } else if (value instanceof TBase) {
+            return ((TBase) value).deepCopy();
+        }
+        return value;
+    }
+
+    private static int readSetting(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(ServerSettings.getSetting(key, String.valueOf(defaultValue)));
+        } catch (Exception e) {
+            logger.warn("Unable to read " + key + ", using the default value " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long createdTime = System.currentTimeMillis();
+
+        private Entry(Object value) {
+            this.value = value;
+        }
+
+        private boolean isExpired() {
+            return timeToLive > 0 && System.currentTimeMillis() - createdTime > timeToLive;
+        }
+    }
+}
@@ -94,11 +94,11 @@ public class AppCatalogThriftConversion {
     }
 
     public static  List<ComputeResourceDescription> getComputeDescriptionList (List<Resource> resources) throws AppCatalogException {
-        List<ComputeResourceDescription> list = new ArrayList<ComputeResourceDescription>();
+        List<String> resourceIds = new ArrayList<String>();
         for (Resource resource : resources){
-            list.add(getComputeHostDescription((ComputeResourceResource)resource));
+            resourceIds.add(((ComputeResourceResource)resource).getResourceId());
         }
-        return list;
+        return AppCatalogBulkLoader.getComputeResources(resourceIds);
     }
 
     public static Set<String> getHostAliases (List<Resource> resources){
@@ -616,11 +616,11 @@ public class AppCatalogThriftConversion {
     }
 
     public static List<ApplicationDeploymentDescription> getAppDepDescList (List<Resource> resources) throws AppCatalogException {
-        List<ApplicationDeploymentDescription> appList = new ArrayList<ApplicationDeploymentDescription>();
+        List<String> deploymentIds = new ArrayList<String>();
         for (Resource resource : resources){
-            appList.add(getApplicationDeploymentDescription((AppDeploymentResource)resource));
+            deploymentIds.add(((AppDeploymentResource)resource).getDeploymentId());
         }
-        return appList;
+        return AppCatalogBulkLoader.getApplicationDeployments(deploymentIds);
     }
 
     public static SetEnvPaths getSetEnvPath(Resource resource){
@@ -0,0 +1,91 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.app.catalog.test;
+
+import org.airavata.appcatalog.cpi.AppCatalog;
+import org.airavata.appcatalog.cpi.AppCatalogException;
+import org.airavata.appcatalog.cpi.ComputeResource;
+import org.apache.aiaravata.application.catalog.data.impl.AppCatalogFactory;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogCache;
+import org.apache.airavata.app.catalog.test.util.Initialize;
+import org.apache.airavata.common.utils.AiravataUtils;
+import org.apache.airavata.model.appcatalog.computeresource.ComputeResourceDescription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+import static org.junit.Assert.assertTrue;
+
+public class AppCatalogCacheTest {
+    private static Initialize initialize;
+    private static AppCatalog appcatalog;
+
+    @Before
+    public void setUp() throws Exception {
+        AiravataUtils.setExecutionAsServer();
+        initialize = new Initialize("appcatalog-derby.sql");
+        initialize.initializeDB();
+        appcatalog = AppCatalogFactory.getAppCatalog();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        initialize.stopDerbyServer();
+    }
+
+    @Test
+    public void testCachedComputeResource() throws Exception {
+        ComputeResource computeRs = appcatalog.getComputeResource();
+        ComputeResourceDescription description = new ComputeResourceDescription();
+        description.setHostName("localhost");
+        description.setResourceDescription("test compute host");
+        String hostId = computeRs.addComputeResource(description);
+
+        ComputeResourceDescription first = AppCatalogCache.getComputeResource(appcatalog, hostId);
+        long hits = AppCatalogCache.getHitCount();
+        ComputeResourceDescription second = AppCatalogCache.getComputeResource(appcatalog, hostId);
+        assertEquals(hits + 1, AppCatalogCache.getHitCount());
+        assertNotSame(first, second);
+        assertEquals("test compute host", second.getResourceDescription());
+
+        // changing a returned copy does not change the cached descriptor
+        second.setResourceDescription("changed");
+        assertEquals("test compute host", AppCatalogCache.getComputeResource(appcatalog, hostId).getResourceDescription());
+
+        long version = AppCatalogCache.getVersion();
+        first.setResourceDescription("updated compute host");
+        computeRs.updateComputeResource(hostId, first);
+        assertTrue(AppCatalogCache.getVersion() > version);
+        assertEquals("updated compute host", AppCatalogCache.getComputeResource(appcatalog, hostId).getResourceDescription());
+
+        computeRs.removeComputeResource(hostId);
+        try {
+            AppCatalogCache.getComputeResource(appcatalog, hostId);
+            fail("Removed compute resource was served from the cache");
+        } catch (AppCatalogException e) {
+            // expected, the removed resource is read from the database again
+        }
+    }
+}
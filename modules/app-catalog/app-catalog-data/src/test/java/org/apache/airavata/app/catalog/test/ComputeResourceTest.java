@@ -27,6 +27,8 @@ import org.airavata.appcatalog.cpi.AppCatalogException;
 import org.airavata.appcatalog.cpi.ComputeResource;
 import org.apache.aiaravata.application.catalog.data.impl.AppCatalogFactory;
 import org.apache.aiaravata.application.catalog.data.resources.AbstractResource;
+import org.apache.aiaravata.application.catalog.data.resources.ComputeResourceResource;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogThriftConversion;
 import org.apache.airavata.app.catalog.test.util.Initialize;
 import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.model.appcatalog.computeresource.*;
@@ -36,6 +38,7 @@ import org.junit.Test;
 
 import java.util.*;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class ComputeResourceTest {
@@ -165,6 +168,15 @@ public class ComputeResourceTest {
                 System.out.println("**********Updated Resource name ************* : " +  host.getHostName());
             }
 
+            ComputeResourceDescription converted = AppCatalogThriftConversion.getComputeHostDescription(
+                    (ComputeResourceResource) new ComputeResourceResource().get(resourceId));
+            assertEquals(converted.getHostAliases(), host.getHostAliases());
+            assertEquals(converted.getIpAddresses(), host.getIpAddresses());
+            assertEquals(converted.getFileSystems(), host.getFileSystems());
+            assertEquals(converted.getBatchQueuesSize(), host.getBatchQueuesSize());
+            assertEquals(converted.getJobSubmissionInterfacesSize(), host.getJobSubmissionInterfacesSize());
+            assertEquals(converted.getDataMovementInterfacesSize(), host.getDataMovementInterfacesSize());
+
             Map<String, String> cfilters = new HashMap<String, String>();
             cfilters.put(AbstractResource.ComputeResourceConstants.HOST_NAME, "localhost2");
             List<ComputeResourceDescription> computeResourceList = computeResource.getComputeResourceList(cfilters);
@@ -56,4 +56,10 @@ public class ApplicationDescription implements Type {
 				.parse(xml);
 		return app;
 	}
+
+	public ApplicationDescription copy() {
+		ApplicationDescription app = new ApplicationDescription();
+		app.appDocument = (ApplicationDeploymentDescriptionDocument) appDocument.copy();
+		return app;
+	}
 }
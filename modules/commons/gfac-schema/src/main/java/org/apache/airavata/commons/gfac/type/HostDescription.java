@@ -53,4 +53,10 @@ public class HostDescription implements Type {
 		host.hostDocument = HostDescriptionDocument.Factory.parse(xml);
 		return host;
 	}
-}
\ No newline at end of file
+
+	public HostDescription copy() {
+		HostDescription host = new HostDescription();
+		host.hostDocument = (HostDescriptionDocument) hostDocument.copy();
+		return host;
+	}
+}
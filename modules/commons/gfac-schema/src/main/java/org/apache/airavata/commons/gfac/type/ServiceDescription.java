@@ -48,4 +48,10 @@ public class ServiceDescription implements Type {
 		service.serviceDocument = ServiceDescriptionDocument.Factory.parse(xml);
 		return service;
 	}
+
+	public ServiceDescription copy() {
+		ServiceDescription service = new ServiceDescription();
+		service.serviceDocument = (ServiceDescriptionDocument) serviceDocument.copy();
+		return service;
+	}
 }
@@ -28,13 +28,32 @@ import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Database lookup. Abstracts out JDBC operations.
+ *
+ * When jdbc.pool.enabled is set connections come from a DBCP pool shared by all DBUtil instances pointing to the same
+ * database and user, instead of a new driver connection per call. The pool is bounded (jdbc.pool.max.active),
+ * validates connections on borrow, and reclaims and logs connections which were not closed within
+ * jdbc.pool.leak.timeout seconds when it runs short of connections.
  */
 public class DBUtil {
 
+    public static final String POOL_ENABLED = "jdbc.pool.enabled";
+    public static final String POOL_MAX_ACTIVE = "jdbc.pool.max.active";
+    public static final String POOL_MAX_IDLE = "jdbc.pool.max.idle";
+    public static final String POOL_MAX_WAIT = "jdbc.pool.max.wait";
+    public static final String POOL_VALIDATION_QUERY = "jdbc.pool.validation.query";
+    public static final String POOL_LEAK_TIMEOUT = "jdbc.pool.leak.timeout";
+
+    private static final ConcurrentMap<String, PoolStatistics> pools = new ConcurrentHashMap<String, PoolStatistics>();
+
     private String jdbcUrl;
     private String databaseUserName;
     private String databasePassword;
@@ -44,6 +63,10 @@ public class DBUtil {
 
     private Properties properties;
 
+    private boolean pooled;
+
+    private PoolStatistics pool;
+
     public DBUtil(String jdbcUrl, String userName, String password, String driver) throws InstantiationException,
             IllegalAccessException, ClassNotFoundException {
 
@@ -68,11 +91,17 @@ public class DBUtil {
     private void init() throws ClassNotFoundException, InstantiationException, IllegalAccessException {
         properties = new Properties();
 
-        properties.put("user", databaseUserName);
-        properties.put("password", databasePassword);
+        if (databaseUserName != null) {
+            properties.put("user", databaseUserName);
+        }
+        if (databasePassword != null) {
+            properties.put("password", databasePassword);
+        }
         properties.put("characterEncoding", "ISO-8859-1");
         properties.put("useUnicode", "true");
 
+        pooled = isPoolingEnabled();
+
         loadDriver();
     }
 
@@ -185,11 +214,14 @@ public class DBUtil {
     }
 
     /**
-     * Gets a new DBCP data source.
+     * Gets a DBCP data source. With pooling enabled this is the pool shared for this database and user.
      * 
-     * @return A new data source.
+     * @return A data source.
      */
     public DataSource getDataSource() {
+        if (pooled) {
+            return getPool().dataSource;
+        }
         BasicDataSource ds = new BasicDataSource();
         ds.setDriverClassName(this.driverName);
         ds.setUsername(this.databaseUserName);
@@ -207,11 +239,153 @@ public class DBUtil {
      *             If an error occurred while creating the connection.
      */
     public Connection getConnection() throws SQLException {
-        Connection connection = DriverManager.getConnection(jdbcUrl, properties);
+        Connection connection;
+        if (pooled) {
+            connection = getPool().borrow();
+        } else {
+            connection = DriverManager.getConnection(jdbcUrl, properties);
+        }
         connection.setAutoCommit(false);
         return connection;
     }
 
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    /**
+     * @return statistics of the connection pool this instance uses, null when pooling is disabled
+     */
+    public PoolStatistics getPoolStatistics() {
+        return pooled ? getPool() : null;
+    }
+
+    /**
+     * @return statistics of every connection pool created in this JVM, keyed by user and JDBC url
+     */
+    public static Map<String, PoolStatistics> getAllPoolStatistics() {
+        return Collections.<String, PoolStatistics>unmodifiableMap(pools);
+    }
+
+    public static boolean isPoolingEnabled() {
+        return Boolean.parseBoolean(ServerSettings.getSetting(POOL_ENABLED, "true"));
+    }
+
+    private synchronized PoolStatistics getPool() {
+        if (pool == null) {
+            String key = databaseUserName + "@" + jdbcUrl;
+            PoolStatistics poolStatistics = pools.get(key);
+            if (poolStatistics == null) {
+                poolStatistics = new PoolStatistics(createPooledDataSource());
+                PoolStatistics existing = pools.putIfAbsent(key, poolStatistics);
+                if (existing != null) {
+                    poolStatistics = existing;
+                } else {
+                    log.info("Created database connection pool for " + key);
+                }
+            }
+            pool = poolStatistics;
+        }
+        return pool;
+    }
+
+    private BasicDataSource createPooledDataSource() {
+        BasicDataSource ds = new BasicDataSource();
+        ds.setDriverClassName(this.driverName);
+        ds.setUrl(this.jdbcUrl);
+        if (databaseUserName != null) {
+            ds.setUsername(this.databaseUserName);
+        }
+        if (databasePassword != null) {
+            ds.setPassword(this.databasePassword);
+        }
+        ds.addConnectionProperty("characterEncoding", "ISO-8859-1");
+        ds.addConnectionProperty("useUnicode", "true");
+        ds.setDefaultAutoCommit(false);
+        ds.setMaxActive(Integer.parseInt(ServerSettings.getSetting(POOL_MAX_ACTIVE, "20")));
+        ds.setMaxIdle(Integer.parseInt(ServerSettings.getSetting(POOL_MAX_IDLE, "10")));
+        ds.setMaxWait(Long.parseLong(ServerSettings.getSetting(POOL_MAX_WAIT, "30000")));
+        ds.setValidationQuery(ServerSettings.getSetting(POOL_VALIDATION_QUERY, getDefaultValidationQuery()));
+        ds.setTestOnBorrow(true);
+        ds.setRemoveAbandoned(true);
+        ds.setLogAbandoned(true);
+        ds.setRemoveAbandonedTimeout(Integer.parseInt(ServerSettings.getSetting(POOL_LEAK_TIMEOUT, "300")));
+        return ds;
+    }
+
+    private String getDefaultValidationQuery() {
+        String driver = driverName == null ? "" : driverName.toLowerCase();
+        if (driver.contains("derby")) {
+            return "VALUES 1";
+        } else if (driver.contains("oracle")) {
+            return "SELECT 1 FROM DUAL";
+        }
+        return "SELECT 1";
+    }
+
+    /**
+     * A shared connection pool and its usage counters.
+     */
+    public static class PoolStatistics {
+        private final BasicDataSource dataSource;
+        private final AtomicLong borrowed = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong waitTime = new AtomicLong();
+
+        private PoolStatistics(BasicDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private Connection borrow() throws SQLException {
+            long start = System.nanoTime();
+            try {
+                Connection connection = dataSource.getConnection();
+                borrowed.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                failures.incrementAndGet();
+                throw e;
+            } finally {
+                waitTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        public int getActiveConnections() {
+            return dataSource.getNumActive();
+        }
+
+        public int getIdleConnections() {
+            return dataSource.getNumIdle();
+        }
+
+        public int getMaxActiveConnections() {
+            return dataSource.getMaxActive();
+        }
+
+        public long getBorrowedCount() {
+            return borrowed.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        /**
+         * @return average time in milliseconds it took to get a connection from the pool
+         */
+        public double getAverageWaitTime() {
+            long count = borrowed.get() + failures.get();
+            return count == 0 ? 0 : waitTime.get() / 1000000.0 / count;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + getActiveConnections() + ", idle=" + getIdleConnections() + ", maxActive=" +
+                    getMaxActiveConnections() + ", borrowed=" + getBorrowedCount() + ", failures=" +
+                    getFailureCount() + ", averageWaitTime=" + getAverageWaitTime() + "ms";
+        }
+    }
+
     /**
      * Utility method to close statements and connections.
      * 
@@ -20,28 +20,504 @@
 */
 package org.apache.airavata.common.utils;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the monitoring events, job, task, workflow node and experiment status changes among others, to the
+ * listeners registered for them.
+ *
+ * A publisher created with an {@link EventBus} delivers an event on the thread which publishes it. An asynchronous
+ * publisher queues the event on one of a fixed number of partitions and delivers it on the thread of that partition,
+ * so slow listeners do not hold up the monitors and handlers publishing the events. Events with the same partition
+ * key, for example all the events of one experiment, go to the same partition and are delivered in the order they
+ * were published. A listener method is called by one partition at a time unless it is marked with
+ * {@link AllowConcurrentPartitions} or {@link AllowConcurrentEvents}; only the latter also lets the synchronous
+ * EventBus call the method from several publishing threads at once. Events a listener fails to handle are logged and
+ * kept in a bounded dead letter queue. {@link #shutdown(long)} delivers the events still queued before the partition
+ * threads stop.
+ */
 public class MonitorPublisher{
     private final static Logger logger = LoggerFactory.getLogger(MonitorPublisher.class);
+
+    public static final String ASYNC = "monitor.publisher.async";
+    public static final String PARTITIONS = "monitor.publisher.partitions";
+    public static final String QUEUE_SIZE = "monitor.publisher.queue.size";
+
+    private static final int DEAD_LETTER_CAPACITY = 1000;
+
     private EventBus eventBus;
+
+    private Partition[] partitions;
+
+    private PartitionKey partitionKey;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<Subscriber>();
+
+    private final Map<Class<?>, List<Subscriber>> subscribersByType = new ConcurrentHashMap<Class<?>, List<Subscriber>>();
+
+    private final BlockingQueue<DeadLetter> deadLetters = new LinkedBlockingQueue<DeadLetter>(DEAD_LETTER_CAPACITY);
+
+    private final PublisherStatistics statistics = new PublisherStatistics();
+
+    // events queued or being delivered, shutdown waits for them
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Object drained = new Object();
+
+    private volatile boolean closed;
+
+    // a listener may swallow the interrupt which stops its partition
+    private volatile boolean stopped;
     
     public MonitorPublisher(EventBus eventBus) {
         this.eventBus = eventBus;
     }
 
+    /**
+     * Creates an asynchronous publisher.
+     *
+     * @param partitionCount number of partitions, each delivering its events on its own thread
+     * @param queueSize      number of events a partition holds before publishers have to wait. Events which
+     *                       listeners publish while handling an event never wait, the partition would wait on itself
+     * @param partitionKey   gives the key of an event, events without a key are partitioned by their type
+     */
+    public MonitorPublisher(int partitionCount, int queueSize, PartitionKey partitionKey) {
+        this.partitionKey = partitionKey;
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i, queueSize);
+            partitions[i].start();
+        }
+    }
+
+    /**
+     * Creates a publisher as configured by {@link #ASYNC}, {@link #PARTITIONS} and {@link #QUEUE_SIZE}.
+     */
+    public static MonitorPublisher create(PartitionKey partitionKey) {
+        if (!Boolean.parseBoolean(ServerSettings.getSetting(ASYNC, "false"))) {
+            return new MonitorPublisher(new EventBus());
+        }
+        int partitionCount = 4;
+        int queueSize = 10000;
+        try {
+            partitionCount = Integer.parseInt(ServerSettings.getSetting(PARTITIONS, String.valueOf(partitionCount)));
+            queueSize = Integer.parseInt(ServerSettings.getSetting(QUEUE_SIZE, String.valueOf(queueSize)));
+        } catch (NumberFormatException e) {
+            logger.error("Invalid monitor publisher settings, using " + partitionCount + " partitions of " +
+                    queueSize + " events", e);
+        }
+        return new MonitorPublisher(partitionCount, queueSize, partitionKey);
+    }
+
     public void registerListener(Object listener) {
-        eventBus.register(listener);
+        if (isAsync()) {
+            for (Method method : listener.getClass().getMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterTypes().length == 1) {
+                    subscribers.add(new Subscriber(listener, method));
+                }
+            }
+            subscribersByType.clear();
+        } else {
+            eventBus.register(listener);
+        }
     }
     
     public void unregisterListener(Object listener) {
-        eventBus.unregister(listener);
+        if (isAsync()) {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.listener == listener) {
+                    subscribers.remove(subscriber);
+                }
+            }
+            subscribersByType.clear();
+        } else {
+            eventBus.unregister(listener);
+        }
     }
 
     public void publish(Object o) {
-        eventBus.post(o);
+        if (!isAsync()) {
+            eventBus.post(o);
+            return;
+        }
+        Object key = partitionKey == null ? null : partitionKey.getKey(o);
+        if (key == null) {
+            key = o.getClass();
+        }
+        Partition partition = partitions[(key.hashCode() & Integer.MAX_VALUE) % partitions.length];
+        boolean fromListener = isPartitionThread();
+        // counted before closed is checked, so a shutdown either waits for the event or the event is refused
+        pending.incrementAndGet();
+        // listeners still publish while the queues are drained, so the events they follow up with are delivered too
+        if (closed && !fromListener) {
+            eventDone();
+            logger.error("Publisher is shut down, " + o + " is not delivered");
+            addDeadLetter(new DeadLetter(o, null, new IllegalStateException("Publisher is shut down")));
+            return;
+        }
+        try {
+            if (!fromListener) {
+                partition.permits.acquire();
+            }
+            partition.queue.add(new QueuedEvent(o, !fromListener));
+            statistics.published.incrementAndGet();
+            statistics.recordQueueDepth(partition.queue.size());
+        } catch (InterruptedException e) {
+            eventDone();
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while publishing " + o + ", the event is not delivered");
+            addDeadLetter(new DeadLetter(o, null, e));
+        }
+    }
+
+    public boolean isAsync() {
+        return partitions != null;
+    }
+
+    private boolean isPartitionThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof Partition && ((Partition) thread).getPublisher() == this;
+    }
+
+    /**
+     * Stops the partition threads right away, events still in the queues are not delivered.
+     */
+    public void shutdown() {
+        closed = true;
+        stopped = true;
+        if (partitions != null) {
+            for (Partition partition : partitions) {
+                partition.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stops taking events from other threads than the partitions' own, waits until the events in the queues are
+     * delivered and then stops the partition threads. Events which are not delivered within the timeout are moved to
+     * the dead letters.
+     *
+     * @param timeout milliseconds to wait for the queues to drain
+     * @return whether all the queued events were delivered
+     */
+    public boolean shutdown(long timeout) {
+        closed = true;
+        if (partitions == null) {
+            return true;
+        }
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (drained) {
+            long remaining;
+            while (pending.get() > 0 && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                try {
+                    drained.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        boolean delivered = pending.get() == 0;
+        stopped = true;
+        for (Partition partition : partitions) {
+            partition.interrupt();
+        }
+        int undelivered = 0;
+        for (Partition partition : partitions) {
+            List<QueuedEvent> left = new ArrayList<QueuedEvent>();
+            partition.queue.drainTo(left);
+            for (QueuedEvent queued : left) {
+                addDeadLetter(new DeadLetter(queued.event, null, new IllegalStateException("Publisher is shut down")));
+            }
+            undelivered += left.size();
+        }
+        if (undelivered > 0) {
+            logger.error(undelivered + " monitoring events were not delivered within " + timeout +
+                    " ms of the shutdown, they are in the dead letters");
+        }
+        return delivered;
+    }
+
+    /**
+     * @return the events listeners failed to handle, oldest first. Only the latest failures are kept.
+     */
+    public List<DeadLetter> getDeadLetters() {
+        return new ArrayList<DeadLetter>(deadLetters);
+    }
+
+    /**
+     * Removes the dead letters from the publisher and hands them to the caller, e.g. to publish them again.
+     */
+    public List<DeadLetter> drainDeadLetters() {
+        List<DeadLetter> drained = new ArrayList<DeadLetter>();
+        deadLetters.drainTo(drained);
+        return drained;
+    }
+
+    public PublisherStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return number of events waiting in the partition queues
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        if (partitions != null) {
+            for (Partition partition : partitions) {
+                depth += partition.queue.size();
+            }
+        }
+        return depth;
+    }
+
+    private void deliver(QueuedEvent queued) {
+        long startTime = System.currentTimeMillis();
+        Object event = queued.event;
+        for (Subscriber subscriber : getSubscribers(event.getClass())) {
+            try {
+                subscriber.invoke(event);
+            } catch (InvocationTargetException e) {
+                logger.error("Listener " + subscriber + " failed to handle " + event, e.getCause());
+                addDeadLetter(new DeadLetter(event, subscriber.listener, e.getCause()));
+            } catch (Exception e) {
+                logger.error("Listener " + subscriber + " failed to handle " + event, e);
+                addDeadLetter(new DeadLetter(event, subscriber.listener, e));
+            }
+        }
+        statistics.recordDelivery(startTime - queued.publishTime, System.currentTimeMillis() - startTime);
+    }
+
+    private List<Subscriber> getSubscribers(Class<?> eventType) {
+        List<Subscriber> matching = subscribersByType.get(eventType);
+        if (matching == null) {
+            matching = new ArrayList<Subscriber>();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.method.getParameterTypes()[0].isAssignableFrom(eventType)) {
+                    matching.add(subscriber);
+                }
+            }
+            subscribersByType.put(eventType, matching);
+        }
+        return matching;
+    }
+
+    private void eventDone() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        }
+    }
+
+    private void addDeadLetter(DeadLetter deadLetter) {
+        statistics.failed.incrementAndGet();
+        while (!deadLetters.offer(deadLetter)) {
+            // keep the latest failures
+            deadLetters.poll();
+        }
+    }
+
+    /**
+     * Gives the partition key of an event, events with equal keys are delivered in the order they were published.
+     */
+    public interface PartitionKey {
+        Object getKey(Object event);
+    }
+
+    private static class QueuedEvent {
+        private final Object event;
+        private final boolean holdsPermit;
+        private final long publishTime = System.currentTimeMillis();
+
+        private QueuedEvent(Object event, boolean holdsPermit) {
+            this.event = event;
+            this.holdsPermit = holdsPermit;
+        }
+    }
+
+    private class Partition extends Thread {
+        private final BlockingQueue<QueuedEvent> queue = new LinkedBlockingQueue<QueuedEvent>();
+        // bounds the events queued by threads other than the partition's own
+        private final Semaphore permits;
+
+        private Partition(int index, int queueSize) {
+            super("monitor-publisher-" + index);
+            setDaemon(true);
+            this.permits = new Semaphore(queueSize);
+        }
+
+        private MonitorPublisher getPublisher() {
+            return MonitorPublisher.this;
+        }
+
+        public void run() {
+            while (!stopped && !isInterrupted()) {
+                QueuedEvent queued;
+                try {
+                    queued = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (queued.holdsPermit) {
+                    permits.release();
+                }
+                try {
+                    deliver(queued);
+                } catch (Throwable e) {
+                    logger.error("Error delivering " + queued.event, e);
+                } finally {
+                    eventDone();
+                }
+            }
+        }
+    }
+
+    private static class Subscriber {
+        private final Object listener;
+        private final Method method;
+        private final boolean concurrent;
+
+        private Subscriber(Object listener, Method method) {
+            this.listener = listener;
+            this.method = method;
+            this.concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class) ||
+                    method.isAnnotationPresent(AllowConcurrentPartitions.class);
+            method.setAccessible(true);
+        }
+
+        private void invoke(Object event) throws InvocationTargetException, IllegalAccessException {
+            if (concurrent) {
+                method.invoke(listener, event);
+            } else {
+                synchronized (this) {
+                    method.invoke(listener, event);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return listener.getClass().getName() + "." + method.getName();
+        }
+    }
+
+    /**
+     * An event a listener failed to handle.
+     */
+    public static class DeadLetter {
+        private final Object event;
+        private final Object listener;
+        private final Throwable cause;
+        private final long time = System.currentTimeMillis();
+
+        private DeadLetter(Object event, Object listener, Throwable cause) {
+            this.event = event;
+            this.listener = listener;
+            this.cause = cause;
+        }
+
+        public Object getEvent() {
+            return event;
+        }
+
+        /**
+         * @return the listener which failed, null if the event could not be queued
+         */
+        public Object getListener() {
+            return listener;
+        }
+
+        public Throwable getCause() {
+            return cause;
+        }
+
+        public long getTime() {
+            return time;
+        }
     }
 
+    /**
+     * Event counts and delivery latency of an asynchronous publisher. The latency is the time an event waited in
+     * its partition queue, the handling time the time the listeners took for it.
+     */
+    public static class PublisherStatistics {
+        private final AtomicLong published = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong totalHandlingTime = new AtomicLong();
+        private volatile long maxLatency;
+        private volatile int maxQueueDepth;
+
+        private void recordQueueDepth(int depth) {
+            if (depth > maxQueueDepth) {
+                maxQueueDepth = depth;
+            }
+        }
+
+        private void recordDelivery(long latency, long handlingTime) {
+            delivered.incrementAndGet();
+            totalLatency.addAndGet(latency);
+            totalHandlingTime.addAndGet(handlingTime);
+            if (latency > maxLatency) {
+                maxLatency = latency;
+            }
+        }
+
+        public long getPublishedCount() {
+            return published.get();
+        }
+
+        public long getDeliveredCount() {
+            return delivered.get();
+        }
+
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        public long getAverageLatency() {
+            long count = delivered.get();
+            return count == 0 ? 0 : totalLatency.get() / count;
+        }
+
+        public long getMaxLatency() {
+            return maxLatency;
+        }
+
+        public long getAverageHandlingTime() {
+            long count = delivered.get();
+            return count == 0 ? 0 : totalHandlingTime.get() / count;
+        }
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        @Override
+        public String toString() {
+            return "[published=" + getPublishedCount() + ", delivered=" + getDeliveredCount() + ", failed=" +
+                    getFailedCount() + ", avg latency=" + getAverageLatency() + " ms, max latency=" +
+                    getMaxLatency() + " ms, avg handling=" + getAverageHandlingTime() + " ms, max queue depth=" +
+                    getMaxQueueDepth() + "]";
+        }
+    }
 }
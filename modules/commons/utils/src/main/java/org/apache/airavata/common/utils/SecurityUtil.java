@@ -30,6 +30,9 @@ import javax.crypto.spec.SecretKeySpec;
 import java.io.*;
 import java.security.*;
 import java.security.cert.CertificateException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Class which includes security utilities.
@@ -44,6 +47,15 @@ public class SecurityUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityUtil.class);
 
+    /**
+     * Symmetric keys read from the key stores, keyed by key store path and alias. An entry is used as long as the key
+     * store file keeps its size and modification time and the same passwords are supplied, otherwise the key store
+     * is loaded again.
+     */
+    private static final ConcurrentMap<String, CachedKey> symmetricKeys = new ConcurrentHashMap<String, CachedKey>();
+
+    private static final ThreadLocal<Cipher> ciphers = new ThreadLocal<Cipher>();
+
     /**
      * Creates a hash of given string with the given hash algorithm.
      * 
@@ -103,7 +115,7 @@ public class SecurityUtil {
 
         Key secretKey = getSymmetricKey(keyStorePath, keyAlias, passwordCallback);
 
-        Cipher cipher = Cipher.getInstance(PADDING_MECHANISM);
+        Cipher cipher = getCipher();
         cipher.init(Cipher.ENCRYPT_MODE, secretKey,
                 new IvParameterSpec(new byte[16]));
         return cipher.doFinal(value);
@@ -114,14 +126,42 @@ public class SecurityUtil {
             throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
             UnrecoverableKeyException {
 
+        File keyStoreFile = new File(keyStorePath);
+        long lastModified = keyStoreFile.lastModified();
+        long length = keyStoreFile.length();
+        char[] storePassword = passwordCallback.getStorePassword();
+        char[] keyPassPhrase = passwordCallback.getSecretKeyPassPhrase(keyAlias);
+
+        String cacheKey = keyStorePath + "#" + keyAlias;
+        CachedKey cachedKey = symmetricKeys.get(cacheKey);
+        if (cachedKey != null && cachedKey.matches(lastModified, length, storePassword, keyPassPhrase)) {
+            return cachedKey.key;
+        }
+
         KeyStore ks = SecurityUtil.loadKeyStore(keyStorePath, "jceks", passwordCallback);
 
         if (ks == null) {
             throw new IOException("Unable to load Java keystore " + keyStorePath);
         }
 
-        return ks.getKey(keyAlias, passwordCallback.getSecretKeyPassPhrase(keyAlias));
+        Key key = ks.getKey(keyAlias, keyPassPhrase);
+        if (key != null) {
+            symmetricKeys.put(cacheKey, new CachedKey(key, lastModified, length, storePassword, keyPassPhrase));
+        }
+        return key;
+
+    }
 
+    /**
+     * Ciphers are not thread safe and expensive to look up, so each thread keeps one and initializes it per call.
+     */
+    private static Cipher getCipher() throws GeneralSecurityException {
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(PADDING_MECHANISM);
+            ciphers.set(cipher);
+        }
+        return cipher;
     }
 
     public static byte[] decrypt(String keyStorePath, String keyAlias,
@@ -130,7 +170,7 @@ public class SecurityUtil {
 
         Key secretKey = getSymmetricKey(keyStorePath, keyAlias, passwordCallback);
 
-        Cipher cipher = Cipher.getInstance(PADDING_MECHANISM);
+        Cipher cipher = getCipher();
         cipher.init(Cipher.DECRYPT_MODE, secretKey,
                 new IvParameterSpec(new byte[16]));
 
@@ -174,8 +214,26 @@ public class SecurityUtil {
         return ks;
     }
 
+    private static class CachedKey {
+        private final Key key;
+        private final long lastModified;
+        private final long length;
+        private final char[] storePassword;
+        private final char[] keyPassPhrase;
+
+        private CachedKey(Key key, long lastModified, long length, char[] storePassword, char[] keyPassPhrase) {
+            this.key = key;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.storePassword = storePassword == null ? null : storePassword.clone();
+            this.keyPassPhrase = keyPassPhrase == null ? null : keyPassPhrase.clone();
+        }
 
-
-
+        private boolean matches(long lastModified, long length, char[] storePassword, char[] keyPassPhrase) {
+            return this.lastModified == lastModified && this.length == length
+                    && Arrays.equals(this.storePassword, storePassword)
+                    && Arrays.equals(this.keyPassPhrase, keyPassPhrase);
+        }
+    }
 
 }
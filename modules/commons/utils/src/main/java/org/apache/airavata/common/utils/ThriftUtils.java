@@ -26,12 +26,30 @@ import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
 import org.apache.thrift.TSerializer;
 
+/**
+ * Serialization helpers for thrift objects. TSerializer and TDeserializer are not thread safe but are cheap to reuse,
+ * so each thread keeps its own pair instead of allocating new ones (and their buffers) for every message.
+ */
 public class ThriftUtils {
+    private static final ThreadLocal<TSerializer> serializer = new ThreadLocal<TSerializer>() {
+        @Override
+        protected TSerializer initialValue() {
+            return new TSerializer();
+        }
+    };
+
+    private static final ThreadLocal<TDeserializer> deserializer = new ThreadLocal<TDeserializer>() {
+        @Override
+        protected TDeserializer initialValue() {
+            return new TDeserializer();
+        }
+    };
+
     public static byte[] serializeThriftObject(TBase object) throws TException {
-        return new TSerializer().serialize(object);
+        return serializer.get().serialize(object);
     }
 
     public static void createThriftFromBytes(byte []bytes, TBase object) throws TException {
-        new TDeserializer().deserialize(object, bytes);
+        deserializer.get().deserialize(object, bytes);
     }
 }
@@ -0,0 +1,73 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.common.utils;
+
+import junit.framework.Assert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+
+public class DBUtilTest {
+
+    private static final String JDBC_URL = "jdbc:derby:memory:dbutiltest;create=true";
+    private static final String DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+
+    private String executionMode;
+
+    @Before
+    public void setUp() {
+        executionMode = System.getProperty(AiravataUtils.EXECUTION_MODE);
+        System.setProperty(AiravataUtils.EXECUTION_MODE, "SERVER");
+    }
+
+    @After
+    public void tearDown() {
+        if (executionMode == null) {
+            System.clearProperty(AiravataUtils.EXECUTION_MODE);
+        } else {
+            System.setProperty(AiravataUtils.EXECUTION_MODE, executionMode);
+        }
+    }
+
+    @Test
+    public void testConnectionsArePooledAcrossInstances() throws Exception {
+        DBUtil first = new DBUtil(JDBC_URL, "airavata", "airavata", DRIVER);
+        DBUtil second = new DBUtil(JDBC_URL, "airavata", "airavata", DRIVER);
+
+        Connection connection = first.getConnection();
+        Assert.assertFalse(connection.getAutoCommit());
+        Assert.assertEquals(1, first.getPoolStatistics().getActiveConnections());
+        connection.close();
+
+        connection = second.getConnection();
+        Assert.assertSame(first.getPoolStatistics(), second.getPoolStatistics());
+        Assert.assertEquals(1, second.getPoolStatistics().getActiveConnections());
+        Assert.assertEquals(0, second.getPoolStatistics().getIdleConnections());
+        connection.close();
+
+        Assert.assertEquals(0, first.getPoolStatistics().getActiveConnections());
+        Assert.assertEquals(1, first.getPoolStatistics().getIdleConnections());
+        Assert.assertEquals(2, first.getPoolStatistics().getBorrowedCount());
+    }
+}
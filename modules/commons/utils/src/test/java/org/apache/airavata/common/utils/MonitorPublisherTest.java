@@ -0,0 +1,283 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package org.apache.airavata.common.utils;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MonitorPublisherTest {
+
+    private static final MonitorPublisher.PartitionKey EXPERIMENT_KEY = new MonitorPublisher.PartitionKey() {
+        public Object getKey(Object event) {
+            return event instanceof Status ? ((Status) event).experimentId : null;
+        }
+    };
+
+    @Test
+    public void testEventsOfAnExperimentAreDeliveredInOrder() throws Exception {
+        MonitorPublisher publisher = new MonitorPublisher(4, 10, EXPERIMENT_KEY);
+        StatusListener listener = new StatusListener(200);
+        publisher.registerListener(listener);
+        for (int i = 0; i < 50; i++) {
+            for (int experiment = 0; experiment < 4; experiment++) {
+                publisher.publish(new Status("experiment" + experiment, i));
+            }
+        }
+        Assert.assertTrue(listener.done.await(10, TimeUnit.SECONDS));
+        for (int experiment = 0; experiment < 4; experiment++) {
+            List<Integer> sequence = listener.received.get("experiment" + experiment);
+            Assert.assertEquals(50, sequence.size());
+            for (int i = 0; i < 50; i++) {
+                Assert.assertEquals(i, sequence.get(i).intValue());
+            }
+        }
+        Assert.assertEquals(200, publisher.getStatistics().getPublishedCount());
+        publisher.shutdown();
+    }
+
+    @Test
+    public void testFailedEventsGoToTheDeadLetters() throws Exception {
+        MonitorPublisher publisher = new MonitorPublisher(2, 10, EXPERIMENT_KEY);
+        final CountDownLatch failed = new CountDownLatch(1);
+        publisher.registerListener(new Object() {
+            @Subscribe
+            public void fail(Status status) {
+                failed.countDown();
+                throw new IllegalStateException("Unable to handle " + status.experimentId);
+            }
+        });
+        Status status = new Status("experiment", 1);
+        publisher.publish(status);
+        Assert.assertTrue(failed.await(10, TimeUnit.SECONDS));
+        while (publisher.getStatistics().getDeliveredCount() == 0) {
+            Thread.sleep(10);
+        }
+        List<MonitorPublisher.DeadLetter> deadLetters = publisher.drainDeadLetters();
+        Assert.assertEquals(1, deadLetters.size());
+        Assert.assertSame(status, deadLetters.get(0).getEvent());
+        Assert.assertTrue(deadLetters.get(0).getCause() instanceof IllegalStateException);
+        Assert.assertTrue(publisher.getDeadLetters().isEmpty());
+        publisher.shutdown();
+    }
+
+    @Test
+    public void testListenersCanPublishInToAFullPartition() throws Exception {
+        final MonitorPublisher publisher = new MonitorPublisher(1, 1, EXPERIMENT_KEY);
+        final CountDownLatch done = new CountDownLatch(10);
+        publisher.registerListener(new Object() {
+            @Subscribe
+            public void republish(Status status) {
+                if (status.sequence < 10) {
+                    publisher.publish(new Status(status.experimentId, status.sequence + 10));
+                    publisher.publish(new Status(status.experimentId, status.sequence + 10));
+                } else {
+                    done.countDown();
+                }
+            }
+        });
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(new Status("experiment", i));
+        }
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        publisher.shutdown();
+    }
+
+    @Test
+    public void testShutdownDeliversTheQueuedEvents() throws Exception {
+        final MonitorPublisher publisher = new MonitorPublisher(2, 100, EXPERIMENT_KEY);
+        final AtomicInteger followUps = new AtomicInteger();
+        StatusListener listener = new StatusListener(40) {
+            @Override
+            @Subscribe
+            public void statusChanged(Status status) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.statusChanged(status);
+            }
+        };
+        publisher.registerListener(listener);
+        publisher.registerListener(new Object() {
+            @Subscribe
+            public void followUp(Status status) {
+                // listeners may still publish while the queues drain
+                if (status.sequence < 20) {
+                    publisher.publish(new Status(status.experimentId, status.sequence + 20));
+                    followUps.incrementAndGet();
+                }
+            }
+        });
+        for (int i = 0; i < 20; i++) {
+            publisher.publish(new Status("experiment", i));
+        }
+
+        Assert.assertTrue(publisher.shutdown(10000));
+        Assert.assertEquals(0, listener.done.getCount());
+        Assert.assertEquals(20, followUps.get());
+        Assert.assertEquals(0, publisher.getQueueDepth());
+
+        // nothing is taken from outside the partitions any more
+        publisher.publish(new Status("experiment", 100));
+        List<MonitorPublisher.DeadLetter> deadLetters = publisher.drainDeadLetters();
+        Assert.assertEquals(1, deadLetters.size());
+        Assert.assertEquals(100, ((Status) deadLetters.get(0).getEvent()).sequence);
+    }
+
+    @Test
+    public void testEventsLeftAfterTheShutdownTimeoutGoToTheDeadLetters() throws Exception {
+        MonitorPublisher publisher = new MonitorPublisher(1, 10, EXPERIMENT_KEY);
+        final CountDownLatch release = new CountDownLatch(1);
+        publisher.registerListener(new Object() {
+            @Subscribe
+            public void block(Status status) throws InterruptedException {
+                release.await();
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(new Status("experiment", i));
+        }
+
+        try {
+            Assert.assertFalse(publisher.shutdown(200));
+        } finally {
+            release.countDown();
+        }
+        // the first event was being delivered, the other two were still queued
+        int queued = 0;
+        for (MonitorPublisher.DeadLetter deadLetter : publisher.getDeadLetters()) {
+            if (deadLetter.getListener() == null) {
+                Assert.assertTrue(((Status) deadLetter.getEvent()).sequence > 0);
+                queued++;
+            }
+        }
+        Assert.assertEquals(2, queued);
+    }
+
+    @Test
+    public void testPartitionConcurrentListenersAreSerialisedBySynchronousPublishers() throws Exception {
+        final MonitorPublisher publisher = new MonitorPublisher(new EventBus());
+        ConcurrencyListener listener = new ConcurrencyListener();
+        publisher.registerListener(listener);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final String experimentId = "experiment" + t;
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 20; i++) {
+                        publisher.publish(new Status(experimentId, i));
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(80, listener.calls.get());
+        Assert.assertEquals(1, listener.maxActive.get());
+    }
+
+    @Test
+    public void testPartitionConcurrentListenersRunInParallelOnAsynchronousPublishers() throws Exception {
+        MonitorPublisher publisher = new MonitorPublisher(2, 10, EXPERIMENT_KEY);
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final CountDownLatch met = new CountDownLatch(2);
+        publisher.registerListener(new Object() {
+            @Subscribe
+            @AllowConcurrentPartitions
+            public void statusChanged(Status status) throws Exception {
+                // only returns if the other partition is in here at the same time
+                barrier.await(10, TimeUnit.SECONDS);
+                met.countDown();
+            }
+        });
+        // "a" and "b" hash to different partitions
+        publisher.publish(new Status("a", 1));
+        publisher.publish(new Status("b", 1));
+        Assert.assertTrue(met.await(10, TimeUnit.SECONDS));
+        publisher.shutdown();
+    }
+
+    public static class ConcurrencyListener {
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Subscribe
+        @AllowConcurrentPartitions
+        public void statusChanged(Status status) throws InterruptedException {
+            int now = active.incrementAndGet();
+            int max = maxActive.get();
+            while (now > max && !maxActive.compareAndSet(max, now)) {
+                max = maxActive.get();
+            }
+            Thread.sleep(1);
+            calls.incrementAndGet();
+            active.decrementAndGet();
+        }
+    }
+
+    private static class Status {
+        private final String experimentId;
+        private final int sequence;
+
+        private Status(String experimentId, int sequence) {
+            this.experimentId = experimentId;
+            this.sequence = sequence;
+        }
+    }
+
+    public static class StatusListener {
+        private final Map<String, List<Integer>> received =
+                Collections.synchronizedMap(new HashMap<String, List<Integer>>());
+        private final CountDownLatch done;
+
+        private StatusListener(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Subscribe
+        public void statusChanged(Status status) {
+            List<Integer> sequence = received.get(status.experimentId);
+            if (sequence == null) {
+                sequence = new ArrayList<Integer>();
+                received.put(status.experimentId, sequence);
+            }
+            sequence.add(status.sequence);
+            done.countDown();
+        }
+    }
+}
@@ -24,9 +24,13 @@ package org.apache.airavata.common.utils;
 import junit.framework.Assert;
 import org.junit.Test;
 
+import javax.crypto.KeyGenerator;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.net.URL;
 import java.security.KeyStore;
+import java.util.Arrays;
 
 /**
  * User: AmilaJ (amilaj@apache.org)
@@ -85,6 +89,41 @@ public class SecurityUtilTest {
 
     }
 
+    @Test
+    public void testKeyIsReloadedWhenKeyStoreChanges() throws Exception {
+        File keyStoreFile = File.createTempFile("securityutiltest", ".jks");
+        keyStoreFile.deleteOnExit();
+
+        byte[] value = "Test string to encrypt".getBytes("UTF-8");
+        writeKeyStore(keyStoreFile);
+        byte[] first = SecurityUtil.encrypt(keyStoreFile.getPath(), "mykey", new TestKeyStoreCallback(), value);
+        // served from the cached key
+        Assert.assertTrue(Arrays.equals(first,
+                SecurityUtil.encrypt(keyStoreFile.getPath(), "mykey", new TestKeyStoreCallback(), value)));
+
+        writeKeyStore(keyStoreFile);
+        keyStoreFile.setLastModified(keyStoreFile.lastModified() + 10000);
+        byte[] second = SecurityUtil.encrypt(keyStoreFile.getPath(), "mykey", new TestKeyStoreCallback(), value);
+        Assert.assertFalse(Arrays.equals(first, second));
+        Assert.assertTrue(Arrays.equals(value,
+                SecurityUtil.decrypt(keyStoreFile.getPath(), "mykey", new TestKeyStoreCallback(), second)));
+    }
+
+    private void writeKeyStore(File file) throws Exception {
+        KeyStore ks = KeyStore.getInstance("jceks");
+        ks.load(null, null);
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(128);
+        ks.setEntry("mykey", new KeyStore.SecretKeyEntry(keyGenerator.generateKey()),
+                new KeyStore.PasswordProtection("airavatasecretkey".toCharArray()));
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            ks.store(out, "airavata".toCharArray());
+        } finally {
+            out.close();
+        }
+    }
+
     private class TestKeyStoreCallback implements KeyStorePasswordCallback {
 
         @Override
@@ -93,6 +93,8 @@ public class CertificateCredentialWriter implements CredentialWriter {
             throw new CredentialStoreException("Unable to retrieve database connection.", e);
         } finally {
             DBUtil.cleanup(connection);
+            CredentialReaderImpl.invalidate(dbUtil, certificateCredential.getCommunityUser().getGatewayName(),
+                    certificateCredential.getToken());
         }
 
     }
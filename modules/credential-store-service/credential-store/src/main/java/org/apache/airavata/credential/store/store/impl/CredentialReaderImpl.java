@@ -36,21 +36,51 @@ import org.apache.airavata.credential.store.store.CredentialStoreException;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Credential store API implementation.
+ *
+ * Decrypted credentials read through {@link #getCredential(String, String)} are cached for a short time
+ * (credential.store.cache.ttl milliseconds) as every job submission reads one. The writers and
+ * {@link #removeCredentials(String, String)} invalidate the entry they change; changes made by other processes are
+ * seen once the entry expires. Entries are kept per database, by JDBC url. The cached instances are shared, so
+ * callers must not modify them.
  */
 public class CredentialReaderImpl implements CredentialReader, Serializable {
 
+    public static final String CREDENTIAL_CACHE_TTL = "credential.store.cache.ttl";
+    public static final String CREDENTIAL_CACHE_SIZE = "credential.store.cache.size";
+
+    private static final long cacheTimeToLive = Long.parseLong(
+            ApplicationSettings.getSetting(CREDENTIAL_CACHE_TTL, "30000"));
+    private static final int cacheSize = Integer.parseInt(
+            ApplicationSettings.getSetting(CREDENTIAL_CACHE_SIZE, "1000"));
+    private static final AtomicLong cacheVersion = new AtomicLong();
+    private static final Map<String, CachedCredential> credentialCache =
+            new LinkedHashMap<String, CachedCredential>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedCredential> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+
     private CredentialsDAO credentialsDAO;
 
     private DBUtil dbUtil;
 
     public CredentialReaderImpl(DBUtil dbUtil) throws ApplicationSettingsException {
 
-        this.credentialsDAO = new CredentialsDAO(ApplicationSettings.getCredentialStoreKeyStorePath(),
-                ApplicationSettings.getCredentialStoreKeyAlias(), new DefaultKeyStorePasswordCallback());
+        this(dbUtil, new CredentialsDAO(ApplicationSettings.getCredentialStoreKeyStorePath(),
+                ApplicationSettings.getCredentialStoreKeyAlias(), new DefaultKeyStorePasswordCallback()));
+    }
+
+    CredentialReaderImpl(DBUtil dbUtil, CredentialsDAO credentialsDAO) {
+
+        this.credentialsDAO = credentialsDAO;
 
         this.dbUtil = dbUtil;
     }
@@ -66,13 +96,50 @@ public class CredentialReaderImpl implements CredentialReader, Serializable {
     @Override
     public Credential getCredential(String gatewayId, String tokenId) throws CredentialStoreException {
 
+        String cacheKey = getCacheKey(dbUtil, gatewayId, tokenId);
+        long version;
+        synchronized (credentialCache) {
+            CachedCredential cached = credentialCache.get(cacheKey);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                return cached.credential;
+            }
+            version = cacheVersion.get();
+        }
+
         Connection connection = getConnection();
 
+        Credential credential;
         try {
-            return this.credentialsDAO.getCredential(gatewayId, tokenId, connection);
+            credential = this.credentialsDAO.getCredential(gatewayId, tokenId, connection);
         } finally {
             DBUtil.cleanup(connection);
         }
+
+        if (credential != null && cacheTimeToLive > 0) {
+            synchronized (credentialCache) {
+                // don't cache what was read while the credential was being changed
+                if (version == cacheVersion.get()) {
+                    credentialCache.put(cacheKey, new CachedCredential(credential,
+                            System.currentTimeMillis() + cacheTimeToLive));
+                }
+            }
+        }
+        return credential;
+    }
+
+    /**
+     * Drops the cached credential of the given token in the given database. Called whenever a credential is written
+     * or removed.
+     */
+    public static void invalidate(DBUtil dbUtil, String gatewayId, String tokenId) {
+        synchronized (credentialCache) {
+            cacheVersion.incrementAndGet();
+            credentialCache.remove(getCacheKey(dbUtil, gatewayId, tokenId));
+        }
+    }
+
+    private static String getCacheKey(DBUtil dbUtil, String gatewayId, String tokenId) {
+        return dbUtil.getJdbcUrl() + "," + gatewayId + "," + tokenId;
     }
 
     public List<Credential> getAllCredentials() throws CredentialStoreException {
@@ -89,16 +156,7 @@ public class CredentialReaderImpl implements CredentialReader, Serializable {
 
     public String getPortalUser(String gatewayName, String tokenId) throws CredentialStoreException {
 
-        Connection connection = getConnection();
-
-        Credential credential;
-
-        try {
-            credential = this.credentialsDAO.getCredential(gatewayName, tokenId, connection);
-
-        } finally {
-            DBUtil.cleanup(connection);
-        }
+        Credential credential = getCredential(gatewayName, tokenId);
 
         return credential.getPortalUserName();
     }
@@ -145,8 +203,19 @@ public class CredentialReaderImpl implements CredentialReader, Serializable {
             credentialsDAO.deleteCredentials(gatewayName, tokenId, connection);
         } finally {
             DBUtil.cleanup(connection);
+            invalidate(dbUtil, gatewayName, tokenId);
         }
 
     }
 
+    private static class CachedCredential {
+        private final Credential credential;
+        private final long expiresAt;
+
+        private CachedCredential(Credential credential, long expiresAt) {
+            this.credential = credential;
+            this.expiresAt = expiresAt;
+        }
+    }
+
 }
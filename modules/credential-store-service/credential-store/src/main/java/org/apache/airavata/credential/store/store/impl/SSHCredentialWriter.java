@@ -47,10 +47,14 @@ public class SSHCredentialWriter implements CredentialWriter {
     protected static Logger logger = LoggerFactory.getLogger(SSHCredentialWriter.class);
 
     public SSHCredentialWriter(DBUtil dbUtil) throws ApplicationSettingsException {
-        this.dbUtil = dbUtil;
-        this.credentialsDAO = new CredentialsDAO(ApplicationSettings.getCredentialStoreKeyStorePath(),
-                ApplicationSettings.getCredentialStoreKeyAlias(), new DefaultKeyStorePasswordCallback());
+        this(dbUtil, new CredentialsDAO(ApplicationSettings.getCredentialStoreKeyStorePath(),
+                ApplicationSettings.getCredentialStoreKeyAlias(), new DefaultKeyStorePasswordCallback()));
+
+    }
 
+    SSHCredentialWriter(DBUtil dbUtil, CredentialsDAO credentialsDAO) {
+        this.dbUtil = dbUtil;
+        this.credentialsDAO = credentialsDAO;
     }
 
     public void writeCredentials(Credential credential) throws CredentialStoreException {
@@ -80,6 +84,7 @@ public class SSHCredentialWriter implements CredentialWriter {
             throw new CredentialStoreException("Unable to retrieve database connection.", e);
         } finally {
             DBUtil.cleanup(connection);
+            CredentialReaderImpl.invalidate(dbUtil, sshCredential.getGateway(), sshCredential.getToken());
         }
 
     }
@@ -0,0 +1,143 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.credential.store.store.impl;
+
+import junit.framework.Assert;
+import org.apache.airavata.common.utils.DBUtil;
+import org.apache.airavata.credential.store.credential.Credential;
+import org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential;
+import org.apache.airavata.credential.store.store.CredentialStoreException;
+import org.apache.airavata.credential.store.store.impl.db.CredentialsDAO;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+
+/**
+ * Tests the cache of decrypted credentials. The DAO is replaced by one counting its reads, so only the connections
+ * come from the embedded databases.
+ */
+public class CredentialReaderImplTest {
+
+    private static final String DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+
+    private static int tokenCount;
+
+    private DBUtil dbUtil;
+    private CountingCredentialsDAO credentialsDAO;
+    private CredentialReaderImpl reader;
+    private String token;
+
+    @Before
+    public void setUp() throws Exception {
+        dbUtil = new DBUtil("jdbc:derby:memory:credentialCacheTest;create=true", null, null, DRIVER);
+        credentialsDAO = new CountingCredentialsDAO();
+        reader = new CredentialReaderImpl(dbUtil, credentialsDAO);
+        // the cache is shared by all the readers, every test reads a token of its own
+        token = "token" + ++tokenCount;
+    }
+
+    @Test
+    public void testSecondReadIsServedFromTheCache() throws Exception {
+        Credential first = reader.getCredential("gw1", token);
+        Credential second = reader.getCredential("gw1", token);
+
+        Assert.assertEquals(1, credentialsDAO.reads);
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testWriteInvalidatesTheCachedCredential() throws Exception {
+        reader.getCredential("gw1", token);
+
+        SSHCredential credential = new SSHCredential();
+        credential.setGateway("gw1");
+        credential.setToken(token);
+        new SSHCredentialWriter(dbUtil, credentialsDAO).writeCredentials(credential);
+        reader.getCredential("gw1", token);
+
+        Assert.assertEquals(2, credentialsDAO.reads);
+    }
+
+    @Test
+    public void testRemoveInvalidatesTheCachedCredential() throws Exception {
+        reader.getCredential("gw1", token);
+
+        reader.removeCredentials("gw1", token);
+        reader.getCredential("gw1", token);
+
+        Assert.assertEquals(2, credentialsDAO.reads);
+    }
+
+    @Test
+    public void testReadOverlappingAnInvalidationIsNotCached() throws Exception {
+        credentialsDAO.invalidateWhileReading = true;
+        reader.getCredential("gw1", token);
+
+        credentialsDAO.invalidateWhileReading = false;
+        reader.getCredential("gw1", token);
+        reader.getCredential("gw1", token);
+
+        Assert.assertEquals(2, credentialsDAO.reads);
+    }
+
+    @Test
+    public void testCredentialsAreCachedPerDatabase() throws Exception {
+        DBUtil otherDbUtil = new DBUtil("jdbc:derby:memory:otherCredentialCacheTest;create=true", null, null, DRIVER);
+        CountingCredentialsDAO otherCredentialsDAO = new CountingCredentialsDAO();
+        CredentialReaderImpl otherReader = new CredentialReaderImpl(otherDbUtil, otherCredentialsDAO);
+
+        Credential credential = reader.getCredential("gw1", token);
+        Credential otherCredential = otherReader.getCredential("gw1", token);
+
+        Assert.assertEquals(1, otherCredentialsDAO.reads);
+        Assert.assertNotSame(credential, otherCredential);
+        Assert.assertSame(otherCredential, otherReader.getCredential("gw1", token));
+    }
+
+    private class CountingCredentialsDAO extends CredentialsDAO {
+        private int reads;
+        private boolean invalidateWhileReading;
+
+        @Override
+        public Credential getCredential(String gatewayName, String tokenId, Connection connection)
+                throws CredentialStoreException {
+            reads++;
+            if (invalidateWhileReading) {
+                // a writer changes the credential after it was read
+                CredentialReaderImpl.invalidate(dbUtil, gatewayName, tokenId);
+            }
+            SSHCredential credential = new SSHCredential();
+            credential.setGateway(gatewayName);
+            credential.setToken(tokenId);
+            return credential;
+        }
+
+        @Override
+        public void addCredentials(String gatewayId, Credential credential, Connection connection) {
+        }
+
+        @Override
+        public void deleteCredentials(String gatewayName, String tokenId, Connection connection) {
+        }
+    }
+}
@@ -22,7 +22,10 @@ package org.apache.airavata.gfac.server;
 
 import org.apache.airavata.common.utils.Constants;
 import org.apache.airavata.common.utils.IServer;
+import org.apache.airavata.common.utils.MonitorPublisher;
 import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.gfac.core.cpi.BetterGfacImpl;
+import org.apache.airavata.gfac.core.handler.HandlerStatistics;
 import org.apache.airavata.gfac.cpi.GfacService;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
@@ -39,6 +42,8 @@ public class GfacServer implements IServer{
     private final static Logger logger = LoggerFactory.getLogger(GfacServer.class);
 	private static final String SERVER_NAME = "Gfac Server";
 	private static final String SERVER_VERSION = "1.0";
+	// milliseconds the monitoring events still queued get to reach the status updators when the server stops
+	private static final long PUBLISHER_SHUTDOWN_TIMEOUT = 30000;
 
     private IServer.ServerStatus status;
 
@@ -109,7 +114,15 @@ public class GfacServer implements IServer{
 			setStatus(IServer.ServerStatus.STOPING);
 			server.stop();
 		}
-
+		// the status updators flush what they buffered, so the queued events have to reach them first
+		MonitorPublisher publisher = BetterGfacImpl.getMonitorPublisher();
+		if (publisher != null) {
+			publisher.shutdown(PUBLISHER_SHUTDOWN_TIMEOUT);
+		}
+		BetterGfacImpl.stopStatusUpdators();
+        for (HandlerStatistics statistics : HandlerStatistics.getAll()) {
+            logger.info(statistics.toString());
+        }
 	}
 
 	public void restart() throws Exception {
@@ -20,7 +20,6 @@
 */
 package org.apache.airavata.gfac.server;
 
-import com.google.common.eventbus.EventBus;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.logger.AiravataLogger;
 import org.apache.airavata.common.logger.AiravataLoggerFactory;
@@ -31,6 +30,7 @@ import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.gfac.GFacException;
 import org.apache.airavata.gfac.core.cpi.BetterGfacImpl;
 import org.apache.airavata.gfac.core.cpi.GFac;
+import org.apache.airavata.gfac.core.monitor.ExperimentPartitionKey;
 import org.apache.airavata.gfac.core.utils.GFacThreadPoolExecutor;
 import org.apache.airavata.gfac.core.utils.InputHandlerWorker;
 import org.apache.airavata.gfac.cpi.GfacService;
@@ -101,7 +101,7 @@ public class GfacServerHandler implements GfacService.Iface, Watcher{
             e.printStackTrace();
         }
         try {
-            publisher = new MonitorPublisher(new EventBus());
+            publisher = MonitorPublisher.create(new ExperimentPartitionKey());
             BetterGfacImpl.setMonitorPublisher(publisher);
             registry = RegistryFactory.getDefaultRegistry();
             setGatewayProperties();
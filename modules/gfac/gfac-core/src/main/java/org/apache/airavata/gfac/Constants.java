@@ -76,4 +76,9 @@ public class Constants {
 
     public static final String SSH_SECURITY_CONTEXT = "ssh";
     public static final String GSI_SECURITY_CONTEXT = "gsi";
+
+    public static final String HPC_MONITOR_POLL_THREADS = "hpc.monitor.poll.threads";
+    public static final String HPC_MONITOR_MIN_POLL_INTERVAL = "hpc.monitor.min.poll.interval";
+    public static final String HPC_MONITOR_MAX_POLL_INTERVAL = "hpc.monitor.max.poll.interval";
+    public static final String JOB_STATUS_FLUSH_INTERVAL = "job.status.flush.interval";
 }
@@ -21,8 +21,13 @@
 
 package org.apache.airavata.gfac;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -34,6 +39,7 @@ import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.airavata.gfac.core.handler.GFacHandlerChain;
 import org.apache.airavata.gfac.core.handler.GFacHandlerConfig;
 import org.apache.airavata.gfac.core.provider.GFacProviderConfig;
 import org.slf4j.Logger;
@@ -47,7 +53,25 @@ public class GFacConfiguration {
 
 //    private AiravataAPI airavataAPI;
 
-    private static Document handlerDoc;
+    private static volatile Document handlerDoc;
+
+    // gfac-config.xml is parsed again only when it changes
+    private static File handlerDocFile;
+    private static long handlerDocLastModified;
+    private static long handlerDocLength;
+    private static byte[] handlerDocDigest;
+    // when the content of handlerDoc was last found to be the one of its modification time
+    private static long handlerDocVerified;
+
+    /**
+     * Modification times are as coarse as this on some file systems, two versions of a file written within this many
+     * milliseconds can have the same one.
+     */
+    private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+    // handler chains compiled from handlerDoc, by flow, provider and application
+    private static final Map<String, GFacHandlerChain> handlerChains = new HashMap<String, GFacHandlerChain>();
+
     // Keep list of full qualified class names of GFac handlers which should invoked before
     // the provider
     private List<GFacHandlerConfig> inHandlers = new ArrayList<GFacHandlerConfig>();
@@ -56,6 +80,10 @@ public class GFacConfiguration {
     // the provider
     private List<GFacHandlerConfig> outHandlers = new ArrayList<GFacHandlerConfig>();
 
+    private GFacHandlerChain inHandlerChain;
+
+    private GFacHandlerChain outHandlerChain;
+
     public ExecutionMode executionMode = ExecutionMode.SYNCHRONOUS; // default execution mode is SYNCHRONOUS
 
     public GFacConfiguration() {
@@ -77,46 +105,69 @@ public class GFacConfiguration {
     }
     public void setInHandlers(List<GFacHandlerConfig> inHandlers) {
         this.inHandlers = inHandlers;
+        this.inHandlerChain = null;
     }
 
     public void setOutHandlers(List<GFacHandlerConfig> outHandlers) {
         this.outHandlers = outHandlers;
+        this.outHandlerChain = null;
     }
 
-    public void setInHandlers(String providerName, String applicationName) {
-        try {
-            this.inHandlers = getHandlerConfig(handlerDoc, Constants.XPATH_EXPR_GLOBAL_INFLOW_HANDLERS, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
-            if (applicationName != null) {
-                String xPath = Constants.XPATH_EXPR_APPLICATION_HANDLERS_START + applicationName + Constants.XPATH_EXPR_APPLICATION_INFLOW_HANDLERS_END;
-                List<GFacHandlerConfig> handlers = getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
-                this.inHandlers.addAll(handlers);
-            }
-            if (providerName != null) {
-                String xPath = Constants.XPATH_EXPR_PROVIDER_HANDLERS_START + providerName + Constants.XPATH_EXPR_PROVIDER_INFLOW_HANDLERS_END;
-                List<GFacHandlerConfig> handlers = getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_APPLICATION_NAME_ATTRIBUTE);
-                this.inHandlers.addAll(handlers);
-            }
-        } catch (XPathExpressionException e) {
-            new GFacException("Error parsing Handler Configuration", e);
+    public GFacHandlerChain getInHandlerChain() {
+        if (inHandlerChain == null) {
+            inHandlerChain = GFacHandlerChain.compile(getInHandlers());
+        }
+        return inHandlerChain;
+    }
+
+    public GFacHandlerChain getOutHandlerChain() {
+        if (outHandlerChain == null) {
+            outHandlerChain = GFacHandlerChain.compile(getOutHandlers());
         }
+        return outHandlerChain;
+    }
+
+    public void setInHandlers(String providerName, String applicationName) {
+        this.inHandlerChain = getHandlerChain(true, providerName, applicationName);
+        this.inHandlers = inHandlerChain.getHandlerConfigs();
     }
 
     public void setOutHandlers(String providerName, String applicationName) {
+        this.outHandlerChain = getHandlerChain(false, providerName, applicationName);
+        this.outHandlers = outHandlerChain.getHandlerConfigs();
+    }
+
+    /**
+     * @return the global handlers followed by the application and the provider handlers of the given flow, compiled
+     * once for each version of gfac-config.xml
+     */
+    private static synchronized GFacHandlerChain getHandlerChain(boolean inFlow, String providerName, String applicationName) {
+        String key = (inFlow ? "in," : "out,") + providerName + "," + applicationName;
+        GFacHandlerChain handlerChain = handlerChains.get(key);
+        if (handlerChain != null) {
+            return handlerChain;
+        }
+        List<GFacHandlerConfig> handlers;
         try {
-            this.outHandlers = getHandlerConfig(handlerDoc, Constants.XPATH_EXPR_GLOBAL_OUTFLOW_HANDLERS, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
+            handlers = getHandlerConfig(handlerDoc, inFlow ? Constants.XPATH_EXPR_GLOBAL_INFLOW_HANDLERS :
+                    Constants.XPATH_EXPR_GLOBAL_OUTFLOW_HANDLERS, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
             if (applicationName != null) {
-                String xPath = Constants.XPATH_EXPR_APPLICATION_HANDLERS_START + applicationName + Constants.XPATH_EXPR_APPLICATION_OUTFLOW_HANDLERS_END;
-                List<GFacHandlerConfig> handlers = getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
-                this.outHandlers.addAll(handlers);
+                String xPath = Constants.XPATH_EXPR_APPLICATION_HANDLERS_START + applicationName + (inFlow ?
+                        Constants.XPATH_EXPR_APPLICATION_INFLOW_HANDLERS_END : Constants.XPATH_EXPR_APPLICATION_OUTFLOW_HANDLERS_END);
+                handlers.addAll(getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE));
             }
-            if(providerName != null) {
-                String xPath = Constants.XPATH_EXPR_PROVIDER_HANDLERS_START + providerName + Constants.XPATH_EXPR_PROVIDER_OUTFLOW_HANDLERS_END;
-                List<GFacHandlerConfig> handlers = getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
-                this.outHandlers.addAll(handlers);
+            if (providerName != null) {
+                String xPath = Constants.XPATH_EXPR_PROVIDER_HANDLERS_START + providerName + (inFlow ?
+                        Constants.XPATH_EXPR_PROVIDER_INFLOW_HANDLERS_END : Constants.XPATH_EXPR_PROVIDER_OUTFLOW_HANDLERS_END);
+                handlers.addAll(getHandlerConfig(handlerDoc, xPath, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE));
             }
         } catch (XPathExpressionException e) {
-            new GFacException("Error parsing Handler Configuration", e);
+            log.error("Error parsing Handler Configuration", e);
+            return GFacHandlerChain.EMPTY;
         }
+        handlerChain = GFacHandlerChain.compile(removeDuplicateWithOrder(handlers));
+        handlerChains.put(key, handlerChain);
+        return handlerChain;
     }
 
     /**
@@ -155,10 +206,82 @@ public class GFacConfiguration {
      */
     //FIXME
     public static GFacConfiguration create(File configFile,  Properties configurationProperties) throws ParserConfigurationException, IOException, SAXException, XPathExpressionException {
+        loadHandlerDoc(configFile);
+        return new GFacConfiguration();
+    }
+
+    /**
+     * Parses the given configuration file unless it was parsed already and has not been modified since. When the file
+     * changes the handler chains compiled from the previous version are dropped, jobs already running keep the chains
+     * they started with.
+     * <p/>
+     * A change is detected from the modification time and length of the file. As the modification time may be as
+     * coarse as {@link #MODIFICATION_TIME_RESOLUTION}, the content is compared by its digest as well until the file is
+     * older than that, so a rewrite with the same length in the same tick is not missed.
+     *
+     * @param configFile configuration file
+     * @return the parsed configuration
+     */
+    public static synchronized Document loadHandlerDoc(File configFile) throws ParserConfigurationException, IOException, SAXException {
+        long lastModified = configFile.lastModified();
+        long length = configFile.length();
+        if (handlerDoc != null && configFile.equals(handlerDocFile)
+                && lastModified == handlerDocLastModified && length == handlerDocLength) {
+            if (handlerDocVerified - lastModified >= MODIFICATION_TIME_RESOLUTION) {
+                return handlerDoc;
+            }
+            // content read from now on is the last one with this modification time once it is old enough
+            long now = System.currentTimeMillis();
+            byte[] content = readFile(configFile);
+            if (Arrays.equals(digest(content), handlerDocDigest)) {
+                handlerDocVerified = now;
+                return handlerDoc;
+            }
+            return parseHandlerDoc(configFile, content, lastModified, now);
+        }
+        long now = System.currentTimeMillis();
+        return parseHandlerDoc(configFile, readFile(configFile), lastModified, now);
+    }
+
+    private static Document parseHandlerDoc(File configFile, byte[] content, long lastModified, long readTime)
+            throws ParserConfigurationException, IOException, SAXException {
         DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
         DocumentBuilder docBuilder = docBuilderFactory.newDocumentBuilder();
-        handlerDoc = docBuilder.parse(configFile);
-        return new GFacConfiguration();
+        Document document = docBuilder.parse(new ByteArrayInputStream(content), configFile.toURI().toString());
+        if (handlerDoc != null) {
+            log.info("Reloading GFac configuration from " + configFile.getPath());
+        }
+        handlerDoc = document;
+        handlerDocFile = configFile;
+        handlerDocLastModified = lastModified;
+        handlerDocLength = content.length;
+        handlerDocDigest = digest(content);
+        handlerDocVerified = readTime;
+        handlerChains.clear();
+        return handlerDoc;
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] content = new byte[(int) file.length()];
+            int offset = 0;
+            int read;
+            while (offset < content.length && (read = in.read(content, offset, content.length - offset)) >= 0) {
+                offset += read;
+            }
+            return offset == content.length ? content : Arrays.copyOf(content, offset);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
     }
 
     private static String xpathGetText(Document doc, String expression) throws XPathExpressionException {
@@ -178,7 +301,7 @@ public class GFacConfiguration {
      * @return list of attribute values.
      * @throws XPathExpressionException
      */
-    public static List<GFacHandlerConfig> getHandlerConfig(Document doc, String expression, String attribute) throws XPathExpressionException {
+    public static synchronized List<GFacHandlerConfig> getHandlerConfig(Document doc, String expression, String attribute) throws XPathExpressionException {
         XPathFactory xPathFactory = XPathFactory.newInstance();
         XPath xPath = xPathFactory.newXPath();
         XPathExpression expr = xPath.compile(expression);
@@ -203,7 +326,7 @@ public class GFacConfiguration {
         return gFacHandlerConfigs;
     }
 
-    public static List<GFacProviderConfig> getProviderConfig(Document doc, String expression, String attribute) throws XPathExpressionException {
+    public static synchronized List<GFacProviderConfig> getProviderConfig(Document doc, String expression, String attribute) throws XPathExpressionException {
         XPathFactory xPathFactory = XPathFactory.newInstance();
         XPath xPath = xPathFactory.newXPath();
         XPathExpression expr = xPath.compile(expression);
@@ -228,7 +351,7 @@ public class GFacConfiguration {
         return gFacProviderConfigs;
     }
 
-     public static String getAttributeValue(Document doc, String expression, String attribute) throws XPathExpressionException {
+     public static synchronized String getAttributeValue(Document doc, String expression, String attribute) throws XPathExpressionException {
         XPathFactory xPathFactory = XPathFactory.newInstance();
         XPath xPath = xPathFactory.newXPath();
         XPathExpression expr = xPath.compile(expression);
@@ -259,10 +382,7 @@ public class GFacConfiguration {
         return arlList;
     }
     public static List<GFacHandlerConfig> getDaemonHandlers(File configFile)throws ParserConfigurationException, IOException, SAXException, XPathExpressionException{
-       DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docBuilder = docBuilderFactory.newDocumentBuilder();
-        handlerDoc = docBuilder.parse(configFile);
-        return getHandlerConfig(handlerDoc, Constants.XPATH_EXPR_DAEMON_HANDLERS, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
+        return getHandlerConfig(loadHandlerDoc(configFile), Constants.XPATH_EXPR_DAEMON_HANDLERS, Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
     }
     public static Document getHandlerDoc() {
         return handlerDoc;
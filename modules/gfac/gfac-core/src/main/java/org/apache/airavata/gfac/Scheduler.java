@@ -28,8 +28,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathExpressionException;
 
@@ -79,12 +77,9 @@ public class Scheduler {
         String applicationName = jobExecutionContext.getServiceName();
 
         URL resource = Scheduler.class.getClassLoader().getResource(org.apache.airavata.common.utils.Constants.GFAC_CONFIG_XML);
-        DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docBuilder = null;
         Document handlerDoc = null;
         try {
-            docBuilder = docBuilderFactory.newDocumentBuilder();
-            handlerDoc = docBuilder.parse(new File(resource.getPath()));
+            handlerDoc = GFacConfiguration.loadHandlerDoc(new File(resource.getPath()));
         } catch (ParserConfigurationException e) {
             throw new GFacException(e);
         } catch (SAXException e) {
@@ -112,11 +107,11 @@ public class Scheduler {
             // We give higher preference to applications specific provider if configured
             if (provider == null) {
                 String hostClass = hostDescription.getType().getClass().getName();
-                providerClassName = GFacConfiguration.getAttributeValue(GFacConfiguration.getHandlerDoc(), Constants.XPATH_EXPR_PROVIDER_ON_HOST + hostClass + "']", Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
+                providerClassName = GFacConfiguration.getAttributeValue(handlerDoc, Constants.XPATH_EXPR_PROVIDER_ON_HOST + hostClass + "']", Constants.GFAC_CONFIG_CLASS_ATTRIBUTE);
                 Class<? extends GFacProvider> aClass1 = Class.forName(providerClassName).asSubclass(GFacProvider.class);
                 provider = aClass1.newInstance();
                 //loading the provider properties
-                aClass = GFacConfiguration.getProviderConfig(GFacConfiguration.getHandlerDoc(), Constants.XPATH_EXPR_PROVIDER_HANDLERS_START +
+                aClass = GFacConfiguration.getProviderConfig(handlerDoc, Constants.XPATH_EXPR_PROVIDER_HANDLERS_START +
                         providerClassName + "']", Constants.GFAC_CONFIG_APPLICATION_NAME_ATTRIBUTE);
                 if(!aClass.isEmpty()){
                     provider.initProperties(aClass.get(0).getProperties());
@@ -145,12 +140,9 @@ public class Scheduler {
         String applicationName = jobExecutionContext.getServiceName();
 
         URL resource = Scheduler.class.getClassLoader().getResource(org.apache.airavata.common.utils.Constants.GFAC_CONFIG_XML);
-        DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docBuilder = null;
         Document handlerDoc = null;
         try {
-            docBuilder = docBuilderFactory.newDocumentBuilder();
-            handlerDoc = docBuilder.parse(new File(resource.getPath()));
+            handlerDoc = GFacConfiguration.loadHandlerDoc(new File(resource.getPath()));
         } catch (ParserConfigurationException e) {
             throw new GFacException(e);
         } catch (SAXException e) {
@@ -167,7 +159,7 @@ public class Scheduler {
 
             if (executionMode == null || "".equals(executionMode)) {
                 String hostClass = hostDescription.getType().getClass().getName();
-                executionMode = GFacConfiguration.getAttributeValue(GFacConfiguration.getHandlerDoc(), Constants.XPATH_EXPR_PROVIDER_ON_HOST + hostClass + "']", Constants.GFAC_CONFIG_EXECUTION_MODE_ATTRIBUTE);
+                executionMode = GFacConfiguration.getAttributeValue(handlerDoc, Constants.XPATH_EXPR_PROVIDER_ON_HOST + hostClass + "']", Constants.GFAC_CONFIG_EXECUTION_MODE_ATTRIBUTE);
             }
         } catch (XPathExpressionException e) {
             log.error("Error evaluating XPath expression");  //To change body of catch statement use File | Settings | File Templates.
@@ -23,12 +23,15 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathExpressionException;
 import org.airavata.appcatalog.cpi.AppCatalog;
 import org.apache.aiaravata.application.catalog.data.impl.AppCatalogFactory;
+import org.apache.aiaravata.application.catalog.data.util.AppCatalogCache;
 import org.apache.airavata.common.exception.AiravataException;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.AiravataZKUtils;
@@ -46,6 +49,7 @@ import org.apache.airavata.gfac.core.context.ApplicationContext;
 import org.apache.airavata.gfac.core.context.JobExecutionContext;
 import org.apache.airavata.gfac.core.context.MessageContext;
 import org.apache.airavata.gfac.core.handler.*;
+import org.apache.airavata.gfac.core.monitor.AiravataJobStatusUpdator;
 import org.apache.airavata.gfac.core.monitor.MonitorID;
 import org.apache.airavata.gfac.core.monitor.state.GfacExperimentStateChangeRequest;
 import org.apache.airavata.gfac.core.notification.events.ExecutionFailEvent;
@@ -97,7 +101,6 @@ import org.apache.airavata.schemas.gfac.SSHHostType;
 import org.apache.airavata.schemas.gfac.ServiceDescriptionType;
 import org.apache.airavata.schemas.gfac.UnicoreHostType;
 import org.apache.zookeeper.*;
-import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -141,6 +144,13 @@ public class BetterGfacImpl implements GFac,Watcher {
 
     private boolean cancelled = false;
 
+    private static final Map<String, LegacyDescriptors> legacyDescriptorCache = new LinkedHashMap<String, LegacyDescriptors>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LegacyDescriptors> eldest) {
+            return size() > AppCatalogCache.getMaxSize();
+        }
+    };
+
     /**
      * Constructor for GFac
      *
@@ -184,6 +194,18 @@ public class BetterGfacImpl implements GFac,Watcher {
         }
     }
 
+    /**
+     * Writes the job statuses the status updators still buffer, called when the GFac server stops.
+     */
+    public static void stopStatusUpdators() {
+        for (AbstractActivityListener activityListener : activityListeners) {
+            if (activityListener instanceof AiravataJobStatusUpdator) {
+                ((AiravataJobStatusUpdator) activityListener).shutdown();
+            }
+        }
+        activityListeners.clear();
+    }
+
     public static void startDaemonHandlers() {
         List<GFacHandlerConfig> daemonHandlerConfig = null;
         URL resource = BetterGfacImpl.class.getClassLoader().getResource(org.apache.airavata.common.utils.Constants.GFAC_CONFIG_XML);
@@ -283,30 +305,113 @@ public class BetterGfacImpl implements GFac,Watcher {
             throw new GFacException("Error executing the job. The required Application deployment Id is missing");
         }
 
+        LegacyDescriptors legacyDescriptors = getLegacyDescriptors(applicationInterfaceId, applicationDeploymentId, gatewayID);
+        gatewayID = legacyDescriptors.gatewayID;
+        ServiceDescription legacyServiceDescription = legacyDescriptors.serviceDescription.copy();
+        ServiceDescriptionType legacyServiceDescType = legacyServiceDescription.getType();
+        HostDescription legacyHostDescription = legacyDescriptors.hostDescription.copy();
+        ApplicationDescription legacyAppDescription = legacyDescriptors.applicationDescription.copy();
+        if (legacyAppDescription.getType() instanceof HpcApplicationDeploymentType) {
+            HpcApplicationDeploymentType legacyHPCAppDescType = (HpcApplicationDeploymentType) legacyAppDescription.getType();
+            //Fetch scheduling information from experiment request
+            ComputationalResourceScheduling taskSchedule = taskData.getTaskScheduling();
+            QueueType queueType = legacyHPCAppDescType.addNewQueue();
+            queueType.setQueueName(taskSchedule.getQueueName());
+            legacyHPCAppDescType.setCpuCount(taskSchedule.getTotalCPUCount());
+            legacyHPCAppDescType.setNodeCount(taskSchedule.getNodeCount());
+            legacyHPCAppDescType.setMaxWallTime(taskSchedule.getWallTimeLimit());
+        }
+
+        URL resource = BetterGfacImpl.class.getClassLoader().getResource(org.apache.airavata.common.utils.Constants.GFAC_CONFIG_XML);
+        Properties configurationProperties = ServerSettings.getProperties();
+        GFacConfiguration gFacConfiguration = GFacConfiguration.create(new File(resource.getPath()), configurationProperties);
+
+        // start constructing jobexecutioncontext
+        jobExecutionContext = new JobExecutionContext(gFacConfiguration, applicationInterfaceId);
+
+        // setting experiment/task/workflownode related information
+        Experiment experiment = (Experiment) registry.get(RegistryModelType.EXPERIMENT, experimentID);
+        jobExecutionContext.setExperiment(experiment);
+        jobExecutionContext.setExperimentID(experimentID);
+        jobExecutionContext.setWorkflowNodeDetails(experiment.getWorkflowNodeDetailsList().get(0));
+        jobExecutionContext.setTaskData(taskData);
+        jobExecutionContext.setGatewayID(gatewayID);
+
+
+        List<JobDetails> jobDetailsList = taskData.getJobDetailsList();
+        for(JobDetails jDetails:jobDetailsList){
+            jobExecutionContext.setJobDetails(jDetails);
+        }
+        // setting the registry
+        jobExecutionContext.setRegistry(registry);
+
+        ApplicationContext applicationContext = new ApplicationContext();
+//        applicationContext.setApplicationDeploymentDescription(applicationDescription);
+        applicationContext.setHostDescription(legacyHostDescription);
+        applicationContext.setServiceDescription(legacyServiceDescription);
+        applicationContext.setApplicationDeploymentDescription(legacyAppDescription);
+        jobExecutionContext.setApplicationContext(applicationContext);
+
+        List<DataObjectType> experimentInputs = taskData.getApplicationInputs();
+        jobExecutionContext.setInMessageContext(new MessageContext(GFacUtils.getInMessageContext(experimentInputs,
+                legacyServiceDescType.getInputParametersArray())));
+
+        List<DataObjectType> outputData = taskData.getApplicationOutputs();
+        jobExecutionContext.setOutMessageContext(new MessageContext(GFacUtils.getOutMessageContext(outputData,
+                legacyServiceDescType.getOutputParametersArray())));
+
+        jobExecutionContext.setProperty(Constants.PROP_TOPIC, experimentID);
+        jobExecutionContext.setGfac(this);
+        jobExecutionContext.setZk(zk);
+        jobExecutionContext.setCredentialStoreToken(AiravataZKUtils.getExpTokenId(zk, experimentID, taskID));
+        return jobExecutionContext;
+    }
+
+    /**
+     * Returns the legacy service, host and application descriptions of an application deployment. Building them
+     * needs several app catalog lookups and XMLBeans document conversions, so they are cached until the app catalog
+     * changes and callers take copies before filling in task specific values.
+     */
+    private LegacyDescriptors getLegacyDescriptors(String applicationInterfaceId, String applicationDeploymentId,
+                                                   String gatewayID) throws Exception {
+        String key = applicationInterfaceId + "," + applicationDeploymentId + "," + gatewayID;
+        long catalogVersion = AppCatalogCache.getVersion();
+        LegacyDescriptors legacyDescriptors;
+        synchronized (legacyDescriptorCache) {
+            legacyDescriptors = legacyDescriptorCache.get(key);
+        }
+        if (legacyDescriptors != null && legacyDescriptors.isValid(catalogVersion)) {
+            return legacyDescriptors;
+        }
+        legacyDescriptors = createLegacyDescriptors(applicationInterfaceId, applicationDeploymentId, gatewayID);
+        legacyDescriptors.catalogVersion = catalogVersion;
+        synchronized (legacyDescriptorCache) {
+            legacyDescriptorCache.put(key, legacyDescriptors);
+        }
+        return legacyDescriptors;
+    }
+
+    private LegacyDescriptors createLegacyDescriptors(String applicationInterfaceId, String applicationDeploymentId,
+                                                      String gatewayID) throws Exception {
         AppCatalog appCatalog = AppCatalogFactory.getAppCatalog();
 
         //fetch the compute resource, application interface and deployment information from app catalog
-        ApplicationInterfaceDescription applicationInterface = appCatalog.
-                getApplicationInterface().getApplicationInterface(applicationInterfaceId);
-        ApplicationDeploymentDescription applicationDeployment = appCatalog.
-                getApplicationDeployment().getApplicationDeployement(applicationDeploymentId);
-        ComputeResourceDescription computeResource = appCatalog.getComputeResource().
-                getComputeResource(applicationDeployment.getComputeHostId());
-        ComputeResourcePreference gatewayResourcePreferences = appCatalog.getGatewayProfile().
-                getComputeResourcePreference(gatewayID, applicationDeployment.getComputeHostId());
+        ApplicationInterfaceDescription applicationInterface =
+                AppCatalogCache.getApplicationInterface(appCatalog, applicationInterfaceId);
+        ApplicationDeploymentDescription applicationDeployment =
+                AppCatalogCache.getApplicationDeployment(appCatalog, applicationDeploymentId);
+        String computeHostId = applicationDeployment.getComputeHostId();
+        ComputeResourceDescription computeResource = AppCatalogCache.getComputeResource(appCatalog, computeHostId);
+        ComputeResourcePreference gatewayResourcePreferences =
+                AppCatalogCache.getComputeResourcePreference(appCatalog, gatewayID, computeHostId);
         if (gatewayResourcePreferences == null) {
-            List<String> gatewayProfileIds = appCatalog.getGatewayProfile()
-                    .getGatewayProfileIds(gatewayID);
-            for (String profileId : gatewayProfileIds) {
+            String profileId = AppCatalogCache.getPreferredGatewayProfileId(appCatalog, gatewayID, computeHostId);
+            if (profileId != null) {
                 gatewayID = profileId;
-                gatewayResourcePreferences = appCatalog.getGatewayProfile().
-                        getComputeResourcePreference(gatewayID, applicationDeployment.getComputeHostId());
-                if (gatewayResourcePreferences != null) {
-                    break;
-                }
+                gatewayResourcePreferences = AppCatalogCache.getComputeResourcePreference(appCatalog, gatewayID, computeHostId);
             }
         }
-        //Create the legacy schema docs to fill-in
+        //Create the legacy schema docs to fill-in, the task specific scheduling is added by createJEC
         ServiceDescription legacyServiceDescription = new ServiceDescription();
         ServiceDescriptionType legacyServiceDescType = legacyServiceDescription.getType();
         ApplicationDescription legacyAppDescription = null;
@@ -378,12 +483,12 @@ public class BetterGfacImpl implements GFac,Watcher {
                 case LOCAL:
                     legacyHostDescription = new HostDescription();
                     LOCALSubmission localSubmission =
-                            appCatalog.getComputeResource().getLocalJobSubmission(jobSubmissionInterface.getJobSubmissionInterfaceId());
+                            AppCatalogCache.getLocalJobSubmission(appCatalog, jobSubmissionInterface.getJobSubmissionInterfaceId());
                     resourceJobManager = localSubmission.getResourceJobManager();
                     break;
                 case SSH:
                     SSHJobSubmission sshJobSubmission =
-                            appCatalog.getComputeResource().getSSHJobSubmission(jobSubmissionInterface.getJobSubmissionInterfaceId());
+                            AppCatalogCache.getSSHJobSubmission(appCatalog, jobSubmissionInterface.getJobSubmissionInterfaceId());
                     resourceJobManager = sshJobSubmission.getResourceJobManager();
                     switch (sshJobSubmission.getSecurityProtocol()) {
                         case GSI:
@@ -405,7 +510,7 @@ public class BetterGfacImpl implements GFac,Watcher {
                     }
                     break;
                 case UNICORE:
-                	UnicoreJobSubmission ucrSubmission = appCatalog.getComputeResource().getUNICOREJobSubmission(jobSubmissionInterface.getJobSubmissionInterfaceId());
+                	UnicoreJobSubmission ucrSubmission = AppCatalogCache.getUNICOREJobSubmission(appCatalog, jobSubmissionInterface.getJobSubmissionInterfaceId());
                 	String unicoreEndpoint = ucrSubmission.getUnicoreEndPointURL();
                 	legacyHostDescription = new HostDescription(UnicoreHostType.type);
                 	((UnicoreHostType) legacyHostDescription.getType()).setUnicoreBESEndPointArray(new String[]{unicoreEndpoint});
@@ -444,13 +549,6 @@ public class BetterGfacImpl implements GFac,Watcher {
                 default:
                     break;
             }
-            //Fetch scheduling information from experiment request
-            ComputationalResourceScheduling taskSchedule = taskData.getTaskScheduling();
-            QueueType queueType = legacyHPCAppDescType.addNewQueue();
-            queueType.setQueueName(taskSchedule.getQueueName());
-            legacyHPCAppDescType.setCpuCount(taskSchedule.getTotalCPUCount());
-            legacyHPCAppDescType.setNodeCount(taskSchedule.getNodeCount());
-            legacyHPCAppDescType.setMaxWallTime(taskSchedule.getWallTimeLimit());
             if (resourceJobManager != null) {
                 legacyHPCAppDescType.setInstalledParentPath(resourceJobManager.getJobManagerBinPath());
                 if (resourceJobManager.getJobManagerCommands() != null) {
@@ -474,49 +572,27 @@ public class BetterGfacImpl implements GFac,Watcher {
             log.warn("Missing gateway resource profile for gateway id '" + gatewayID + "'.");
         }
 
-        URL resource = BetterGfacImpl.class.getClassLoader().getResource(org.apache.airavata.common.utils.Constants.GFAC_CONFIG_XML);
-        Properties configurationProperties = ServerSettings.getProperties();
-        GFacConfiguration gFacConfiguration = GFacConfiguration.create(new File(resource.getPath()), configurationProperties);
-
-        // start constructing jobexecutioncontext
-        jobExecutionContext = new JobExecutionContext(gFacConfiguration, applicationInterfaceId);
-
-        // setting experiment/task/workflownode related information
-        Experiment experiment = (Experiment) registry.get(RegistryModelType.EXPERIMENT, experimentID);
-        jobExecutionContext.setExperiment(experiment);
-        jobExecutionContext.setExperimentID(experimentID);
-        jobExecutionContext.setWorkflowNodeDetails(experiment.getWorkflowNodeDetailsList().get(0));
-        jobExecutionContext.setTaskData(taskData);
-        jobExecutionContext.setGatewayID(gatewayID);
-
+        LegacyDescriptors legacyDescriptors = new LegacyDescriptors();
+        legacyDescriptors.serviceDescription = legacyServiceDescription;
+        legacyDescriptors.hostDescription = legacyHostDescription;
+        legacyDescriptors.applicationDescription = legacyAppDescription;
+        legacyDescriptors.gatewayID = gatewayID;
+        return legacyDescriptors;
+    }
 
-        List<JobDetails> jobDetailsList = taskData.getJobDetailsList();
-        for(JobDetails jDetails:jobDetailsList){
-            jobExecutionContext.setJobDetails(jDetails);
+    private static class LegacyDescriptors {
+        private ServiceDescription serviceDescription;
+        private HostDescription hostDescription;
+        private ApplicationDescription applicationDescription;
+        private String gatewayID;
+        private long catalogVersion;
+        private final long createdTime = System.currentTimeMillis();
+
+        private boolean isValid(long currentCatalogVersion) {
+            long timeToLive = AppCatalogCache.getTimeToLive();
+            return catalogVersion == currentCatalogVersion
+                    && (timeToLive <= 0 || System.currentTimeMillis() - createdTime <= timeToLive);
         }
-        // setting the registry
-        jobExecutionContext.setRegistry(registry);
-
-        ApplicationContext applicationContext = new ApplicationContext();
-//        applicationContext.setApplicationDeploymentDescription(applicationDescription);
-        applicationContext.setHostDescription(legacyHostDescription);
-        applicationContext.setServiceDescription(legacyServiceDescription);
-        applicationContext.setApplicationDeploymentDescription(legacyAppDescription);
-        jobExecutionContext.setApplicationContext(applicationContext);
-
-        List<DataObjectType> experimentInputs = taskData.getApplicationInputs();
-        jobExecutionContext.setInMessageContext(new MessageContext(GFacUtils.getInMessageContext(experimentInputs,
-                legacyServiceDescType.getInputParametersArray())));
-
-        List<DataObjectType> outputData = taskData.getApplicationOutputs();
-        jobExecutionContext.setOutMessageContext(new MessageContext(GFacUtils.getOutMessageContext(outputData,
-                legacyServiceDescType.getOutputParametersArray())));
-
-        jobExecutionContext.setProperty(Constants.PROP_TOPIC, experimentID);
-        jobExecutionContext.setGfac(this);
-        jobExecutionContext.setZk(zk);
-        jobExecutionContext.setCredentialStoreToken(AiravataZKUtils.getExpTokenId(zk, experimentID, taskID));
-        return jobExecutionContext;
     }
 
     private boolean submitJob(JobExecutionContext jobExecutionContext) throws GFacException {
@@ -524,8 +600,7 @@ public class BetterGfacImpl implements GFac,Watcher {
         // we need to setup workflow tracking listerner.
         try {
             String experimentEntry = GFacUtils.findExperimentEntry(jobExecutionContext.getExperimentID(), jobExecutionContext.getTaskData().getTaskID(), zk);
-            Stat exists = zk.exists(experimentEntry + File.separator + "operation", false);
-            zk.getData(experimentEntry + File.separator + "operation", this, exists);
+            zk.getData(experimentEntry + File.separator + "operation", this, null);
             int stateVal = GFacUtils.getZKExperimentStateValue(zk, jobExecutionContext);   // this is the original state came, if we query again it might be different,so we preserve this state in the environment
             monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext)
                     , GfacExperimentState.ACCEPTED));                  // immediately we get the request we update the status
@@ -542,7 +617,7 @@ public class BetterGfacImpl implements GFac,Watcher {
                 launch(jobExecutionContext);
             } else if (stateVal >= 8) {
                 log.info("There is nothing to recover in this job so we do not re-submit");
-                ZKUtil.deleteRecursive(zk,
+                GFacUtils.deleteExperimentEntry(zk,
                         AiravataZKUtils.getExpZnodePath(jobExecutionContext.getExperimentID(), jobExecutionContext.getTaskData().getTaskID()));
             } else {
                 // Now we know this is an old Job, so we have to handle things gracefully
@@ -593,7 +668,7 @@ public class BetterGfacImpl implements GFac,Watcher {
                         " and stop the execution chain");
             } else if (stateVal >= 8) {
                 log.error("This experiment is almost finished, so cannot cancel this experiment");
-                ZKUtil.deleteRecursive(zk,
+                GFacUtils.deleteExperimentEntry(zk,
                         AiravataZKUtils.getExpZnodePath(jobExecutionContext.getExperimentID(), jobExecutionContext.getTaskData().getTaskID()));
             } else {
                 log.info("Job is in a position to perform a proper cancellation");
@@ -936,29 +1011,17 @@ public class BetterGfacImpl implements GFac,Watcher {
     }
 
     private void invokeInFlowHandlers(JobExecutionContext jobExecutionContext) throws GFacException {
-        List<GFacHandlerConfig> handlers = jobExecutionContext.getGFacConfiguration().getInHandlers();
+        GFacHandlerChain handlerChain = jobExecutionContext.getGFacConfiguration().getInHandlerChain();
         try {
             monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext)
                     , GfacExperimentState.INHANDLERSINVOKING));
-            for (GFacHandlerConfig handlerClassName : handlers) {
+            for (GFacHandlerChain.Link handlerLink : handlerChain.getLinks()) {
                 if(!isCancelled()) {
-                    Class<? extends GFacHandler> handlerClass;
-                    GFacHandler handler;
+                    GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName());
+                    GFacHandler handler = handlerLink.getHandler();
                     try {
-                        GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName());
-                        handlerClass = Class.forName(handlerClassName.getClassName().trim()).asSubclass(GFacHandler.class);
-                        handler = handlerClass.newInstance();
-                        handler.initProperties(handlerClassName.getProperties());
-                    } catch (ClassNotFoundException e) {
-                        throw new GFacException("Cannot load handler class " + handlerClassName, e);
-                    } catch (InstantiationException e) {
-                        throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-                    } catch (IllegalAccessException e) {
-                        throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-                    }
-                    try {
-                        handler.invoke(jobExecutionContext);
-                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                        handlerLink.invoke(handler, jobExecutionContext);
+                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                         // if exception thrown before that we do not make it finished
                     } catch (GFacHandlerException e) {
                         throw new GFacException("Error Executing a InFlow Handler", e.getCause());
@@ -977,9 +1040,9 @@ public class BetterGfacImpl implements GFac,Watcher {
 
     public void invokeOutFlowHandlers(JobExecutionContext jobExecutionContext) throws GFacException {
         GFacConfiguration gFacConfiguration = jobExecutionContext.getGFacConfiguration();
-        List<GFacHandlerConfig> handlers = null;
+        GFacHandlerChain handlerChain = null;
         if (gFacConfiguration != null) {
-            handlers = jobExecutionContext.getGFacConfiguration().getOutHandlers();
+            handlerChain = gFacConfiguration.getOutHandlerChain();
         } else {
             try {
                 jobExecutionContext = createJEC(jobExecutionContext.getExperimentID(),
@@ -990,30 +1053,21 @@ public class BetterGfacImpl implements GFac,Watcher {
             }
         }
         monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext), GfacExperimentState.OUTHANDLERSINVOKING));
-        for (GFacHandlerConfig handlerClassName : handlers) {
+        for (GFacHandlerChain.Link handlerLink : handlerChain.getLinks()) {
             if(!isCancelled()) {
-                Class<? extends GFacHandler> handlerClass;
                 GFacHandler handler;
                 try {
-                    GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName());
-                    handlerClass = Class.forName(handlerClassName.getClassName().trim()).asSubclass(GFacHandler.class);
-                    handler = handlerClass.newInstance();
-                    handler.initProperties(handlerClassName.getProperties());
-                } catch (ClassNotFoundException e) {
-                    log.error(e.getMessage());
-                    throw new GFacException("Cannot load handler class " + handlerClassName, e);
-                } catch (InstantiationException e) {
-                    log.error(e.getMessage());
-                    throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-                } catch (IllegalAccessException e) {
+                    GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName());
+                    handler = handlerLink.getHandler();
+                } catch (GFacException e) {
                     log.error(e.getMessage());
-                    throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
+                    throw e;
                 } catch (Exception e) {
-                    throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
+                    throw new GFacException("Cannot instantiate handler class " + handlerLink.getClassName(), e);
                 }
                 try {
-                    handler.invoke(jobExecutionContext);
-                    GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                    handlerLink.invoke(handler, jobExecutionContext);
+                    GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                 } catch (Exception e) {
                     TaskIdentifier taskIdentity = new TaskIdentifier(jobExecutionContext.getTaskData().getTaskID(),
                             jobExecutionContext.getWorkflowNodeDetails().getNodeInstanceId(),
@@ -1051,17 +1105,14 @@ public class BetterGfacImpl implements GFac,Watcher {
      * @throws GFacException
      */
     private void reInvokeInFlowHandlers(JobExecutionContext jobExecutionContext) throws GFacException {
-        List<GFacHandlerConfig> handlers = jobExecutionContext.getGFacConfiguration().getInHandlers();
+        GFacHandlerChain handlerChain = jobExecutionContext.getGFacConfiguration().getInHandlerChain();
         try {
             monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext)
                     , GfacExperimentState.INHANDLERSINVOKING));
-            for (GFacHandlerConfig handlerClassName : handlers) {
-                Class<? extends GFacHandler> handlerClass;
-                GFacHandler handler;
+            for (GFacHandlerChain.Link handlerLink : handlerChain.getLinks()) {
                 try {
-                    handlerClass = Class.forName(handlerClassName.getClassName().trim()).asSubclass(GFacHandler.class);
-                    handler = handlerClass.newInstance();
-                    String plState = GFacUtils.getPluginState(zk, jobExecutionContext, handlerClassName.getClassName());
+                    GFacHandler handler = handlerLink.getHandler();
+                    String plState = GFacUtils.getPluginState(zk, jobExecutionContext, handlerLink.getClassName());
                     int state = 0;
                     try {
                         state = Integer.valueOf(plState);
@@ -1071,28 +1122,21 @@ public class BetterGfacImpl implements GFac,Watcher {
                     if (state >= GfacPluginState.INVOKED.getValue()) {
                         if (handler instanceof GFacRecoverableHandler) {
                             // if these already ran we re-run only recoverable handlers
-                            log.info(handlerClassName.getClassName() + " is a recoverable handler so we recover the handler");
-                            GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.INVOKING);
-                            ((GFacRecoverableHandler) handler).recover(jobExecutionContext);
-                            GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                            log.info(handlerLink.getClassName() + " is a recoverable handler so we recover the handler");
+                            GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.INVOKING);
+                            handlerLink.recover((GFacRecoverableHandler) handler, jobExecutionContext);
+                            GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                         } else {
-                            log.info(handlerClassName.getClassName() + " is not a recoverable handler so we do not run because it already ran in last-run");
+                            log.info(handlerLink.getClassName() + " is not a recoverable handler so we do not run because it already ran in last-run");
                         }
                     } else {
-                        log.info(handlerClassName.getClassName() + " never ran so we run this is normal mode");
-                        GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.INVOKING);
-                        handler.initProperties(handlerClassName.getProperties());
-                        handler.invoke(jobExecutionContext);
-                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                        log.info(handlerLink.getClassName() + " never ran so we run this is normal mode");
+                        GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.INVOKING);
+                        handlerLink.invoke(handler, jobExecutionContext);
+                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                     }
                 } catch (GFacHandlerException e) {
                     throw new GFacException("Error Executing a InFlow Handler", e.getCause());
-                } catch (ClassNotFoundException e) {
-                    throw new GFacException("Cannot load handler class " + handlerClassName, e);
-                } catch (InstantiationException e) {
-                    throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-                } catch (IllegalAccessException e) {
-                    throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
                 }
             }
             monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext)
@@ -1104,9 +1148,9 @@ public class BetterGfacImpl implements GFac,Watcher {
 
     public void reInvokeOutFlowHandlers(JobExecutionContext jobExecutionContext) throws GFacException {
         GFacConfiguration gFacConfiguration = jobExecutionContext.getGFacConfiguration();
-        List<GFacHandlerConfig> handlers = null;
+        GFacHandlerChain handlerChain = null;
         if (gFacConfiguration != null) {
-            handlers = jobExecutionContext.getGFacConfiguration().getOutHandlers();
+            handlerChain = gFacConfiguration.getOutHandlerChain();
         } else {
             try {
                 jobExecutionContext = createJEC(jobExecutionContext.getExperimentID(),
@@ -1118,39 +1162,26 @@ public class BetterGfacImpl implements GFac,Watcher {
             launch(jobExecutionContext);
         }
         monitorPublisher.publish(new GfacExperimentStateChangeRequest(new MonitorID(jobExecutionContext), GfacExperimentState.OUTHANDLERSINVOKING));
-        for (GFacHandlerConfig handlerClassName : handlers) {
-            Class<? extends GFacHandler> handlerClass;
-            GFacHandler handler;
+        for (GFacHandlerChain.Link handlerLink : handlerChain.getLinks()) {
             try {
-                handlerClass = Class.forName(handlerClassName.getClassName().trim()).asSubclass(GFacHandler.class);
-                handler = handlerClass.newInstance();
-                String plState = GFacUtils.getPluginState(zk, jobExecutionContext, handlerClassName.getClassName());
+                GFacHandler handler = handlerLink.getHandler();
+                String plState = GFacUtils.getPluginState(zk, jobExecutionContext, handlerLink.getClassName());
                 if (Integer.valueOf(plState) >= GfacPluginState.INVOKED.getValue()) {
                     if (handler instanceof GFacRecoverableHandler) {
                         // if these already ran we re-run only recoverable handlers
-                        log.info(handlerClassName.getClassName() + " is a recoverable handler so we recover the handler");
-                        GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.INVOKING);
-                        ((GFacRecoverableHandler) handler).recover(jobExecutionContext);
-                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                        log.info(handlerLink.getClassName() + " is a recoverable handler so we recover the handler");
+                        GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.INVOKING);
+                        handlerLink.recover((GFacRecoverableHandler) handler, jobExecutionContext);
+                        GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                     } else {
-                        log.info(handlerClassName.getClassName() + " is not a recoverable handler so we do not run because it already ran in last-run");
+                        log.info(handlerLink.getClassName() + " is not a recoverable handler so we do not run because it already ran in last-run");
                     }
                 } else {
-                    log.info(handlerClassName.getClassName() + " never ran so we run this is normal mode");
-                    GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.INVOKING);
-                    handler.initProperties(handlerClassName.getProperties());
-                    handler.invoke(jobExecutionContext);
-                    GFacUtils.updatePluginState(zk, jobExecutionContext, handlerClassName.getClassName(), GfacPluginState.COMPLETED);
+                    log.info(handlerLink.getClassName() + " never ran so we run this is normal mode");
+                    GFacUtils.createPluginZnode(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.INVOKING);
+                    handlerLink.invoke(handler, jobExecutionContext);
+                    GFacUtils.updatePluginState(zk, jobExecutionContext, handlerLink.getClassName(), GfacPluginState.COMPLETED);
                 }
-            } catch (ClassNotFoundException e) {
-                log.error(e.getMessage());
-                throw new GFacException("Cannot load handler class " + handlerClassName, e);
-            } catch (InstantiationException e) {
-                log.error(e.getMessage());
-                throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-            } catch (IllegalAccessException e) {
-                log.error(e.getMessage());
-                throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
             } catch (Exception e) {
                 // TODO: Better error reporting.
                 throw new GFacException("Error Executing a OutFlow Handler", e);
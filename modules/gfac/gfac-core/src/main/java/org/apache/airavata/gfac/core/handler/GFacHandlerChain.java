@@ -0,0 +1,160 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gfac.core.handler;
+
+import org.apache.airavata.gfac.GFacException;
+import org.apache.airavata.gfac.core.context.JobExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The in or out handlers configured for a provider and an application in the order they are invoked. Handler
+ * classes are loaded once when the chain is compiled; a class which cannot be loaded fails the jobs which reach it,
+ * as it did when handlers were loaded for each job. Chains are immutable and shared by all the jobs of the same
+ * provider and application until gfac-config.xml changes.
+ */
+public class GFacHandlerChain {
+    public static final GFacHandlerChain EMPTY = new GFacHandlerChain(Collections.<Link>emptyList());
+
+    private final List<Link> links;
+
+    private GFacHandlerChain(List<Link> links) {
+        this.links = links;
+    }
+
+    public static GFacHandlerChain compile(List<GFacHandlerConfig> handlerConfigs) {
+        List<Link> links = new ArrayList<Link>(handlerConfigs.size());
+        for (GFacHandlerConfig handlerConfig : handlerConfigs) {
+            links.add(new Link(handlerConfig));
+        }
+        return new GFacHandlerChain(Collections.unmodifiableList(links));
+    }
+
+    public List<Link> getLinks() {
+        return links;
+    }
+
+    public List<GFacHandlerConfig> getHandlerConfigs() {
+        List<GFacHandlerConfig> handlerConfigs = new ArrayList<GFacHandlerConfig>(links.size());
+        for (Link link : links) {
+            handlerConfigs.add(link.getHandlerConfig());
+        }
+        return handlerConfigs;
+    }
+
+    public int size() {
+        return links.size();
+    }
+
+    /**
+     * A handler of the chain. Handlers implementing {@link GFacStatelessHandler} are created once and shared, every
+     * other handler is created and initialized for each call to {@link #getHandler()}.
+     */
+    public static class Link {
+        private final GFacHandlerConfig handlerConfig;
+        private final Class<? extends GFacHandler> handlerClass;
+        private final ClassNotFoundException loadError;
+        private final HandlerStatistics statistics;
+        private GFacHandler sharedHandler;
+
+        private Link(GFacHandlerConfig handlerConfig) {
+            this.handlerConfig = handlerConfig;
+            Class<? extends GFacHandler> aClass = null;
+            ClassNotFoundException error = null;
+            try {
+                aClass = Class.forName(handlerConfig.getClassName().trim()).asSubclass(GFacHandler.class);
+            } catch (ClassNotFoundException e) {
+                error = e;
+            }
+            this.handlerClass = aClass;
+            this.loadError = error;
+            this.statistics = HandlerStatistics.get(handlerConfig.getClassName());
+        }
+
+        public String getClassName() {
+            return handlerConfig.getClassName();
+        }
+
+        public GFacHandlerConfig getHandlerConfig() {
+            return handlerConfig;
+        }
+
+        public boolean isShared() {
+            return handlerClass != null && GFacStatelessHandler.class.isAssignableFrom(handlerClass);
+        }
+
+        public HandlerStatistics getStatistics() {
+            return statistics;
+        }
+
+        public GFacHandler getHandler() throws GFacException {
+            if (!isShared()) {
+                return newHandler();
+            }
+            synchronized (this) {
+                if (sharedHandler == null) {
+                    sharedHandler = newHandler();
+                }
+                return sharedHandler;
+            }
+        }
+
+        public void invoke(GFacHandler handler, JobExecutionContext jobExecutionContext) throws GFacHandlerException {
+            long start = System.currentTimeMillis();
+            boolean failed = true;
+            try {
+                handler.invoke(jobExecutionContext);
+                failed = false;
+            } finally {
+                statistics.record(System.currentTimeMillis() - start, failed);
+            }
+        }
+
+        public void recover(GFacRecoverableHandler handler, JobExecutionContext jobExecutionContext) throws GFacHandlerException {
+            long start = System.currentTimeMillis();
+            boolean failed = true;
+            try {
+                handler.recover(jobExecutionContext);
+                failed = false;
+            } finally {
+                statistics.record(System.currentTimeMillis() - start, failed);
+            }
+        }
+
+        private GFacHandler newHandler() throws GFacException {
+            if (loadError != null) {
+                throw new GFacException("Cannot load handler class " + getClassName(), loadError);
+            }
+            GFacHandler handler;
+            try {
+                handler = handlerClass.newInstance();
+            } catch (InstantiationException e) {
+                throw new GFacException("Cannot instantiate handler class " + getClassName(), e);
+            } catch (IllegalAccessException e) {
+                throw new GFacException("Cannot instantiate handler class " + getClassName(), e);
+            }
+            handler.initProperties(handlerConfig.getProperties());
+            return handler;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gfac.core.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Execution times of a handler class over all the jobs this GFac instance ran, as a histogram with a bucket for
+ * each of {@link #BUCKET_BOUNDS} and one for the longer invocations. The GFac server logs the statistics of every
+ * handler when it stops.
+ */
+public class HandlerStatistics {
+    /**
+     * Upper bounds of the histogram buckets in milliseconds.
+     */
+    public static final long[] BUCKET_BOUNDS = {10, 100, 1000, 10000, 60000, 600000};
+
+    private static final ConcurrentMap<String, HandlerStatistics> statistics = new ConcurrentHashMap<String, HandlerStatistics>();
+
+    private final String className;
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicLong maxTime = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+
+    private HandlerStatistics(String className) {
+        this.className = className;
+    }
+
+    public static HandlerStatistics get(String className) {
+        HandlerStatistics handlerStatistics = statistics.get(className);
+        if (handlerStatistics == null) {
+            handlerStatistics = new HandlerStatistics(className);
+            HandlerStatistics existing = statistics.putIfAbsent(className, handlerStatistics);
+            if (existing != null) {
+                handlerStatistics = existing;
+            }
+        }
+        return handlerStatistics;
+    }
+
+    public static List<HandlerStatistics> getAll() {
+        return new ArrayList<HandlerStatistics>(statistics.values());
+    }
+
+    public void record(long timeInMillis, boolean failed) {
+        invocations.incrementAndGet();
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        totalTime.addAndGet(timeInMillis);
+        long max = maxTime.get();
+        while (timeInMillis > max && !maxTime.compareAndSet(max, timeInMillis)) {
+            max = maxTime.get();
+        }
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && timeInMillis > BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public long getInvocationCount() {
+        return invocations.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public long getTotalTime() {
+        return totalTime.get();
+    }
+
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    /**
+     * @return number of invocations in each bucket, the last one counting the invocations longer than the last bound
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        long count = invocations.get();
+        StringBuilder builder = new StringBuilder(className)
+                .append(": invocations=").append(count)
+                .append(", failures=").append(failures.get())
+                .append(", mean=").append(count == 0 ? 0 : totalTime.get() / count).append("ms")
+                .append(", max=").append(maxTime.get()).append("ms");
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            builder.append(", <=").append(BUCKET_BOUNDS[i]).append("ms=").append(buckets.get(i));
+        }
+        builder.append(", >").append(BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1]).append("ms=")
+                .append(buckets.get(BUCKET_BOUNDS.length));
+        return builder.toString();
+    }
+}
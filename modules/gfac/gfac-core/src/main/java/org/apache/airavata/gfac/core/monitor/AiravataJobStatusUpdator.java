@@ -22,9 +22,11 @@ package org.apache.airavata.gfac.core.monitor;
 
 import com.google.common.eventbus.Subscribe;
 import org.apache.airavata.common.utils.AiravataUtils;
+import org.apache.airavata.common.utils.AllowConcurrentPartitions;
 import org.apache.airavata.common.utils.MonitorPublisher;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.listener.AbstractActivityListener;
+import org.apache.airavata.gfac.Constants;
 import org.apache.airavata.messaging.core.MessageContext;
 import org.apache.airavata.messaging.core.Publisher;
 import org.apache.airavata.model.messaging.event.JobStatusChangeEvent;
@@ -32,21 +34,54 @@ import org.apache.airavata.model.messaging.event.JobStatusChangeRequestEvent;
 import org.apache.airavata.model.messaging.event.MessageType;
 import org.apache.airavata.model.workspace.experiment.JobDetails;
 import org.apache.airavata.model.workspace.experiment.JobState;
+import org.apache.airavata.model.workspace.experiment.JobStatus;
 import org.apache.airavata.registry.cpi.CompositeIdentifier;
 import org.apache.airavata.registry.cpi.Registry;
 import org.apache.airavata.registry.cpi.RegistryModelType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Persists job status changes and publishes them as job status change events. By default every status is written
+ * straight through before its event is published. With a {@link Constants#JOB_STATUS_FLUSH_INTERVAL} above 0 the
+ * registry writes are instead buffered and flushed every that many milliseconds in a single transaction. Only the
+ * latest state of a job is kept in the buffer, except that a cancelled job does not leave the cancelled states, which
+ * a flush checks against the states the registry holds for the whole batch, read in one query. Until a status is
+ * flushed the registry still returns the previous state of the job, even to a subscriber of the published event. The
+ * buffer is flushed when GFac stops, or from a shutdown hook if the JVM exits without stopping GFac.
+ */
 public class AiravataJobStatusUpdator implements AbstractActivityListener {
     private final static Logger logger = LoggerFactory.getLogger(AiravataJobStatusUpdator.class);
+    private static final long DEFAULT_FLUSH_INTERVAL = 0;
+
     private Registry airavataRegistry;
 
     private MonitorPublisher monitorPublisher;
     private Publisher publisher;
 
+    private long flushInterval = -1;
+
+    // statuses waiting to be written, keyed by task id and job id
+    private final Map<String, PendingStatus> pendingStatuses = new LinkedHashMap<String, PendingStatus>();
+
+    private ScheduledExecutorService flushExecutor;
+
+    private Thread shutdownHook;
+
+    private final WriteStatistics statistics = new WriteStatistics();
+
 
     public Registry getAiravataRegistry() {
         return airavataRegistry;
@@ -58,6 +93,7 @@ public class AiravataJobStatusUpdator implements AbstractActivityListener {
 
 
     @Subscribe
+    @AllowConcurrentPartitions
     public void updateRegistry(JobStatusChangeRequestEvent jobStatus) throws Exception{
         /* Here we need to parse the jobStatus message and update
                 the registry accordingly, for now we are just printing to standard Out
@@ -67,7 +103,11 @@ public class AiravataJobStatusUpdator implements AbstractActivityListener {
             try {
                 String taskID = jobStatus.getJobIdentity().getTaskId();
                 String jobID = jobStatus.getJobIdentity().getJobId();
-                updateJobStatus(taskID, jobID, state);
+                if (getFlushInterval() > 0) {
+                    queueJobStatus(taskID, jobID, state);
+                } else {
+                    updateJobStatus(taskID, jobID, state);
+                }
     			logger.debug("Publishing job status for "+jobStatus.getJobIdentity().getJobId()+":"+state.toString());
                 JobStatusChangeEvent event = new JobStatusChangeEvent(jobStatus.getState(), jobStatus.getJobIdentity());
                 monitorPublisher.publish(event);
@@ -103,6 +143,174 @@ public class AiravataJobStatusUpdator implements AbstractActivityListener {
         airavataRegistry.update(RegistryModelType.JOB_STATUS, status, ids);
     }
 
+    /**
+     * Buffers a job status until the next flush. A newer state replaces a buffered one, except that a buffered
+     * cancellation is only replaced by another cancellation, so CANCELING can still move on to CANCELED.
+     */
+    public void queueJobStatus(String taskId, String jobID, JobState state) {
+        String key = taskId + "," + jobID;
+        synchronized (pendingStatuses) {
+            PendingStatus pending = pendingStatuses.get(key);
+            if (pending != null) {
+                statistics.coalesced.incrementAndGet();
+                if (isCancelled(pending.state) && !isCancelled(state)) {
+                    return;
+                }
+            }
+            pendingStatuses.put(key, new PendingStatus(taskId, jobID, state, Calendar.getInstance().getTimeInMillis()));
+            statistics.queued.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes all the buffered job statuses in one transaction. If the transaction fails the statuses are written
+     * one by one, so a single bad job does not hold back the others.
+     */
+    public void flush() {
+        List<PendingStatus> batch;
+        synchronized (pendingStatuses) {
+            if (pendingStatuses.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<PendingStatus>(pendingStatuses.values());
+            pendingStatuses.clear();
+        }
+        List<CompositeIdentifier> batchIds = new ArrayList<CompositeIdentifier>();
+        for (PendingStatus pending : batch) {
+            batchIds.add(new CompositeIdentifier(pending.taskId, pending.jobId));
+        }
+        Map<String, JobState> currentStates = getCurrentStates(batchIds);
+        Map<CompositeIdentifier, JobStatus> statuses = new LinkedHashMap<CompositeIdentifier, JobStatus>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingStatus pending = batch.get(i);
+            CompositeIdentifier ids = batchIds.get(i);
+            if (isCancelled(currentStates.get(pending.taskId + "," + pending.jobId)) && !isCancelled(pending.state)) {
+                logger.debug("Job " + pending.jobId + " is cancelled, not updating its status to " + pending.state);
+                continue;
+            }
+            JobStatus status = new JobStatus();
+            status.setJobState(pending.state);
+            status.setTimeOfStateChange(pending.timeOfStateChange);
+            statuses.put(ids, status);
+        }
+        if (statuses.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            airavataRegistry.updateAll(RegistryModelType.JOB_STATUS, statuses);
+            statistics.written.addAndGet(statuses.size());
+        } catch (Exception e) {
+            logger.error("Error writing " + statuses.size() + " job statuses in one transaction, writing them one by one", e);
+            for (Map.Entry<CompositeIdentifier, JobStatus> entry : statuses.entrySet()) {
+                try {
+                    airavataRegistry.update(RegistryModelType.JOB_STATUS, entry.getValue(), entry.getKey());
+                    statistics.written.incrementAndGet();
+                } catch (Exception e1) {
+                    statistics.failed.incrementAndGet();
+                    logger.error("Error updating the status of job " + entry.getKey() + " to " +
+                            entry.getValue().getJobState(), e1);
+                }
+            }
+        }
+        statistics.flushes.incrementAndGet();
+        logger.debug("Wrote " + statuses.size() + " job statuses in " + (System.currentTimeMillis() - startTime) + " ms");
+    }
+
+    /**
+     * Reads the states the registry holds for a batch of jobs in one call.
+     *
+     * @return states keyed by task id and job id
+     */
+    private Map<String, JobState> getCurrentStates(List<CompositeIdentifier> ids) {
+        Map<String, JobState> states = new HashMap<String, JobState>();
+        try {
+            Map<Object, Object> current = airavataRegistry.getAll(RegistryModelType.JOB_STATUS, ids);
+            if (current != null) {
+                for (Map.Entry<Object, Object> entry : current.entrySet()) {
+                    CompositeIdentifier id = (CompositeIdentifier) entry.getKey();
+                    states.put(id.getTopLevelIdentifier() + "," + id.getSecondLevelIdentifier(),
+                            ((JobStatus) entry.getValue()).getJobState());
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Couldn't read the current statuses of " + ids.size() + " jobs", e);
+        }
+        return states;
+    }
+
+    private static boolean isCancelled(JobState state) {
+        return JobState.CANCELED.equals(state) || JobState.CANCELING.equals(state);
+    }
+
+    public long getFlushInterval() {
+        if (flushInterval < 0) {
+            try {
+                flushInterval = Long.parseLong(ServerSettings.getSetting(Constants.JOB_STATUS_FLUSH_INTERVAL,
+                        String.valueOf(DEFAULT_FLUSH_INTERVAL)));
+            } catch (Exception e) {
+                logger.error("Error reading " + Constants.JOB_STATUS_FLUSH_INTERVAL + ", using the default", e);
+                flushInterval = DEFAULT_FLUSH_INTERVAL;
+            }
+        }
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Stops the background flushes and writes what is left in the buffer.
+     */
+    public synchronized void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            flushExecutor = null;
+        }
+        if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // the JVM is already shutting down and runs the hook
+            }
+        }
+        shutdownHook = null;
+        flush();
+    }
+
+    public WriteStatistics getStatistics() {
+        return statistics;
+    }
+
+    private synchronized void startFlushing() {
+        if (flushExecutor != null || getFlushInterval() <= 0) {
+            return;
+        }
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "job-status-writer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        flushExecutor.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                try {
+                    flush();
+                } catch (Throwable e) {
+                    logger.error("Error flushing job statuses", e);
+                }
+            }
+        }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        shutdownHook = new Thread("job-status-writer-shutdown") {
+            public void run() {
+                shutdown();
+            }
+        };
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
 	@SuppressWarnings("unchecked")
 	public void setup(Object... configurations) {
 		for (Object configuration : configurations) {
@@ -114,5 +322,60 @@ public class AiravataJobStatusUpdator implements AbstractActivityListener {
                 this.publisher=(Publisher) configuration;
             }
 		}
+        startFlushing();
 	}
+
+    private static class PendingStatus {
+        private final String taskId;
+        private final String jobId;
+        private final JobState state;
+        private final long timeOfStateChange;
+
+        private PendingStatus(String taskId, String jobId, JobState state, long timeOfStateChange) {
+            this.taskId = taskId;
+            this.jobId = jobId;
+            this.state = state;
+            this.timeOfStateChange = timeOfStateChange;
+        }
+    }
+
+    /**
+     * Counts of the buffered job status writes.
+     */
+    public static class WriteStatistics {
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong flushes = new AtomicLong();
+
+        public long getQueuedCount() {
+            return queued.get();
+        }
+
+        /**
+         * @return statuses which arrived while an earlier status of the same job was still buffered
+         */
+        public long getCoalescedCount() {
+            return coalesced.get();
+        }
+
+        public long getWrittenCount() {
+            return written.get();
+        }
+
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        public long getFlushCount() {
+            return flushes.get();
+        }
+
+        @Override
+        public String toString() {
+            return "[queued=" + getQueuedCount() + ", coalesced=" + getCoalescedCount() + ", written=" +
+                    getWrittenCount() + ", failed=" + getFailedCount() + ", flushes=" + getFlushCount() + "]";
+        }
+    }
 }
@@ -22,6 +22,7 @@ package org.apache.airavata.gfac.core.monitor;
 
 import com.google.common.eventbus.Subscribe;
 import org.apache.airavata.common.utils.AiravataUtils;
+import org.apache.airavata.common.utils.AllowConcurrentPartitions;
 import org.apache.airavata.common.utils.MonitorPublisher;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.listener.AbstractActivityListener;
@@ -52,6 +53,7 @@ public class AiravataTaskStatusUpdator implements AbstractActivityListener {
     }
 
     @Subscribe
+    @AllowConcurrentPartitions
     public void setupTaskStatus(TaskStatusChangeRequestEvent taskStatus) throws Exception{
     	try {
 			updateTaskStatus(taskStatus.getTaskIdentity().getTaskId(), taskStatus.getState());
@@ -72,6 +74,7 @@ public class AiravataTaskStatusUpdator implements AbstractActivityListener {
     }
 
     @Subscribe
+    @AllowConcurrentPartitions
     public void setupTaskStatus(JobStatusChangeEvent jobStatus) throws Exception{
     	TaskState state=TaskState.UNKNOWN;
     	switch(jobStatus.getState()){
@@ -22,6 +22,7 @@ package org.apache.airavata.gfac.core.monitor;
 
 import com.google.common.eventbus.Subscribe;
 import org.apache.airavata.common.utils.AiravataUtils;
+import org.apache.airavata.common.utils.AllowConcurrentPartitions;
 import org.apache.airavata.common.utils.MonitorPublisher;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.listener.AbstractActivityListener;
@@ -58,6 +59,7 @@ public class AiravataWorkflowNodeStatusUpdator implements AbstractActivityListen
     }
 
     @Subscribe
+    @AllowConcurrentPartitions
     public void setupWorkflowNodeStatus(TaskStatusChangeEvent taskStatus) throws Exception{
     	WorkflowNodeState state=WorkflowNodeState.UNKNOWN;
     	switch(taskStatus.getState()){
@@ -0,0 +1,61 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gfac.core.monitor;
+
+import org.apache.airavata.common.utils.MonitorPublisher;
+import org.apache.airavata.gfac.core.monitor.state.GfacExperimentStateChangeRequest;
+import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.JobStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.JobStatusChangeRequestEvent;
+import org.apache.airavata.model.messaging.event.TaskOutputChangeEvent;
+import org.apache.airavata.model.messaging.event.TaskStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.TaskStatusChangeRequestEvent;
+import org.apache.airavata.model.messaging.event.WorkflowNodeStatusChangeEvent;
+
+/**
+ * Partitions the monitoring events by experiment, so the status changes of an experiment, its workflow nodes, tasks
+ * and jobs reach the listeners in the order they happened.
+ */
+public class ExperimentPartitionKey implements MonitorPublisher.PartitionKey {
+
+    public Object getKey(Object event) {
+        if (event instanceof JobStatusChangeRequestEvent) {
+            return ((JobStatusChangeRequestEvent) event).getJobIdentity().getExperimentId();
+        } else if (event instanceof JobStatusChangeEvent) {
+            return ((JobStatusChangeEvent) event).getJobIdentity().getExperimentId();
+        } else if (event instanceof TaskStatusChangeRequestEvent) {
+            return ((TaskStatusChangeRequestEvent) event).getTaskIdentity().getExperimentId();
+        } else if (event instanceof TaskStatusChangeEvent) {
+            return ((TaskStatusChangeEvent) event).getTaskIdentity().getExperimentId();
+        } else if (event instanceof TaskOutputChangeEvent) {
+            return ((TaskOutputChangeEvent) event).getTaskIdentity().getExperimentId();
+        } else if (event instanceof WorkflowNodeStatusChangeEvent) {
+            return ((WorkflowNodeStatusChangeEvent) event).getWorkflowNodeIdentity().getExperimentId();
+        } else if (event instanceof ExperimentStatusChangeEvent) {
+            return ((ExperimentStatusChangeEvent) event).getExperimentId();
+        } else if (event instanceof GfacExperimentStateChangeRequest) {
+            return ((GfacExperimentStateChangeRequest) event).getIdentity().getExperimentId();
+        } else if (event instanceof MonitorID) {
+            return ((MonitorID) event).getExperimentID();
+        }
+        return null;
+    }
+}
@@ -29,8 +29,8 @@ import org.apache.airavata.common.utils.Constants;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.listener.AbstractActivityListener;
 import org.apache.airavata.gfac.core.monitor.state.GfacExperimentStateChangeRequest;
+import org.apache.airavata.gfac.core.utils.GFacUtils;
 import org.apache.zookeeper.*;
-import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +49,6 @@ public class GfacInternalStatusUpdator implements AbstractActivityListener, Watc
         MonitorID monitorID = statusChangeRequest.getMonitorID();
         String experimentPath = ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, "/gfac-experiments") +
                 File.separator + ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_SERVER_NAME) + File.separator + statusChangeRequest.getMonitorID().getExperimentID() + "+" + monitorID.getTaskID();
-        Stat exists = null;
         try {
             if (!zk.getState().isConnected()) {
                 String zkhostPort = AiravataZKUtils.getZKhostPort();
@@ -58,38 +57,36 @@ public class GfacInternalStatusUpdator implements AbstractActivityListener, Watc
                     mutex.wait();
                 }
             }
-            exists = zk.exists(experimentPath, false);// this znode is created by orchestrator so it has to exist at this level
-            if (exists == null) {
-                logger.error("ZK path: " + experimentPath + " does not exists !!");
-                logger.error("Zookeeper is in an inconsistent state !!! ");
-                return;
-            }
-        } catch (KeeperException e) {
-            e.printStackTrace();
         } catch (InterruptedException e) {
             e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
         }
-        Stat state = zk.exists(experimentPath + File.separator + AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-        if(state == null) {
-            // state znode has to be created
-            zk.create(experimentPath + File.separator + AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-                    String.valueOf(statusChangeRequest.getState().getValue()).getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
-        }else {
-            zk.setData(experimentPath + File.separator + AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-                    String.valueOf(statusChangeRequest.getState().getValue()).getBytes(), state.getVersion());
+        String statePath = experimentPath + File.separator + AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE;
+        byte[] state = String.valueOf(statusChangeRequest.getState().getValue()).getBytes();
+        try {
+            zk.setData(statePath, state, -1);
+        } catch (KeeperException.NoNodeException e) {
+            try {
+                // state znode has to be created
+                zk.create(statePath, state, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+            } catch (KeeperException.NoNodeException e1) {
+                // the experiment znode is created by orchestrator so it has to exist at this level
+                logger.error("ZK path: " + experimentPath + " does not exists !!");
+                logger.error("Zookeeper is in an inconsistent state !!! ");
+                return;
+            }
         }
         switch (statusChangeRequest.getState()) {
             case COMPLETED:
                 logger.info("Experiment Completed, So removing the ZK entry for the experiment" + monitorID.getExperimentID());
                 logger.info("Zookeeper experiment Path: " + experimentPath);
-                ZKUtil.deleteRecursive(zk, experimentPath);
+                GFacUtils.deleteExperimentEntry(zk, experimentPath);
                 break;
             case FAILED:
                 logger.info("Experiment Failed, So removing the ZK entry for the experiment" + monitorID.getExperimentID());
                 logger.info("Zookeeper experiment Path: " + experimentPath);
-                ZKUtil.deleteRecursive(zk,experimentPath);
+                GFacUtils.deleteExperimentEntry(zk, experimentPath);
                 break;
             default:
         }
@@ -54,6 +54,7 @@ import java.net.InetAddress;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 
 public class GFacUtils {
 	private final static Logger log = LoggerFactory.getLogger(GFacUtils.class);
@@ -879,50 +880,26 @@ public class GFacUtils {
 
     public static int getZKExperimentStateValue(ZooKeeper zk,String fullPath)throws ApplicationSettingsException,
             KeeperException, InterruptedException {
-        Stat exists = zk.exists(fullPath+File.separator+"state", false);
-        if (exists != null) {
-            return Integer.parseInt(new String(zk.getData(fullPath+File.separator+"state", false, exists)));
+        try {
+            return Integer.parseInt(new String(zk.getData(fullPath+File.separator+"state", false, null)));
+        } catch (KeeperException.NoNodeException e) {
+            return -1;
         }
-        return -1;
     }
 
 	public static boolean createPluginZnode(ZooKeeper zk,
 			JobExecutionContext jobExecutionContext, String className)
 			throws ApplicationSettingsException, KeeperException,
 			InterruptedException {
-		String expState = AiravataZKUtils.getExpZnodeHandlerPath(
-				jobExecutionContext.getExperimentID(), jobExecutionContext
-						.getTaskData().getTaskID(), className);
-		Stat exists = zk.exists(expState, false);
-		if (exists == null) {
-			zk.create(expState, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE,
-					CreateMode.PERSISTENT);
-
-			zk.create(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, new byte[0],
-					ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
-		} else {
-			exists = zk.exists(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-			if (exists == null) {
-				zk.create(expState + File.separator
-						+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-						new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE,
-						CreateMode.PERSISTENT);
-			}
-		}
-
-		exists = zk.exists(expState + File.separator
-				+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-		if (exists != null) {
-			zk.setData(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-					String.valueOf(GfacPluginState.INVOKING.getValue())
-							.getBytes(), exists.getVersion());
-		}
-		return true;
+		return createPluginZnode(zk, jobExecutionContext, className,
+				GfacPluginState.INVOKING);
 	}
 
+	/**
+	 * Creates the handler znode and its state znode in a single
+	 * transaction. If the handler was invoked before, e.g. when the
+	 * experiment is recovered, only its state is updated.
+	 */
 	public static boolean createPluginZnode(ZooKeeper zk,
 			JobExecutionContext jobExecutionContext, String className,
 			GfacPluginState state) throws ApplicationSettingsException,
@@ -930,33 +907,19 @@ public class GFacUtils {
 		String expState = AiravataZKUtils.getExpZnodeHandlerPath(
 				jobExecutionContext.getExperimentID(), jobExecutionContext
 						.getTaskData().getTaskID(), className);
-		Stat exists = zk.exists(expState, false);
-		if (exists == null) {
-			zk.create(expState, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE,
-					CreateMode.PERSISTENT);
-
-			zk.create(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, new byte[0],
-					ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
-		} else {
-			exists = zk.exists(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-			if (exists == null) {
-				zk.create(expState + File.separator
-						+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-						new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE,
-						CreateMode.PERSISTENT);
-			}
-		}
-
-		exists = zk.exists(expState + File.separator
-				+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-		if (exists != null) {
-			zk.setData(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-					String.valueOf(state.getValue()).getBytes(),
-					exists.getVersion());
+		String statePath = expState + File.separator
+				+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE;
+		String value = String.valueOf(state.getValue());
+		try {
+			zk.multi(Arrays.asList(
+					Op.create(expState, new byte[0],
+							ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT),
+					Op.create(statePath, value.getBytes(),
+							ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT)));
+		} catch (KeeperException.NodeExistsException e) {
+			writePluginState(zk, expState, statePath, value.getBytes());
 		}
+		PluginStateCache.put(statePath, value);
 		return true;
 	}
 
@@ -967,18 +930,36 @@ public class GFacUtils {
 		String expState = AiravataZKUtils.getExpZnodeHandlerPath(
 				jobExecutionContext.getExperimentID(), jobExecutionContext
 						.getTaskData().getTaskID(), className);
+		String statePath = expState + File.separator
+				+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE;
+		String value = String.valueOf(state.getValue());
+		writePluginState(zk, expState, statePath, value.getBytes());
+		PluginStateCache.put(statePath, value);
+		return true;
+	}
 
-		Stat exists = zk.exists(expState + File.separator
-				+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-		if (exists != null) {
-			zk.setData(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE,
-					String.valueOf(state.getValue()).getBytes(),
-					exists.getVersion());
-		} else {
-			createPluginZnode(zk, jobExecutionContext, className, state);
+	/**
+	 * Sets the state of a handler, creating the state znode and the handler
+	 * znode only when they are missing, so an update of an existing state is
+	 * a single round trip.
+	 */
+	private static void writePluginState(ZooKeeper zk, String handlerPath,
+			String statePath, byte[] value) throws KeeperException,
+			InterruptedException {
+		try {
+			zk.setData(statePath, value, -1);
+		} catch (KeeperException.NoNodeException e) {
+			try {
+				zk.create(statePath, value, ZooDefs.Ids.OPEN_ACL_UNSAFE,
+						CreateMode.PERSISTENT);
+			} catch (KeeperException.NoNodeException e1) {
+				zk.multi(Arrays.asList(
+						Op.create(handlerPath, new byte[0],
+								ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT),
+						Op.create(statePath, value,
+								ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT)));
+			}
 		}
-		return true;
 	}
 
 	public static String getPluginState(ZooKeeper zk,
@@ -987,14 +968,15 @@ public class GFacUtils {
 			String expState = AiravataZKUtils.getExpZnodeHandlerPath(
 					jobExecutionContext.getExperimentID(), jobExecutionContext
 							.getTaskData().getTaskID(), className);
-
-			Stat exists = zk.exists(expState + File.separator
-					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false);
-			if (exists != null) {
-				return new String(zk.getData(expState + File.separator
-						+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE, false,
-						exists));
+			String statePath = expState + File.separator
+					+ AiravataZKUtils.ZK_EXPERIMENT_STATE_NODE;
+			String state = PluginStateCache.get(statePath);
+			if (state == null) {
+				state = new String(zk.getData(statePath, false, null));
+				PluginStateCache.put(statePath, state);
 			}
+			return state;
+		} catch (KeeperException.NoNodeException e) {
 			return null; // if the node doesn't exist or any other error we
 							// return false
 		} catch (Exception e) {
@@ -1018,76 +1000,54 @@ public class GFacUtils {
 			List<String> runningGfacNodeNames = AiravataZKUtils
 					.getAllGfacNodeNames(zk); // here we take old gfac servers
 												// too
+			List<String> candidatePaths = new ArrayList<String>();
 			for (String gfacServerNode : runningGfacNodeNames) {
 				if (!gfacServerNode.equals(pickedChild)) {
-					foundExperimentPath = experimentNode + File.separator
+					candidatePaths.add(experimentNode + File.separator
 							+ gfacServerNode + File.separator + experimentID
-							+ "+" + taskID;
-					exists1 = zk.exists(foundExperimentPath, false);
-					if (exists1 != null) { // when the experiment is found we
-											// break the loop
-						break;
-					}
+							+ "+" + taskID);
 				}
 			}
-			if (exists1 == null) { // OK this is a pretty new experiment so we
+			// when the experiment is found in an old gfac folder we move it
+			foundExperimentPath = findFirstExisting(zk, candidatePaths);
+			if (foundExperimentPath == null) { // OK this is a pretty new experiment so we
 									// are going to create a new node
 				log.info("This is a new Job, so creating all the experiment docs from the scratch");
-				zk.create(newExpNode, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE,
-						CreateMode.PERSISTENT);
-
-				Stat expParent = zk.exists(newExpNode, false);
-				if (tokenId != null && expParent != null) {
-					zk.setData(newExpNode, tokenId.getBytes(),
-							expParent.getVersion());
-				}
-				zk.create(newExpNode + File.separator + "state", String
-						.valueOf(GfacExperimentState.LAUNCHED.getValue())
-						.getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE,
-						CreateMode.PERSISTENT);
-                zk.create(newExpNode + File.separator + "operation","submit".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE,
-                        CreateMode.PERSISTENT);
+				byte[] token = tokenId != null ? tokenId.getBytes() : new byte[0];
+				zk.multi(Arrays.asList(
+						Op.create(newExpNode, token,
+								ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT),
+						Op.create(newExpNode + File.separator + "state", String
+								.valueOf(GfacExperimentState.LAUNCHED.getValue())
+								.getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE,
+								CreateMode.PERSISTENT),
+						Op.create(newExpNode + File.separator + "operation",
+								"submit".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE,
+								CreateMode.PERSISTENT)));
 
 			} else {
 				// ohhh this node exists in some other failed gfac folder, we
 				// have to move it to this gfac experiment list,safely
 				log.info("This is an old Job, so copying data from old experiment location");
-				zk.create(newExpNode,
-						zk.getData(foundExperimentPath, false, exists1),
-						ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
-
-				List<String> children = zk.getChildren(foundExperimentPath,
-						false);
-				for (String childNode1 : children) {
-					String level1 = foundExperimentPath + File.separator
-							+ childNode1;
-					Stat exists2 = zk.exists(level1, false); // no need to check
-																// exists
-					String newLeve1 = newExpNode + File.separator + childNode1;
-					log.info("Creating new znode: " + newLeve1); // these has to
-																	// be info
-																	// logs
-					zk.create(newLeve1, zk.getData(level1, false, exists2),
-							ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
-					for (String childNode2 : zk.getChildren(level1, false)) {
-						String level2 = level1 + File.separator + childNode2;
-						Stat exists3 = zk.exists(level2, false); // no need to
-																	// check
-																	// exists
-						String newLeve2 = newLeve1 + File.separator
-								+ childNode2;
-						log.info("Creating new znode: " + newLeve2);
-						zk.create(newLeve2, zk.getData(level2, false, exists3),
-								ZooDefs.Ids.OPEN_ACL_UNSAFE,
-								CreateMode.PERSISTENT);
-					}
+				List<String> oldNodes = ZKUtil.listSubTreeBFS(zk, foundExperimentPath);
+				List<byte[]> oldData = getAllData(zk, oldNodes);
+				List<Op> ops = new ArrayList<Op>();
+				for (int i = 0; i < oldNodes.size(); i++) {
+					String newNode = newExpNode
+							+ oldNodes.get(i).substring(foundExperimentPath.length());
+					log.info("Creating new znode: " + newNode); // these has to
+																// be info logs
+					ops.add(Op.create(newNode, oldData.get(i),
+							ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT));
 				}
-				// After all the files are successfully transfered we delete the
-				// old experiment,otherwise we do
-				// not delete a single file
-				log.info("After a successful copying of experiment data for an old experiment we delete the old data");
-				log.info("Deleting experiment data: " + foundExperimentPath);
-				ZKUtil.deleteRecursive(zk, foundExperimentPath);
+				// The old experiment is deleted in the same transaction, so
+				// either all the data is moved or not a single znode changes
+				for (int i = oldNodes.size() - 1; i >= 0; i--) {
+					ops.add(Op.delete(oldNodes.get(i), -1));
+				}
+				log.info("Moving experiment data: " + foundExperimentPath + " to " + newExpNode);
+				zk.multi(ops);
+				PluginStateCache.invalidate(foundExperimentPath);
 			}
 		}else if(experimentEntry != null && GFacUtils.isCancelled(experimentID,taskID,zk) ){
             // this happens when a cancel request comes to a differnt gfac node, in this case we do not move gfac experiment
@@ -1107,11 +1067,28 @@ public class GFacUtils {
                     break;
                 }
             }
-            ZKUtil.deleteRecursive(zk, foundExperimentPath);
+            if (foundExperimentPath != null) {
+                deleteExperimentEntry(zk, foundExperimentPath);
+            }
         }
         return true;
 	}
 
+    /**
+     * Deletes an experiment znode and all its handler znodes in a single transaction and drops their cached plugin
+     * states.
+     */
+    public static void deleteExperimentEntry(ZooKeeper zk, String experimentPath) throws KeeperException,
+            InterruptedException {
+        PluginStateCache.invalidate(experimentPath);
+        List<String> nodes = ZKUtil.listSubTreeBFS(zk, experimentPath);
+        List<Op> ops = new ArrayList<Op>();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            ops.add(Op.delete(nodes.get(i), -1));
+        }
+        zk.multi(ops);
+    }
+
     public static String findExperimentEntry(String experimentID,
                                                 String taskID, ZooKeeper zk
                                                 ) throws KeeperException,
@@ -1119,32 +1096,86 @@ public class GFacUtils {
         String gfacServer = ServerSettings.getSetting(org.apache.airavata.common.utils.Constants.ZOOKEEPER_GFAC_SERVER_NODE, "/gfac-server");
         String experimentNode = ServerSettings.getSetting(org.apache.airavata.common.utils.Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, "/gfac-experiments");
         List<String> children = zk.getChildren(gfacServer, false);
+        List<String> candidatePaths = new ArrayList<String>();
         for(String pickedChild:children) {
             String experimentPath = experimentNode + File.separator + pickedChild;
-            String newExpNode = experimentPath + File.separator + experimentID
-                    + "+" + taskID;
-            Stat exists = zk.exists(newExpNode, false);
-            if(exists == null){
-                continue;
-            }else{
-                return newExpNode;
+            candidatePaths.add(experimentPath + File.separator + experimentID
+                    + "+" + taskID);
+        }
+        return findFirstExisting(zk, candidatePaths);
+    }
+
+    /**
+     * Checks all the given paths with asynchronous exists calls, so the check costs one round trip instead of one
+     * per path.
+     *
+     * @return the first of the given paths which exists, or null if none of them does
+     */
+    private static String findFirstExisting(ZooKeeper zk, List<String> paths) throws KeeperException,
+            InterruptedException {
+        if (paths.isEmpty()) {
+            return null;
+        }
+        final int[] resultCodes = new int[paths.size()];
+        final CountDownLatch latch = new CountDownLatch(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+            zk.exists(paths.get(i), false, new AsyncCallback.StatCallback() {
+                public void processResult(int rc, String path, Object ctx, Stat stat) {
+                    resultCodes[(Integer) ctx] = rc;
+                    latch.countDown();
+                }
+            }, i);
+        }
+        latch.await();
+        for (int i = 0; i < paths.size(); i++) {
+            KeeperException.Code code = KeeperException.Code.get(resultCodes[i]);
+            if (code == KeeperException.Code.OK) {
+                return paths.get(i);
+            } else if (code != KeeperException.Code.NONODE) {
+                throw KeeperException.create(code, paths.get(i));
             }
         }
         return null;
     }
 
+    /**
+     * Reads the data of all the given znodes with asynchronous calls, in the order of the paths.
+     */
+    private static List<byte[]> getAllData(ZooKeeper zk, List<String> paths) throws KeeperException,
+            InterruptedException {
+        final int[] resultCodes = new int[paths.size()];
+        final byte[][] data = new byte[paths.size()][];
+        final CountDownLatch latch = new CountDownLatch(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+            zk.getData(paths.get(i), false, new AsyncCallback.DataCallback() {
+                public void processResult(int rc, String path, Object ctx, byte[] bytes, Stat stat) {
+                    resultCodes[(Integer) ctx] = rc;
+                    data[(Integer) ctx] = bytes;
+                    latch.countDown();
+                }
+            }, i);
+        }
+        latch.await();
+        for (int i = 0; i < paths.size(); i++) {
+            KeeperException.Code code = KeeperException.Code.get(resultCodes[i]);
+            if (code != KeeperException.Code.OK) {
+                throw KeeperException.create(code, paths.get(i));
+            }
+        }
+        return Arrays.asList(data);
+    }
+
     public static void setExperimentCancel(String experimentId,String taskId,ZooKeeper zk)throws KeeperException,
             InterruptedException {
         String experimentEntry = GFacUtils.findExperimentEntry(experimentId, taskId, zk);
         if(experimentEntry == null){
             log.error("Cannot find the experiment Entry, so cancel operation cannot be performed !!!");
         }else {
-            Stat operation = zk.exists(experimentEntry + File.separator + "operation", false);
-            if (operation == null) { // if there is no entry, this will come when a user immediately cancel a job
+            try { // if user submit the job to gfac then cancel during execution
+                zk.setData(experimentEntry + File.separator + "operation", "cancel".getBytes(), -1);
+            } catch (KeeperException.NoNodeException e) { // if there is no entry, this will come when a user immediately cancel a job
                 zk.create(experimentEntry + File.separator + "operation", "cancel".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE,
                         CreateMode.PERSISTENT);
-            } else { // if user submit the job to gfac then cancel during execution
-                zk.setData(experimentEntry + File.separator + "operation", "cancel".getBytes(), operation.getVersion());
             }
         }
 
@@ -1157,12 +1188,13 @@ public class GFacUtils {
         if(experimentEntry == null){
             return false;
         }else {
-            Stat exists = zk.exists(experimentEntry, false);
-            if (exists != null) {
-                String operation = new String(zk.getData(experimentEntry+File.separator+"operation", false, exists));
+            try {
+                String operation = new String(zk.getData(experimentEntry+File.separator+"operation", false, null));
                 if ("cancel".equals(operation)) {
                     return true;
                 }
+            } catch (KeeperException.NoNodeException e) {
+                return false;
             }
         }
         return false;
@@ -1178,9 +1210,7 @@ public class GFacUtils {
 								jobExecutionContext.getExperimentID(),
 								jobExecutionContext.getTaskData().getTaskID(),
 								className);
-				Stat exists = zk.exists(expZnodeHandlerPath, false);
-				zk.setData(expZnodeHandlerPath, data.toString().getBytes(),
-						exists.getVersion());
+				zk.setData(expZnodeHandlerPath, data.toString().getBytes(), -1);
 			}
 		} catch (Exception e) {
 			throw new GFacHandlerException(e);
@@ -1197,9 +1227,11 @@ public class GFacUtils {
 							jobExecutionContext.getExperimentID(),
 							jobExecutionContext.getTaskData().getTaskID(),
 							className);
-			Stat exists = zk.exists(expZnodeHandlerPath, false);
-			return new String(jobExecutionContext.getZk().getData(
-					expZnodeHandlerPath, false, exists));
+			try {
+				return new String(zk.getData(expZnodeHandlerPath, false, null));
+			} catch (KeeperException.NoNodeException e) {
+				return null;
+			}
 		}
 		return null;
 	}
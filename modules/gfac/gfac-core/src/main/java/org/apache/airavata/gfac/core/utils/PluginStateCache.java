@@ -0,0 +1,121 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gfac.core.utils;
+
+import org.apache.airavata.common.utils.ServerSettings;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write through cache of the plugin state znodes of the experiments run by this GFac instance, keyed by the full
+ * path of the state znode. Plugin states are only written by the GFac instance which owns the experiment znode, so
+ * the value this instance wrote last is the value in ZooKeeper; entries are dropped when the experiment znode is
+ * deleted or moved.
+ */
+public class PluginStateCache {
+    public static final String PLUGIN_STATE_CACHE_SIZE = "gfac.plugin.state.cache.size";
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private static final int maxSize = readMaxSize();
+    private static final Map<String, String> states = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * @return the cached state of the given state znode, or null if this instance has not written or read it
+     */
+    public static String get(String statePath) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String state;
+        synchronized (states) {
+            state = states.get(statePath);
+        }
+        if (state == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return state;
+    }
+
+    public static void put(String statePath, String state) {
+        if (maxSize <= 0 || state == null) {
+            return;
+        }
+        synchronized (states) {
+            states.put(statePath, state);
+        }
+    }
+
+    /**
+     * Drops the cached states of every znode under the given experiment znode.
+     */
+    public static void invalidate(String experimentPath) {
+        String prefix = experimentPath + File.separator;
+        synchronized (states) {
+            Iterator<String> iterator = states.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().startsWith(prefix)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public static void clear() {
+        synchronized (states) {
+            states.clear();
+        }
+    }
+
+    public static int size() {
+        synchronized (states) {
+            return states.size();
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    private static int readMaxSize() {
+        try {
+            return Integer.parseInt(ServerSettings.getSetting(PLUGIN_STATE_CACHE_SIZE, "10000"));
+        } catch (Exception e) {
+            return 10000;
+        }
+    }
+}
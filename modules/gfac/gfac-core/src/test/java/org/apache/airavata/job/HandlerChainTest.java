@@ -0,0 +1,160 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.job;
+
+import org.apache.airavata.gfac.GFacConfiguration;
+import org.apache.airavata.gfac.core.context.JobExecutionContext;
+import org.apache.airavata.gfac.core.handler.GFacHandlerChain;
+import org.apache.airavata.gfac.core.handler.GFacHandlerConfig;
+import org.apache.airavata.gfac.core.handler.GFacHandlerException;
+import org.apache.airavata.gfac.core.handler.GFacStatelessHandler;
+import org.apache.airavata.gfac.core.handler.HandlerStatistics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class HandlerChainTest {
+    private static final String PROVIDER = "org.apache.airavata.job.TestProvider";
+
+    @Test
+    public void testChainsAreCompiledOncePerConfigVersion() throws Exception {
+        File configFile = File.createTempFile("gfac-config", ".xml");
+        configFile.deleteOnExit();
+        writeConfig(configFile, config(StatelessHandler.class.getName()));
+
+        GFacConfiguration first = GFacConfiguration.create(configFile, null);
+        first.setInHandlers(PROVIDER, "UltraScan");
+        GFacConfiguration second = GFacConfiguration.create(configFile, null);
+        second.setInHandlers(PROVIDER, "UltraScan");
+        Assert.assertSame(second.getInHandlerChain(), first.getInHandlerChain());
+        Assert.assertEquals(first.getInHandlers().size(), 2);
+
+        GFacHandlerChain.Link stateless = first.getInHandlerChain().getLinks().get(0);
+        GFacHandlerChain.Link stateful = first.getInHandlerChain().getLinks().get(1);
+        Assert.assertTrue(stateless.isShared());
+        Assert.assertSame(stateless.getHandler(), stateless.getHandler());
+        Assert.assertFalse(stateful.isShared());
+        Assert.assertNotSame(stateful.getHandler(), stateful.getHandler());
+
+        // a changed gfac-config.xml is picked up by the next job
+        writeConfig(configFile, config(TestInHandler.class.getName()));
+        configFile.setLastModified(configFile.lastModified() + 2000);
+        GFacConfiguration reloaded = GFacConfiguration.create(configFile, null);
+        reloaded.setInHandlers(PROVIDER, "UltraScan");
+        Assert.assertNotSame(reloaded.getInHandlerChain(), first.getInHandlerChain());
+        Assert.assertEquals(reloaded.getInHandlerChain().getLinks().get(0).getClassName(), TestInHandler.class.getName());
+        Assert.assertFalse(reloaded.getInHandlerChain().getLinks().get(0).isShared());
+    }
+
+    @Test
+    public void testRewritesWithinTheSameModificationTimeArePickedUp() throws Exception {
+        File configFile = File.createTempFile("gfac-config", ".xml");
+        configFile.deleteOnExit();
+        String original = config(StatelessHandler.class.getName());
+        StringBuilder changed = new StringBuilder(config(TestInHandler.class.getName()));
+        while (changed.length() < original.length()) {
+            changed.append(' ');
+        }
+        writeConfig(configFile, original);
+        long lastModified = configFile.lastModified();
+        GFacConfiguration first = GFacConfiguration.create(configFile, null);
+        first.setInHandlers(PROVIDER, "UltraScan");
+
+        // same length and modification time, as two writes within a coarse file system time tick leave it
+        writeConfig(configFile, changed.toString());
+        configFile.setLastModified(lastModified);
+        Assert.assertEquals(configFile.length(), original.length());
+        GFacConfiguration reloaded = GFacConfiguration.create(configFile, null);
+        reloaded.setInHandlers(PROVIDER, "UltraScan");
+        Assert.assertEquals(reloaded.getInHandlerChain().getLinks().get(0).getClassName(), TestInHandler.class.getName());
+    }
+
+    @Test
+    public void testHandlerExecutionTimesAreRecorded() throws Exception {
+        GFacConfiguration configuration = new GFacConfiguration();
+        List<GFacHandlerConfig> handlers = new ArrayList<GFacHandlerConfig>();
+        handlers.add(new GFacHandlerConfig(new Properties(), FailingHandler.class.getName()));
+        configuration.setInHandlers(handlers);
+        GFacHandlerChain.Link link = configuration.getInHandlerChain().getLinks().get(0);
+        HandlerStatistics statistics = HandlerStatistics.get(FailingHandler.class.getName());
+        long invocations = statistics.getInvocationCount();
+        long failures = statistics.getFailureCount();
+        try {
+            link.invoke(link.getHandler(), null);
+            Assert.fail("The handler failure was not reported");
+        } catch (GFacHandlerException e) {
+            // expected
+        }
+        Assert.assertEquals(statistics.getInvocationCount(), invocations + 1);
+        Assert.assertEquals(statistics.getFailureCount(), failures + 1);
+        long total = 0;
+        for (long count : statistics.getBucketCounts()) {
+            total += count;
+        }
+        Assert.assertEquals(total, statistics.getInvocationCount());
+    }
+
+    private static void writeConfig(File configFile, String content) throws Exception {
+        FileWriter writer = new FileWriter(configFile);
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static String config(String firstHandler) {
+        return "<GFac>\n" +
+                "    <GlobalHandlers>\n" +
+                "        <InHandlers>\n" +
+                "            <Handler class=\"" + firstHandler + "\"/>\n" +
+                "        </InHandlers>\n" +
+                "    </GlobalHandlers>\n" +
+                "    <Application name=\"UltraScan\">\n" +
+                "        <InHandlers>\n" +
+                "            <Handler class=\"org.apache.airavata.job.TestInHandler\"/>\n" +
+                "        </InHandlers>\n" +
+                "    </Application>\n" +
+                "</GFac>\n";
+    }
+
+    public static class StatelessHandler implements GFacStatelessHandler {
+        public void initProperties(Properties properties) throws GFacHandlerException {
+        }
+
+        public void invoke(JobExecutionContext jobExecutionContext) throws GFacHandlerException {
+        }
+    }
+
+    public static class FailingHandler implements GFacStatelessHandler {
+        public void initProperties(Properties properties) throws GFacHandlerException {
+        }
+
+        public void invoke(JobExecutionContext jobExecutionContext) throws GFacHandlerException {
+            throw new GFacHandlerException("failed");
+        }
+    }
+}
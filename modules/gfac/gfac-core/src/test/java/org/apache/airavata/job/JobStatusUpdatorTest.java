@@ -0,0 +1,157 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.job;
+
+import com.google.common.eventbus.EventBus;
+import org.apache.airavata.common.utils.MonitorPublisher;
+import org.apache.airavata.gfac.core.monitor.AiravataJobStatusUpdator;
+import org.apache.airavata.model.workspace.experiment.JobState;
+import org.apache.airavata.model.workspace.experiment.JobStatus;
+import org.apache.airavata.registry.cpi.CompositeIdentifier;
+import org.apache.airavata.registry.cpi.Registry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JobStatusUpdatorTest {
+
+    @Test
+    public void testStatusesAreCoalescedInToOneWrite() throws Exception {
+        RecordingRegistry registry = new RecordingRegistry();
+        AiravataJobStatusUpdator updator = new AiravataJobStatusUpdator();
+        updator.setFlushInterval(60000);
+        updator.setup(registry.proxy(), new MonitorPublisher(new EventBus()));
+
+        updator.queueJobStatus("task", "job1", JobState.SUBMITTED);
+        updator.queueJobStatus("task", "job1", JobState.QUEUED);
+        updator.queueJobStatus("task", "job1", JobState.ACTIVE);
+        updator.queueJobStatus("task", "job2", JobState.CANCELED);
+        updator.queueJobStatus("task", "job2", JobState.COMPLETE);
+        Assert.assertTrue(registry.batches.isEmpty());
+
+        updator.flush();
+        Assert.assertEquals(registry.batches.size(), 1);
+        Map<String, JobState> written = registry.batches.get(0);
+        Assert.assertEquals(written.size(), 2);
+        Assert.assertEquals(written.get("job1"), JobState.ACTIVE);
+        Assert.assertEquals(written.get("job2"), JobState.CANCELED);
+        Assert.assertEquals(updator.getStatistics().getCoalescedCount(), 3);
+
+        updator.flush();
+        Assert.assertEquals(registry.batches.size(), 1);
+        updator.shutdown();
+    }
+
+    @Test
+    public void testCancelingJobMovesOnToCanceled() throws Exception {
+        RecordingRegistry registry = new RecordingRegistry();
+        AiravataJobStatusUpdator updator = new AiravataJobStatusUpdator();
+        updator.setFlushInterval(60000);
+        updator.setup(registry.proxy(), new MonitorPublisher(new EventBus()));
+
+        updator.queueJobStatus("task", "job1", JobState.ACTIVE);
+        updator.queueJobStatus("task", "job1", JobState.CANCELING);
+        updator.queueJobStatus("task", "job1", JobState.COMPLETE);
+        updator.queueJobStatus("task", "job1", JobState.CANCELED);
+        updator.queueJobStatus("task", "job1", JobState.ACTIVE);
+        updator.flush();
+
+        Assert.assertEquals(registry.batches.get(0).get("job1"), JobState.CANCELED);
+        updator.shutdown();
+    }
+
+    @Test
+    public void testStatusesAreWrittenThroughByDefault() throws Exception {
+        AiravataJobStatusUpdator updator = new AiravataJobStatusUpdator();
+        Assert.assertEquals(updator.getFlushInterval(), 0);
+    }
+
+    @Test
+    public void testCurrentStatesOfABatchAreReadInOneCall() throws Exception {
+        RecordingRegistry registry = new RecordingRegistry();
+        JobStatus cancelled = new JobStatus();
+        cancelled.setJobState(JobState.CANCELED);
+        registry.current.put(new CompositeIdentifier("task", "job2"), cancelled);
+        AiravataJobStatusUpdator updator = new AiravataJobStatusUpdator();
+        updator.setFlushInterval(60000);
+        updator.setup(registry.proxy(), new MonitorPublisher(new EventBus()));
+
+        for (int i = 1; i <= 10; i++) {
+            updator.queueJobStatus("task", "job" + i, JobState.ACTIVE);
+        }
+        updator.flush();
+
+        Assert.assertEquals(registry.getAllCalls, 1);
+        Assert.assertEquals(registry.getCalls, 0);
+        Map<String, JobState> written = registry.batches.get(0);
+        Assert.assertEquals(written.size(), 9);
+        // the job was cancelled by someone else since its status was queued
+        Assert.assertFalse(written.containsKey("job2"));
+        updator.shutdown();
+    }
+
+    /**
+     * Records the job statuses written through Registry.updateAll and returns the current statuses from
+     * Registry.getAll, every other call returns null.
+     */
+    private static class RecordingRegistry implements InvocationHandler {
+        private final List<Map<String, JobState>> batches = new ArrayList<Map<String, JobState>>();
+        private final Map<Object, Object> current = new HashMap<Object, Object>();
+        private int getAllCalls;
+        private int getCalls;
+
+        private Registry proxy() {
+            return (Registry) Proxy.newProxyInstance(Registry.class.getClassLoader(), new Class[]{Registry.class}, this);
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("updateAll")) {
+                Map<String, JobState> batch = new HashMap<String, JobState>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) args[1]).entrySet()) {
+                    batch.put((String) ((CompositeIdentifier) entry.getKey()).getSecondLevelIdentifier(),
+                            ((JobStatus) entry.getValue()).getJobState());
+                }
+                batches.add(batch);
+            } else if (method.getName().equals("getAll")) {
+                getAllCalls++;
+                Map<Object, Object> statuses = new HashMap<Object, Object>();
+                for (Object id : (List<?>) args[1]) {
+                    for (Map.Entry<Object, Object> entry : current.entrySet()) {
+                        if (entry.getKey().toString().equals(id.toString())) {
+                            statuses.put(id, entry.getValue());
+                        }
+                    }
+                }
+                return statuses;
+            } else if (method.getName().equals("get")) {
+                getCalls++;
+            }
+            return null;
+        }
+    }
+}
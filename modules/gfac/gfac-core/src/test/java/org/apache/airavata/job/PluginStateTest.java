@@ -0,0 +1,149 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.job;
+
+import org.apache.airavata.common.utils.AiravataZKUtils;
+import org.apache.airavata.common.utils.Constants;
+import org.apache.airavata.gfac.core.context.JobExecutionContext;
+import org.apache.airavata.gfac.core.states.GfacPluginState;
+import org.apache.airavata.gfac.core.utils.GFacUtils;
+import org.apache.airavata.gfac.core.utils.PluginStateCache;
+import org.apache.airavata.model.workspace.experiment.TaskDetails;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.server.NIOServerCnxnFactory;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class PluginStateTest {
+    private static final String EXPERIMENT_NODE = "/gfac-experiments";
+    private static final String SERVER_NODE = "/gfac-server";
+
+    private File dataDir;
+    private NIOServerCnxnFactory serverFactory;
+    private ZooKeeper zk;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        System.setProperty(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, EXPERIMENT_NODE);
+        System.setProperty(Constants.ZOOKEEPER_GFAC_SERVER_NODE, SERVER_NODE);
+        System.setProperty(Constants.ZOOKEEPER_GFAC_SERVER_NAME, "gfac-node0");
+        dataDir = File.createTempFile("zookeeper", "");
+        dataDir.delete();
+        dataDir.mkdirs();
+        ZooKeeperServer server = new ZooKeeperServer(dataDir, dataDir, 2000);
+        serverFactory = new NIOServerCnxnFactory();
+        serverFactory.configure(new InetSocketAddress("localhost", 0), 10);
+        serverFactory.startup(server);
+
+        final CountDownLatch connected = new CountDownLatch(1);
+        zk = new ZooKeeper("localhost:" + serverFactory.getLocalPort(), 6000, new Watcher() {
+            public void process(WatchedEvent event) {
+                if (event.getState() == Event.KeeperState.SyncConnected) {
+                    connected.countDown();
+                }
+            }
+        });
+        Assert.assertTrue(connected.await(10, TimeUnit.SECONDS));
+        for (String path : new String[]{EXPERIMENT_NODE, EXPERIMENT_NODE + "/gfac-node0", EXPERIMENT_NODE + "/gfac-node1",
+                SERVER_NODE, SERVER_NODE + "/gfac-node0"}) {
+            zk.create(path, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+        }
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+        zk.close();
+        serverFactory.shutdown();
+        System.clearProperty(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE);
+        System.clearProperty(Constants.ZOOKEEPER_GFAC_SERVER_NODE);
+        System.clearProperty(Constants.ZOOKEEPER_GFAC_SERVER_NAME);
+    }
+
+    @Test
+    public void testPluginStateIsWrittenThrough() throws Exception {
+        GFacUtils.createExperimentEntry("exp1", "task1", zk, EXPERIMENT_NODE, "gfac-node0", "token");
+        String experimentPath = AiravataZKUtils.getExpZnodePath("exp1", "task1");
+        Assert.assertEquals(new String(zk.getData(experimentPath, false, null)), "token");
+        Assert.assertEquals(new String(zk.getData(experimentPath + "/operation", false, null)), "submit");
+
+        JobExecutionContext jobExecutionContext = jobExecutionContext("exp1", "task1");
+        GFacUtils.createPluginZnode(zk, jobExecutionContext, "TestHandler");
+        long misses = PluginStateCache.getMissCount();
+        Assert.assertEquals(GFacUtils.getPluginState(zk, jobExecutionContext, "TestHandler"),
+                String.valueOf(GfacPluginState.INVOKING.getValue()));
+
+        GFacUtils.updatePluginState(zk, jobExecutionContext, "TestHandler", GfacPluginState.COMPLETED);
+        Assert.assertEquals(GFacUtils.getPluginState(zk, jobExecutionContext, "TestHandler"),
+                String.valueOf(GfacPluginState.COMPLETED.getValue()));
+        Assert.assertEquals(PluginStateCache.getMissCount(), misses);
+        Assert.assertEquals(GFacUtils.getZKExperimentStateValue(zk,
+                AiravataZKUtils.getExpZnodeHandlerPath("exp1", "task1", "TestHandler")),
+                GfacPluginState.COMPLETED.getValue());
+
+        // creating the znode of a handler which was invoked before only changes its state
+        GFacUtils.createPluginZnode(zk, jobExecutionContext, "TestHandler", GfacPluginState.INVOKING);
+        Assert.assertEquals(GFacUtils.getPluginState(zk, jobExecutionContext, "TestHandler"),
+                String.valueOf(GfacPluginState.INVOKING.getValue()));
+
+        GFacUtils.deleteExperimentEntry(zk, experimentPath);
+        Assert.assertNull(zk.exists(experimentPath, false));
+        Assert.assertNull(GFacUtils.getPluginState(zk, jobExecutionContext, "TestHandler"));
+    }
+
+    @Test
+    public void testExperimentOfOldGfacIsMoved() throws Exception {
+        String oldPath = EXPERIMENT_NODE + "/gfac-node1/exp2+task2";
+        zk.create(oldPath, "token".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+        zk.create(oldPath + "/state", "5".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+        zk.create(oldPath + "/TestHandler", "data".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+        zk.create(oldPath + "/TestHandler/state", "1".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+
+        GFacUtils.createExperimentEntry("exp2", "task2", zk, EXPERIMENT_NODE, "gfac-node0", "token");
+
+        String newPath = AiravataZKUtils.getExpZnodePath("exp2", "task2");
+        Assert.assertNull(zk.exists(oldPath, false));
+        Assert.assertEquals(GFacUtils.getZKExperimentStateValue(zk, newPath), 5);
+        Assert.assertEquals(new String(zk.getData(newPath + "/TestHandler", false, null)), "data");
+        Assert.assertEquals(GFacUtils.getPluginState(zk, jobExecutionContext("exp2", "task2"), "TestHandler"), "1");
+        Assert.assertEquals(GFacUtils.findExperimentEntry("exp2", "task2", zk), newPath);
+    }
+
+    private static JobExecutionContext jobExecutionContext(String experimentId, String taskId) {
+        JobExecutionContext jobExecutionContext = new JobExecutionContext(null, "TestService");
+        jobExecutionContext.setExperimentID(experimentId);
+        TaskDetails taskDetails = new TaskDetails();
+        taskDetails.setTaskID(taskId);
+        jobExecutionContext.setTaskData(taskDetails);
+        return jobExecutionContext;
+    }
+}
@@ -237,6 +237,16 @@ public class GSISSHOutputHandler extends AbstractRecoverableHandler {
                         OutputUtils.fillOutputFromStdout(output, stdOutStr, stdErrStr, outputArray);
                         Set<String> strings = output.keySet();
                         outputArray.clear();
+                        // the output files which are not downloaded yet are downloaded together, several at a time
+                        List<String> downloadFiles = new ArrayList<String>();
+                        int position = index;
+                        for (String key : strings) {
+                            ActualParameter actualParameter1 = (ActualParameter) output.get(key);
+                            if ("URI".equals(actualParameter1.getType().getType().toString()) && position++ >= oldIndex) {
+                                downloadFiles.add(MappingFactory.toString(actualParameter1));
+                            }
+                        }
+                        cluster.scpFrom(downloadFiles, outputDataDir);
                         for (String key : strings) {
                             ActualParameter actualParameter1 = (ActualParameter) output.get(key);
                             if ("URI".equals(actualParameter1.getType().getType().toString())) {
@@ -246,7 +256,6 @@ public class GSISSHOutputHandler extends AbstractRecoverableHandler {
                                     localFile = oldFiles.get(index);
                                     data.append(oldFiles.get(index++)).append(",");
                                 } else {
-                                    cluster.scpFrom(downloadFile, outputDataDir);
                                     String fileName = downloadFile.substring(downloadFile.lastIndexOf(File.separatorChar) + 1, downloadFile.length());
                                     localFile = outputDataDir + File.separator + fileName;
                                     StringBuffer temp = new StringBuffer(data.append(localFile).append(",").toString());
@@ -71,8 +71,10 @@ public class GFACGSISSHUtils {
     public static final String PBS_JOB_MANAGER = "pbs";
     public static final String SLURM_JOB_MANAGER = "slurm";
     public static final String SUN_GRID_ENGINE_JOB_MANAGER = "UGE";
-    public static int maxClusterCount = 5;
-    public static Map<String, List<Cluster>> clusters = new HashMap<String, List<Cluster>>();
+    /**
+     * One cluster per user and host, each cluster multiplexes its operations over its own pool of SSH sessions.
+     */
+    public static Map<String, Cluster> clusters = new HashMap<String, Cluster>();
     public static void addSecurityContext(JobExecutionContext jobExecutionContext) throws GFacException, ApplicationSettingsException {
         HostDescription registeredHost = jobExecutionContext.getApplicationContext().getHostDescription();
         if (registeredHost.getType() instanceof GlobusHostType || registeredHost.getType() instanceof UnicoreHostType
@@ -100,35 +102,16 @@ public class GFACGSISSHUtils {
                 GsisshHostType gsisshHostType = (GsisshHostType) registeredHost.getType();
                 String key = requestData.getMyProxyUserName() + registeredHost.getType().getHostAddress() +
                         gsisshHostType.getPort();
-                boolean recreate = false;
                 synchronized (clusters) {
-                    if (clusters.containsKey(key) && clusters.get(key).size() < maxClusterCount) {
-                        recreate = true;
-                    } else if (clusters.containsKey(key)) {
-                        int i = new Random().nextInt(Integer.MAX_VALUE) % maxClusterCount;
-                        if (clusters.get(key).get(i).getSession().isConnected()) {
-                            pbsCluster = (PBSCluster) clusters.get(key).get(i);
-                        } else {
-                            clusters.get(key).remove(i);
-                            recreate = true;
-                        }
-                        if(!recreate) {
-                            try {
-                                pbsCluster.listDirectory("~/"); // its hard to trust isConnected method, so we try to connect if it works we are good,else we recreate
-                            } catch (Exception e) {
-                                clusters.get(key).remove(i);
-                                logger.info("Connection found the connection map is expired, so we create from the scratch");
-                                maxClusterCount++;
-                                recreate = true; // we make the pbsCluster to create again if there is any exception druing connection
-                            }
-                            logger.info("Re-using the same connection used with the connection string:" + key);
-                            context = new GSISecurityContext(tokenizedMyProxyAuthInfo.getCredentialReader(), requestData, pbsCluster);
-                        }
-                    } else {
-                        recreate = true;
+                    pbsCluster = (PBSCluster) clusters.get(key);
+                    if (pbsCluster != null && pbsCluster.getSessionPool().isClosed()) {
+                        clusters.remove(key);
+                        pbsCluster = null;
                     }
-
-                    if (recreate) {
+                    if (pbsCluster != null) {
+                        logger.info("Re-using the same connection used with the connection string:" + key);
+                        context = new GSISecurityContext(tokenizedMyProxyAuthInfo.getCredentialReader(), requestData, pbsCluster);
+                    } else {
                         ServerInfo serverInfo = new ServerInfo(requestData.getMyProxyUserName(), registeredHost.getType().getHostAddress(),
                                 gsisshHostType.getPort());
 
@@ -150,14 +133,7 @@ public class GFACGSISSHUtils {
                         }
                         pbsCluster = new PBSCluster(serverInfo, tokenizedMyProxyAuthInfo, jConfig);
                         context = new GSISecurityContext(tokenizedMyProxyAuthInfo.getCredentialReader(), requestData, pbsCluster);
-                        List<Cluster> pbsClusters = null;
-                        if (!(clusters.containsKey(key))) {
-                            pbsClusters = new ArrayList<Cluster>();
-                        } else {
-                            pbsClusters = clusters.get(key);
-                        }
-                        pbsClusters.add(pbsCluster);
-                        clusters.put(key, pbsClusters);
+                        clusters.put(key, pbsCluster);
                     }
                 }
             } catch (Exception e) {
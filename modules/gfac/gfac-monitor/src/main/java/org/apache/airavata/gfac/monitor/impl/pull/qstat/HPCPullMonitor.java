@@ -25,7 +25,7 @@ import org.apache.airavata.common.logger.AiravataLogger;
 import org.apache.airavata.common.logger.AiravataLoggerFactory;
 import org.apache.airavata.common.utils.MonitorPublisher;
 import org.apache.airavata.common.utils.ServerSettings;
-import org.apache.airavata.commons.gfac.type.HostDescription;
+import org.apache.airavata.gfac.Constants;
 import org.apache.airavata.gfac.core.cpi.GFac;
 import org.apache.airavata.gfac.core.monitor.MonitorID;
 import org.apache.airavata.gfac.core.utils.GFacThreadPoolExecutor;
@@ -48,19 +48,38 @@ import org.apache.zookeeper.ZooKeeper;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This monitor is based on qstat command which can be run
  * in grid resources and retrieve the job status.
+ *
+ * Jobs are kept in the queue grouped by user and host. Every user and host pair is polled by its own HostPoller,
+ * which waits in a delay queue until it is due and then runs on a bounded pool of poll threads, so a slow qstat on
+ * one cluster does not hold back the others. The poll interval of a host follows the age of its youngest job:
+ * freshly submitted jobs are polled often and hosts with only long running jobs are polled less frequently.
+ *
+ * A poller remembers the last state it published for each of its jobs and only publishes state changes, so jobs
+ * which sit in the queue for hours do not cause a registry update on every poll.
  */
 public class HPCPullMonitor extends PullMonitor {
 
     private final static AiravataLogger logger = AiravataLoggerFactory.getLogger(HPCPullMonitor.class);
     public static final int FAILED_COUNT = 1;
 
-    // I think this should use DelayedBlocking Queue to do the monitoring*/
+    // how often the queue is checked for hosts which are not polled yet
+    private static final long SCHEDULE_SYNC_INTERVAL = 1000;
+
     private BlockingQueue<UserMonitorData> queue;
 
     private boolean startPulling = false;
@@ -77,32 +96,62 @@ public class HPCPullMonitor extends PullMonitor {
 
     private AuthenticationInfo authenticationInfo;
 
+    private final DelayQueue<HostPoller> pollSchedule = new DelayQueue<HostPoller>();
+
+    private final Map<String, HostPoller> hostPollers = new ConcurrentHashMap<String, HostPoller>();
+
+    private final Map<String, HostPollStatistics> hostStatistics = new ConcurrentHashMap<String, HostPollStatistics>();
+
+    private ExecutorService pollExecutor;
+
+    private int pollThreads;
+
+    private long minPollInterval;
+
+    private long maxPollInterval;
+
     public HPCPullMonitor() {
-        connections = new HashMap<String, ResourceConnection>();
+        connections = new ConcurrentHashMap<String, ResourceConnection>();
         queue = new LinkedBlockingDeque<UserMonitorData>();
         publisher = new MonitorPublisher(new EventBus());
         cancelJobList = new LinkedBlockingQueue<String>();
         completedJobsFromPush = new ArrayList<String>();
         (new SimpleJobFinishConsumer(this.completedJobsFromPush)).listen();
+        readPollSettings();
     }
 
     public HPCPullMonitor(MonitorPublisher monitorPublisher, AuthenticationInfo authInfo) {
-        connections = new HashMap<String, ResourceConnection>();
+        connections = new ConcurrentHashMap<String, ResourceConnection>();
         queue = new LinkedBlockingDeque<UserMonitorData>();
         publisher = monitorPublisher;
         authenticationInfo = authInfo;
         cancelJobList = new LinkedBlockingQueue<String>();
         this.completedJobsFromPush = new ArrayList<String>();
         (new SimpleJobFinishConsumer(this.completedJobsFromPush)).listen();
+        readPollSettings();
     }
 
     public HPCPullMonitor(BlockingQueue<UserMonitorData> queue, MonitorPublisher publisher) {
         this.queue = queue;
         this.publisher = publisher;
-        connections = new HashMap<String, ResourceConnection>();
+        connections = new ConcurrentHashMap<String, ResourceConnection>();
         cancelJobList = new LinkedBlockingQueue<String>();
         this.completedJobsFromPush = new ArrayList<String>();
         (new SimpleJobFinishConsumer(this.completedJobsFromPush)).listen();
+        readPollSettings();
+    }
+
+    private void readPollSettings() {
+        try {
+            pollThreads = Integer.parseInt(ServerSettings.getSetting(Constants.HPC_MONITOR_POLL_THREADS, "10"));
+            minPollInterval = Long.parseLong(ServerSettings.getSetting(Constants.HPC_MONITOR_MIN_POLL_INTERVAL, "5000"));
+            maxPollInterval = Long.parseLong(ServerSettings.getSetting(Constants.HPC_MONITOR_MAX_POLL_INTERVAL, "60000"));
+        } catch (Exception e) {
+            logger.error("Error reading the monitor poll settings, using the defaults", e);
+            pollThreads = 10;
+            minPollInterval = 5000;
+            maxPollInterval = 60000;
+        }
     }
 
 
@@ -111,22 +160,30 @@ public class HPCPullMonitor extends PullMonitor {
         monitoring
          */
         this.startPulling = true;
+        final AtomicInteger threadCount = new AtomicInteger();
+        pollExecutor = Executors.newFixedThreadPool(pollThreads, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "hpc-pull-monitor-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
         while (this.startPulling && !ServerSettings.isStopAllThreads()) {
             try {
-                // After finishing one iteration of the full queue this thread sleeps 1 second
-                synchronized (this.queue) {
-                    if (this.queue.size() > 0) {
-                        startPulling();
+                startPulling();
+                // a poller is not in the schedule while it is waiting for or running on a poll thread, so each host
+                // is polled by at most one thread and the executor queue never holds more than one task per host
+                HostPoller hostPoller = pollSchedule.poll(SCHEDULE_SYNC_INTERVAL, TimeUnit.MILLISECONDS);
+                if (hostPoller != null) {
+                    pollExecutor.execute(hostPoller);
                 }
-            }
-                Thread.sleep(10000);
             } catch (Exception e) {
                 // we catch all the exceptions here because no matter what happens we do not stop running this
-                // thread, but ideally we should report proper error messages, but this is handled in startPulling
-                // method, incase something happen in Thread.sleep we handle it with this catch block.
+                // thread, errors of a single host are handled by its poller
                 logger.error(e.getMessage(),e);
             }
         }
+        pollExecutor.shutdownNow();
         // thread is going to return so we close all the connections
         Iterator<String> iterator = connections.keySet().iterator();
         while (iterator.hasNext()) {
@@ -135,158 +192,223 @@ public class HPCPullMonitor extends PullMonitor {
             try {
                 resourceConnection.getCluster().disconnect();
             } catch (SSHApiException e) {
-                e.printStackTrace();  //To change body of catch statement use File | Settings | File Templates.
+                logger.error("Error closing the connection " + next, e);
             }
         }
     }
 
     /**
-     * This method will can invoke when PullMonitor needs to start
-     * and it has to invoke in the frequency specified below,
+     * Schedules a poller for every user and host in the queue which does not have one yet. Pollers remove
+     * themselves once their host has no jobs left to monitor.
      *
      * @return if the start process is successful return true else false
      */
-     public boolean startPulling() throws AiravataMonitorException {
-        // take the top element in the queue and pull the data and put that element
-        // at the tail of the queue
-        //todo this polling will not work with multiple usernames but with single user
-        // and multiple hosts, currently monitoring will work
-        UserMonitorData take = null;
+    public boolean startPulling() throws AiravataMonitorException {
+        synchronized (this.queue) {
+            for (UserMonitorData userMonitorData : this.queue) {
+                for (HostMonitorData hostMonitorData : userMonitorData.getHostMonitorData()) {
+                    if (!isSSHHost(hostMonitorData)) {
+                        continue;
+                    }
+                    String hostAddress = hostMonitorData.getHost().getType().getHostAddress();
+                    String key = getHostKey(userMonitorData.getUserName(), hostAddress);
+                    if (!hostPollers.containsKey(key)) {
+                        HostPoller hostPoller = new HostPoller(userMonitorData.getUserName(), hostAddress);
+                        hostPollers.put(key, hostPoller);
+                        pollSchedule.put(hostPoller);
+                        logger.debug("Started polling host {} for user {}", hostAddress, userMonitorData.getUserName());
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSSHHost(HostMonitorData hostMonitorData) {
+        return hostMonitorData.getHost().getType() instanceof GsisshHostType
+                || hostMonitorData.getHost().getType() instanceof SSHHostType;
+    }
+
+    private static String getHostKey(String userName, String hostAddress) {
+        return userName + "@" + hostAddress;
+    }
+
+    /**
+     * Has to be called while holding the queue lock
+     */
+    private HostMonitorData findHostMonitorData(String userName, String hostAddress) {
+        for (UserMonitorData userMonitorData : this.queue) {
+            if (userMonitorData.getUserName().equals(userName)) {
+                for (HostMonitorData hostMonitorData : userMonitorData.getHostMonitorData()) {
+                    if (isSSHHost(hostMonitorData)
+                            && hostAddress.equals(hostMonitorData.getHost().getType().getHostAddress())) {
+                        return hostMonitorData;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The interval grows with the age of the youngest job on the host, a tenth of its age bounded by the minimum
+     * and maximum poll interval.
+     */
+    long getPollInterval(long youngestJobAge) {
+        return Math.max(minPollInterval, Math.min(maxPollInterval, youngestJobAge / 10));
+    }
+
+    /**
+     * After a failed poll the interval is doubled to back off from the host, up to the maximum poll interval.
+     */
+    long getNextPollInterval(long pollInterval, boolean successful, long youngestJobAge) {
+        if (successful) {
+            return getPollInterval(youngestJobAge);
+        }
+        return Math.min(maxPollInterval, pollInterval * 2);
+    }
+
+    DelayQueue<? extends Delayed> getPollSchedule() {
+        return pollSchedule;
+    }
+
+    /**
+     * Retrieves the statuses of the given jobs of one host and publishes the ones which changed since they were last
+     * published. Jobs which are complete or cancelled are removed from the queue and handed to the out handlers.
+     *
+     * @param publishedStates last published state of each job of the host, keyed by "jobId,jobName"
+     */
+    private void pollHost(String userName, HostMonitorData iHostMonitorData, Map<String, JobState> publishedStates,
+                          HostPollStatistics statistics) throws AiravataMonitorException {
         JobStatusChangeRequestEvent jobStatus = new JobStatusChangeRequestEvent();
         MonitorID currentMonitorID = null;
-        HostDescription currentHostDescription = null;
+        String hostName = iHostMonitorData.getHost().getType().getHostAddress();
         try {
-            take = this.queue.take();
             Map<String,MonitorID> completedJobs = new HashMap<String,MonitorID>();
-            List<HostMonitorData> hostMonitorData = take.getHostMonitorData();
-            for (HostMonitorData iHostMonitorData : hostMonitorData) {
-                if (iHostMonitorData.getHost().getType() instanceof GsisshHostType
-                        || iHostMonitorData.getHost().getType() instanceof SSHHostType) {
-                    currentHostDescription = iHostMonitorData.getHost();
-                    String hostName =  iHostMonitorData.getHost().getType().getHostAddress();
-                    ResourceConnection connection = null;
-                    if (connections.containsKey(hostName)) {
-                        if(!connections.get(hostName).isConnected()){
-                            connection = new ResourceConnection(iHostMonitorData,getAuthenticationInfo());
-                            connections.put(hostName, connection);
-                        }else{
-                            logger.debug("We already have this connection so not going to create one");
-                            connection = connections.get(hostName);
-                        }
-                    } else {
-                        connection = new ResourceConnection(iHostMonitorData,getAuthenticationInfo());
-                        connections.put(hostName, connection);
-                    }
+            // each user has a connection of its own, only the poller of that user and host uses it
+            String connectionKey = getHostKey(userName, hostName);
+            ResourceConnection connection = connections.get(connectionKey);
+            if (connection != null && connection.isConnected()) {
+                logger.debug("We already have this connection so not going to create one");
+            } else {
+                connection = new ResourceConnection(iHostMonitorData,getAuthenticationInfo());
+                connections.put(connectionKey, connection);
+            }
 
-                    // before we get the statuses, we check the cancel job list and remove them permanently
-                    List<MonitorID> monitorID = iHostMonitorData.getMonitorIDs();
-                    Iterator<String> iterator1 = cancelJobList.iterator();
-
-                    for(MonitorID iMonitorID:monitorID){
-                        while(iterator1.hasNext()) {
-                            String cancelMId = iterator1.next();
-                            if (cancelMId.equals(iMonitorID.getExperimentID() + "+" + iMonitorID.getTaskID())) {
-                                iMonitorID.setStatus(JobState.CANCELED);
-                                completedJobs.put(iMonitorID.getJobName(), iMonitorID);
-                                iterator1.remove();
-                                logger.debugId(cancelMId, "Found a match in cancel monitor queue, hence moved to the " +
-                                                "completed job queue, experiment {}, task {} , job {}",
-                                        iMonitorID.getExperimentID(), iMonitorID.getTaskID(), iMonitorID.getJobID());
-                                break;
-                            }
-                        }
-                        iterator1 = cancelJobList.iterator();
+            // before we get the statuses, we check the cancel job list and remove them permanently
+            List<MonitorID> monitorID = iHostMonitorData.getMonitorIDs();
+            Iterator<String> iterator1 = cancelJobList.iterator();
+
+            for(MonitorID iMonitorID:monitorID){
+                while(iterator1.hasNext()) {
+                    String cancelMId = iterator1.next();
+                    if (cancelMId.equals(iMonitorID.getExperimentID() + "+" + iMonitorID.getTaskID())) {
+                        iMonitorID.setStatus(JobState.CANCELED);
+                        completedJobs.put(iMonitorID.getJobName(), iMonitorID);
+                        iterator1.remove();
+                        logger.debugId(cancelMId, "Found a match in cancel monitor queue, hence moved to the " +
+                                        "completed job queue, experiment {}, task {} , job {}",
+                                iMonitorID.getExperimentID(), iMonitorID.getTaskID(), iMonitorID.getJobID());
+                        break;
                     }
-                    synchronized (completedJobsFromPush) {
-                        ListIterator<String> iterator = completedJobsFromPush.listIterator();
-                        for (MonitorID iMonitorID : monitorID) {
-                            String completeId = null;
-                            while (iterator.hasNext()) {
-                                 completeId = iterator.next();
-                                if (completeId.equals(iMonitorID.getUserName() + "," + iMonitorID.getJobName())) {
-                                    logger.info("This job is finished because push notification came with <username,jobName> " + completeId);
-                                    completedJobs.put(iMonitorID.getJobName(), iMonitorID);
-                                    iMonitorID.setStatus(JobState.COMPLETE);
-                                    iterator.remove();//we have to make this empty everytime we iterate, otherwise this list will accumulate and will lead to a memory leak
-                                    logger.debugId(completeId, "Push notification updated job {} status to {}. " +
-                                                    "experiment {} , task {}.", iMonitorID.getJobID(), JobState.COMPLETE.toString(),
-                                            iMonitorID.getExperimentID(), iMonitorID.getTaskID());
-                                    break;
-                                }
-                            }
-                            iterator = completedJobsFromPush.listIterator();
-                        }
-                    }
-                    Map<String, JobState> jobStatuses = connection.getJobStatuses(monitorID);
-                    Iterator<MonitorID> iterator = monitorID.iterator();
+                }
+                iterator1 = cancelJobList.iterator();
+            }
+            synchronized (completedJobsFromPush) {
+                ListIterator<String> iterator = completedJobsFromPush.listIterator();
+                for (MonitorID iMonitorID : monitorID) {
+                    String completeId = null;
                     while (iterator.hasNext()) {
-                        MonitorID iMonitorID = iterator.next();
-                        currentMonitorID = iMonitorID;
-                        if (!JobState.CANCELED.equals(iMonitorID.getStatus())&&
-                                !JobState.COMPLETE.equals(iMonitorID.getStatus())) {
-                            iMonitorID.setStatus(jobStatuses.get(iMonitorID.getJobID() + "," + iMonitorID.getJobName()));    //IMPORTANT this is NOT a simple setter we have a logic
-                        }else if(JobState.COMPLETE.equals(iMonitorID.getStatus())){
+                         completeId = iterator.next();
+                        if (completeId.equals(iMonitorID.getUserName() + "," + iMonitorID.getJobName())) {
+                            logger.info("This job is finished because push notification came with <username,jobName> " + completeId);
                             completedJobs.put(iMonitorID.getJobName(), iMonitorID);
-                            logger.debugId(iMonitorID.getJobID(), "Moved job {} to completed jobs map, experiment {}, " +
-                                    "task {}", iMonitorID.getJobID(), iMonitorID.getExperimentID(), iMonitorID.getTaskID());
+                            iMonitorID.setStatus(JobState.COMPLETE);
+                            iterator.remove();//we have to make this empty everytime we iterate, otherwise this list will accumulate and will lead to a memory leak
+                            logger.debugId(completeId, "Push notification updated job {} status to {}. " +
+                                            "experiment {} , task {}.", iMonitorID.getJobID(), JobState.COMPLETE.toString(),
+                                    iMonitorID.getExperimentID(), iMonitorID.getTaskID());
+                            break;
                         }
-                        jobStatus = new JobStatusChangeRequestEvent();
-                        iMonitorID.setStatus(jobStatuses.get(iMonitorID.getJobID()+","+iMonitorID.getJobName()));    //IMPORTANT this is not a simple setter we have a logic
-
-                        if (iMonitorID.getFailedCount() > FAILED_COUNT) {
-                            iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
-                            String outputDir = iMonitorID.getJobExecutionContext().getApplicationContext()
-                                    .getApplicationDeploymentDescription().getType().getOutputDataDirectory();
-                            List<String> stdOut = null;
-                            try {
-                                stdOut = connection.getCluster().listDirectory(outputDir); // check the outputs directory
-                            } catch (SSHApiException e) {
-                                if (e.getMessage().contains("No such file or directory")) {
-                                    // this is because while we run output handler something failed and during exception
-                                    // we store all the jobs in the monitor queue again
-                                    logger.error("We know this  job is already attempted to run out-handlers");
-                                    CommonUtils.removeMonitorFromQueue(queue, iMonitorID);
-                                }
-                            }
-                            if (stdOut != null && stdOut.size() > 0 && !stdOut.get(0).isEmpty()) { // have to be careful with this
-                                iMonitorID.setStatus(JobState.COMPLETE);
-                                completedJobs.put(iMonitorID.getJobName(), iMonitorID);
-                                logger.errorId(iMonitorID.getJobID(), "Job monitoring failed {} times, removed job {} from " +
-                                                "monitor queue. Experiment {} , task {}", iMonitorID.getFailedCount(),
-                                        iMonitorID.getExperimentID(), iMonitorID.getTaskID());
-                            } else {
-                                iMonitorID.setFailedCount(0);
+                    }
+                    iterator = completedJobsFromPush.listIterator();
+                }
+            }
+            Map<String, JobState> jobStatuses = connection.getJobStatuses(monitorID);
+            Set<String> monitoredJobs = new HashSet<String>();
+            Iterator<MonitorID> iterator = monitorID.iterator();
+            while (iterator.hasNext()) {
+                MonitorID iMonitorID = iterator.next();
+                currentMonitorID = iMonitorID;
+                if (!JobState.CANCELED.equals(iMonitorID.getStatus())&&
+                        !JobState.COMPLETE.equals(iMonitorID.getStatus())) {
+                    iMonitorID.setStatus(jobStatuses.get(iMonitorID.getJobID() + "," + iMonitorID.getJobName()));    //IMPORTANT this is NOT a simple setter we have a logic
+                }else if(JobState.COMPLETE.equals(iMonitorID.getStatus())){
+                    completedJobs.put(iMonitorID.getJobName(), iMonitorID);
+                    logger.debugId(iMonitorID.getJobID(), "Moved job {} to completed jobs map, experiment {}, " +
+                            "task {}", iMonitorID.getJobID(), iMonitorID.getExperimentID(), iMonitorID.getTaskID());
+                }
+                jobStatus = new JobStatusChangeRequestEvent();
+                iMonitorID.setStatus(jobStatuses.get(iMonitorID.getJobID()+","+iMonitorID.getJobName()));    //IMPORTANT this is not a simple setter we have a logic
+
+                if (iMonitorID.getFailedCount() > FAILED_COUNT) {
+                    iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
+                    String outputDir = iMonitorID.getJobExecutionContext().getApplicationContext()
+                            .getApplicationDeploymentDescription().getType().getOutputDataDirectory();
+                    List<String> stdOut = null;
+                    try {
+                        stdOut = connection.getCluster().listDirectory(outputDir); // check the outputs directory
+                    } catch (SSHApiException e) {
+                        if (e.getMessage().contains("No such file or directory")) {
+                            // this is because while we run output handler something failed and during exception
+                            // we store all the jobs in the monitor queue again
+                            logger.error("We know this  job is already attempted to run out-handlers");
+                            synchronized (queue) {
+                                CommonUtils.removeMonitorFromQueue(queue, iMonitorID);
                             }
-                        } else {
-                            // Evey
-                            iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
-                            // if the job is complete we remove it from the Map, if any of these maps
-                            // get empty this userMonitorData will get delete from the queue
                         }
-                        JobIdentifier jobIdentity = new JobIdentifier(iMonitorID.getJobID(),
-                                iMonitorID.getTaskID(),
-                                iMonitorID.getWorkflowNodeID(),
-                                iMonitorID.getExperimentID(),
-                                iMonitorID.getJobExecutionContext().getGatewayID());
-                        jobStatus.setJobIdentity(jobIdentity);
-                        jobStatus.setState(iMonitorID.getStatus());
-                        // we have this JobStatus class to handle amqp monitoring
-
-                        publisher.publish(jobStatus);
-                        logger.debugId(jobStatus.getJobIdentity().getJobId(), "Published job status change request, " +
-                                        "experiment {} , task {}", jobStatus.getJobIdentity().getExperimentId(),
-                                jobStatus.getJobIdentity().getTaskId());
-                        // if the job is completed we do not have to put the job to the queue again
-                        iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
+                    }
+                    if (stdOut != null && stdOut.size() > 0 && !stdOut.get(0).isEmpty()) { // have to be careful with this
+                        iMonitorID.setStatus(JobState.COMPLETE);
+                        completedJobs.put(iMonitorID.getJobName(), iMonitorID);
+                        logger.errorId(iMonitorID.getJobID(), "Job monitoring failed {} times, removed job {} from " +
+                                        "monitor queue. Experiment {} , task {}", iMonitorID.getFailedCount(),
+                                iMonitorID.getExperimentID(), iMonitorID.getTaskID());
+                    } else {
+                        iMonitorID.setFailedCount(0);
                     }
                 } else {
-                    logger.debug("Qstat Monitor doesn't handle non-gsissh hosts , host {}", iHostMonitorData.getHost()
-                            .getType().getHostAddress());
+                    // Evey
+                    iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
+                    // if the job is complete we remove it from the Map, if any of these maps
+                    // get empty this userMonitorData will get delete from the queue
                 }
+                JobIdentifier jobIdentity = new JobIdentifier(iMonitorID.getJobID(),
+                        iMonitorID.getTaskID(),
+                        iMonitorID.getWorkflowNodeID(),
+                        iMonitorID.getExperimentID(),
+                        iMonitorID.getJobExecutionContext().getGatewayID());
+                jobStatus.setJobIdentity(jobIdentity);
+                jobStatus.setState(iMonitorID.getStatus());
+                // we have this JobStatus class to handle amqp monitoring
+
+                String jobKey = iMonitorID.getJobID() + "," + iMonitorID.getJobName();
+                monitoredJobs.add(jobKey);
+                if (jobStatus.getState() != null && jobStatus.getState().equals(publishedStates.get(jobKey))) {
+                    statistics.suppressed.incrementAndGet();
+                } else {
+                    publisher.publish(jobStatus);
+                    publishedStates.put(jobKey, jobStatus.getState());
+                    statistics.published.incrementAndGet();
+                    logger.debugId(jobStatus.getJobIdentity().getJobId(), "Published job status change request, " +
+                                    "experiment {} , task {}", jobStatus.getJobIdentity().getExperimentId(),
+                            jobStatus.getJobIdentity().getTaskId());
+                }
+                // if the job is completed we do not have to put the job to the queue again
+                iMonitorID.setLastMonitored(new Timestamp((new Date()).getTime()));
             }
-            // We have finished all the HostMonitorData object in userMonitorData, now we need to put it back
-            // now the userMonitorData goes back to the tail of the queue
-            queue.put(take);
+            // forget the jobs which are no longer monitored
+            publishedStates.keySet().retainAll(monitoredJobs);
             // cleaning up the completed jobs, this method will remove some of the userMonitorData from the queue if
             // they become empty
             Map<String, Integer> jobRemoveCountMap = new HashMap<String, Integer>();
@@ -294,7 +416,9 @@ public class HPCPullMonitor extends PullMonitor {
             Set<String> keys = completedJobs.keySet();
             for (String jobName: keys) {
                 MonitorID completedJob = completedJobs.get(jobName);
-                CommonUtils.removeMonitorFromQueue(queue, completedJob);
+                synchronized (queue) {
+                    CommonUtils.removeMonitorFromQueue(queue, completedJob);
+                }
 //                    gfac.invokeOutFlowHandlers(completedJob.getJobExecutionContext());
                   GFacThreadPoolExecutor.getFixedThreadPool().submit(new OutHandlerWorker(gfac, completedJob, publisher));
                 if (zk == null) {
@@ -311,16 +435,6 @@ public class HPCPullMonitor extends PullMonitor {
                 // reduce completed job count from zookeeper
                 CommonUtils.updateZkWithJobCount(zk, jobRemoveCountMap, false);
             }
-        } catch (InterruptedException e) {
-            if (!this.queue.contains(take)) {
-                try {
-                    this.queue.put(take);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();  //To change body of catch statement use File | Settings | File Templates.
-                }
-            }
-            logger.error("Error handling the job with Job ID:" + currentMonitorID.getJobID());
-            throw new AiravataMonitorException(e);
         } catch (SSHApiException e) {
             logger.error(e.getMessage());
             if (e.getMessage().contains("Unknown Job Id Error")) {
@@ -337,24 +451,173 @@ public class HPCPullMonitor extends PullMonitor {
                 jobStatus.setJobIdentity(jobIdentifier);
                 publisher.publish(jobStatus);
             } else if (e.getMessage().contains("illegally formed job identifier")) {
-                logger.error("Wrong job ID is given so dropping the job from monitoring system");
-            } else if (!this.queue.contains(take)) {
-                try {
-                    queue.put(take);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
+                logger.error("Wrong job ID is given so dropping the jobs of host " + hostName + " from monitoring system");
+                synchronized (queue) {
+                    for (MonitorID iMonitorID : iHostMonitorData.getMonitorIDs()) {
+                        CommonUtils.removeMonitorFromQueue(queue, iMonitorID);
+                    }
                 }
             }
             throw new AiravataMonitorException("Error retrieving the job status", e);
+        } catch (AiravataMonitorException e) {
+            throw e;
         } catch (Exception e) {
+            throw new AiravataMonitorException("Error retrieving the job status", e);
+        }
+    }
+
+    /**
+     * Polls the jobs of one user on one host. While it waits in the poll schedule its delay is the time until the
+     * next poll is due.
+     */
+    private class HostPoller implements Delayed, Runnable {
+        private final String userName;
+        private final String hostAddress;
+        private final HostPollStatistics statistics;
+        // only touched by the thread running the poller, the schedule hands the poller from one thread to the next
+        private final Map<String, JobState> publishedStates = new HashMap<String, JobState>();
+        private volatile long nextPollTime = System.currentTimeMillis();
+        private long pollInterval = minPollInterval;
+
+        private HostPoller(String userName, String hostAddress) {
+            this.userName = userName;
+            this.hostAddress = hostAddress;
+            String key = getHostKey(userName, hostAddress);
+            HostPollStatistics hostPollStatistics = hostStatistics.get(key);
+            if (hostPollStatistics == null) {
+                hostPollStatistics = new HostPollStatistics();
+                hostStatistics.put(key, hostPollStatistics);
+            }
+            this.statistics = hostPollStatistics;
+        }
+
+        public void run() {
+            long startTime = System.currentTimeMillis();
+            boolean successful = false;
+            long youngestJobAge = Long.MAX_VALUE;
             try {
-                queue.put(take);
-            } catch (InterruptedException e1) {
-                e1.printStackTrace();
+                HostMonitorData hostMonitorData;
+                synchronized (queue) {
+                    HostMonitorData queued = findHostMonitorData(userName, hostAddress);
+                    // work on a copy, the queue keeps changing while the host is polled
+                    hostMonitorData = queued == null ? null
+                            : new HostMonitorData(queued.getHost(), new ArrayList<MonitorID>(queued.getMonitorIDs()));
+                }
+                if (hostMonitorData != null && !hostMonitorData.getMonitorIDs().isEmpty()) {
+                    for (MonitorID monitorID : hostMonitorData.getMonitorIDs()) {
+                        if (monitorID.getJobStartedTime() == null) {
+                            monitorID.setJobStartedTime(new Timestamp(startTime));
+                        }
+                        youngestJobAge = Math.min(youngestJobAge, startTime - monitorID.getJobStartedTime().getTime());
+                    }
+                    pollHost(userName, hostMonitorData, publishedStates, statistics);
+                }
+                successful = true;
+            } catch (Throwable e) {
+                logger.error("Error polling the jobs of user " + userName + " on host " + hostAddress, e);
+            } finally {
+                long pollTime = System.currentTimeMillis() - startTime;
+                statistics.record(pollTime, successful);
+                logger.debug("Polled host {} for user {} in {} ms", hostAddress, userName, pollTime);
+                reschedule(successful, youngestJobAge);
             }
-            throw new AiravataMonitorException("Error retrieving the job status", e);
         }
-        return true;
+
+        private void reschedule(boolean successful, long youngestJobAge) {
+            synchronized (queue) {
+                if (!startPulling || findHostMonitorData(userName, hostAddress) == null) {
+                    hostPollers.remove(getHostKey(userName, hostAddress));
+                    logger.debug("Stopped polling host {} for user {}, no jobs left", hostAddress, userName);
+                    return;
+                }
+                pollInterval = getNextPollInterval(pollInterval, successful, youngestJobAge);
+                statistics.setPollInterval(pollInterval);
+                nextPollTime = System.currentTimeMillis() + pollInterval;
+                pollSchedule.put(this);
+            }
+        }
+
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextPollTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        public int compareTo(Delayed other) {
+            long difference = getDelay(TimeUnit.MILLISECONDS) - other.getDelay(TimeUnit.MILLISECONDS);
+            return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+        }
+    }
+
+    /**
+     * Poll latency and published job statuses of a host, as seen by the monitor.
+     */
+    public static class HostPollStatistics {
+        private final AtomicLong polls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicLong published = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile long lastTime;
+        private volatile long maxTime;
+        private volatile long pollInterval;
+
+        private void record(long time, boolean successful) {
+            polls.incrementAndGet();
+            if (!successful) {
+                failures.incrementAndGet();
+            }
+            totalTime.addAndGet(time);
+            lastTime = time;
+            if (time > maxTime) {
+                maxTime = time;
+            }
+        }
+
+        private void setPollInterval(long pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public long getPollCount() {
+            return polls.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        public long getAverageTime() {
+            long count = polls.get();
+            return count == 0 ? 0 : totalTime.get() / count;
+        }
+
+        public long getLastTime() {
+            return lastTime;
+        }
+
+        public long getMaxTime() {
+            return maxTime;
+        }
+
+        public long getPollInterval() {
+            return pollInterval;
+        }
+
+        public long getPublishedCount() {
+            return published.get();
+        }
+
+        /**
+         * @return job statuses which were not published because the job was still in its last published state
+         */
+        public long getSuppressedCount() {
+            return suppressed.get();
+        }
+
+        @Override
+        public String toString() {
+            return "[polls=" + getPollCount() + ", failures=" + getFailureCount() + ", avg=" + getAverageTime() +
+                    " ms, max=" + getMaxTime() + " ms, interval=" + getPollInterval() + " ms, published=" +
+                    getPublishedCount() + ", suppressed=" + getSuppressedCount() + "]";
+        }
     }
 
     /**
@@ -391,6 +654,13 @@ public class HPCPullMonitor extends PullMonitor {
         return connections;
     }
 
+    /**
+     * @return poll statistics keyed by user@host
+     */
+    public Map<String, HostPollStatistics> getHostStatistics() {
+        return Collections.unmodifiableMap(hostStatistics);
+    }
+
     public boolean isStartPulling() {
         return startPulling;
     }
@@ -143,7 +143,11 @@ public class ResourceConnection {
         this.cluster = cluster;
     }
 
+    /**
+     * The cluster leases its sessions from a pool which replaces broken sessions on demand, so the connection is
+     * usable for as long as the pool is open.
+     */
     public boolean isConnected(){
-        return this.cluster.getSession().isConnected();
+        return this.cluster != null && !this.cluster.getSessionPool().isClosed();
     }
 }
@@ -29,7 +29,7 @@ import org.apache.airavata.commons.gfac.type.HostDescription;
 import org.apache.airavata.gfac.GFacException;
 import org.apache.airavata.gfac.core.context.JobExecutionContext;
 import org.apache.airavata.gfac.core.handler.GFacHandler;
-import org.apache.airavata.gfac.core.handler.GFacHandlerConfig;
+import org.apache.airavata.gfac.core.handler.GFacHandlerChain;
 import org.apache.airavata.gfac.core.monitor.MonitorID;
 import org.apache.airavata.gfac.monitor.HostMonitorData;
 import org.apache.airavata.gfac.monitor.UserMonitorData;
@@ -212,27 +212,18 @@ public class CommonUtils {
     }
 
     public static void invokeOutFlowHandlers(JobExecutionContext jobExecutionContext) throws GFacException {
-        List<GFacHandlerConfig> handlers = jobExecutionContext.getGFacConfiguration().getOutHandlers();
+        GFacHandlerChain handlerChain = jobExecutionContext.getGFacConfiguration().getOutHandlerChain();
 
-        for (GFacHandlerConfig handlerClassName : handlers) {
-            Class<? extends GFacHandler> handlerClass;
+        for (GFacHandlerChain.Link handlerLink : handlerChain.getLinks()) {
             GFacHandler handler;
             try {
-                handlerClass = Class.forName(handlerClassName.getClassName().trim()).asSubclass(GFacHandler.class);
-                handler = handlerClass.newInstance();
-                handler.initProperties(handlerClassName.getProperties());
-            } catch (ClassNotFoundException e) {
+                handler = handlerLink.getHandler();
+            } catch (GFacException e) {
                 logger.error(e.getMessage());
-                throw new GFacException("Cannot load handler class " + handlerClassName, e);
-            } catch (InstantiationException e) {
-                logger.error(e.getMessage());
-                throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
-            } catch (IllegalAccessException e) {
-                logger.error(e.getMessage());
-                throw new GFacException("Cannot instantiate handler class " + handlerClassName, e);
+                throw e;
             }
             try {
-                handler.invoke(jobExecutionContext);
+                handlerLink.invoke(handler, jobExecutionContext);
             } catch (Exception e) {
                 // TODO: Better error reporting.
                 throw new GFacException("Error Executing a OutFlow Handler", e);
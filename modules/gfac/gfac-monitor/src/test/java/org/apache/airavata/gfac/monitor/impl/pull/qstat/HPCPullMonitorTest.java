@@ -0,0 +1,104 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gfac.monitor.impl.pull.qstat;
+
+import com.google.common.eventbus.EventBus;
+import org.apache.airavata.common.utils.MonitorPublisher;
+import org.apache.airavata.commons.gfac.type.HostDescription;
+import org.apache.airavata.gfac.monitor.HostMonitorData;
+import org.apache.airavata.gfac.monitor.UserMonitorData;
+import org.apache.airavata.schemas.gfac.GsisshHostType;
+import org.apache.airavata.schemas.gfac.SSHHostType;
+import org.apache.xmlbeans.SchemaType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class HPCPullMonitorTest {
+    private BlockingQueue<UserMonitorData> queue;
+    private HPCPullMonitor monitor;
+
+    @Before
+    public void setUp() {
+        queue = new LinkedBlockingQueue<UserMonitorData>();
+        monitor = new HPCPullMonitor(queue, new MonitorPublisher(new EventBus()));
+    }
+
+    @Test
+    public void testPollIntervalIsClamped() {
+        // airavata-server.properties: hpc.monitor.min.poll.interval=5000, hpc.monitor.max.poll.interval=60000
+        Assert.assertEquals(5000, monitor.getPollInterval(0));
+        Assert.assertEquals(5000, monitor.getPollInterval(30000));
+        Assert.assertEquals(12000, monitor.getPollInterval(120000));
+        Assert.assertEquals(60000, monitor.getPollInterval(3600000));
+        Assert.assertEquals(60000, monitor.getPollInterval(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testFailedPollsBackOff() {
+        Assert.assertEquals(10000, monitor.getNextPollInterval(5000, false, 0));
+        Assert.assertEquals(40000, monitor.getNextPollInterval(20000, false, 0));
+        Assert.assertEquals(60000, monitor.getNextPollInterval(40000, false, 0));
+        Assert.assertEquals(60000, monitor.getNextPollInterval(60000, false, 0));
+        // a successful poll goes back to the interval of the youngest job
+        Assert.assertEquals(5000, monitor.getNextPollInterval(60000, true, 1000));
+    }
+
+    @Test
+    public void testEachUserAndHostIsScheduledOnce() throws Exception {
+        queue.add(userMonitorData("us3", host(GsisshHostType.type, "lonestar.tacc.utexas.edu"),
+                host(SSHHostType.type, "gordon.sdsc.edu")));
+        queue.add(userMonitorData("ogce", host(GsisshHostType.type, "lonestar.tacc.utexas.edu")));
+
+        monitor.startPulling();
+        monitor.startPulling();
+
+        Assert.assertEquals(3, monitor.getPollSchedule().size());
+        // new pollers are due at once, and leave the schedule while they are polled
+        for (int i = 0; i < 3; i++) {
+            Delayed poller = monitor.getPollSchedule().poll();
+            Assert.assertNotNull(poller);
+            Assert.assertTrue(poller.getDelay(TimeUnit.MILLISECONDS) <= 0);
+        }
+        Assert.assertNull(monitor.getPollSchedule().poll());
+        monitor.startPulling();
+        Assert.assertEquals(0, monitor.getPollSchedule().size());
+    }
+
+    private static HostMonitorData host(SchemaType type, String hostAddress) {
+        HostDescription host = new HostDescription(type);
+        host.getType().setHostAddress(hostAddress);
+        return new HostMonitorData(host);
+    }
+
+    private static UserMonitorData userMonitorData(String userName, HostMonitorData... hosts) {
+        UserMonitorData userMonitorData = new UserMonitorData(userName);
+        for (HostMonitorData host : hosts) {
+            userMonitorData.getHostMonitorData().add(host);
+        }
+        return userMonitorData;
+    }
+}
@@ -191,11 +191,19 @@ public class SSHOutputHandler extends AbstractHandler {
                         OutputUtils.fillOutputFromStdout(output, stdOutStr, stdErrStr,outputArray);
                         Set<String> strings = output.keySet();
                         outputArray.clear();
+                        // the output files are downloaded together, several at a time
+                        List<String> downloadFiles = new ArrayList<String>();
+                        for (String key : strings) {
+                            ActualParameter actualParameter1 = (ActualParameter) output.get(key);
+                            if ("URI".equals(actualParameter1.getType().getType().toString())) {
+                                downloadFiles.add(MappingFactory.toString(actualParameter1));
+                            }
+                        }
+                        cluster.scpFrom(downloadFiles, outputDataDir);
                         for (String key : strings) {
                             ActualParameter actualParameter1 = (ActualParameter) output.get(key);
                             if ("URI".equals(actualParameter1.getType().getType().toString())) {
                               	String downloadFile = MappingFactory.toString(actualParameter1);
-                            	cluster.scpFrom(downloadFile, outputDataDir);
                             	String fileName = downloadFile.substring(downloadFile.lastIndexOf(File.separatorChar)+1, downloadFile.length());
                             	String localFile = outputDataDir +  File.separator +fileName;
 								jobExecutionContext.addOutputFile(localFile);
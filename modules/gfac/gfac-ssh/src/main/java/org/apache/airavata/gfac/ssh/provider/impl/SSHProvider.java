@@ -28,6 +28,7 @@ import java.io.OutputStream;
 import java.util.*;
 import java.util.Map.Entry;
 
+import com.jcraft.jsch.Session;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.commons.gfac.type.ActualParameter;
 import org.apache.airavata.commons.gfac.type.MappingFactory;
@@ -127,7 +128,14 @@ public class SSHProvider extends AbstractProvider {
 
                 StandardOutReader jobIDReaderCommandOutput = new StandardOutReader();
 
-                CommandExecutor.executeCommand(rawCommandInfo, cluster.getSession(), jobIDReaderCommandOutput);
+                Session session = cluster.getSession();
+                boolean invalid = true;
+                try {
+                    CommandExecutor.executeCommand(rawCommandInfo, session, jobIDReaderCommandOutput);
+                    invalid = false;
+                } finally {
+                    cluster.releaseSession(session, invalid);
+                }
                 String stdOutputString = getOutputifAvailable(jobIDReaderCommandOutput, "Error submitting job to resource");
 
                 log.info("stdout=" + stdOutputString);
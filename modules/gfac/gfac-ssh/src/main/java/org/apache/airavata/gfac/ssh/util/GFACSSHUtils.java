@@ -58,9 +58,10 @@ import java.util.*;
 public class GFACSSHUtils {
     private final static Logger logger = LoggerFactory.getLogger(GFACSSHUtils.class);
 
-    public static Map<String, List<Cluster>> clusters = new HashMap<String, List<Cluster>>();
-
-    public static int maxClusterCount = 5;
+    /**
+     * One cluster per user and host, each cluster multiplexes its operations over its own pool of SSH sessions.
+     */
+    public static Map<String, Cluster> clusters = new HashMap<String, Cluster>();
 
     public static final String ADVANCED_SSH_AUTH = "advanced.ssh.auth";
 
@@ -98,33 +99,15 @@ public class GFACSSHUtils {
                 if(sshAuth!=null){
                     key=sshAuth.getKey();
                 }
-                boolean recreate = false;
                 synchronized (clusters) {
-                    if (clusters.containsKey(key) && clusters.get(key).size() < maxClusterCount) {
-                        recreate = true;
-                    } else if (clusters.containsKey(key)) {
-                        int i = new Random().nextInt(Integer.MAX_VALUE) % maxClusterCount;
-                        if (clusters.get(key).get(i).getSession().isConnected()) {
-                            pbsCluster = clusters.get(key).get(i);
-                        } else {
-                            clusters.get(key).remove(i);
-                            recreate = true;
-                        }
-                        if (!recreate) {
-                            try {
-                                pbsCluster.listDirectory("~/"); // its hard to trust isConnected method, so we try to connect if it works we are good,else we recreate
-                            } catch (Exception e) {
-                                clusters.get(key).remove(i);
-                                logger.info("Connection found the connection map is expired, so we create from the scratch");
-                                maxClusterCount++;
-                                recreate = true; // we make the pbsCluster to create again if there is any exception druing connection
-                            }
-                        }
+                    pbsCluster = clusters.get(key);
+                    if (pbsCluster != null && ((GSISSHAbstractCluster) pbsCluster).getSessionPool().isClosed()) {
+                        clusters.remove(key);
+                        pbsCluster = null;
+                    }
+                    if (pbsCluster != null) {
                         logger.info("Re-using the same connection used with the connection string:" + key);
                     } else {
-                        recreate = true;
-                    }
-                    if (recreate) {
                         if (sshAuth != null) {
                             pbsCluster = new PBSCluster(sshAuth.getServerInfo(), sshAuth.getAuthenticationInfo(),
                                     CommonUtils.getPBSJobManager(installedParentPath));
@@ -134,14 +117,7 @@ public class GFACSSHUtils {
                             pbsCluster = new PBSCluster(serverInfo, tokenizedSSHAuthInfo,
                                     CommonUtils.getPBSJobManager(installedParentPath));
                         }
-                        List<Cluster> pbsClusters = null;
-                        if (!(clusters.containsKey(key))) {
-                            pbsClusters = new ArrayList<Cluster>();
-                        } else {
-                            pbsClusters = clusters.get(key);
-                        }
-                        pbsClusters.add(pbsCluster);
-                        clusters.put(key, pbsClusters);
+                        clusters.put(key, pbsCluster);
                     }
                 }
             } catch (Exception e) {
@@ -3,6 +3,17 @@ package org.apache.airavata.messaging.core;
 public abstract class MessagingConstants {
     public static final String RABBITMQ_BROKER_URL = "rabbitmq.broker.url";
     public static final String RABBITMQ_EXCHANGE_NAME = "rabbitmq.exchange.name";
+    public static final String RABBITMQ_PUBLISHER_BATCH_SIZE = "rabbitmq.publisher.batch.size";
+    public static final String RABBITMQ_PUBLISHER_FLUSH_INTERVAL = "rabbitmq.publisher.flush.interval";
+    public static final String RABBITMQ_PUBLISHER_QUEUE_SIZE = "rabbitmq.publisher.queue.size";
+    public static final String RABBITMQ_PUBLISHER_CHANNELS = "rabbitmq.publisher.channels";
+    public static final String RABBITMQ_PUBLISHER_CONFIRMS = "rabbitmq.publisher.confirms";
+    public static final String RABBITMQ_CONSUMER_PREFETCH_COUNT = "rabbitmq.consumer.prefetch.count";
+    public static final String RABBITMQ_CONSUMER_WORKERS = "rabbitmq.consumer.workers";
+    public static final String RABBITMQ_CONSUMER_RETRIES = "rabbitmq.consumer.retries";
+    public static final String RABBITMQ_CONSUMER_RETRY_DELAY = "rabbitmq.consumer.retry.delay";
+    public static final String RABBITMQ_CONSUMER_DEAD_LETTER_TTL = "rabbitmq.consumer.dead.letter.ttl";
+    public static final String RABBITMQ_CONSUMER_DEAD_LETTER_MAX_LENGTH = "rabbitmq.consumer.dead.letter.max.length";
 
     public static final String RABBIT_ROUTING_KEY = "routingKey";
     public static final String RABBIT_QUEUE= "queue";
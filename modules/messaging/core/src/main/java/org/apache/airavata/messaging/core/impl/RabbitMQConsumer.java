@@ -43,22 +43,68 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Consumes status messages from the rabbitmq exchange. By default messages are acknowledged manually once the handler
+ * returned, at most prefetchCount unacknowledged messages are delivered at a time, and the handlers run on a pool of
+ * workers instead of the rabbitmq delivery thread. Messages are partitioned over the workers by the experiment id
+ * at the start of their routing key, so the messages of an experiment are handled in the order they were delivered.
+ * With a worker count of zero the handlers run on the delivery thread with automatic acknowledgements.
+ * <p/>
+ * A handler failing on a message is retried on the same worker, so the later messages of the experiment wait for it.
+ * Messages which cannot be read or which the handler still fails on are rejected to the fanout exchange
+ * &lt;exchange&gt;.dead-letter, and kept in the durable queue of the same name for inspection, up to the configured
+ * age and number of messages.
+ */
 public class RabbitMQConsumer implements Consumer {
     private static Logger log = LoggerFactory.getLogger(RabbitMQConsumer.class);
 
+    public static final int DEFAULT_WORKERS = 4;
+    public static final String DEAD_LETTER_SUFFIX = ".dead-letter";
+    public static final int DEFAULT_RETRIES = 2;
+    public static final long DEFAULT_RETRY_DELAY = 1000;
+    public static final long DEFAULT_DEAD_LETTER_TTL = 7 * 24 * 60 * 60 * 1000L;
+    public static final int DEFAULT_DEAD_LETTER_MAX_LENGTH = 100000;
+    private static final long WORKER_SHUTDOWN_TIMEOUT = 10000;
+
     private String exchangeName;
     private String url;
     private Connection connection;
     private Channel channel;
     private Map<String, QueueDetails> queueDetailsMap = new HashMap<String, QueueDetails>();
+    private int prefetchCount = RabbitMQProducer.DEFAULT_PRE_FETCH;
+    private int workerCount = DEFAULT_WORKERS;
+    private int retries = DEFAULT_RETRIES;
+    private long retryDelay = DEFAULT_RETRY_DELAY;
+    private long deadLetterTtl = DEFAULT_DEAD_LETTER_TTL;
+    private int deadLetterMaxLength = DEFAULT_DEAD_LETTER_MAX_LENGTH;
+    private ExecutorService[] workers;
+    private final ConsumerStatistics statistics = new ConsumerStatistics();
 
     public RabbitMQConsumer() throws AiravataException {
         try {
             url = ServerSettings.getSetting(MessagingConstants.RABBITMQ_BROKER_URL);
             exchangeName = ServerSettings.getSetting(MessagingConstants.RABBITMQ_EXCHANGE_NAME);
+            prefetchCount = Integer.parseInt(ServerSettings.getSetting(MessagingConstants.RABBITMQ_CONSUMER_PREFETCH_COUNT,
+                    String.valueOf(RabbitMQProducer.DEFAULT_PRE_FETCH)));
+            workerCount = Integer.parseInt(ServerSettings.getSetting(MessagingConstants.RABBITMQ_CONSUMER_WORKERS,
+                    String.valueOf(DEFAULT_WORKERS)));
+            retries = Integer.parseInt(ServerSettings.getSetting(MessagingConstants.RABBITMQ_CONSUMER_RETRIES,
+                    String.valueOf(DEFAULT_RETRIES)));
+            retryDelay = Long.parseLong(ServerSettings.getSetting(MessagingConstants.RABBITMQ_CONSUMER_RETRY_DELAY,
+                    String.valueOf(DEFAULT_RETRY_DELAY)));
+            deadLetterTtl = Long.parseLong(ServerSettings.getSetting(MessagingConstants.RABBITMQ_CONSUMER_DEAD_LETTER_TTL,
+                    String.valueOf(DEFAULT_DEAD_LETTER_TTL)));
+            deadLetterMaxLength = Integer.parseInt(ServerSettings.getSetting(
+                    MessagingConstants.RABBITMQ_CONSUMER_DEAD_LETTER_MAX_LENGTH,
+                    String.valueOf(DEFAULT_DEAD_LETTER_MAX_LENGTH)));
 
-            createConnection();
+            createConnection(newConnectionFactory());
         } catch (ApplicationSettingsException e) {
             String message = "Failed to get read the required properties from airavata to initialize rabbitmq";
             log.error(message, e);
@@ -70,13 +116,63 @@ public class RabbitMQConsumer implements Consumer {
         this.exchangeName = exchangeName;
         this.url = brokerUrl;
 
-        createConnection();
+        createConnection(newConnectionFactory());
+    }
+
+    RabbitMQConsumer(ConnectionFactory connectionFactory, String exchangeName) throws AiravataException {
+        this.exchangeName = exchangeName;
+
+        createConnection(connectionFactory);
     }
 
-    private void createConnection() throws AiravataException {
+    /**
+     * Maximum number of delivered but unacknowledged messages per listener, zero for no limit. Applies to listeners
+     * registered afterwards.
+     */
+    public void setPrefetchCount(int prefetchCount) {
+        this.prefetchCount = prefetchCount;
+    }
+
+    /**
+     * Number of threads running the handlers, zero to run them on the delivery thread with automatic
+     * acknowledgements. Has to be set before the first listener is registered.
+     */
+    public void setWorkerCount(int workerCount) {
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Number of times a message the handler failed on is handled again before it is dead lettered.
+     */
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    /**
+     * Milliseconds to wait before handling a failed message again.
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public ConsumerStatistics getStatistics() {
+        return statistics;
+    }
+
+    private ConnectionFactory newConnectionFactory() throws AiravataException {
         try {
             ConnectionFactory connectionFactory = new ConnectionFactory();
             connectionFactory.setUri(url);
+            return connectionFactory;
+        } catch (Exception e) {
+            String msg = "invalid rabbitmq broker url " + url;
+            log.error(msg);
+            throw new AiravataException(msg, e);
+        }
+    }
+
+    private void createConnection(ConnectionFactory connectionFactory) throws AiravataException {
+        try {
             connection = connectionFactory.newConnection();
             connection.addShutdownListener(new ShutdownListener() {
                 public void shutdownCompleted(ShutdownSignalException cause) {
@@ -86,6 +182,10 @@ public class RabbitMQConsumer implements Consumer {
 
             channel = connection.createChannel();
             channel.exchangeDeclare(exchangeName, "topic", false);
+            String deadLetter = exchangeName + DEAD_LETTER_SUFFIX;
+            channel.exchangeDeclare(deadLetter, "fanout", true);
+            declareQueue(deadLetter, getDeadLetterArguments());
+            channel.queueBind(deadLetter, deadLetter, "");
 
         } catch (Exception e) {
             String msg = "could not open channel for exchange " + exchangeName;
@@ -94,6 +194,20 @@ public class RabbitMQConsumer implements Consumer {
         }
     }
 
+    /**
+     * Limits the age and number of the messages kept in the dead letter queue, the oldest ones are dropped first.
+     */
+    private Map<String, Object> getDeadLetterArguments() {
+        Map<String, Object> arguments = new HashMap<String, Object>();
+        if (deadLetterTtl > 0) {
+            arguments.put("x-message-ttl", deadLetterTtl);
+        }
+        if (deadLetterMaxLength > 0) {
+            arguments.put("x-max-length", deadLetterMaxLength);
+        }
+        return arguments.isEmpty() ? null : arguments;
+    }
+
     public String listen(final MessageHandler handler) throws AiravataException {
         try {
             Map<String, Object> props = handler.getProperties();
@@ -113,14 +227,21 @@ public class RabbitMQConsumer implements Consumer {
 
             String queueName = (String) props.get(MessagingConstants.RABBIT_QUEUE);
             String consumerTag = (String) props.get(MessagingConstants.RABBIT_CONSUMER_TAG);
+            final boolean autoAck = workerCount <= 0;
+            // only messages acknowledged manually get rejected
+            Map<String, Object> arguments = null;
+            if (!autoAck) {
+                arguments = new HashMap<String, Object>();
+                arguments.put("x-dead-letter-exchange", exchangeName + DEAD_LETTER_SUFFIX);
+            }
             if (queueName == null) {
                 if (!channel.isOpen()) {
                     channel = connection.createChannel();
                     channel.exchangeDeclare(exchangeName, "topic", false);
                 }
-                queueName = channel.queueDeclare().getQueue();
+                queueName = channel.queueDeclare("", false, true, true, arguments).getQueue();
             } else {
-                channel.queueDeclare(queueName, true, false, false, null);
+                declareQueue(queueName, arguments);
             }
 
             final String id = getId(keys, queueName);
@@ -138,58 +259,25 @@ public class RabbitMQConsumer implements Consumer {
                 channel.queueBind(queueName, exchangeName, routingKey);
             }
 
-            channel.basicConsume(queueName, true, consumerTag, new DefaultConsumer(channel) {
+            if (!autoAck && prefetchCount > 0) {
+                channel.basicQos(prefetchCount);
+            }
+            channel.basicConsume(queueName, autoAck, consumerTag, new DefaultConsumer(channel) {
                 @Override
                 public void handleDelivery(String consumerTag,
-                                           Envelope envelope,
+                                           final Envelope envelope,
                                            AMQP.BasicProperties properties,
-                                           byte[] body) {
-                    Message message = new Message();
-
-                    try {
-                        ThriftUtils.createThriftFromBytes(body, message);
-                        TBase event = null;
-                        String gatewayId = null;
-                        if (message.getMessageType().equals(MessageType.EXPERIMENT)) {
-                            ExperimentStatusChangeEvent experimentStatusChangeEvent = new ExperimentStatusChangeEvent();
-                            ThriftUtils.createThriftFromBytes(message.getEvent(), experimentStatusChangeEvent);
-                            log.debug(" Message Received with message id '" + message.getMessageId()
-                                    + "' and with message type '" + message.getMessageType() + "'  with status " +
-                                    experimentStatusChangeEvent.getState());
-                            event = experimentStatusChangeEvent;
-                            gatewayId = experimentStatusChangeEvent.getGatewayId();
-                        } else if (message.getMessageType().equals(MessageType.WORKFLOWNODE)) {
-                            WorkflowNodeStatusChangeEvent wfnStatusChangeEvent = new WorkflowNodeStatusChangeEvent();
-                            ThriftUtils.createThriftFromBytes(message.getEvent(), wfnStatusChangeEvent);
-                            log.debug(" Message Received with message id '" + message.getMessageId()
-                                    + "' and with message type '" + message.getMessageType() + "'  with status " +
-                                    wfnStatusChangeEvent.getState());
-                            event = wfnStatusChangeEvent;
-                            gatewayId = wfnStatusChangeEvent.getWorkflowNodeIdentity().getGatewayId();
-                        } else if (message.getMessageType().equals(MessageType.TASK)) {
-                            TaskStatusChangeEvent taskStatusChangeEvent = new TaskStatusChangeEvent();
-                            ThriftUtils.createThriftFromBytes(message.getEvent(), taskStatusChangeEvent);
-                            log.debug(" Message Received with message id '" + message.getMessageId()
-                                    + "' and with message type '" + message.getMessageType() + "'  with status " +
-                                    taskStatusChangeEvent.getState());
-                            event = taskStatusChangeEvent;
-                            gatewayId = taskStatusChangeEvent.getTaskIdentity().getGatewayId();
-                        } else if (message.getMessageType().equals(MessageType.JOB)) {
-                            JobStatusChangeEvent jobStatusChangeEvent = new JobStatusChangeEvent();
-                            ThriftUtils.createThriftFromBytes(message.getEvent(), jobStatusChangeEvent);
-                            log.debug(" Message Received with message id '" + message.getMessageId()
-                                    + "' and with message type '" + message.getMessageType() + "'  with status " +
-                                    jobStatusChangeEvent.getState());
-                            event = jobStatusChangeEvent;
-                            gatewayId = jobStatusChangeEvent.getJobIdentity().getGatewayId();
-                        }
-                        MessageContext messageContext = new MessageContext(event, message.getMessageType(), message.getMessageId(), gatewayId);
-                        messageContext.setUpdatedTime(AiravataUtils.getTime(message.getUpdatedTime()));
-                        handler.onMessage(messageContext);
-                    } catch (TException e) {
-                        String msg = "Failed to de-serialize the thrift message, from routing keys and queueName " + id;
-                        log.warn(msg, e);
+                                           final byte[] body) {
+                    statistics.received.incrementAndGet();
+                    if (autoAck) {
+                        deliver(handler, id, envelope, body, false);
+                        return;
                     }
+                    getWorker(envelope.getRoutingKey()).execute(new Runnable() {
+                        public void run() {
+                            deliver(handler, id, envelope, body, true);
+                        }
+                    });
                 }
             });
             // save the name for deleting the queue
@@ -202,6 +290,166 @@ public class RabbitMQConsumer implements Consumer {
         }
     }
 
+    private void deliver(MessageHandler handler, String id, Envelope envelope, byte[] body, boolean ack) {
+        long start = System.nanoTime();
+        boolean handled = false;
+        try {
+            Message message = new Message();
+            ThriftUtils.createThriftFromBytes(body, message);
+            statistics.deliveryLag.addAndGet(Math.max(0, System.currentTimeMillis() - message.getUpdatedTime()));
+            handled = handle(handler, toMessageContext(message), envelope, id);
+        } catch (TException e) {
+            String msg = "Failed to de-serialize the thrift message, from routing keys and queueName " + id;
+            log.warn(msg, e);
+        }
+        statistics.processingTime.addAndGet(System.nanoTime() - start);
+        if (handled) {
+            statistics.processed.incrementAndGet();
+        } else {
+            statistics.failed.incrementAndGet();
+        }
+        if (!ack) {
+            return;
+        }
+        try {
+            if (handled) {
+                channel.basicAck(envelope.getDeliveryTag(), false);
+            } else {
+                // a message that can't be read or handled would fail again, dead letter it instead of requeueing
+                channel.basicReject(envelope.getDeliveryTag(), false);
+                statistics.deadLettered.incrementAndGet();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to acknowledge the message with routing key " + envelope.getRoutingKey() +
+                    ", it will be redelivered", e);
+        }
+    }
+
+    /**
+     * Runs the handler, handling the message again up to retries times when it fails, so a transient failure does not
+     * dead letter it.
+     */
+    private boolean handle(MessageHandler handler, MessageContext messageContext, Envelope envelope, String id) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                handler.onMessage(messageContext);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= retries) {
+                    log.error("Message handler failed to process the message with routing key " +
+                            envelope.getRoutingKey() + " from routing keys and queueName " + id + " " + (attempt + 1) +
+                            " times", e);
+                    return false;
+                }
+                log.warn("Message handler failed to process the message with routing key " + envelope.getRoutingKey() +
+                        " from routing keys and queueName " + id + ", retrying in " + retryDelay + " ms", e);
+                statistics.retried.incrementAndGet();
+            }
+            if (retryDelay > 0) {
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException e) {
+                    // the consumer is closing, the message is redelivered once the connection is gone
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Declares a durable queue. A queue declared before with other arguments, e.g. without a dead letter exchange,
+     * cannot be declared again with these, and the failed declaration closes its channel, so that is tried on a
+     * channel of its own.
+     */
+    private void declareQueue(String queueName, Map<String, Object> arguments) throws IOException {
+        if (arguments != null) {
+            Channel declareChannel = connection.createChannel();
+            try {
+                declareChannel.queueDeclare(queueName, true, false, false, arguments);
+                return;
+            } catch (IOException e) {
+                log.warn("Queue " + queueName + " exists with other arguments than " + arguments + ", which apply once " +
+                        "it is deleted and declared again", e);
+            } finally {
+                try {
+                    if (declareChannel.isOpen()) {
+                        declareChannel.close();
+                    }
+                } catch (Exception e) {
+                    log.debug("error closing channel", e);
+                }
+            }
+        }
+        channel.queueDeclare(queueName, true, false, false, null);
+    }
+
+    private MessageContext toMessageContext(Message message) throws TException {
+        TBase event = null;
+        String gatewayId = null;
+        if (message.getMessageType().equals(MessageType.EXPERIMENT)) {
+            ExperimentStatusChangeEvent experimentStatusChangeEvent = new ExperimentStatusChangeEvent();
+            ThriftUtils.createThriftFromBytes(message.getEvent(), experimentStatusChangeEvent);
+            log.debug(" Message Received with message id '" + message.getMessageId()
+                    + "' and with message type '" + message.getMessageType() + "'  with status " +
+                    experimentStatusChangeEvent.getState());
+            event = experimentStatusChangeEvent;
+            gatewayId = experimentStatusChangeEvent.getGatewayId();
+        } else if (message.getMessageType().equals(MessageType.WORKFLOWNODE)) {
+            WorkflowNodeStatusChangeEvent wfnStatusChangeEvent = new WorkflowNodeStatusChangeEvent();
+            ThriftUtils.createThriftFromBytes(message.getEvent(), wfnStatusChangeEvent);
+            log.debug(" Message Received with message id '" + message.getMessageId()
+                    + "' and with message type '" + message.getMessageType() + "'  with status " +
+                    wfnStatusChangeEvent.getState());
+            event = wfnStatusChangeEvent;
+            gatewayId = wfnStatusChangeEvent.getWorkflowNodeIdentity().getGatewayId();
+        } else if (message.getMessageType().equals(MessageType.TASK)) {
+            TaskStatusChangeEvent taskStatusChangeEvent = new TaskStatusChangeEvent();
+            ThriftUtils.createThriftFromBytes(message.getEvent(), taskStatusChangeEvent);
+            log.debug(" Message Received with message id '" + message.getMessageId()
+                    + "' and with message type '" + message.getMessageType() + "'  with status " +
+                    taskStatusChangeEvent.getState());
+            event = taskStatusChangeEvent;
+            gatewayId = taskStatusChangeEvent.getTaskIdentity().getGatewayId();
+        } else if (message.getMessageType().equals(MessageType.JOB)) {
+            JobStatusChangeEvent jobStatusChangeEvent = new JobStatusChangeEvent();
+            ThriftUtils.createThriftFromBytes(message.getEvent(), jobStatusChangeEvent);
+            log.debug(" Message Received with message id '" + message.getMessageId()
+                    + "' and with message type '" + message.getMessageType() + "'  with status " +
+                    jobStatusChangeEvent.getState());
+            event = jobStatusChangeEvent;
+            gatewayId = jobStatusChangeEvent.getJobIdentity().getGatewayId();
+        }
+        MessageContext messageContext = new MessageContext(event, message.getMessageType(), message.getMessageId(), gatewayId);
+        messageContext.setUpdatedTime(AiravataUtils.getTime(message.getUpdatedTime()));
+        return messageContext;
+    }
+
+    /**
+     * Picks the worker for a message from the experiment id, the first segment of the routing keys the publisher uses.
+     */
+    private synchronized ExecutorService getWorker(String routingKey) {
+        if (workers == null) {
+            workers = new ExecutorService[workerCount];
+            for (int i = 0; i < workerCount; i++) {
+                final String name = "rabbitmq-consumer-" + exchangeName + "-" + i;
+                workers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+        }
+        String partitionKey = routingKey == null ? "" : routingKey;
+        int separator = partitionKey.indexOf('.');
+        if (separator >= 0) {
+            partitionKey = partitionKey.substring(0, separator);
+        }
+        return workers[(partitionKey.hashCode() & Integer.MAX_VALUE) % workers.length];
+    }
+
     public void stopListen(final String id) throws AiravataException {
         QueueDetails details = queueDetailsMap.get(id);
         if (details != null) {
@@ -255,5 +503,102 @@ public class RabbitMQConsumer implements Consumer {
             } catch (IOException ignore) {
             }
         }
+        // unacknowledged messages are redelivered once the connection is gone, the workers can be dropped
+        synchronized (this) {
+            if (workers != null) {
+                for (ExecutorService worker : workers) {
+                    worker.shutdownNow();
+                }
+                for (ExecutorService worker : workers) {
+                    try {
+                        worker.awaitTermination(WORKER_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                workers = null;
+            }
+        }
+    }
+
+    /**
+     * Counters of the messages this consumer received and handled.
+     */
+    public static class ConsumerStatistics {
+        private final long startTime = System.currentTimeMillis();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong deadLettered = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong processingTime = new AtomicLong();
+        private final AtomicLong deliveryLag = new AtomicLong();
+
+        public long getReceivedCount() {
+            return received.get();
+        }
+
+        public long getProcessedCount() {
+            return processed.get();
+        }
+
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        /**
+         * Failed messages rejected to the dead letter exchange, the others were acknowledged automatically.
+         */
+        public long getDeadLetteredCount() {
+            return deadLettered.get();
+        }
+
+        /**
+         * Times a message was handled again after the handler failed on it.
+         */
+        public long getRetriedCount() {
+            return retried.get();
+        }
+
+        /**
+         * Messages delivered to this consumer which the handlers did not get to yet.
+         */
+        public long getPendingCount() {
+            return received.get() - processed.get() - failed.get();
+        }
+
+        /**
+         * Average time in milliseconds from the status update to the message being read by a worker.
+         */
+        public double getAverageDeliveryLag() {
+            long handled = processed.get() + failed.get();
+            return handled == 0 ? 0 : (double) deliveryLag.get() / handled;
+        }
+
+        /**
+         * Average time in milliseconds the handlers took for a message.
+         */
+        public double getAverageProcessingTime() {
+            long handled = processed.get() + failed.get();
+            return handled == 0 ? 0 : processingTime.get() / 1000000.0 / handled;
+        }
+
+        /**
+         * Messages handled per second since the consumer was created.
+         */
+        public double getThroughput() {
+            long elapsed = System.currentTimeMillis() - startTime;
+            return elapsed == 0 ? 0 : (processed.get() + failed.get()) * 1000.0 / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "received=" + getReceivedCount() + ", processed=" + getProcessedCount() + ", failed=" +
+                    getFailedCount() + ", retried=" + getRetriedCount() + ", deadLettered=" + getDeadLetteredCount() +
+                    ", pending=" + getPendingCount() +
+                    ", averageDeliveryLag=" + getAverageDeliveryLag() + "ms, averageProcessingTime=" +
+                    getAverageProcessingTime() + "ms, throughput=" + getThroughput() + "/s";
+        }
     }
 }
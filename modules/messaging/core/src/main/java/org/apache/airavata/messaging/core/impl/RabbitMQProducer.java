@@ -26,9 +26,32 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class RabbitMQProducer {
     public static final int DEFAULT_PRE_FETCH = 64;
+    public static final int DEFAULT_PUBLISH_CHANNELS = 4;
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+    private static final int ROUTING_KEY_STRIPES = 64;
+    private static final long REPUBLISH_BACKOFF = 1000;
 
     private static Logger log = LoggerFactory.getLogger(RabbitMQProducer.class);
 
@@ -48,9 +71,51 @@ public class RabbitMQProducer {
 
     private String url;
 
+    private volatile boolean closed;
+
+    private int publishChannelCount = DEFAULT_PUBLISH_CHANNELS;
+
+    private boolean publisherConfirms = true;
+
+    /**
+     * Channels used for publishing, each leased to a single publishing thread at a time. Channels are opened on demand
+     * up to publishChannelCount.
+     */
+    private final BlockingQueue<PublishChannel> idlePublishChannels = new LinkedBlockingQueue<PublishChannel>();
+
+    private final AtomicInteger openPublishChannels = new AtomicInteger();
+
+    private final Set<PublishChannel> publishChannels = new CopyOnWriteArraySet<PublishChannel>();
+
+    private final AtomicLong publishedCount = new AtomicLong();
+
+    private final AtomicLong confirmedCount = new AtomicLong();
+
+    private final AtomicLong nackedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicInteger republishQueueSize = new AtomicInteger();
+
+    /**
+     * Publishing state of the routing keys which have messages waiting for a confirm or to be published again. The
+     * keys are striped over several locks, which are never held during a broker RPC so the confirm listeners running
+     * on the connection thread cannot deadlock with a publishing thread.
+     */
+    private final RoutingKeyStripe[] routingKeyStripes = new RoutingKeyStripe[ROUTING_KEY_STRIPES];
+
+    /**
+     * Publishes the messages which have to be sent again, one at a time in the order they were queued.
+     */
+    private volatile ExecutorService republisher;
+
     public RabbitMQProducer(String url, String exchangeName) {
         this.exchangeName = exchangeName;
         this.url = url;
+        for (int i = 0; i < routingKeyStripes.length; i++) {
+            routingKeyStripes[i] = new RoutingKeyStripe();
+        }
+        republisher = newRepublisher();
     }
 
     public void setPrefetchCount(int prefetchCount) {
@@ -61,19 +126,59 @@ public class RabbitMQProducer {
         this.isReQueueOnFail = isReQueueOnFail;
     }
 
+    public void setPublishChannelCount(int publishChannelCount) {
+        this.publishChannelCount = Math.max(1, publishChannelCount);
+    }
+
+    /**
+     * When enabled the publish channels are put in confirm mode. Confirms are handled asynchronously, messages the
+     * broker nacks or which were outstanding on a channel that failed are published again. Messages with the routing
+     * key of a message waiting to be published again are sent after it, and the last message published for the key
+     * is sent once more after the retried ones, so the statuses of a key end in the order they were published.
+     * <p/>
+     * Delivery is therefore at least once: a consumer can get a message twice, and a retried status after a later
+     * one of the same key, followed again by the later one. Consumers have to apply status messages as idempotent
+     * state updates, where the last message of a key wins.
+     */
+    public void setPublisherConfirms(boolean publisherConfirms) {
+        this.publisherConfirms = publisherConfirms;
+    }
+
     private void reset() {
         consumerTag = null;
     }
 
     private void reInitIfNecessary() throws Exception {
         if (consumerTag == null || consumer == null) {
-            close();
+            closeConnection();
             open();
         }
     }
 
+    /**
+     * Closes the connection. Messages still waiting to be published again are dropped, and the producer cannot be
+     * opened again afterwards.
+     */
     public void close() {
         log.info("Closing channel to exchange {}", exchangeName);
+        closed = true;
+        List<Runnable> dropped = republisher.shutdownNow();
+        if (!dropped.isEmpty()) {
+            republishQueueSize.addAndGet(-dropped.size());
+            failedCount.addAndGet(dropped.size());
+            log.warn("Dropping " + dropped.size() + " messages waiting to be published again to exchange " +
+                    exchangeName);
+        }
+        List<OutgoingMessage> unconfirmed = discardIdlePublishChannels();
+        if (!unconfirmed.isEmpty()) {
+            log.warn(unconfirmed.size() + " messages published to exchange " + exchangeName + " were not confirmed");
+        }
+        synchronized (this) {
+            closeConnection();
+        }
+    }
+
+    private void closeConnection() {
         try {
             if (channel != null && channel.isOpen()) {
                 if (consumerTag != null) {
@@ -96,7 +201,10 @@ public class RabbitMQProducer {
         connection = null;
     }
 
-    public void open() throws Exception {
+    public synchronized void open() throws Exception {
+        if (closed) {
+            throw new Exception("Producer for exchange " + exchangeName + " is closed");
+        }
         try {
             connection = createConnection();
             channel = connection.createChannel();
@@ -114,16 +222,454 @@ public class RabbitMQProducer {
     }
 
     public void send(byte []message, String routingKey) throws Exception {
+        send(Collections.singletonList(new OutgoingMessage(message, routingKey)));
+    }
+
+    /**
+     * Publishes the messages back to back on one publish channel. With publisher confirms the call returns once the
+     * messages are written, the confirms arrive asynchronously. Messages whose routing key has a message waiting to
+     * be published again are queued behind it.
+     * <p/>
+     * If the channel fails part way, the written messages it did not get confirmed are published again in the
+     * background, and the call fails with a {@link PublishException} telling how many messages were written. The
+     * remaining ones were not published, the caller has to send them again.
+     *
+     * @throws Exception if no channel to the exchange could be opened, nothing was published in that case
+     */
+    public void send(List<OutgoingMessage> messages) throws Exception {
+        if (messages.isEmpty()) {
+            return;
+        }
+        PublishChannel publishChannel = leasePublishChannel();
+        int sent = 0;
         try {
-            channel.basicPublish(exchangeName, routingKey, null, message);
+            for (; sent < messages.size(); sent++) {
+                publishChannel.publish(messages.get(sent), false);
+            }
         } catch (IOException e) {
-            String msg = "Failed to publish message to exchange: " + exchangeName;
-            log.error(msg, e);
-            throw new Exception(msg, e);
+            log.error("Failed to publish message to exchange: " + exchangeName, e);
+            throw new PublishException("Published " + sent + " of " + messages.size() + " messages to exchange " +
+                    exchangeName + " before the channel failed", sent, e);
+        } finally {
+            release(publishChannel);
+        }
+    }
+
+    /**
+     * Waits until the broker confirmed every message published so far, or the timeout elapsed.
+     *
+     * @return true if no message is waiting for a confirm
+     */
+    public boolean waitForConfirms(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (getUnconfirmedCount() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getConfirmedCount() {
+        return confirmedCount.get();
+    }
+
+    public long getNackedCount() {
+        return nackedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return number of messages published and not yet confirmed, or waiting to be published again
+     */
+    public long getUnconfirmedCount() {
+        long unconfirmed = republishQueueSize.get();
+        for (PublishChannel publishChannel : publishChannels) {
+            unconfirmed += publishChannel.unconfirmed.size();
+        }
+        return unconfirmed;
+    }
+
+    private PublishChannel leasePublishChannel() throws Exception {
+        while (true) {
+            PublishChannel publishChannel = idlePublishChannels.poll();
+            if (publishChannel == null) {
+                if (openPublishChannels.incrementAndGet() <= publishChannelCount) {
+                    try {
+                        return new PublishChannel(createPublishChannel());
+                    } catch (Exception e) {
+                        openPublishChannels.decrementAndGet();
+                        throw e;
+                    }
+                }
+                openPublishChannels.decrementAndGet();
+                publishChannel = idlePublishChannels.poll(1, TimeUnit.SECONDS);
+            }
+            if (publishChannel != null) {
+                if (publishChannel.channel.isOpen()) {
+                    return publishChannel;
+                }
+                republish(discard(publishChannel));
+            }
+        }
+    }
+
+    private void release(PublishChannel publishChannel) {
+        if (publishChannel.channel.isOpen()) {
+            idlePublishChannels.offer(publishChannel);
+        } else {
+            republish(discard(publishChannel));
+        }
+    }
+
+    /**
+     * Closes the channel and returns the messages which were outstanding on it, the broker will not confirm those.
+     */
+    private List<OutgoingMessage> discard(PublishChannel publishChannel) {
+        publishChannels.remove(publishChannel);
+        openPublishChannels.decrementAndGet();
+        publishChannel.close();
+        List<OutgoingMessage> unconfirmed = new ArrayList<OutgoingMessage>();
+        Map.Entry<Long, OutgoingMessage> entry;
+        // entries are taken one by one so a confirm arriving meanwhile claims each message at most once
+        while ((entry = publishChannel.unconfirmed.pollFirstEntry()) != null) {
+            unconfirmed.add(entry.getValue());
+        }
+        return unconfirmed;
+    }
+
+    private List<OutgoingMessage> discardIdlePublishChannels() {
+        List<PublishChannel> idle = new ArrayList<PublishChannel>();
+        idlePublishChannels.drainTo(idle);
+        List<OutgoingMessage> unconfirmed = new ArrayList<OutgoingMessage>();
+        for (PublishChannel publishChannel : idle) {
+            unconfirmed.addAll(discard(publishChannel));
+        }
+        return unconfirmed;
+    }
+
+    /**
+     * Opens a publish channel, reconnecting first if the connection was lost. Only publishing threads get here, the
+     * confirm listeners never wait for this lock.
+     */
+    private synchronized Channel createPublishChannel() throws Exception {
+        if (closed) {
+            throw new Exception("Producer for exchange " + exchangeName + " is closed");
+        }
+        if (connection == null || !connection.isOpen()) {
+            List<OutgoingMessage> unconfirmed = discardIdlePublishChannels();
+            closeConnection();
+            open();
+            republish(unconfirmed);
+        }
+        Channel publishChannel = connection.createChannel();
+        if (publisherConfirms) {
+            publishChannel.confirmSelect();
+        }
+        return publishChannel;
+    }
+
+    /**
+     * Queues messages written to a channel which the broker did not confirm to be published again, in the order
+     * given. Later messages with the same routing keys are queued behind them until they have been published, and a
+     * later message of their routing key which was already published is sent once more after them.
+     */
+    private void republish(List<OutgoingMessage> messages) {
+        Map<String, OutgoingMessage> lastRetried = new LinkedHashMap<String, OutgoingMessage>();
+        for (OutgoingMessage message : messages) {
+            RoutingKeyStripe stripe = stripe(message.routingKey);
+            synchronized (stripe) {
+                RoutingKeyState state = stripe.get(message.routingKey);
+                if (publisherConfirms) {
+                    state.outstanding--;
+                }
+                if (++message.attempts < MAX_PUBLISH_ATTEMPTS) {
+                    if (queue(state, message)) {
+                        lastRetried.put(message.routingKey, message);
+                    }
+                } else {
+                    failedCount.incrementAndGet();
+                    log.error("Giving up publishing message with routing key " + message.routingKey + " to exchange " +
+                            exchangeName + " after " + message.attempts + " attempts");
+                }
+                stripe.release(message.routingKey, state);
+            }
+        }
+        for (Map.Entry<String, OutgoingMessage> retried : lastRetried.entrySet()) {
+            RoutingKeyStripe stripe = stripe(retried.getKey());
+            synchronized (stripe) {
+                RoutingKeyState state = stripe.get(retried.getKey());
+                if (state.last != null && state.last != retried.getValue()) {
+                    // a later status of the key went out before the retried ones, so it has to be the last again
+                    queue(state, state.last);
+                }
+                stripe.release(retried.getKey(), state);
+            }
+        }
+    }
+
+    /**
+     * Hands a message to the republisher, called with the lock of its routing key stripe held.
+     */
+    private boolean queue(RoutingKeyState state, OutgoingMessage message) {
+        try {
+            republisher.execute(new Republish(message));
+        } catch (RejectedExecutionException e) {
+            failedCount.incrementAndGet();
+            log.error("Dropping message with routing key " + message.routingKey + ", the producer for exchange " +
+                    exchangeName + " is closed");
+            return false;
+        }
+        state.queued++;
+        republishQueueSize.incrementAndGet();
+        return true;
+    }
+
+    private RoutingKeyStripe stripe(String routingKey) {
+        int hash = routingKey == null ? 0 : routingKey.hashCode() & Integer.MAX_VALUE;
+        return routingKeyStripes[hash % routingKeyStripes.length];
+    }
+
+    private ExecutorService newRepublisher() {
+        return Executors.newSingleThreadExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "rabbitmq-republisher-" + exchangeName);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Thrown by {@link #send(List)} when the channel failed part way through the messages.
+     */
+    public static class PublishException extends Exception {
+        private final int publishedCount;
+
+        public PublishException(String message, int publishedCount, Throwable cause) {
+            super(message, cause);
+            this.publishedCount = publishedCount;
+        }
+
+        /**
+         * @return number of messages from the start of the list which were written to the channel
+         */
+        public int getPublishedCount() {
+            return publishedCount;
+        }
+    }
+
+    /**
+     * A message waiting to be published or confirmed.
+     */
+    public static class OutgoingMessage {
+        private final byte[] body;
+        private final String routingKey;
+        private int attempts;
+
+        public OutgoingMessage(byte[] body, String routingKey) {
+            this.body = body;
+            this.routingKey = routingKey;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getRoutingKey() {
+            return routingKey;
+        }
+    }
+
+    /**
+     * Publishes a queued message, retrying on another channel until it is written or out of attempts. Messages
+     * queued behind it wait meanwhile, which keeps the order per routing key.
+     */
+    private class Republish implements Runnable {
+        private final OutgoingMessage message;
+
+        private Republish(OutgoingMessage message) {
+            this.message = message;
+        }
+
+        public void run() {
+            while (true) {
+                try {
+                    PublishChannel publishChannel = leasePublishChannel();
+                    try {
+                        publishChannel.publish(message, true);
+                    } finally {
+                        release(publishChannel);
+                    }
+                    return;
+                } catch (Exception e) {
+                    if (++message.attempts >= MAX_PUBLISH_ATTEMPTS) {
+                        giveUp(e);
+                        return;
+                    }
+                    log.warn("Failed to republish message to exchange " + exchangeName + ", retrying", e);
+                }
+                try {
+                    Thread.sleep(REPUBLISH_BACKOFF);
+                } catch (InterruptedException e) {
+                    giveUp(e);
+                    return;
+                }
+            }
+        }
+
+        private void giveUp(Exception e) {
+            RoutingKeyStripe stripe = stripe(message.routingKey);
+            synchronized (stripe) {
+                RoutingKeyState state = stripe.get(message.routingKey);
+                state.queued--;
+                stripe.release(message.routingKey, state);
+            }
+            republishQueueSize.decrementAndGet();
+            failedCount.incrementAndGet();
+            log.error("Giving up publishing message with routing key " + message.routingKey + " to exchange " +
+                    exchangeName + " after " + message.attempts + " attempts", e);
+        }
+    }
+
+    private static class RoutingKeyStripe {
+        private final Map<String, RoutingKeyState> states = new HashMap<String, RoutingKeyState>();
+
+        private RoutingKeyState get(String routingKey) {
+            RoutingKeyState state = states.get(routingKey);
+            if (state == null) {
+                state = new RoutingKeyState();
+                states.put(routingKey, state);
+            }
+            return state;
+        }
+
+        private void release(String routingKey, RoutingKeyState state) {
+            if (state.outstanding <= 0 && state.queued <= 0) {
+                states.remove(routingKey);
+            }
+        }
+    }
+
+    private static class RoutingKeyState {
+        /**
+         * Messages published and not yet confirmed, only counted with publisher confirms.
+         */
+        private int outstanding;
+        /**
+         * Messages waiting for the republisher.
+         */
+        private int queued;
+        private OutgoingMessage last;
+    }
+
+    private class PublishChannel implements ConfirmListener {
+        private final Channel channel;
+        private final ConcurrentNavigableMap<Long, OutgoingMessage> unconfirmed =
+                new ConcurrentSkipListMap<Long, OutgoingMessage>();
+
+        private PublishChannel(Channel channel) {
+            this.channel = channel;
+            publishChannels.add(this);
+            if (publisherConfirms) {
+                channel.addConfirmListener(this);
+            }
+        }
+
+        /**
+         * @param queued whether the message comes from the republisher, otherwise it is queued behind the messages of
+         *               its routing key waiting there
+         */
+        private void publish(OutgoingMessage message, boolean queued) throws IOException {
+            RoutingKeyStripe stripe = stripe(message.routingKey);
+            synchronized (stripe) {
+                RoutingKeyState state = stripe.get(message.routingKey);
+                if (!queued && state.queued > 0) {
+                    queue(state, message);
+                    return;
+                }
+                long seqNo = channel.getNextPublishSeqNo();
+                if (publisherConfirms) {
+                    unconfirmed.put(seqNo, message);
+                }
+                try {
+                    channel.basicPublish(exchangeName, message.routingKey, null, message.body);
+                } catch (IOException e) {
+                    unconfirmed.remove(seqNo);
+                    stripe.release(message.routingKey, state);
+                    throw e;
+                }
+                publishedCount.incrementAndGet();
+                if (queued) {
+                    state.queued--;
+                    republishQueueSize.decrementAndGet();
+                }
+                if (publisherConfirms) {
+                    state.outstanding++;
+                    state.last = message;
+                }
+                stripe.release(message.routingKey, state);
+            }
+        }
+
+        public void handleAck(long deliveryTag, boolean multiple) {
+            List<OutgoingMessage> acked = confirmed(deliveryTag, multiple);
+            for (OutgoingMessage message : acked) {
+                RoutingKeyStripe stripe = stripe(message.routingKey);
+                synchronized (stripe) {
+                    RoutingKeyState state = stripe.get(message.routingKey);
+                    state.outstanding--;
+                    stripe.release(message.routingKey, state);
+                }
+            }
+            confirmedCount.addAndGet(acked.size());
+        }
+
+        public void handleNack(long deliveryTag, boolean multiple) {
+            List<OutgoingMessage> nacked = confirmed(deliveryTag, multiple);
+            nackedCount.addAndGet(nacked.size());
+            log.warn("Broker nacked " + nacked.size() + " messages published to exchange " + exchangeName);
+            republish(nacked);
+        }
+
+        private List<OutgoingMessage> confirmed(long deliveryTag, boolean multiple) {
+            List<OutgoingMessage> messages = new ArrayList<OutgoingMessage>();
+            if (multiple) {
+                Map.Entry<Long, OutgoingMessage> entry;
+                while ((entry = unconfirmed.firstEntry()) != null && entry.getKey() <= deliveryTag) {
+                    if (unconfirmed.remove(entry.getKey(), entry.getValue())) {
+                        messages.add(entry.getValue());
+                    }
+                }
+            } else {
+                OutgoingMessage message = unconfirmed.remove(deliveryTag);
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+            return messages;
+        }
+
+        private void close() {
+            try {
+                if (channel.isOpen()) {
+                    channel.close();
+                }
+            } catch (Exception e) {
+                log.debug("error closing publish channel", e);
+            }
         }
     }
 
-    private Connection createConnection() throws IOException {
+    Connection createConnection() throws IOException {
         try {
             ConnectionFactory connectionFactory = new ConnectionFactory();
             connectionFactory.setUri(url);
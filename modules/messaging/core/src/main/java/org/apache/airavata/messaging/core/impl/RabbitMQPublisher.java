@@ -33,12 +33,50 @@ import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes status change events to the rabbitmq exchange. By default every message is sent from the calling thread,
+ * which gets an exception if it could not be sent. With a rabbitmq.publisher.batch.size larger than one, publish only
+ * serializes the event and queues it; a background thread sends the queued messages in batches of up to batch.size,
+ * or whatever has been queued once rabbitmq.publisher.flush.interval elapsed, in the order they were published. A
+ * batch which cannot be sent is kept and retried, and publish fails while it is, instead of queueing more messages.
+ */
 public class RabbitMQPublisher implements Publisher {
 
     private static Logger log = LoggerFactory.getLogger(RabbitMQPublisher.class);
 
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_FLUSH_INTERVAL = 50;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final long CLOSE_TIMEOUT = 10000;
+    private static final long RETRY_INTERVAL = 1000;
+
     private RabbitMQProducer rabbitMQProducer;
 
+    private int batchSize;
+
+    private long flushInterval;
+
+    private BlockingQueue<RabbitMQProducer.OutgoingMessage> outgoing;
+
+    private Thread flusher;
+
+    private volatile boolean closed;
+
+    /**
+     * Why the flusher could not send its last batch, null once a batch went out.
+     */
+    private volatile Exception sendFailure;
+
+    /**
+     * The batch the flusher was retrying when it stopped.
+     */
+    private List<RabbitMQProducer.OutgoingMessage> unsent;
 
     public RabbitMQPublisher() throws Exception {
         String brokerUrl;
@@ -51,13 +89,45 @@ public class RabbitMQPublisher implements Publisher {
             log.error(message, e);
             throw new AiravataException(message, e);
         }
+        batchSize = Integer.parseInt(ServerSettings.getSetting(MessagingConstants.RABBITMQ_PUBLISHER_BATCH_SIZE,
+                String.valueOf(DEFAULT_BATCH_SIZE)));
+        flushInterval = Long.parseLong(ServerSettings.getSetting(MessagingConstants.RABBITMQ_PUBLISHER_FLUSH_INTERVAL,
+                String.valueOf(DEFAULT_FLUSH_INTERVAL)));
+        int queueSize = Integer.parseInt(ServerSettings.getSetting(MessagingConstants.RABBITMQ_PUBLISHER_QUEUE_SIZE,
+                String.valueOf(DEFAULT_QUEUE_SIZE)));
         rabbitMQProducer = new RabbitMQProducer(brokerUrl, exchangeName);
+        rabbitMQProducer.setPublishChannelCount(Integer.parseInt(ServerSettings.getSetting(
+                MessagingConstants.RABBITMQ_PUBLISHER_CHANNELS, String.valueOf(RabbitMQProducer.DEFAULT_PUBLISH_CHANNELS))));
+        rabbitMQProducer.setPublisherConfirms(Boolean.parseBoolean(ServerSettings.getSetting(
+                MessagingConstants.RABBITMQ_PUBLISHER_CONFIRMS, "true")));
         rabbitMQProducer.open();
+        if (batchSize > 1) {
+            outgoing = new ArrayBlockingQueue<RabbitMQProducer.OutgoingMessage>(Math.max(queueSize, batchSize));
+            flusher = new Thread(new Runnable() {
+                public void run() {
+                    flushLoop();
+                }
+            }, "rabbitmq-publisher-" + exchangeName);
+            flusher.setDaemon(true);
+            flusher.start();
+            Runtime.getRuntime().addShutdownHook(new Thread() {
+                public void run() {
+                    close();
+                }
+            });
+        }
     }
 
     public void publish(MessageContext msgCtx) throws AiravataException {
+        if (closed) {
+            throw new AiravataException("Publisher is closed");
+        }
+        Exception failure = sendFailure;
+        if (failure != null) {
+            throw new AiravataException("Status messages cannot be sent to rabbitmq", failure);
+        }
         try {
-            log.info("Publishing status to rabbitmq...");
+            log.debug("Publishing status to rabbitmq...");
             byte[] body = ThriftUtils.serializeThriftObject(msgCtx.getEvent());
             Message message = new Message();
             message.setEvent(body);
@@ -85,7 +155,11 @@ public class RabbitMQPublisher implements Publisher {
                         identity.getJobId();
             }
             byte[] messageBody = ThriftUtils.serializeThriftObject(message);
-            rabbitMQProducer.send(messageBody, routingKey);
+            if (outgoing != null) {
+                outgoing.put(new RabbitMQProducer.OutgoingMessage(messageBody, routingKey));
+            } else {
+                rabbitMQProducer.send(messageBody, routingKey);
+            }
         } catch (TException e) {
             String msg = "Error while deserializing the object";
             log.error(msg, e);
@@ -96,4 +170,100 @@ public class RabbitMQPublisher implements Publisher {
             throw new AiravataException(msg, e);
         }
     }
+
+    /**
+     * Sends whatever is queued, waits for the broker to confirm the published messages and closes the connection.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (flusher != null) {
+                flusher.interrupt();
+                flusher.join(CLOSE_TIMEOUT);
+                List<RabbitMQProducer.OutgoingMessage> batch = new ArrayList<RabbitMQProducer.OutgoingMessage>();
+                if (unsent != null) {
+                    batch.addAll(unsent);
+                }
+                outgoing.drainTo(batch);
+                if (!send(batch)) {
+                    log.error("Dropping " + batch.size() + " status messages which could not be sent to rabbitmq " +
+                            "before closing");
+                }
+            }
+            if (!rabbitMQProducer.waitForConfirms(CLOSE_TIMEOUT)) {
+                log.warn("Timed out waiting for rabbitmq to confirm " + rabbitMQProducer.getUnconfirmedCount() +
+                        " messages");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rabbitMQProducer.close();
+    }
+
+    public RabbitMQProducer getProducer() {
+        return rabbitMQProducer;
+    }
+
+    private void flushLoop() {
+        List<RabbitMQProducer.OutgoingMessage> batch = new ArrayList<RabbitMQProducer.OutgoingMessage>(batchSize);
+        while (!closed) {
+            try {
+                RabbitMQProducer.OutgoingMessage first = outgoing.take();
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                while (batch.size() < batchSize) {
+                    outgoing.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    RabbitMQProducer.OutgoingMessage next = outgoing.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // closing, the remaining messages are sent by close
+            }
+            // a batch which could not be sent is retried before anything queued after it
+            while (!send(batch)) {
+                try {
+                    Thread.sleep(RETRY_INTERVAL);
+                } catch (InterruptedException e) {
+                    // closing, close sends the batch before the messages still queued
+                    unsent = batch;
+                    return;
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return false if the batch could not be sent, it is left with the messages which were not published then
+     */
+    private boolean send(List<RabbitMQProducer.OutgoingMessage> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            rabbitMQProducer.send(batch);
+            sendFailure = null;
+            return true;
+        } catch (Exception e) {
+            if (e instanceof RabbitMQProducer.PublishException) {
+                // the producer publishes the written ones again itself if the broker did not confirm them
+                batch.subList(0, ((RabbitMQProducer.PublishException) e).getPublishedCount()).clear();
+            }
+            if (sendFailure == null) {
+                log.error("Failed to send " + batch.size() + " status messages to rabbitmq, retrying", e);
+            }
+            sendFailure = e;
+            return false;
+        }
+    }
 }
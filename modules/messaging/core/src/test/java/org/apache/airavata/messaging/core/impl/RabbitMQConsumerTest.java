@@ -0,0 +1,313 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.messaging.core.impl;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.Consumer;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.impl.AMQImpl;
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.messaging.core.MessageContext;
+import org.apache.airavata.messaging.core.MessageHandler;
+import org.apache.airavata.messaging.core.MessagingConstants;
+import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.Message;
+import org.apache.airavata.model.messaging.event.MessageType;
+import org.apache.airavata.model.workspace.experiment.ExperimentState;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class RabbitMQConsumerTest {
+    private static final String EXCHANGE = "test_exchange";
+
+    private FakeBroker broker;
+    private RabbitMQConsumer consumer;
+
+    @Before
+    public void setUp() throws Exception {
+        broker = new FakeBroker();
+        consumer = new RabbitMQConsumer(new ConnectionFactory() {
+            @Override
+            public Connection newConnection() {
+                return broker.connection;
+            }
+        }, EXCHANGE);
+        consumer.setRetryDelay(0);
+    }
+
+    @After
+    public void tearDown() {
+        consumer.close();
+    }
+
+    @Test
+    public void testFailedMessagesAreRejectedToTheDeadLetterExchange() throws Exception {
+        Assert.assertTrue(broker.exchanges.contains(EXCHANGE + RabbitMQConsumer.DEAD_LETTER_SUFFIX));
+        Assert.assertTrue(broker.bindings.contains(EXCHANGE + RabbitMQConsumer.DEAD_LETTER_SUFFIX));
+        Map<String, Object> deadLetterArguments = broker.queueArguments.get(EXCHANGE + RabbitMQConsumer.DEAD_LETTER_SUFFIX);
+        Assert.assertEquals(RabbitMQConsumer.DEFAULT_DEAD_LETTER_TTL, deadLetterArguments.get("x-message-ttl"));
+        Assert.assertEquals(RabbitMQConsumer.DEFAULT_DEAD_LETTER_MAX_LENGTH, deadLetterArguments.get("x-max-length"));
+
+        consumer.setWorkerCount(2);
+        RecordingHandler handler = new RecordingHandler("status", "failing");
+        consumer.listen(handler);
+        Assert.assertEquals(EXCHANGE + RabbitMQConsumer.DEAD_LETTER_SUFFIX,
+                broker.queueArguments.get("status").get("x-dead-letter-exchange"));
+
+        broker.deliver(1, "exp1", message("exp1", 1));
+        broker.deliver(2, "exp2", "not a thrift message".getBytes());
+        broker.deliver(3, "failing", message("failing", 1));
+        broker.awaitSettled(3);
+
+        Assert.assertEquals(Arrays.asList(1L), broker.acked);
+        Assert.assertEquals(new HashSet<Long>(Arrays.asList(2L, 3L)), new HashSet<Long>(broker.rejected));
+        Assert.assertEquals(2, consumer.getStatistics().getDeadLetteredCount());
+        Assert.assertEquals(1, consumer.getStatistics().getProcessedCount());
+        // only the handler failure is retried, a message which cannot be read would fail again
+        Assert.assertEquals(RabbitMQConsumer.DEFAULT_RETRIES, consumer.getStatistics().getRetriedCount());
+        Assert.assertEquals(RabbitMQConsumer.DEFAULT_RETRIES + 1, handler.failures);
+    }
+
+    @Test
+    public void testTransientHandlerFailuresAreRetried() throws Exception {
+        consumer.setWorkerCount(1);
+        consumer.setRetries(3);
+        RecordingHandler handler = new RecordingHandler("status", "flaky");
+        handler.failuresLeft = 2;
+        consumer.listen(handler);
+
+        broker.deliver(1, "flaky", message("flaky", 1));
+        broker.deliver(2, "flaky", message("flaky", 2));
+        broker.awaitSettled(2);
+
+        Assert.assertEquals(Arrays.asList(1L, 2L), broker.acked);
+        Assert.assertTrue(broker.rejected.isEmpty());
+        Assert.assertEquals(Arrays.asList(1, 2), handler.handled.get("flaky"));
+        Assert.assertEquals(2, consumer.getStatistics().getRetriedCount());
+        Assert.assertEquals(0, consumer.getStatistics().getDeadLetteredCount());
+    }
+
+    @Test
+    public void testMessagesOfAnExperimentAreHandledInDeliveryOrder() throws Exception {
+        consumer.setWorkerCount(4);
+        RecordingHandler handler = new RecordingHandler("status", null);
+        consumer.listen(handler);
+
+        int experiments = 6;
+        int count = 300;
+        for (int i = 0; i < count; i++) {
+            String experimentId = "exp" + (i % experiments);
+            // task and job statuses are routed by keys starting with the experiment id
+            String routingKey = i % 3 == 0 ? experimentId : experimentId + ".node" + i + ".task";
+            broker.deliver(i + 1, routingKey, message(experimentId, i));
+        }
+        broker.awaitSettled(count);
+
+        Assert.assertEquals(count, broker.acked.size());
+        for (int e = 0; e < experiments; e++) {
+            List<Integer> sequence = handler.handled.get("exp" + e);
+            Assert.assertEquals(count / experiments, sequence.size());
+            for (int i = 1; i < sequence.size(); i++) {
+                Assert.assertTrue("exp" + e + " was handled out of order: " + sequence,
+                        sequence.get(i - 1) < sequence.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testQueuesDeclaredWithoutDeadLetterExchangeCanStillBeConsumed() throws Exception {
+        broker.queuesWithoutArguments.add("status");
+        consumer.listen(new RecordingHandler("status", null));
+        Assert.assertNull(broker.queueArguments.get("status"));
+        Assert.assertTrue(broker.mainChannel.open);
+        Assert.assertNotNull(broker.consumer);
+    }
+
+    private static byte[] message(String experimentId, int sequence) throws Exception {
+        ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent(ExperimentState.EXECUTING, experimentId,
+                "default");
+        Message message = new Message();
+        message.setEvent(ThriftUtils.serializeThriftObject(event));
+        message.setMessageId(String.valueOf(sequence));
+        message.setMessageType(MessageType.EXPERIMENT);
+        message.setUpdatedTime(System.currentTimeMillis());
+        return ThriftUtils.serializeThriftObject(message);
+    }
+
+    private static class RecordingHandler implements MessageHandler {
+        private final Map<String, Object> properties = new HashMap<String, Object>();
+        private final String failingExperiment;
+        private final Map<String, List<Integer>> handled =
+                Collections.synchronizedMap(new HashMap<String, List<Integer>>());
+        private final Random random = new Random();
+        private volatile int failuresLeft = Integer.MAX_VALUE;
+        private volatile int failures;
+
+        private RecordingHandler(String queue, String failingExperiment) {
+            this.failingExperiment = failingExperiment;
+            properties.put(MessagingConstants.RABBIT_ROUTING_KEY, "#");
+            properties.put(MessagingConstants.RABBIT_QUEUE, queue);
+        }
+
+        public Map<String, Object> getProperties() {
+            return properties;
+        }
+
+        public void onMessage(MessageContext message) {
+            String experimentId = ((ExperimentStatusChangeEvent) message.getEvent()).getExperimentId();
+            if (experimentId.equals(failingExperiment) && failuresLeft > 0) {
+                failuresLeft--;
+                failures++;
+                throw new IllegalStateException("cannot handle " + experimentId);
+            }
+            List<Integer> sequence;
+            synchronized (handled) {
+                sequence = handled.get(experimentId);
+                if (sequence == null) {
+                    sequence = Collections.synchronizedList(new ArrayList<Integer>());
+                    handled.put(experimentId, sequence);
+                }
+            }
+            if (random.nextInt(10) == 0) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sequence.add(Integer.valueOf(message.getMessageId()));
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * Stands in for the amqp client: records the declarations and acknowledgements and delivers messages to the
+     * registered consumer.
+     */
+    private static class FakeBroker {
+        private final List<Long> acked = Collections.synchronizedList(new ArrayList<Long>());
+        private final List<Long> rejected = Collections.synchronizedList(new ArrayList<Long>());
+        private final Set<String> exchanges = Collections.synchronizedSet(new HashSet<String>());
+        private final Set<String> bindings = Collections.synchronizedSet(new HashSet<String>());
+        private final Map<String, Map<String, Object>> queueArguments =
+                Collections.synchronizedMap(new HashMap<String, Map<String, Object>>());
+        private final Set<String> queuesWithoutArguments = Collections.synchronizedSet(new HashSet<String>());
+        private final Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{Connection.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getName().equals("createChannel")) {
+                            FakeChannel channel = new FakeChannel();
+                            if (mainChannel == null) {
+                                mainChannel = channel;
+                            }
+                            return channel.proxy;
+                        } else if (method.getName().equals("isOpen")) {
+                            return Boolean.TRUE;
+                        }
+                        return defaultValue(method.getReturnType());
+                    }
+                });
+        private volatile FakeChannel mainChannel;
+        private volatile Consumer consumer;
+
+        private void deliver(long deliveryTag, String routingKey, byte[] body) throws IOException {
+            consumer.handleDelivery("default", new Envelope(deliveryTag, false, EXCHANGE, routingKey), null, body);
+        }
+
+        private void awaitSettled(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (acked.size() + rejected.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private class FakeChannel implements InvocationHandler {
+            private final Channel proxy = (Channel) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class[]{Channel.class}, this);
+            private volatile boolean open = true;
+
+            @SuppressWarnings("unchecked")
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("isOpen")) {
+                    return open;
+                } else if (name.equals("close")) {
+                    open = false;
+                } else if (name.equals("exchangeDeclare")) {
+                    exchanges.add((String) args[0]);
+                } else if (name.equals("queueBind")) {
+                    if (args[0].equals(args[1])) {
+                        bindings.add((String) args[0]);
+                    }
+                } else if (name.equals("queueDeclare")) {
+                    String queue = args == null ? "amq.gen-1" : (String) args[0];
+                    if (args != null && args[4] != null) {
+                        if (queuesWithoutArguments.contains(queue)) {
+                            // the broker closes the channel on a declaration with other arguments
+                            open = false;
+                            throw new IOException("PRECONDITION_FAILED - inequivalent arg 'x-dead-letter-exchange'");
+                        }
+                        queueArguments.put(queue, (Map<String, Object>) args[4]);
+                    }
+                    return new AMQImpl.Queue.DeclareOk(queue, 0, 0);
+                } else if (name.equals("basicConsume")) {
+                    consumer = (Consumer) args[args.length - 1];
+                    return args[2];
+                } else if (name.equals("basicAck")) {
+                    acked.add((Long) args[0]);
+                } else if (name.equals("basicReject")) {
+                    Assert.assertEquals("rejected messages must not be requeued", Boolean.FALSE, args[1]);
+                    rejected.add((Long) args[0]);
+                }
+                return defaultValue(method.getReturnType());
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.messaging.core.impl;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.Connection;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RabbitMQProducerTest {
+    private FakeBroker broker;
+    private RabbitMQProducer producer;
+
+    @Before
+    public void setUp() throws Exception {
+        broker = new FakeBroker();
+        producer = new RabbitMQProducer("amqp://localhost:5672", "test_exchange") {
+            @Override
+            Connection createConnection() {
+                return broker.newConnection();
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        producer.close();
+    }
+
+    @Test(timeout = 30000)
+    public void testNackedMessagesAreRepublishedInOrder() throws Exception {
+        producer.setPublishChannelCount(1);
+        producer.open();
+        producer.send(message("exp1", "1"), "exp1");
+        producer.send(message("exp2", "1"), "exp2");
+        producer.send(message("exp1", "2"), "exp1");
+
+        // the broker loses the first status of exp1 after the second one went out
+        broker.channels.get(0).listener.handleNack(1, false);
+        producer.send(message("exp1", "3"), "exp1");
+        Assert.assertTrue(awaitPublished(6));
+        broker.channels.get(0).listener.handleAck(6, true);
+        Assert.assertTrue(producer.waitForConfirms(5000));
+
+        Assert.assertEquals(Arrays.asList("exp1:1", "exp1:2", "exp1:1", "exp1:2", "exp1:3"), broker.published("exp1"));
+        Assert.assertEquals(Arrays.asList("exp2:1"), broker.published("exp2"));
+        Assert.assertEquals(1, producer.getNackedCount());
+        Assert.assertEquals(0, producer.getFailedCount());
+    }
+
+    @Test(timeout = 30000)
+    public void testMessagesOfAFailedChannelArePublishedAgainInOrder() throws Exception {
+        producer.setPublishChannelCount(1);
+        producer.open();
+        broker.failOn.put("exp1:b", Boolean.TRUE);
+        List<RabbitMQProducer.OutgoingMessage> messages = Arrays.asList(
+                new RabbitMQProducer.OutgoingMessage(message("exp1", "a"), "exp1"),
+                new RabbitMQProducer.OutgoingMessage(message("exp1", "b"), "exp1"),
+                new RabbitMQProducer.OutgoingMessage(message("exp1", "c"), "exp1"));
+        try {
+            producer.send(messages);
+            Assert.fail("the channel failed while publishing");
+        } catch (RabbitMQProducer.PublishException e) {
+            Assert.assertEquals(1, e.getPublishedCount());
+        }
+        // the caller sends the unpublished ones again, they go out after the unconfirmed one being republished
+        producer.send(messages.subList(1, messages.size()));
+        Assert.assertTrue(awaitPublished(4));
+
+        Assert.assertEquals(Arrays.asList("exp1:a", "exp1:a", "exp1:b", "exp1:c"), broker.published("exp1"));
+        Assert.assertEquals(2, broker.channels.size());
+        Assert.assertFalse(broker.channels.get(0).open);
+    }
+
+    @Test(timeout = 30000)
+    public void testClosedProducerIsNotOpenedAgain() throws Exception {
+        producer.open();
+        producer.close();
+        try {
+            producer.send(message("exp1", "1"), "exp1");
+            Assert.fail("the producer is closed");
+        } catch (Exception e) {
+            // no new connection or channel is opened for a closed producer
+        }
+        Assert.assertEquals(0, broker.channels.size());
+        Assert.assertTrue(broker.published.isEmpty());
+    }
+
+    @Test(timeout = 30000)
+    public void testConfirmsAreHandledWhileAChannelIsBeingOpened() throws Exception {
+        producer.setPublishChannelCount(2);
+        producer.open();
+        producer.send(message("exp1", "1"), "exp1");
+
+        // keep the first channel leased, so the next send has to open another one
+        final CountDownLatch publishing = new CountDownLatch(1);
+        final CountDownLatch releasePublish = new CountDownLatch(1);
+        broker.blockOn.put("exp2:1", new CountDownLatch[]{publishing, releasePublish});
+        Thread first = send("exp2", "1");
+        Assert.assertTrue(publishing.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch creating = new CountDownLatch(1);
+        final CountDownLatch releaseCreate = new CountDownLatch(1);
+        broker.blockCreateChannel = new CountDownLatch[]{creating, releaseCreate};
+        Thread second = send("exp3", "1");
+        Assert.assertTrue(creating.await(5, TimeUnit.SECONDS));
+
+        // the confirm listener runs on the connection thread, which the channel.open RPC is waiting for
+        final CountDownLatch nacked = new CountDownLatch(1);
+        Thread connectionThread = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    broker.channels.get(0).listener.handleNack(1, false);
+                    nacked.countDown();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        connectionThread.start();
+        Assert.assertTrue("The confirm listener waited for the channel being opened", nacked.await(5, TimeUnit.SECONDS));
+
+        releaseCreate.countDown();
+        releasePublish.countDown();
+        first.join();
+        second.join();
+        Assert.assertTrue(awaitPublished(4));
+        Assert.assertEquals(Arrays.asList("exp1:1", "exp1:1"), broker.published("exp1"));
+    }
+
+    private Thread send(final String routingKey, final String body) {
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    producer.send(message(routingKey, body), routingKey);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private boolean awaitPublished(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (broker.published.size() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static byte[] message(String routingKey, String body) {
+        return (routingKey + ":" + body).getBytes();
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * Records what is published over connections and channels standing in for the amqp client.
+     */
+    private static class FakeBroker {
+        private final List<String> published = Collections.synchronizedList(new ArrayList<String>());
+        private final List<FakeChannel> channels = Collections.synchronizedList(new ArrayList<FakeChannel>());
+        private final Map<String, Boolean> failOn = new ConcurrentHashMap<String, Boolean>();
+        private final Map<String, CountDownLatch[]> blockOn = new ConcurrentHashMap<String, CountDownLatch[]>();
+        private volatile CountDownLatch[] blockCreateChannel;
+        private boolean mainChannelCreated;
+
+        private List<String> published(String routingKey) {
+            List<String> messages = new ArrayList<String>();
+            synchronized (published) {
+                for (String message : published) {
+                    if (message.startsWith(routingKey + ":")) {
+                        messages.add(message);
+                    }
+                }
+            }
+            return messages;
+        }
+
+        private Connection newConnection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+                    new InvocationHandler() {
+                        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                            if (method.getName().equals("createChannel")) {
+                                return createChannel();
+                            } else if (method.getName().equals("isOpen")) {
+                                return Boolean.TRUE;
+                            }
+                            return defaultValue(method.getReturnType());
+                        }
+                    });
+        }
+
+        private Channel createChannel() throws InterruptedException {
+            FakeChannel channel = new FakeChannel();
+            if (!mainChannelCreated) {
+                // the producer's own channel, which publishing does not use
+                mainChannelCreated = true;
+                return channel.proxy;
+            }
+            CountDownLatch[] block = blockCreateChannel;
+            if (block != null) {
+                block[0].countDown();
+                block[1].await(10, TimeUnit.SECONDS);
+            }
+            channels.add(channel);
+            return channel.proxy;
+        }
+
+        private class FakeChannel implements InvocationHandler {
+            private final Channel proxy = (Channel) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class[]{Channel.class}, this);
+            private volatile boolean open = true;
+            private volatile ConfirmListener listener;
+            private long nextSeqNo = 1;
+
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("isOpen")) {
+                    return open;
+                } else if (name.equals("close")) {
+                    open = false;
+                } else if (name.equals("addConfirmListener")) {
+                    listener = (ConfirmListener) args[0];
+                } else if (name.equals("getNextPublishSeqNo")) {
+                    return nextSeqNo;
+                } else if (name.equals("basicPublish")) {
+                    String message = new String((byte[]) args[3]);
+                    CountDownLatch[] block = blockOn.remove(message);
+                    if (block != null) {
+                        block[0].countDown();
+                        block[1].await(10, TimeUnit.SECONDS);
+                    }
+                    if (failOn.remove(message) != null) {
+                        open = false;
+                        throw new IOException("channel closed while publishing " + message);
+                    }
+                    nextSeqNo++;
+                    published.add(message);
+                    return null;
+                }
+                return defaultValue(method.getReturnType());
+            }
+        }
+    }
+}
@@ -62,30 +62,39 @@ import org.slf4j.LoggerFactory;
      *  * experimentID as the handler to the experiment, during the launchExperiment
      *  * We just have to give the experimentID
      *  *
+     *  * The experiment is queued and launched asynchronously, the call returns as soon as
+     *  * the launch is accepted. Failures during the launch are reported by setting the
+     *  * experiment status to FAILED.
+     *  *
      *  * @param experimentID
-     *  * @return sucess/failure
+     *  * @return true when the launch was accepted
+     *  * @throws OrchestratorBusyException when the launch queue is full
      *  *
      * *
      * 
      * @param experimentId
      */
-    public boolean launchExperiment(String experimentId) throws org.apache.thrift.TException;
+    public boolean launchExperiment(String experimentId) throws OrchestratorBusyException, org.apache.thrift.TException;
 
     /**
      *  * In order to run single applications users should create an associating
      *  * WorkflowNodeDetails and a TaskDetails for it and hand it over for execution
      *  * along with a credential store token for authentication
      *  *
+     *  * The task is queued like an experiment, but the call waits for the launch to
+     *  * finish, so failures are returned to the caller.
+     *  *
      *  * @param taskId
      *  * @param airavataCredStoreToken
-     *  * @return sucess/failure
+     *  * @return true when the task was launched
+     *  * @throws OrchestratorBusyException when the launch queue is full
      *  *
      * *
      * 
      * @param taskId
      * @param airavataCredStoreToken
      */
-    public boolean launchTask(String taskId, String airavataCredStoreToken) throws org.apache.thrift.TException;
+    public boolean launchTask(String taskId, String airavataCredStoreToken) throws OrchestratorBusyException, org.apache.thrift.TException;
 
     /**
      *  *
@@ -171,7 +180,7 @@ import org.slf4j.LoggerFactory;
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getOrchestratorCPIVersion failed: unknown result");
     }
 
-    public boolean launchExperiment(String experimentId) throws org.apache.thrift.TException
+    public boolean launchExperiment(String experimentId) throws OrchestratorBusyException, org.apache.thrift.TException
     {
       send_launchExperiment(experimentId);
       return recv_launchExperiment();
@@ -184,17 +193,20 @@ import org.slf4j.LoggerFactory;
       sendBase("launchExperiment", args);
     }
 
-    public boolean recv_launchExperiment() throws org.apache.thrift.TException
+    public boolean recv_launchExperiment() throws OrchestratorBusyException, org.apache.thrift.TException
     {
       launchExperiment_result result = new launchExperiment_result();
       receiveBase(result, "launchExperiment");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.obe != null) {
+        throw result.obe;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "launchExperiment failed: unknown result");
     }
 
-    public boolean launchTask(String taskId, String airavataCredStoreToken) throws org.apache.thrift.TException
+    public boolean launchTask(String taskId, String airavataCredStoreToken) throws OrchestratorBusyException, org.apache.thrift.TException
     {
       send_launchTask(taskId, airavataCredStoreToken);
       return recv_launchTask();
@@ -208,13 +220,16 @@ import org.slf4j.LoggerFactory;
       sendBase("launchTask", args);
     }
 
-    public boolean recv_launchTask() throws org.apache.thrift.TException
+    public boolean recv_launchTask() throws OrchestratorBusyException, org.apache.thrift.TException
     {
       launchTask_result result = new launchTask_result();
       receiveBase(result, "launchTask");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.obe != null) {
+        throw result.obe;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "launchTask failed: unknown result");
     }
 
@@ -336,7 +351,7 @@ import org.slf4j.LoggerFactory;
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws org.apache.thrift.TException {
+      public boolean getResult() throws OrchestratorBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -371,7 +386,7 @@ import org.slf4j.LoggerFactory;
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws org.apache.thrift.TException {
+      public boolean getResult() throws OrchestratorBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -501,8 +516,12 @@ import org.slf4j.LoggerFactory;
 
       public launchExperiment_result getResult(I iface, launchExperiment_args args) throws org.apache.thrift.TException {
         launchExperiment_result result = new launchExperiment_result();
-        result.success = iface.launchExperiment(args.experimentId);
-        result.setSuccessIsSet(true);
+        try {
+          result.success = iface.launchExperiment(args.experimentId);
+          result.setSuccessIsSet(true);
+        } catch (OrchestratorBusyException obe) {
+          result.obe = obe;
+        }
         return result;
       }
     }
@@ -522,8 +541,12 @@ import org.slf4j.LoggerFactory;
 
       public launchTask_result getResult(I iface, launchTask_args args) throws org.apache.thrift.TException {
         launchTask_result result = new launchTask_result();
-        result.success = iface.launchTask(args.taskId, args.airavataCredStoreToken);
-        result.setSuccessIsSet(true);
+        try {
+          result.success = iface.launchTask(args.taskId, args.airavataCredStoreToken);
+          result.setSuccessIsSet(true);
+        } catch (OrchestratorBusyException obe) {
+          result.obe = obe;
+        }
         return result;
       }
     }
@@ -674,6 +697,12 @@ import org.slf4j.LoggerFactory;
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
             launchExperiment_result result = new launchExperiment_result();
+            if (e instanceof OrchestratorBusyException) {
+                        result.obe = (OrchestratorBusyException) e;
+                        result.setObeIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -726,6 +755,12 @@ import org.slf4j.LoggerFactory;
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
             launchTask_result result = new launchTask_result();
+            if (e instanceof OrchestratorBusyException) {
+                        result.obe = (OrchestratorBusyException) e;
+                        result.setObeIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1813,6 +1848,7 @@ import org.slf4j.LoggerFactory;
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchExperiment_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField OBE_FIELD_DESC = new org.apache.thrift.protocol.TField("obe", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -1821,10 +1857,12 @@ import org.slf4j.LoggerFactory;
     }
 
     public boolean success; // required
+    public OrchestratorBusyException obe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     @SuppressWarnings("all") public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      OBE((short)1, "obe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1841,6 +1879,8 @@ import org.slf4j.LoggerFactory;
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // OBE
+            return OBE;
           default:
             return null;
         }
@@ -1888,6 +1928,8 @@ import org.slf4j.LoggerFactory;
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OBE, new org.apache.thrift.meta_data.FieldMetaData("obe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchExperiment_result.class, metaDataMap);
     }
@@ -1896,11 +1938,13 @@ import org.slf4j.LoggerFactory;
     }
 
     public launchExperiment_result(
-      boolean success)
+      boolean success,
+      OrchestratorBusyException obe)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
+      this.obe = obe;
     }
 
     /**
@@ -1909,6 +1953,9 @@ import org.slf4j.LoggerFactory;
     public launchExperiment_result(launchExperiment_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
+      if (other.isSetObe()) {
+        this.obe = new OrchestratorBusyException(other.obe);
+      }
     }
 
     public launchExperiment_result deepCopy() {
@@ -1919,6 +1966,7 @@ import org.slf4j.LoggerFactory;
     public void clear() {
       setSuccessIsSet(false);
       this.success = false;
+      this.obe = null;
     }
 
     public boolean isSuccess() {
@@ -1944,6 +1992,30 @@ import org.slf4j.LoggerFactory;
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
+    public OrchestratorBusyException getObe() {
+      return this.obe;
+    }
+
+    public launchExperiment_result setObe(OrchestratorBusyException obe) {
+      this.obe = obe;
+      return this;
+    }
+
+    public void unsetObe() {
+      this.obe = null;
+    }
+
+    /** Returns true if field obe is set (has been assigned a value) and false otherwise */
+    public boolean isSetObe() {
+      return this.obe != null;
+    }
+
+    public void setObeIsSet(boolean value) {
+      if (!value) {
+        this.obe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -1954,6 +2026,14 @@ import org.slf4j.LoggerFactory;
         }
         break;
 
+      case OBE:
+        if (value == null) {
+          unsetObe();
+        } else {
+          setObe((OrchestratorBusyException)value);
+        }
+        break;
+
       }
     }
 
@@ -1962,6 +2042,9 @@ import org.slf4j.LoggerFactory;
       case SUCCESS:
         return Boolean.valueOf(isSuccess());
 
+      case OBE:
+        return getObe();
+
       }
       throw new IllegalStateException();
     }
@@ -1975,6 +2058,8 @@ import org.slf4j.LoggerFactory;
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case OBE:
+        return isSetObe();
       }
       throw new IllegalStateException();
     }
@@ -2001,6 +2086,15 @@ import org.slf4j.LoggerFactory;
           return false;
       }
 
+      boolean this_present_obe = true && this.isSetObe();
+      boolean that_present_obe = true && that.isSetObe();
+      if (this_present_obe || that_present_obe) {
+        if (!(this_present_obe && that_present_obe))
+          return false;
+        if (!this.obe.equals(that.obe))
+          return false;
+      }
+
       return true;
     }
 
@@ -2027,6 +2121,16 @@ import org.slf4j.LoggerFactory;
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetObe()).compareTo(other.isSetObe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetObe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.obe, other.obe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -2050,6 +2154,14 @@ import org.slf4j.LoggerFactory;
       sb.append("success:");
       sb.append(this.success);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("obe:");
+      if (this.obe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.obe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -2103,6 +2215,15 @@ import org.slf4j.LoggerFactory;
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // OBE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.obe = new OrchestratorBusyException();
+                struct.obe.read(iprot);
+                struct.setObeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -2123,6 +2244,11 @@ import org.slf4j.LoggerFactory;
           oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
+        if (struct.obe != null) {
+          oprot.writeFieldBegin(OBE_FIELD_DESC);
+          struct.obe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -2144,20 +2270,31 @@ import org.slf4j.LoggerFactory;
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetObe()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           oprot.writeBool(struct.success);
         }
+        if (struct.isSetObe()) {
+          struct.obe.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, launchExperiment_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.obe = new OrchestratorBusyException();
+          struct.obe.read(iprot);
+          struct.setObeIsSet(true);
+        }
       }
     }
 
@@ -2610,6 +2747,7 @@ import org.slf4j.LoggerFactory;
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchTask_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField OBE_FIELD_DESC = new org.apache.thrift.protocol.TField("obe", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -2618,10 +2756,12 @@ import org.slf4j.LoggerFactory;
     }
 
     public boolean success; // required
+    public OrchestratorBusyException obe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     @SuppressWarnings("all") public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      OBE((short)1, "obe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2638,6 +2778,8 @@ import org.slf4j.LoggerFactory;
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // OBE
+            return OBE;
           default:
             return null;
         }
@@ -2685,6 +2827,8 @@ import org.slf4j.LoggerFactory;
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OBE, new org.apache.thrift.meta_data.FieldMetaData("obe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchTask_result.class, metaDataMap);
     }
@@ -2693,11 +2837,13 @@ import org.slf4j.LoggerFactory;
     }
 
     public launchTask_result(
-      boolean success)
+      boolean success,
+      OrchestratorBusyException obe)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
+      this.obe = obe;
     }
 
     /**
@@ -2706,6 +2852,9 @@ import org.slf4j.LoggerFactory;
     public launchTask_result(launchTask_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
+      if (other.isSetObe()) {
+        this.obe = new OrchestratorBusyException(other.obe);
+      }
     }
 
     public launchTask_result deepCopy() {
@@ -2716,6 +2865,7 @@ import org.slf4j.LoggerFactory;
     public void clear() {
       setSuccessIsSet(false);
       this.success = false;
+      this.obe = null;
     }
 
     public boolean isSuccess() {
@@ -2741,6 +2891,30 @@ import org.slf4j.LoggerFactory;
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
+    public OrchestratorBusyException getObe() {
+      return this.obe;
+    }
+
+    public launchTask_result setObe(OrchestratorBusyException obe) {
+      this.obe = obe;
+      return this;
+    }
+
+    public void unsetObe() {
+      this.obe = null;
+    }
+
+    /** Returns true if field obe is set (has been assigned a value) and false otherwise */
+    public boolean isSetObe() {
+      return this.obe != null;
+    }
+
+    public void setObeIsSet(boolean value) {
+      if (!value) {
+        this.obe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -2751,6 +2925,14 @@ import org.slf4j.LoggerFactory;
         }
         break;
 
+      case OBE:
+        if (value == null) {
+          unsetObe();
+        } else {
+          setObe((OrchestratorBusyException)value);
+        }
+        break;
+
       }
     }
 
@@ -2759,6 +2941,9 @@ import org.slf4j.LoggerFactory;
       case SUCCESS:
         return Boolean.valueOf(isSuccess());
 
+      case OBE:
+        return getObe();
+
       }
       throw new IllegalStateException();
     }
@@ -2772,6 +2957,8 @@ import org.slf4j.LoggerFactory;
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case OBE:
+        return isSetObe();
       }
       throw new IllegalStateException();
     }
@@ -2798,6 +2985,15 @@ import org.slf4j.LoggerFactory;
           return false;
       }
 
+      boolean this_present_obe = true && this.isSetObe();
+      boolean that_present_obe = true && that.isSetObe();
+      if (this_present_obe || that_present_obe) {
+        if (!(this_present_obe && that_present_obe))
+          return false;
+        if (!this.obe.equals(that.obe))
+          return false;
+      }
+
       return true;
     }
 
@@ -2824,6 +3020,16 @@ import org.slf4j.LoggerFactory;
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetObe()).compareTo(other.isSetObe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetObe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.obe, other.obe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -2847,6 +3053,14 @@ import org.slf4j.LoggerFactory;
       sb.append("success:");
       sb.append(this.success);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("obe:");
+      if (this.obe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.obe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -2900,6 +3114,15 @@ import org.slf4j.LoggerFactory;
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // OBE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.obe = new OrchestratorBusyException();
+                struct.obe.read(iprot);
+                struct.setObeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -2920,6 +3143,11 @@ import org.slf4j.LoggerFactory;
           oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
+        if (struct.obe != null) {
+          oprot.writeFieldBegin(OBE_FIELD_DESC);
+          struct.obe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -2941,20 +3169,31 @@ import org.slf4j.LoggerFactory;
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetObe()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           oprot.writeBool(struct.success);
         }
+        if (struct.isSetObe()) {
+          struct.obe.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, launchTask_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.obe = new OrchestratorBusyException();
+          struct.obe.read(iprot);
+          struct.setObeIsSet(true);
+        }
       }
     }
 
@@ -0,0 +1,287 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.orchestrator.server;
+
+import org.airavata.appcatalog.cpi.AppCatalog;
+import org.airavata.appcatalog.cpi.ComputeResource;
+import org.apache.aiaravata.application.catalog.data.impl.AppCatalogFactory;
+import org.apache.aiaravata.application.catalog.data.resources.AbstractResource;
+import org.apache.airavata.common.logger.AiravataLogger;
+import org.apache.airavata.common.logger.AiravataLoggerFactory;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.gfac.core.scheduler.HostScheduler;
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
+import org.apache.airavata.model.appcatalog.appinterface.ApplicationInterfaceDescription;
+import org.apache.airavata.model.appcatalog.computeresource.ComputeResourceDescription;
+import org.apache.airavata.model.workspace.experiment.*;
+import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.airavata.orchestrator.cpi.Orchestrator;
+import org.apache.airavata.orchestrator.cpi.OrchestratorBusyException;
+import org.apache.airavata.orchestrator.util.LaunchMetrics;
+import org.apache.airavata.registry.cpi.Registry;
+import org.apache.airavata.registry.cpi.RegistryException;
+import org.apache.airavata.registry.cpi.RegistryModelType;
+import org.apache.airavata.registry.cpi.utils.Constants.FieldConstants.ExperimentConstants;
+import org.apache.airavata.registry.cpi.utils.Constants.FieldConstants.TaskDetailConstants;
+import org.apache.airavata.registry.cpi.utils.Constants.FieldConstants.WorkflowNodeConstants;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Launches experiments and tasks on a fixed number of threads taking them from a bounded queue, so the thrift worker
+ * thread which accepted a launch is free again as soon as it is queued. When the queue is full the launch is rejected
+ * with an {@link OrchestratorBusyException} instead of piling up behind the thrift worker threads.
+ * <p/>
+ * The caller of an experiment launch has already returned when the launch fails, so failures are reported by setting
+ * the experiment status to FAILED. Task launches hand back a {@link Future}, so the caller can wait for the launch and
+ * handle its failure as before.
+ */
+public class LaunchPipeline {
+    private static AiravataLogger log = AiravataLoggerFactory.getLogger(LaunchPipeline.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Registry registry;
+    private final Orchestrator orchestrator;
+    private final LaunchMetrics launchMetrics;
+
+    public LaunchPipeline(ThreadPoolExecutor executor, Registry registry, Orchestrator orchestrator,
+                          LaunchMetrics launchMetrics) {
+        this.executor = executor;
+        this.registry = registry;
+        this.orchestrator = orchestrator;
+        this.launchMetrics = launchMetrics;
+    }
+
+    /**
+     * Queues the launch of all tasks of an experiment.
+     *
+     * @throws OrchestratorBusyException if the launch queue is full
+     */
+    public void launchExperiment(String experimentId) throws OrchestratorBusyException {
+        queue(experimentId, new ExperimentLauncher(experimentId, System.currentTimeMillis()));
+        log.infoId(experimentId, "Accepted experiment {} for launching.", experimentId);
+    }
+
+    /**
+     * Queues the launch of a single task, as created for the nodes of a workflow.
+     *
+     * @return the result of the launch, false when no experiment is associated with the task
+     * @throws OrchestratorBusyException if the launch queue is full
+     */
+    public Future<Boolean> launchTask(String taskId, String airavataCredStoreToken) throws OrchestratorBusyException {
+        FutureTask<Boolean> launch = new FutureTask<Boolean>(
+                new TaskLauncher(taskId, airavataCredStoreToken, System.currentTimeMillis()));
+        queue(taskId, launch);
+        log.infoId(taskId, "Accepted task {} for launching.", taskId);
+        return launch;
+    }
+
+    private void queue(String id, Runnable launcher) throws OrchestratorBusyException {
+        try {
+            executor.execute(launcher);
+        } catch (RejectedExecutionException e) {
+            launchMetrics.recordRejected();
+            log.errorId(id, "Launch queue is full, rejecting the launch of {}.", id);
+            throw new OrchestratorBusyException("Orchestrator is busy, " + executor.getQueue().size()
+                    + " launches are waiting in the queue. Please retry later.");
+        }
+    }
+
+    /**
+     * Selects the deployment of the task's application on one of the compute resources it is deployed on.
+     */
+    protected ApplicationDeploymentDescription getAppDeployment(TaskDetails taskData, String applicationId)
+            throws Exception {
+        AppCatalog appCatalog = AppCatalogFactory.getAppCatalog();
+        ApplicationInterfaceDescription applicationInterface = appCatalog.getApplicationInterface()
+                .getApplicationInterface(applicationId);
+        List<String> applicationModules = applicationInterface.getApplicationModules();
+        if (applicationModules.size() == 0) {
+            throw new OrchestratorException("No modules defined for application " + applicationId);
+        }
+        Map<String, String> moduleIdFilter = new HashMap<String, String>();
+        moduleIdFilter.put(AbstractResource.ApplicationDeploymentConstants.APP_MODULE_ID, applicationModules.get(0));
+        if (taskData.getTaskScheduling() != null && taskData.getTaskScheduling().getResourceHostId() != null) {
+            moduleIdFilter.put(AbstractResource.ApplicationDeploymentConstants.COMPUTE_HOST_ID,
+                    taskData.getTaskScheduling().getResourceHostId());
+        }
+        List<ApplicationDeploymentDescription> applicationDeployements = appCatalog.getApplicationDeployment()
+                .getApplicationDeployements(moduleIdFilter);
+        Map<ComputeResourceDescription, ApplicationDeploymentDescription> deploymentMap =
+                new HashMap<ComputeResourceDescription, ApplicationDeploymentDescription>();
+        ComputeResource computeResource = appCatalog.getComputeResource();
+        for (ApplicationDeploymentDescription deploymentDescription : applicationDeployements) {
+            deploymentMap.put(computeResource.getComputeResource(deploymentDescription.getComputeHostId()),
+                    deploymentDescription);
+        }
+        List<ComputeResourceDescription> computeHostList = Arrays.asList(
+                deploymentMap.keySet().toArray(new ComputeResourceDescription[]{}));
+        Class<? extends HostScheduler> aClass = Class.forName(ServerSettings.getHostScheduler())
+                .asSubclass(HostScheduler.class);
+        HostScheduler hostScheduler = aClass.newInstance();
+        return deploymentMap.get(hostScheduler.schedule(computeHostList));
+    }
+
+    private void markFailed(String experimentId) {
+        ExperimentStatus status = new ExperimentStatus();
+        status.setExperimentState(ExperimentState.FAILED);
+        status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
+        try {
+            registry.update(RegistryModelType.EXPERIMENT_STATUS, status, experimentId);
+        } catch (RegistryException e) {
+            log.errorId(experimentId, "Couldn't update the status {} of the experiment {}.",
+                    ExperimentState.FAILED.toString(), experimentId);
+        }
+    }
+
+    /**
+     * Launches the tasks of an experiment on a launch pool thread.
+     */
+    private class ExperimentLauncher implements Runnable {
+        private final String experimentId;
+        private final long queuedTime;
+
+        private ExperimentLauncher(String experimentId, long queuedTime) {
+            this.experimentId = experimentId;
+            this.queuedTime = queuedTime;
+        }
+
+        public void run() {
+            launchMetrics.record(LaunchMetrics.Stage.QUEUED, queuedTime);
+            try {
+                long startTime = System.currentTimeMillis();
+                Experiment experiment = (Experiment) registry.get(RegistryModelType.EXPERIMENT, experimentId);
+                if (experiment == null) {
+                    log.errorId(experimentId, "Error retrieving the Experiment by the given experimentID: {} ", experimentId);
+                    return;
+                }
+                List<String> ids = registry.getIds(RegistryModelType.WORKFLOW_NODE_DETAIL,
+                        WorkflowNodeConstants.EXPERIMENT_ID, experimentId);
+                launchMetrics.record(LaunchMetrics.Stage.LOAD, startTime);
+                for (String workflowNodeId : ids) {
+                    startTime = System.currentTimeMillis();
+                    WorkflowNodeDetails workflowNodeDetail = (WorkflowNodeDetails) registry
+                            .get(RegistryModelType.WORKFLOW_NODE_DETAIL, workflowNodeId);
+                    List<Object> taskDetailList = registry.get(RegistryModelType.TASK_DETAIL,
+                            TaskDetailConstants.NODE_ID, workflowNodeId);
+                    launchMetrics.record(LaunchMetrics.Stage.LOAD, startTime);
+                    for (Object o : taskDetailList) {
+                        TaskDetails taskID = (TaskDetails) o;
+                        // iterate through all the generated tasks and performs the
+                        // job submisssion+monitoring
+                        startTime = System.currentTimeMillis();
+                        ExperimentStatus status = new ExperimentStatus();
+                        status.setExperimentState(ExperimentState.LAUNCHED);
+                        status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
+                        experiment.setExperimentStatus(status);
+                        registry.update(RegistryModelType.EXPERIMENT, experiment, experimentId);
+                        launchMetrics.record(LaunchMetrics.Stage.STATUS_UPDATE, startTime);
+                        // launching the experiment
+                        startTime = System.currentTimeMillis();
+                        orchestrator.launchExperiment(experiment, workflowNodeDetail, taskID, null);
+                        launchMetrics.record(LaunchMetrics.Stage.SUBMIT, startTime);
+                    }
+                }
+            } catch (Exception e) {
+                // failures in gfac are reported by gfac through the experiment/task/job statuses, failures before
+                // the jobs reached gfac would leave the experiment in its current state
+                log.errorId(experimentId, "Error while launching experiment {}.", experimentId, e);
+                markFailed(experimentId);
+                return;
+            }
+            log.infoId(experimentId, "Successfully launched experiment {}.", experimentId);
+            log.debug(launchMetrics.toString());
+        }
+    }
+
+    /**
+     * Launches a single task on a launch pool thread, after selecting the deployment of its application. Failures are
+     * thrown to the caller waiting for the launch.
+     */
+    private class TaskLauncher implements Callable<Boolean> {
+        private final String taskId;
+        private final String airavataCredStoreToken;
+        private final long queuedTime;
+
+        private TaskLauncher(String taskId, String airavataCredStoreToken, long queuedTime) {
+            this.taskId = taskId;
+            this.airavataCredStoreToken = airavataCredStoreToken;
+            this.queuedTime = queuedTime;
+        }
+
+        public Boolean call() throws Exception {
+            launchMetrics.record(LaunchMetrics.Stage.QUEUED, queuedTime);
+            boolean launched;
+            try {
+                long startTime = System.currentTimeMillis();
+                TaskDetails taskData = (TaskDetails) registry.get(RegistryModelType.TASK_DETAIL, taskId);
+                if (taskData == null) {
+                    throw new OrchestratorException("Error retrieving the task by the given taskId: " + taskId);
+                }
+                List<Object> workflowNodeDetailList = registry.get(RegistryModelType.WORKFLOW_NODE_DETAIL,
+                        WorkflowNodeConstants.TASK_LIST, taskData);
+                List<Object> experimentList = null;
+                if (workflowNodeDetailList != null && !workflowNodeDetailList.isEmpty()) {
+                    experimentList = registry.get(RegistryModelType.EXPERIMENT,
+                            ExperimentConstants.WORKFLOW_NODE_LIST, workflowNodeDetailList.get(0));
+                }
+                if (experimentList == null || experimentList.isEmpty()) {
+                    log.infoId(taskId, "No experiment found associated in task {}", taskId);
+                    return false;
+                }
+                WorkflowNodeDetails workflowNodeDetail = (WorkflowNodeDetails) workflowNodeDetailList.get(0);
+                Experiment experiment = (Experiment) experimentList.get(0);
+
+                String applicationId = taskData.getApplicationId();
+                if (applicationId == null) {
+                    throw new OrchestratorException("Error executing the job, application id shouldn't be null.");
+                }
+                ApplicationDeploymentDescription applicationDeploymentDescription =
+                        getAppDeployment(taskData, applicationId);
+                if (applicationDeploymentDescription == null) {
+                    throw new OrchestratorException("No deployment found for application " + applicationId);
+                }
+                taskData.setApplicationDeploymentId(applicationDeploymentDescription.getAppDeploymentId());
+                launchMetrics.record(LaunchMetrics.Stage.LOAD, startTime);
+
+                startTime = System.currentTimeMillis();
+                registry.update(RegistryModelType.TASK_DETAIL, taskData, taskData.getTaskID());
+                launchMetrics.record(LaunchMetrics.Stage.STATUS_UPDATE, startTime);
+
+                startTime = System.currentTimeMillis();
+                launched = orchestrator.launchExperiment(experiment, workflowNodeDetail, taskData,
+                        airavataCredStoreToken);
+                launchMetrics.record(LaunchMetrics.Stage.SUBMIT, startTime);
+            } catch (Exception e) {
+                log.errorId(taskId, "Error while launching task {}.", taskId, e);
+                throw e;
+            }
+            log.infoId(taskId, "Successfully launched task {}.", taskId);
+            return launched;
+        }
+    }
+}
@@ -45,6 +45,8 @@ public class OrchestratorServer implements IServer{
 
 	private TServer server;
 
+	private OrchestratorServerHandler handler;
+
 	public OrchestratorServer() {
 		setStatus(ServerStatus.STOPPED);
 	}
@@ -111,8 +113,9 @@ public class OrchestratorServer implements IServer{
 	@Override
 	public void start() throws Exception {
 		setStatus(ServerStatus.STARTING);
+		handler = new OrchestratorServerHandler();
 		OrchestratorService.Processor<OrchestratorServerHandler> orchestratorService =
-                new OrchestratorService.Processor<OrchestratorServerHandler>(new OrchestratorServerHandler());
+                new OrchestratorService.Processor<OrchestratorServerHandler>(handler);
 		StartOrchestratorServer(orchestratorService);
 	}
 
@@ -122,6 +125,10 @@ public class OrchestratorServer implements IServer{
 			setStatus(ServerStatus.STOPING);
 			server.stop();
 		}
+		if (handler != null) {
+			handler.shutdown();
+			handler = null;
+		}
 		
 	}
 
@@ -21,28 +21,21 @@
 
 package org.apache.airavata.orchestrator.server;
 
-import org.airavata.appcatalog.cpi.AppCatalog;
-import org.airavata.appcatalog.cpi.AppCatalogException;
-import org.airavata.appcatalog.cpi.ComputeResource;
-import org.apache.aiaravata.application.catalog.data.impl.AppCatalogFactory;
-import org.apache.aiaravata.application.catalog.data.resources.AbstractResource;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.logger.AiravataLogger;
 import org.apache.airavata.common.logger.AiravataLoggerFactory;
 import org.apache.airavata.common.utils.AiravataZKUtils;
 import org.apache.airavata.common.utils.Constants;
 import org.apache.airavata.common.utils.ServerSettings;
-import org.apache.airavata.gfac.core.scheduler.HostScheduler;
 import org.apache.airavata.gfac.core.utils.GFacUtils;
-import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
-import org.apache.airavata.model.appcatalog.appinterface.ApplicationInterfaceDescription;
-import org.apache.airavata.model.appcatalog.computeresource.ComputeResourceDescription;
 import org.apache.airavata.model.error.LaunchValidationException;
 import org.apache.airavata.model.workspace.experiment.*;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.airavata.orchestrator.cpi.OrchestratorBusyException;
 import org.apache.airavata.orchestrator.cpi.OrchestratorService;
 import org.apache.airavata.orchestrator.cpi.impl.SimpleOrchestratorImpl;
 import org.apache.airavata.orchestrator.cpi.orchestrator_cpi_serviceConstants;
+import org.apache.airavata.orchestrator.util.LaunchMetrics;
 import org.apache.airavata.orchestrator.util.OrchestratorRecoveryHandler;
 import org.apache.airavata.persistance.registry.jpa.impl.RegistryFactory;
 import org.apache.airavata.registry.cpi.Registry;
@@ -57,6 +50,13 @@ import org.apache.zookeeper.data.Stat;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class OrchestratorServerHandler implements OrchestratorService.Iface,
 		Watcher {
@@ -74,6 +74,10 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
 	private String airavataUserName;
 	private String gatewayName;
 
+	private final LaunchMetrics launchMetrics = new LaunchMetrics();
+
+	private LaunchPipeline launchPipeline;
+
 	/**
 	 * Query orchestrator server to fetch the CPI version
 	 */
@@ -128,6 +132,9 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
 			registry = RegistryFactory.getDefaultRegistry();
 			orchestrator.initialize();
 			orchestrator.getOrchestratorContext().setZk(this.zk);
+			ThreadPoolExecutor launchExecutor = createLaunchExecutor();
+			orchestrator.setExecutor(launchExecutor);
+			launchPipeline = new LaunchPipeline(launchExecutor, registry, orchestrator, launchMetrics);
 		} catch (OrchestratorException e) {
 			e.printStackTrace();
 		} catch (RegistryException e) {
@@ -135,6 +142,33 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
 		}
 	}
 
+    /**
+     * Experiments and tasks are launched by a fixed number of threads taking them from a bounded queue, see
+     * {@link LaunchPipeline}.
+     */
+    private ThreadPoolExecutor createLaunchExecutor() {
+        int threads = getIntSetting(org.apache.airavata.orchestrator.util.Constants.ORCHESTRATOR_LAUNCH_THREADS, 10);
+        int queueSize = getIntSetting(org.apache.airavata.orchestrator.util.Constants.ORCHESTRATOR_LAUNCH_QUEUE_SIZE, 100);
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "orchestrator-launcher-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private static int getIntSetting(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(ServerSettings.getSetting(key, String.valueOf(defaultValue)));
+        } catch (Exception e) {
+            log.error("Invalid value for " + key + ", using " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
     private void registerOrchestratorService(String airavataServerHostPort, String orchServer) throws KeeperException, InterruptedException {
         Stat zkStat = zk.exists(orchServer, false);
         if (zkStat == null) {
@@ -155,75 +189,40 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
     /**
 	 * * After creating the experiment Data user have the * experimentID as the
 	 * handler to the experiment, during the launchExperiment * We just have to
-	 * give the experimentID * * @param experimentID * @return sucess/failure *
-	 * *
+	 * give the experimentID. The experiment is launched asynchronously, failures
+	 * during the launch set the experiment status to FAILED.
 	 * 
 	 * @param experimentId
+	 * @return true when the launch was accepted
+	 * @throws OrchestratorBusyException when the launch queue is full
 	 */
-	public boolean launchExperiment(String experimentId) throws TException {
-        Experiment experiment = null; // this will inside the bottom catch statement
-        try {
-            experiment = (Experiment) registry.get(
-                    RegistryModelType.EXPERIMENT, experimentId);
-            if (experiment == null) {
-                log.errorId(experimentId, "Error retrieving the Experiment by the given experimentID: {} ", experimentId);
-                return false;
-            }
-            List<String> ids = registry.getIds(
-					RegistryModelType.WORKFLOW_NODE_DETAIL,
-					WorkflowNodeConstants.EXPERIMENT_ID, experimentId);
-            for (String workflowNodeId : ids) {
-                WorkflowNodeDetails workflowNodeDetail = (WorkflowNodeDetails) registry
-						.get(RegistryModelType.WORKFLOW_NODE_DETAIL,
-								workflowNodeId);
-                List<Object> taskDetailList = registry.get(
-						RegistryModelType.TASK_DETAIL,
-						TaskDetailConstants.NODE_ID, workflowNodeId);
-                for (Object o : taskDetailList) {
-                    TaskDetails taskID = (TaskDetails) o;
-                    // iterate through all the generated tasks and performs the
-                    // job submisssion+monitoring
-					ExperimentStatus status = new ExperimentStatus();
-					status.setExperimentState(ExperimentState.LAUNCHED);
-					status.setTimeOfStateChange(Calendar.getInstance()
-							.getTimeInMillis());
-					experiment.setExperimentStatus(status);
-					registry.update(RegistryModelType.EXPERIMENT, experiment,
-							experimentId);
-					// launching the experiment
-					orchestrator.launchExperiment(experiment,
-							workflowNodeDetail, taskID,null);
-				}
-			}
-
-		} catch (Exception e) {
-			// Here we really do not have to do much because only potential
-			// failure can happen
-			// is in gfac, if there are errors in gfac, it will handle the
-			// experiment/task/job statuses
-			// We might get failures in registry access before submitting the
-			// jobs to gfac, in that case we
-			// leave the status of these as created.
-			ExperimentStatus status = new ExperimentStatus();
-			status.setExperimentState(ExperimentState.FAILED);
-			status.setTimeOfStateChange(Calendar.getInstance()
-					.getTimeInMillis());
-			experiment.setExperimentStatus(status);
-			try {
-				registry.update(RegistryModelType.EXPERIMENT, experiment,
-						experimentId);
-            } catch (RegistryException e1) {
-                log.errorId(experimentId, "Couldn't update the status {} of the experiment {}.",
-                        ExperimentState.FAILED.toString(), experimentId);
-				throw new TException(e);
-			}
-            log.errorId(experimentId, "Error while launching experiment {}.", experimentId);
-            throw new TException(e);
-		}
-        log.infoId(experimentId, "Successfully launched experiment {}.", experimentId);
+	public boolean launchExperiment(String experimentId) throws OrchestratorBusyException, TException {
+        getLaunchPipeline(experimentId).launchExperiment(experimentId);
 		return true;
 	}
 
+    private LaunchPipeline getLaunchPipeline(String id) throws TException {
+        // the launch pipeline is set last in the constructor, so it is missing when the orchestrator failed to start
+        if (launchPipeline == null) {
+            log.errorId(id, "Orchestrator is not initialized, cannot launch {}.", id);
+            throw new TException("Orchestrator is not initialized, check the orchestrator server log for the startup error.");
+        }
+        return launchPipeline;
+    }
+
+    /**
+     * Stops taking new launches and releases the orchestrator resources, called when the server stops.
+     */
+    public void shutdown() {
+        if (orchestrator != null) {
+            orchestrator.shutdown();
+        }
+    }
+
+    public LaunchMetrics getLaunchMetrics() {
+        return launchMetrics;
+    }
+
 	/**
 	 * This method will validate the experiment before launching, if is failed
 	 * we do not run the launch in airavata thrift service (only if validation
@@ -262,8 +261,13 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
                                 experimentId);
 						return false;
 					}
-					return orchestrator.validateExperiment(experiment,
-							workflowNodeDetail, taskID).isSetValidationState();
+					long startTime = System.currentTimeMillis();
+					try {
+						return orchestrator.validateExperiment(experiment,
+								workflowNodeDetail, taskID).isSetValidationState();
+					} finally {
+						launchMetrics.record(LaunchMetrics.Stage.VALIDATE, startTime);
+					}
 				}
 			}
 
@@ -403,92 +407,24 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface,
 		this.gatewayName = gatewayName;
 	}
 
+	/**
+	 * Launches a single task on the launch pool like {@link #launchExperiment}, but waits for the launch to finish,
+	 * so failures are thrown to the caller.
+	 *
+	 * @return true when the task was launched, false when no experiment is associated with the task
+	 * @throws OrchestratorBusyException when the launch queue is full
+	 */
 	@Override
-	public boolean launchTask(String taskId, String airavataCredStoreToken) throws TException {
+	public boolean launchTask(String taskId, String airavataCredStoreToken) throws OrchestratorBusyException, TException {
+		Future<Boolean> launch = getLaunchPipeline(taskId).launchTask(taskId, airavataCredStoreToken);
 		try {
-			TaskDetails taskData = (TaskDetails) registry.get(
-					RegistryModelType.TASK_DETAIL, taskId);
-			String applicationId = taskData.getApplicationId();
-			if (applicationId == null) {
-                log.errorId(taskId, "Application id shouldn't be null.");
-				throw new OrchestratorException("Error executing the job, application id shouldn't be null.");
-			}
-			ApplicationDeploymentDescription applicationDeploymentDescription = getAppDeployment(taskData, applicationId);
-            taskData.setApplicationDeploymentId(applicationDeploymentDescription.getAppDeploymentId());
-			registry.update(RegistryModelType.TASK_DETAIL, taskData,taskData.getTaskID());
-			List<Object> workflowNodeDetailList = registry.get(RegistryModelType.WORKFLOW_NODE_DETAIL,
-							org.apache.airavata.registry.cpi.utils.Constants.FieldConstants.WorkflowNodeConstants.TASK_LIST, taskData);
-			if (workflowNodeDetailList != null
-					&& workflowNodeDetailList.size() > 0) {
-				List<Object> experimentList = registry.get(RegistryModelType.EXPERIMENT,
-								org.apache.airavata.registry.cpi.utils.Constants.FieldConstants.ExperimentConstants.WORKFLOW_NODE_LIST,
-								(WorkflowNodeDetails) workflowNodeDetailList.get(0));
-				if (experimentList != null && experimentList.size() > 0) {
-					return orchestrator
-							.launchExperiment(
-									(Experiment) experimentList.get(0),
-									(WorkflowNodeDetails) workflowNodeDetailList
-											.get(0), taskData,airavataCredStoreToken);
-				}
-			}
-		} catch (Exception e) {
-            log.errorId(taskId, "Error while launching task ", e);
-            throw new TException(e);
-        }
-        log.infoId(taskId, "No experiment found associated in task {}", taskId);
-        return false;
-	}
-
-	private ApplicationDeploymentDescription getAppDeployment(
-			TaskDetails taskData, String applicationId)
-			throws AppCatalogException, OrchestratorException,
-			ClassNotFoundException, ApplicationSettingsException,
-			InstantiationException, IllegalAccessException {
-		AppCatalog appCatalog = AppCatalogFactory.getAppCatalog();
-		String selectedModuleId = getModuleId(appCatalog, applicationId);
-		ApplicationDeploymentDescription applicationDeploymentDescription = getAppDeployment(
-				appCatalog, taskData, selectedModuleId);
-		return applicationDeploymentDescription;
-	}
-
-	private ApplicationDeploymentDescription getAppDeployment(
-			AppCatalog appCatalog, TaskDetails taskData, String selectedModuleId)
-			throws AppCatalogException, ClassNotFoundException,
-			ApplicationSettingsException, InstantiationException,
-			IllegalAccessException {
-		Map<String, String> moduleIdFilter = new HashMap<String, String>();
-		moduleIdFilter.put(AbstractResource.ApplicationDeploymentConstants.APP_MODULE_ID, selectedModuleId);
-		if (taskData.getTaskScheduling()!=null && taskData.getTaskScheduling().getResourceHostId() != null) {
-		    moduleIdFilter.put(AbstractResource.ApplicationDeploymentConstants.COMPUTE_HOST_ID, taskData.getTaskScheduling().getResourceHostId());
-		}
-		List<ApplicationDeploymentDescription> applicationDeployements = appCatalog.getApplicationDeployment().getApplicationDeployements(moduleIdFilter);
-		Map<ComputeResourceDescription, ApplicationDeploymentDescription> deploymentMap = new HashMap<ComputeResourceDescription, ApplicationDeploymentDescription>();
-		ComputeResource computeResource = appCatalog.getComputeResource();
-		for (ApplicationDeploymentDescription deploymentDescription : applicationDeployements) {
-			deploymentMap.put(computeResource.getComputeResource(deploymentDescription.getComputeHostId()),deploymentDescription);
-		}
-		List<ComputeResourceDescription> computeHostList = Arrays.asList(deploymentMap.keySet().toArray(new ComputeResourceDescription[]{}));	
-		Class<? extends HostScheduler> aClass = Class.forName(
-				ServerSettings.getHostScheduler()).asSubclass(
-				HostScheduler.class);
-		HostScheduler hostScheduler = aClass.newInstance();
-		ComputeResourceDescription ComputeResourceDescription = hostScheduler.schedule(computeHostList);
-		ApplicationDeploymentDescription applicationDeploymentDescription = deploymentMap.get(ComputeResourceDescription);
-		return applicationDeploymentDescription;
-	}
-
-	private String getModuleId(AppCatalog appCatalog, String applicationId)
-			throws AppCatalogException, OrchestratorException {
-		ApplicationInterfaceDescription applicationInterface = appCatalog.getApplicationInterface().getApplicationInterface(applicationId);
-		List<String> applicationModules = applicationInterface.getApplicationModules();
-		if (applicationModules.size()==0){
-			throw new OrchestratorException(
-					"No modules defined for application "
-							+ applicationId);
+			return launch.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TException("Interrupted while launching task " + taskId, e);
+		} catch (ExecutionException e) {
+			throw new TException(e.getCause());
 		}
-//			AiravataAPI airavataAPI = getAiravataAPI();
-		String selectedModuleId=applicationModules.get(0);
-		return selectedModuleId;
 	}
 
     private boolean validateStatesAndCancel(String experimentId)throws TException{
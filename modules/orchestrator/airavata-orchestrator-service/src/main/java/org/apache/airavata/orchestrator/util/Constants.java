@@ -25,5 +25,7 @@ public class Constants {
     public static final String ORCHESTRATOT_SERVER_PORT = "orchestrator.server.port";
     public static final String ORCHESTRATOT_SERVER_HOST = "orchestrator.server.host";
     public static final String ORCHESTRATOT_SERVER_MIN_THREADS = "orchestrator.server.min.threads";
+    public static final String ORCHESTRATOR_LAUNCH_THREADS = "orchestrator.launch.threads";
+    public static final String ORCHESTRATOR_LAUNCH_QUEUE_SIZE = "orchestrator.launch.queue.size";
 
 }
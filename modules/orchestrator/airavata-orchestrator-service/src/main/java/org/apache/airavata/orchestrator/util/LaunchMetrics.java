@@ -0,0 +1,93 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.orchestrator.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of the stages an experiment launch goes through in the orchestrator. For every stage the number of
+ * executions, the total and the maximum time are kept.
+ */
+public class LaunchMetrics {
+
+    public enum Stage {
+        QUEUED, LOAD, VALIDATE, STATUS_UPDATE, SUBMIT
+    }
+
+    private final AtomicLong[] counts = new AtomicLong[Stage.values().length];
+    private final AtomicLong[] totalTimes = new AtomicLong[Stage.values().length];
+    private final AtomicLong[] maxTimes = new AtomicLong[Stage.values().length];
+    private final AtomicLong rejected = new AtomicLong();
+
+    public LaunchMetrics() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new AtomicLong();
+            totalTimes[i] = new AtomicLong();
+            maxTimes[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * @param startTime value of System.currentTimeMillis() when the stage started
+     */
+    public void record(Stage stage, long startTime) {
+        long time = System.currentTimeMillis() - startTime;
+        int i = stage.ordinal();
+        counts[i].incrementAndGet();
+        totalTimes[i].addAndGet(time);
+        long max = maxTimes[i].get();
+        while (time > max && !maxTimes[i].compareAndSet(max, time)) {
+            max = maxTimes[i].get();
+        }
+    }
+
+    public void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    public long getCount(Stage stage) {
+        return counts[stage.ordinal()].get();
+    }
+
+    public long getAverageTime(Stage stage) {
+        long count = getCount(stage);
+        return count == 0 ? 0 : totalTimes[stage.ordinal()].get() / count;
+    }
+
+    public long getMaxTime(Stage stage) {
+        return maxTimes[stage.ordinal()].get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Launch metrics [rejected=").append(getRejectedCount());
+        for (Stage stage : Stage.values()) {
+            builder.append(", ").append(stage).append("(count=").append(getCount(stage))
+                    .append(", avg=").append(getAverageTime(stage)).append("ms, max=").append(getMaxTime(stage)).append("ms)");
+        }
+        return builder.append("]").toString();
+    }
+}
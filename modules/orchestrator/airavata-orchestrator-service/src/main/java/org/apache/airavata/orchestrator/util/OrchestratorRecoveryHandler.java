@@ -26,6 +26,7 @@ import org.apache.airavata.common.utils.Constants;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.gfac.core.utils.GFacUtils;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.airavata.orchestrator.cpi.OrchestratorBusyException;
 import org.apache.airavata.orchestrator.server.OrchestratorServerHandler;
 import org.apache.thrift.TException;
 import org.apache.zookeeper.KeeperException;
@@ -43,6 +44,10 @@ import java.util.List;
 public class OrchestratorRecoveryHandler implements Watcher {
     private static Logger log = LoggerFactory.getLogger(OrchestratorRecoveryHandler.class);
 
+    private static final int LAUNCH_ATTEMPTS = 10;
+    private static final long LAUNCH_RETRY_DELAY = 1000;
+    private static final long MAX_LAUNCH_RETRY_DELAY = 30000;
+
     private ZooKeeper zk;
 
     private String gfacId;
@@ -84,16 +89,40 @@ public class OrchestratorRecoveryHandler implements Watcher {
                 if(GFacUtils.isCancelled(expId.split("\\+")[0], expId.split("\\+")[1], zk)) {// during relaunching we check the operation and then launch
                     serverHandler.terminateExperiment(expId.split("\\+")[0]);
                 }else {
-                    serverHandler.launchExperiment(expId.split("\\+")[0]);
+                    launchExperiment(expId.split("\\+")[0]);
                 }
                 // we do not move the old experiment in to new gfac node, gfac will do it
+            } catch (InterruptedException e) {
+                throw e;
             } catch (Exception e) {       // we attempt all the experiments
-                e.printStackTrace();
+                log.error("Error recovering experiment " + expId.split("\\+")[0], e);
             }
             log.info("------------------------------------------------------------------------------------");
         }
     }
 
+    /**
+     * Launches a recovered experiment, asking again with a doubling delay while the orchestrator's launch queue is
+     * full, since a failed over GFac node can leave more experiments than the queue holds.
+     */
+    private void launchExperiment(String experimentId) throws TException, InterruptedException {
+        long delay = LAUNCH_RETRY_DELAY;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                serverHandler.launchExperiment(experimentId);
+                return;
+            } catch (OrchestratorBusyException e) {
+                if (attempt == LAUNCH_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Orchestrator is busy, launching recovered experiment " + experimentId + " again in "
+                        + delay + " ms");
+                Thread.sleep(delay);
+                delay = Math.min(delay * 2, MAX_LAUNCH_RETRY_DELAY);
+            }
+        }
+    }
+
     synchronized public void process(WatchedEvent watchedEvent) {
         synchronized (mutex) {
             Event.KeeperState state = watchedEvent.getState();
@@ -0,0 +1,232 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.orchestrator.server;
+
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
+import org.apache.airavata.model.workspace.experiment.*;
+import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.airavata.orchestrator.cpi.Orchestrator;
+import org.apache.airavata.orchestrator.cpi.OrchestratorBusyException;
+import org.apache.airavata.orchestrator.util.LaunchMetrics;
+import org.apache.airavata.registry.cpi.Registry;
+import org.apache.airavata.registry.cpi.RegistryModelType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class LaunchPipelineTest {
+    private Experiment experiment;
+    private WorkflowNodeDetails node;
+    private TaskDetails task;
+    private FakeRegistry registry;
+    private FakeOrchestrator orchestrator;
+    private LaunchMetrics metrics;
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        experiment = new Experiment();
+        experiment.setExperimentID("exp1");
+        node = new WorkflowNodeDetails();
+        node.setNodeInstanceId("node1");
+        task = new TaskDetails();
+        task.setTaskID("task1");
+        task.setApplicationId("app1");
+        registry = new FakeRegistry();
+        orchestrator = new FakeOrchestrator();
+        metrics = new LaunchMetrics();
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable runnable) {
+                        return new Thread(runnable, "launcher");
+                    }
+                });
+    }
+
+    @Test
+    public void testExperimentIsLaunchedOnTheLaunchPool() throws Exception {
+        pipeline().launchExperiment("exp1");
+        awaitLaunches();
+
+        Assert.assertEquals(Arrays.asList("launcher:task1"), orchestrator.launched);
+        Assert.assertEquals(Arrays.asList("EXPERIMENT:exp1:LAUNCHED"), registry.updates);
+        Assert.assertEquals(1, metrics.getCount(LaunchMetrics.Stage.SUBMIT));
+    }
+
+    @Test
+    public void testFailedExperimentLaunchMarksTheExperimentFailed() throws Exception {
+        orchestrator.failure = new OrchestratorException("GFac is not reachable");
+        pipeline().launchExperiment("exp1");
+        awaitLaunches();
+
+        Assert.assertEquals(Arrays.asList("EXPERIMENT:exp1:LAUNCHED", "EXPERIMENT_STATUS:exp1:FAILED"),
+                registry.updates);
+    }
+
+    @Test
+    public void testTaskIsLaunchedOnTheLaunchPool() throws Exception {
+        Assert.assertTrue(pipeline().launchTask("task1", "token").get(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(Arrays.asList("launcher:task1"), orchestrator.launched);
+        Assert.assertEquals("deployment1", task.getApplicationDeploymentId());
+        Assert.assertEquals(Arrays.asList("TASK_DETAIL:task1"), registry.updates);
+    }
+
+    @Test
+    public void testFailedTaskLaunchIsThrownToTheCaller() throws Exception {
+        orchestrator.failure = new OrchestratorException("GFac is not reachable");
+        try {
+            pipeline().launchTask("task1", "token").get(10, TimeUnit.SECONDS);
+            Assert.fail("the task launch failed");
+        } catch (ExecutionException e) {
+            Assert.assertSame(orchestrator.failure, e.getCause());
+        }
+        Assert.assertEquals(Arrays.asList("TASK_DETAIL:task1"), registry.updates);
+    }
+
+    @Test
+    public void testLaunchesAreRejectedWhenTheQueueIsFull() throws Exception {
+        orchestrator.block = new CountDownLatch(1);
+        LaunchPipeline pipeline = pipeline();
+        pipeline.launchExperiment("exp1");
+        pipeline.launchTask("task1", "token");
+        try {
+            pipeline.launchExperiment("exp1");
+            Assert.fail("the launch queue is full");
+        } catch (OrchestratorBusyException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("1 launches are waiting"));
+        }
+        Assert.assertEquals(1, metrics.getRejectedCount());
+
+        orchestrator.block.countDown();
+        awaitLaunches();
+        Assert.assertEquals(2, orchestrator.launched.size());
+    }
+
+    private LaunchPipeline pipeline() {
+        return new LaunchPipeline(executor, registry.proxy, orchestrator.proxy, metrics) {
+            @Override
+            protected ApplicationDeploymentDescription getAppDeployment(TaskDetails taskData, String applicationId) {
+                ApplicationDeploymentDescription deployment = new ApplicationDeploymentDescription();
+                deployment.setAppDeploymentId("deployment1");
+                return deployment;
+            }
+        };
+    }
+
+    private void awaitLaunches() throws InterruptedException {
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * Holds one experiment with one node and task, and records the updates.
+     */
+    private class FakeRegistry implements InvocationHandler {
+        private final Registry proxy = (Registry) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{Registry.class}, this);
+        private final List<String> updates = Collections.synchronizedList(new ArrayList<String>());
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            RegistryModelType type = (RegistryModelType) args[0];
+            if (name.equals("getIds")) {
+                return Arrays.asList(node.getNodeInstanceId());
+            } else if (name.equals("get") && args.length == 2) {
+                switch (type) {
+                    case EXPERIMENT:
+                        return experiment;
+                    case WORKFLOW_NODE_DETAIL:
+                        return node;
+                    case TASK_DETAIL:
+                        return task;
+                }
+            } else if (name.equals("get") && args.length == 3) {
+                switch (type) {
+                    case EXPERIMENT:
+                        return Arrays.<Object>asList(experiment);
+                    case WORKFLOW_NODE_DETAIL:
+                        return Arrays.<Object>asList(node);
+                    case TASK_DETAIL:
+                        return Arrays.<Object>asList(task);
+                }
+            } else if (name.equals("update")) {
+                String update = type + ":" + args[2];
+                if (args[1] instanceof Experiment) {
+                    update += ":" + ((Experiment) args[1]).getExperimentStatus().getExperimentState();
+                } else if (args[1] instanceof ExperimentStatus) {
+                    update += ":" + ((ExperimentStatus) args[1]).getExperimentState();
+                } else if (args[1] instanceof TaskStatus) {
+                    update += ":" + ((TaskStatus) args[1]).getExecutionState();
+                }
+                updates.add(update);
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Records the launched tasks with the thread launching them.
+     */
+    private static class FakeOrchestrator implements InvocationHandler {
+        private final Orchestrator proxy = (Orchestrator) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{Orchestrator.class}, this);
+        private final List<String> launched = Collections.synchronizedList(new ArrayList<String>());
+        private volatile OrchestratorException failure;
+        private volatile CountDownLatch block;
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("launchExperiment")) {
+                if (block != null) {
+                    block.await(10, TimeUnit.SECONDS);
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                launched.add(Thread.currentThread().getName() + ":" + ((TaskDetails) args[2]).getTaskID());
+                return Boolean.TRUE;
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+}
@@ -47,6 +47,8 @@ public class OrchestratorConfiguration {
 
     private boolean enableValidation;
 
+    private long validationTimeout = 30000;
+
 
     public List<String> getValidatorClasses() {
         return validatorClasses;
@@ -119,4 +121,12 @@ public class OrchestratorConfiguration {
     public void setEnableValidation(boolean enableValidation) {
         this.enableValidation = enableValidation;
     }
+
+    public long getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    public void setValidationTimeout(long validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
 }
@@ -32,6 +32,8 @@ import org.slf4j.LoggerFactory;
 public class GFACInstance {
     private final static Logger logger = LoggerFactory.getLogger(GFACInstance.class);
 
+    private String name;
+
     private String gfacURL;
 
     private int currentLoad;
@@ -44,6 +46,24 @@ public class GFACInstance {
         this.gfacPort = gfacPort;
     }
 
+    public GFACInstance(String name, String gfacURL, int gfacPort, int currentLoad) {
+        this.name = name;
+        this.gfacURL = gfacURL;
+        this.gfacPort = gfacPort;
+        this.currentLoad = currentLoad;
+    }
+
+    /**
+     * @return name of the znode the instance registered under /gfac-server
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
     public String getGfacURL() {
         return gfacURL;
     }
@@ -59,4 +79,12 @@ public class GFACInstance {
     public void setCurrentLoad(int currentLoad) {
         this.currentLoad = currentLoad;
     }
+
+    public int getGfacPort() {
+        return gfacPort;
+    }
+
+    public void setGfacPort(int gfacPort) {
+        this.gfacPort = gfacPort;
+    }
 }
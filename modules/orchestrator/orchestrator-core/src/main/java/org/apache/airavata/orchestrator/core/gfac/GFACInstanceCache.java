@@ -0,0 +1,158 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooKeeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Locally cached view of the live GFac instances and the number of experiments each of them is running. The
+ * instances are the children of the gfac server node and the load of an instance is the number of children of its
+ * node under the gfac experiments node, which GFac removes when an experiment finishes. ZooKeeper watches mark the
+ * membership or the load of a single instance as stale, and only the stale parts are read again on the next
+ * lookup, so a submission does not read ZooKeeper when nothing changed.
+ */
+public class GFACInstanceCache implements Watcher {
+    private final static Logger logger = LoggerFactory.getLogger(GFACInstanceCache.class);
+
+    private final String gfacServerNode;
+    private final String experimentNode;
+
+    private ZooKeeper zk;
+    private Map<String, GFACInstance> instances = Collections.emptyMap();
+    private volatile boolean membershipStale = true;
+    private final Set<String> staleLoads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public GFACInstanceCache(String gfacServerNode, String experimentNode) {
+        this.gfacServerNode = gfacServerNode;
+        this.experimentNode = experimentNode;
+    }
+
+    /**
+     * @param zk current zookeeper connection, when it differs from the one used before everything is read again
+     * @return copies of the live GFac instances with their load
+     */
+    public synchronized List<GFACInstance> getInstances(ZooKeeper zk) throws KeeperException, InterruptedException {
+        if (zk != this.zk || membershipStale) {
+            this.zk = zk;
+            loadInstances();
+        } else if (!staleLoads.isEmpty()) {
+            for (String name : new ArrayList<String>(staleLoads)) {
+                staleLoads.remove(name);
+                GFACInstance instance = instances.get(name);
+                if (instance != null) {
+                    instance.setCurrentLoad(readLoad(name));
+                }
+            }
+        }
+        List<GFACInstance> copies = new ArrayList<GFACInstance>(instances.size());
+        for (GFACInstance instance : instances.values()) {
+            copies.add(new GFACInstance(instance.getName(), instance.getGfacURL(), instance.getGfacPort(), instance.getCurrentLoad()));
+        }
+        return copies;
+    }
+
+    /**
+     * Counts a submission against the instance straight away so following selections see it before the
+     * ZooKeeper watch for the new experiment node fires.
+     */
+    public synchronized void addLoad(String name) {
+        GFACInstance instance = instances.get(name);
+        if (instance != null) {
+            instance.setCurrentLoad(instance.getCurrentLoad() + 1);
+        }
+    }
+
+    /**
+     * Takes back a submission counted by {@link #addLoad(String)} which did not reach the instance.
+     */
+    public synchronized void removeLoad(String name) {
+        GFACInstance instance = instances.get(name);
+        if (instance != null && instance.getCurrentLoad() > 0) {
+            instance.setCurrentLoad(instance.getCurrentLoad() - 1);
+        }
+    }
+
+    public void process(WatchedEvent event) {
+        switch (event.getType()) {
+            case None:
+                if (event.getState() != Event.KeeperState.SyncConnected) {
+                    membershipStale = true;
+                }
+                break;
+            case NodeChildrenChanged:
+            case NodeCreated:
+            case NodeDeleted:
+                String path = event.getPath();
+                if (gfacServerNode.equals(path)) {
+                    membershipStale = true;
+                } else if (path != null && path.startsWith(experimentNode + File.separator)) {
+                    staleLoads.add(path.substring(experimentNode.length() + 1));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void loadInstances() throws KeeperException, InterruptedException {
+        membershipStale = false;
+        staleLoads.clear();
+        Map<String, GFACInstance> loaded = new LinkedHashMap<String, GFACInstance>();
+        for (String name : zk.getChildren(gfacServerNode, this)) {
+            byte[] data;
+            try {
+                data = zk.getData(gfacServerNode + File.separator + name, false, null);
+            } catch (KeeperException.NoNodeException e) {
+                continue; // the instance went away after we listed it
+            }
+            String[] hostPort = new String(data).split(":");
+            loaded.put(name, new GFACInstance(name, hostPort[0], Integer.parseInt(hostPort[1]), readLoad(name)));
+        }
+        instances = loaded;
+        logger.info("Loaded " + loaded.size() + " GFac instances from ZooKeeper");
+    }
+
+    private int readLoad(String name) throws KeeperException, InterruptedException {
+        String path = experimentNode + File.separator + name;
+        if (zk.exists(path, this) == null) {
+            return 0;
+        }
+        try {
+            return zk.getChildren(path, this).size();
+        } catch (KeeperException.NoNodeException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac;
+
+import java.util.List;
+
+/**
+ * This is the interface to implement the logic which decides to which GFac instance a job is submitted when
+ * the orchestrator is running in non-embedded mode. The implementation is picked with the gfac.instance.selector
+ * property.
+ */
+public interface GFACInstanceSelector {
+
+    /**
+     * Picks one of the live GFac instances, implementations must not modify the given list
+     * @param instances live GFac instances with their current load, never empty
+     * @param experimentID experiment the job belongs to
+     * @param gatewayID gateway which submits the job
+     * @return the instance to submit the job to
+     */
+    GFACInstance select(List<GFACInstance> instances, String experimentID, String gatewayID);
+}
@@ -30,13 +30,22 @@ import org.apache.thrift.transport.TTransportException;
 public class GFacClientFactory {
     public static GfacService.Client createGFacClient(String serverHost, int serverPort){
           try {
-              TTransport transport = new TSocket(serverHost, serverPort);
-              transport.open();
-              TProtocol protocol = new TBinaryProtocol(transport);
-              return new GfacService.Client(protocol);
+              return openGFacClient(serverHost, serverPort, 0);
           } catch (TTransportException e) {
               e.printStackTrace();
           }
           return null;
       }
+
+    /**
+     * Opens a new connection to a GFac instance. Unlike {@link #createGFacClient(String, int)} connection failures
+     * are reported to the caller.
+     * @param timeout socket timeout in milliseconds, 0 waits forever
+     */
+    public static GfacService.Client openGFacClient(String serverHost, int serverPort, int timeout) throws TTransportException {
+        TTransport transport = new TSocket(serverHost, serverPort, timeout);
+        transport.open();
+        TProtocol protocol = new TBinaryProtocol(transport);
+        return new GfacService.Client(protocol);
+    }
 }
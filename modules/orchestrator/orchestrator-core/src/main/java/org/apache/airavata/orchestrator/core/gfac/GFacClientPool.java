@@ -0,0 +1,260 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.gfac.cpi.GfacService;
+import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.airavata.orchestrator.core.utils.OrchestratorConstants;
+import org.apache.commons.pool.BaseKeyedPoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericKeyedObjectPool;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps open Thrift connections to the GFac instances so job submissions and cancellations do not pay for a new
+ * TCP connection each time. Connections are pooled per GFac host and port, the number of connections to one
+ * instance is bounded, and idle connections are closed after a while. A connection is health checked with a version
+ * call before it is handed out, so one closed by the other end, e.g. because the GFac instance was restarted, is
+ * replaced before anything is sent on it. Calls are never sent twice, since a job submission or cancellation which
+ * failed while waiting for the reply may already have reached GFac.
+ * A client is used by one thread at a time. Calls should go through {@link #execute}. Callers borrowing a client
+ * themselves must return it with {@link #returnClient} or drop it with {@link #invalidateClient} if a call on it
+ * failed.
+ */
+public class GFacClientPool {
+    private final static Logger logger = LoggerFactory.getLogger(GFacClientPool.class);
+
+    private static GFacClientPool instance;
+
+    private final GenericKeyedObjectPool pool;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong failedValidations = new AtomicLong();
+
+    public static synchronized GFacClientPool getInstance() {
+        if (instance == null) {
+            instance = new GFacClientPool(
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_POOL_MAX_ACTIVE, 20),
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_POOL_MAX_IDLE, 8),
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_POOL_MAX_WAIT, 30000),
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_POOL_IDLE_TIMEOUT, 300000),
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_POOL_EVICTION_INTERVAL, 60000),
+                    getIntSetting(OrchestratorConstants.GFAC_CLIENT_SOCKET_TIMEOUT, 0));
+        }
+        return instance;
+    }
+
+    /**
+     * Closes the shared pool, a later {@link #getInstance()} creates a new one.
+     */
+    public static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * @param maxActivePerHost  maximum number of connections to one GFac instance
+     * @param maxIdlePerHost    maximum number of idle connections kept to one GFac instance
+     * @param maxWait           milliseconds to wait for a connection when all of them are in use
+     * @param idleTimeout       milliseconds after which an idle connection is closed
+     * @param evictionInterval  milliseconds between runs which check and close idle connections
+     * @param socketTimeout     socket timeout of the connections in milliseconds, 0 waits forever
+     */
+    public GFacClientPool(int maxActivePerHost, int maxIdlePerHost, long maxWait, long idleTimeout,
+                          long evictionInterval, int socketTimeout) {
+        pool = new GenericKeyedObjectPool(new GFacClientPoolableFactory(socketTimeout));
+        pool.setMaxActive(maxActivePerHost);
+        pool.setMaxIdle(maxIdlePerHost);
+        pool.setMaxWait(maxWait);
+        pool.setWhenExhaustedAction(GenericKeyedObjectPool.WHEN_EXHAUSTED_BLOCK);
+        pool.setMinEvictableIdleTimeMillis(idleTimeout);
+        pool.setTimeBetweenEvictionRunsMillis(evictionInterval);
+        pool.setTestWhileIdle(true);
+        // a round trip per call, but a broken connection is found before a job submission is written to it
+        pool.setTestOnBorrow(true);
+        pool.setTestOnReturn(false);
+    }
+
+    public GfacService.Client borrowClient(String host, int port) throws OrchestratorException {
+        try {
+            GfacService.Client client = (GfacService.Client) pool.borrowObject(getKey(host, port));
+            borrowed.incrementAndGet();
+            return client;
+        } catch (Exception e) {
+            throw new OrchestratorException("Unable to get a connection to GFac instance " + getKey(host, port), e);
+        }
+    }
+
+    /**
+     * Makes a call on a pooled client to a GFac instance. The client is returned to the pool afterwards, or closed
+     * if the call failed. A failed call is not made again, the caller decides whether that is safe.
+     *
+     * @throws OrchestratorException if no working connection to the instance could be opened
+     * @throws TException            if the call failed
+     */
+    public <T> T execute(String host, int port, ClientCall<T> call) throws OrchestratorException, TException {
+        GfacService.Client client = borrowClient(host, port);
+        boolean failed = true;
+        try {
+            T result = call.call(client);
+            failed = false;
+            return result;
+        } finally {
+            if (failed) {
+                invalidateClient(host, port, client);
+            } else {
+                returnClient(host, port, client);
+            }
+        }
+    }
+
+    public void returnClient(String host, int port, GfacService.Client client) {
+        try {
+            pool.returnObject(getKey(host, port), client);
+        } catch (Exception e) {
+            logger.warn("Error while returning GFac client to the pool", e);
+        }
+    }
+
+    /**
+     * Closes a client which failed and removes it from the pool instead of handing it out again.
+     */
+    public void invalidateClient(String host, int port, GfacService.Client client) {
+        try {
+            pool.invalidateObject(getKey(host, port), client);
+        } catch (Exception e) {
+            logger.warn("Error while invalidating GFac client", e);
+        }
+    }
+
+    /**
+     * Closes all the idle connections to a GFac instance, for example after it left the cluster.
+     */
+    public void clear(String host, int port) {
+        pool.clear(getKey(host, port));
+    }
+
+    public void close() {
+        try {
+            pool.close();
+        } catch (Exception e) {
+            logger.warn("Error while closing GFac client pool", e);
+        }
+    }
+
+    public int getNumActive(String host, int port) {
+        return pool.getNumActive(getKey(host, port));
+    }
+
+    public int getNumIdle(String host, int port) {
+        return pool.getNumIdle(getKey(host, port));
+    }
+
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    public long getDestroyedCount() {
+        return destroyed.get();
+    }
+
+    public long getBorrowedCount() {
+        return borrowed.get();
+    }
+
+    public long getFailedValidationCount() {
+        return failedValidations.get();
+    }
+
+    @Override
+    public String toString() {
+        return "GFac client pool [active=" + pool.getNumActive() + ", idle=" + pool.getNumIdle() +
+                ", created=" + getCreatedCount() + ", destroyed=" + getDestroyedCount() +
+                ", borrowed=" + getBorrowedCount() + ", failedValidations=" + getFailedValidationCount() + "]";
+    }
+
+    private static String getKey(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private static int getIntSetting(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(ServerSettings.getSetting(key, String.valueOf(defaultValue)));
+        } catch (Exception e) {
+            logger.warn("Invalid value for " + key + ", using " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * A call made on a pooled GFac client by {@link #execute}.
+     */
+    public interface ClientCall<T> {
+        T call(GfacService.Client client) throws TException;
+    }
+
+    private class GFacClientPoolableFactory extends BaseKeyedPoolableObjectFactory {
+        private final int socketTimeout;
+
+        private GFacClientPoolableFactory(int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+        }
+
+        @Override
+        public Object makeObject(Object key) throws Exception {
+            String[] hostPort = ((String) key).split(":");
+            GfacService.Client client = GFacClientFactory.openGFacClient(hostPort[0], Integer.parseInt(hostPort[1]), socketTimeout);
+            created.incrementAndGet();
+            logger.debug("Opened new connection to GFac instance " + key);
+            return client;
+        }
+
+        @Override
+        public void destroyObject(Object key, Object obj) throws Exception {
+            ((GfacService.Client) obj).getOutputProtocol().getTransport().close();
+            destroyed.incrementAndGet();
+        }
+
+        @Override
+        public boolean validateObject(Object key, Object obj) {
+            GfacService.Client client = (GfacService.Client) obj;
+            if (!client.getOutputProtocol().getTransport().isOpen()) {
+                failedValidations.incrementAndGet();
+                return false;
+            }
+            try {
+                client.getGFACServiceVersion();
+                return true;
+            } catch (TException e) {
+                logger.info("Closing broken connection to GFac instance " + key);
+                failedValidations.incrementAndGet();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac.impl;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.airavata.orchestrator.core.gfac.GFACInstance;
+import org.apache.airavata.orchestrator.core.gfac.GFACInstanceSelector;
+
+/**
+ * Sends all the jobs of a gateway to the same GFac instance, using a hash ring so that only the gateways of an
+ * instance which joins or leaves are moved to another instance.
+ */
+public class ConsistentHashGFACInstanceSelector implements GFACInstanceSelector {
+    private static final int VIRTUAL_NODES = 100;
+
+    private List<String> ringMembers = Collections.emptyList();
+    private TreeMap<Long, String> ring = new TreeMap<Long, String>();
+
+    public GFACInstance select(List<GFACInstance> instances, String experimentID, String gatewayID) {
+        List<String> names = new ArrayList<String>();
+        for (GFACInstance instance : instances) {
+            names.add(instance.getName());
+        }
+        Collections.sort(names);
+        String key = gatewayID != null ? gatewayID : experimentID;
+        String selectedName = lookup(names, key != null ? key : "");
+        for (GFACInstance instance : instances) {
+            if (instance.getName().equals(selectedName)) {
+                return instance;
+            }
+        }
+        return instances.get(0);
+    }
+
+    private synchronized String lookup(List<String> names, String key) {
+        if (!names.equals(ringMembers)) {
+            TreeMap<Long, String> newRing = new TreeMap<Long, String>();
+            for (String name : names) {
+                for (int i = 0; i < VIRTUAL_NODES; i++) {
+                    newRing.put(hash(name + "#" + i), name);
+                }
+            }
+            ring = newRing;
+            ringMembers = names;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        if (entry == null) {
+            entry = ring.firstEntry();
+        }
+        return entry.getValue();
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes("UTF-8"));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
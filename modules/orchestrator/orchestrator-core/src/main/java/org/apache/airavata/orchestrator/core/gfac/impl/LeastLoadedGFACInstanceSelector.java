@@ -0,0 +1,42 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac.impl;
+
+import java.util.List;
+
+import org.apache.airavata.orchestrator.core.gfac.GFACInstance;
+import org.apache.airavata.orchestrator.core.gfac.GFACInstanceSelector;
+
+/**
+ * Picks the GFac instance which is running the least number of experiments, ties go to the first instance.
+ */
+public class LeastLoadedGFACInstanceSelector implements GFACInstanceSelector {
+
+    public GFACInstance select(List<GFACInstance> instances, String experimentID, String gatewayID) {
+        GFACInstance selected = instances.get(0);
+        for (GFACInstance instance : instances) {
+            if (instance.getCurrentLoad() < selected.getCurrentLoad()) {
+                selected = instance;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac.impl;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.airavata.orchestrator.core.gfac.GFACInstance;
+import org.apache.airavata.orchestrator.core.gfac.GFACInstanceSelector;
+
+/**
+ * Picks two GFac instances at random and submits to the less loaded one. This spreads the load almost as well as
+ * always picking the least loaded instance, but does not send every submission to the same instance while the
+ * load counts the orchestrator sees are out of date.
+ */
+public class PowerOfTwoChoicesGFACInstanceSelector implements GFACInstanceSelector {
+    private final Random random = new Random();
+
+    public GFACInstance select(List<GFACInstance> instances, String experimentID, String gatewayID) {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+        int first;
+        int second;
+        synchronized (random) {
+            first = random.nextInt(size);
+            second = random.nextInt(size - 1);
+        }
+        if (second >= first) {
+            second++;
+        }
+        GFACInstance firstInstance = instances.get(first);
+        GFACInstance secondInstance = instances.get(second);
+        return secondInstance.getCurrentLoad() < firstInstance.getCurrentLoad() ? secondInstance : firstInstance;
+    }
+}
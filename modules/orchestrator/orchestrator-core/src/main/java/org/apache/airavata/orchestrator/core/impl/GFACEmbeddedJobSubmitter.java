@@ -97,4 +97,7 @@ public class GFACEmbeddedJobSubmitter implements JobSubmitter {
     public void setOrchestratorContext(OrchestratorContext orchestratorContext) {
         this.orchestratorContext = orchestratorContext;
     }
+
+    public void shutdown() {
+    }
 }
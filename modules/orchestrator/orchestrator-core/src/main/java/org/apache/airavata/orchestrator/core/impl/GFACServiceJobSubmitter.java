@@ -23,7 +23,6 @@ package org.apache.airavata.orchestrator.core.impl;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
-import java.util.Random;
 
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.AiravataZKUtils;
@@ -34,8 +33,12 @@ import org.apache.airavata.gfac.cpi.GfacService;
 import org.apache.airavata.orchestrator.core.context.OrchestratorContext;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
 import org.apache.airavata.orchestrator.core.gfac.GFACInstance;
-import org.apache.airavata.orchestrator.core.gfac.GFacClientFactory;
+import org.apache.airavata.orchestrator.core.gfac.GFACInstanceCache;
+import org.apache.airavata.orchestrator.core.gfac.GFACInstanceSelector;
+import org.apache.airavata.orchestrator.core.gfac.GFacClientPool;
+import org.apache.airavata.orchestrator.core.gfac.impl.PowerOfTwoChoicesGFACInstanceSelector;
 import org.apache.airavata.orchestrator.core.job.JobSubmitter;
+import org.apache.airavata.orchestrator.core.utils.OrchestratorConstants;
 import org.apache.thrift.TException;
 import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.WatchedEvent;
@@ -57,25 +60,63 @@ public class GFACServiceJobSubmitter implements JobSubmitter, Watcher {
 
 	private OrchestratorContext orchestratorContext;
 
+	private GFACInstanceCache gfacInstanceCache;
+
+	private GFACInstanceSelector gfacInstanceSelector;
+
 	private static Integer mutex = -1;
 
 	public void initialize(OrchestratorContext orchestratorContext) throws OrchestratorException {
 		this.orchestratorContext = orchestratorContext;
+		try {
+			gfacInstanceCache = new GFACInstanceCache(
+					ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_SERVER_NODE, "/gfac-server"),
+					ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, "/gfac-experiments"));
+			String selectorClass = ServerSettings.getSetting(OrchestratorConstants.GFAC_INSTANCE_SELECTOR,
+					PowerOfTwoChoicesGFACInstanceSelector.class.getName());
+			Class<? extends GFACInstanceSelector> aClass = Class.forName(selectorClass.trim()).asSubclass(GFACInstanceSelector.class);
+			gfacInstanceSelector = aClass.newInstance();
+		} catch (Exception e) {
+			throw new OrchestratorException("Error while initializing the GFac instance selector", e);
+		}
 	}
 
 	public GFACInstance selectGFACInstance() throws OrchestratorException {
-		// currently we only support one instance but future we have to pick an
-		// instance
-		return null;
+		ZooKeeper zk = orchestratorContext.getZk();
+		if (zk == null || !zk.getState().isConnected()) {
+			return null;
+		}
+		try {
+			return selectGFACInstance(zk, null, null);
+		} catch (KeeperException e) {
+			throw new OrchestratorException(e);
+		} catch (InterruptedException e) {
+			throw new OrchestratorException(e);
+		}
+	}
+
+	/**
+	 * Picks the GFac instance to route a request to, using the configured selector on the cached view of the
+	 * live instances.
+	 */
+	public GFACInstance selectGFACInstance(ZooKeeper zk, String experimentID, String gatewayID) throws OrchestratorException,
+			KeeperException, InterruptedException {
+		List<GFACInstance> instances = gfacInstanceCache.getInstances(zk);
+		if (instances.isEmpty()) {
+			// Zookeeper data need cleaning
+			throw new OrchestratorException("There is no active GFac instance to route the request");
+		}
+		GFACInstance instance = gfacInstanceSelector.select(instances, experimentID, gatewayID);
+		logger.info("Selected GFAC instance " + instance.getName() + " running " + instance.getCurrentLoad() + " experiments");
+		return instance;
 	}
 
 	public boolean submit(String experimentID, String taskID) throws OrchestratorException {
 		return this.submit(experimentID, taskID, null);
 	}
 
-	public boolean submit(String experimentID, String taskID, String tokenId) throws OrchestratorException {
+	public boolean submit(final String experimentID, final String taskID, String tokenId) throws OrchestratorException {
 		ZooKeeper zk = orchestratorContext.getZk();
-        GfacService.Client gfacClient = null;
 		try {
 			if (zk == null || !zk.getState().isConnected()) {
 				String zkhostPort = AiravataZKUtils.getZKhostPort();
@@ -86,47 +127,51 @@ public class GFACServiceJobSubmitter implements JobSubmitter, Watcher {
 			}
 			String gfacServer = ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_SERVER_NODE, "/gfac-server");
 			String experimentNode = ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, "/gfac-experiments");
-			List<String> children = zk.getChildren(gfacServer, this);
-			
-			if (children.size() == 0) {
-                // Zookeeper data need cleaning
-                throw new OrchestratorException("There is no active GFac instance to route the request");
-            } else {
-				String pickedChild = children.get(new Random().nextInt(Integer.MAX_VALUE) % children.size());
-				// here we are not using an index because the getChildren does not return the same order everytime
-				String gfacNodeData = new String(zk.getData(gfacServer + File.separator + pickedChild, false, null));
-				logger.info("GFAC instance node data: " + gfacNodeData);
-				String[] split = gfacNodeData.split(":");
-				gfacClient = GFacClientFactory.createGFacClient(split[0], Integer.parseInt(split[1]));
-				if (zk.exists(gfacServer + File.separator + pickedChild, false) != null) {
-					// before submitting the job we check again the state of the node
-					if (GFacUtils.createExperimentEntry(experimentID, taskID, zk, experimentNode, pickedChild, tokenId)) {
-						// FIXME:: The GatewayID is temporarily read from properties file. It should instead be inferred from the token.
-						return gfacClient.submitJob(experimentID, taskID, ServerSettings.getDefaultUserGateway());
+			// FIXME:: The GatewayID is temporarily read from properties file. It should instead be inferred from the token.
+			final String gatewayID = ServerSettings.getDefaultUserGateway();
+			GFACInstance gfacInstance = selectGFACInstance(zk, experimentID, gatewayID);
+			String pickedChild = gfacInstance.getName();
+			if (zk.exists(gfacServer + File.separator + pickedChild, false) != null) {
+				// before submitting the job we check again the state of the node
+				if (GFacUtils.createExperimentEntry(experimentID, taskID, zk, experimentNode, pickedChild, tokenId)) {
+					gfacInstanceCache.addLoad(pickedChild);
+					boolean submitted = false;
+					try {
+						submitted = GFacClientPool.getInstance().execute(gfacInstance.getGfacURL(), gfacInstance.getGfacPort(),
+								new GFacClientPool.ClientCall<Boolean>() {
+									public Boolean call(GfacService.Client client) throws TException {
+										return client.submitJob(experimentID, taskID, gatewayID);
+									}
+								});
+						return submitted;
+					} finally {
+						if (!submitted) {
+							gfacInstanceCache.removeLoad(pickedChild);
+						}
 					}
 				}
 			}
 		} catch (TException e) {
 			throw new OrchestratorException(e);
+		} catch (OrchestratorException e) {
+			// no GFac instance to route to, or no connection to the picked one
+			throw e;
 		} catch (InterruptedException e) {
-			e.printStackTrace();
+			logger.error("Interrupted while submitting experiment " + experimentID, e);
 		} catch (KeeperException e) {
-			e.printStackTrace();
+			logger.error("Error while submitting experiment " + experimentID, e);
 		} catch (ApplicationSettingsException e) {
-			e.printStackTrace();
+			logger.error("Error while submitting experiment " + experimentID, e);
 		} catch (IOException e) {
-			e.printStackTrace();
+			logger.error("Error while submitting experiment " + experimentID, e);
 		} catch (Exception e) {
-			e.printStackTrace();
-		}finally {
-            gfacClient.getOutputProtocol().getTransport().close();
-        }
+			logger.error("Error while submitting experiment " + experimentID, e);
+		}
         return false;
 	}
 
-    public boolean terminate(String experimentID, String taskID) throws OrchestratorException {
+    public boolean terminate(final String experimentID, final String taskID) throws OrchestratorException {
         ZooKeeper zk = orchestratorContext.getZk();
-        GfacService.Client localhost = null;
         try {
             if (zk == null || !zk.getState().isConnected()) {
                 String zkhostPort = AiravataZKUtils.getZKhostPort();
@@ -137,43 +182,44 @@ public class GFACServiceJobSubmitter implements JobSubmitter, Watcher {
             }
             String gfacServer = ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_SERVER_NODE, "/gfac-server");
             String experimentNode = ServerSettings.getSetting(Constants.ZOOKEEPER_GFAC_EXPERIMENT_NODE, "/gfac-experiments");
-            List<String> children = zk.getChildren(gfacServer, this);
-
-            if (children.size() == 0) {
-                // Zookeeper data need cleaning
-                throw new OrchestratorException("There is no active GFac instance to route the request");
-            } else {
-                String pickedChild = children.get(new Random().nextInt(Integer.MAX_VALUE) % children.size());
-                // here we are not using an index because the getChildren does not return the same order everytime
-                String gfacNodeData = new String(zk.getData(gfacServer + File.separator + pickedChild, false, null));
-                logger.info("GFAC instance node data: " + gfacNodeData);
-                String[] split = gfacNodeData.split(":");
-                localhost = GFacClientFactory.createGFacClient(split[0], Integer.parseInt(split[1]));
-                if (zk.exists(gfacServer + File.separator + pickedChild, false) != null) {
-                    // before submitting the job we check again the state of the node
-                    if (GFacUtils.createExperimentEntry(experimentID, taskID, zk, experimentNode, pickedChild, null)) {
-                        return localhost.cancelJob(experimentID, taskID);
-                    }
+            GFACInstance gfacInstance = selectGFACInstance(zk, experimentID, ServerSettings.getDefaultUserGateway());
+            String pickedChild = gfacInstance.getName();
+            if (zk.exists(gfacServer + File.separator + pickedChild, false) != null) {
+                // before submitting the job we check again the state of the node
+                if (GFacUtils.createExperimentEntry(experimentID, taskID, zk, experimentNode, pickedChild, null)) {
+                    return GFacClientPool.getInstance().execute(gfacInstance.getGfacURL(), gfacInstance.getGfacPort(),
+                            new GFacClientPool.ClientCall<Boolean>() {
+                                public Boolean call(GfacService.Client client) throws TException {
+                                    return client.cancelJob(experimentID, taskID);
+                                }
+                            });
                 }
             }
         } catch (TException e) {
             throw new OrchestratorException(e);
+        } catch (OrchestratorException e) {
+            throw e;
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            logger.error("Interrupted while cancelling experiment " + experimentID, e);
         } catch (KeeperException e) {
-            e.printStackTrace();
+            logger.error("Error while cancelling experiment " + experimentID, e);
         } catch (ApplicationSettingsException e) {
-            e.printStackTrace();
+            logger.error("Error while cancelling experiment " + experimentID, e);
         } catch (IOException e) {
-            e.printStackTrace();
+            logger.error("Error while cancelling experiment " + experimentID, e);
         } catch (Exception e) {
-            e.printStackTrace();
-        }finally {
-
+            logger.error("Error while cancelling experiment " + experimentID, e);
         }
         return false;
     }
 
+    /**
+     * Closes the connections kept open to the GFac instances.
+     */
+    public void shutdown() {
+        GFacClientPool.closeInstance();
+    }
+
     synchronized public void process(WatchedEvent event) {
 		synchronized (mutex) {
 			switch (event.getState()) {
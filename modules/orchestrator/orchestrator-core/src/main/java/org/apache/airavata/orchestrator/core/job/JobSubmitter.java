@@ -72,4 +72,9 @@ public interface JobSubmitter {
      * @throws OrchestratorException
      */
     boolean terminate(String experimentID,String taskID)throws OrchestratorException;
+
+    /**
+     * Releases the resources of the submitter, called when the orchestrator stops
+     */
+    void shutdown();
 }
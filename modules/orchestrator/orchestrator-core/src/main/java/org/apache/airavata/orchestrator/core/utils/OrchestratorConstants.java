@@ -35,4 +35,12 @@ public class OrchestratorConstants {
     public static final String EMBEDDED_MODE = "embedded.mode";
     public static final String ENABLE_VALIDATION = "enable.validation";
     public static final String JOB_VALIDATOR = "job.validators";
+    public static final String VALIDATION_TIMEOUT = "validation.timeout";
+    public static final String GFAC_INSTANCE_SELECTOR = "gfac.instance.selector";
+    public static final String GFAC_CLIENT_POOL_MAX_ACTIVE = "gfac.client.pool.max.active";
+    public static final String GFAC_CLIENT_POOL_MAX_IDLE = "gfac.client.pool.max.idle";
+    public static final String GFAC_CLIENT_POOL_MAX_WAIT = "gfac.client.pool.max.wait";
+    public static final String GFAC_CLIENT_POOL_IDLE_TIMEOUT = "gfac.client.pool.idle.timeout";
+    public static final String GFAC_CLIENT_POOL_EVICTION_INTERVAL = "gfac.client.pool.eviction.interval";
+    public static final String GFAC_CLIENT_SOCKET_TIMEOUT = "gfac.client.socket.timeout";
 }
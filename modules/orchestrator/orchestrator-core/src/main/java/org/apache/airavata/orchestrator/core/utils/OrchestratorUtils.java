@@ -53,6 +53,7 @@ public class OrchestratorUtils {
         orchestratorConfiguration.setEnableValidation(Boolean.valueOf(ServerSettings.getSetting(OrchestratorConstants.ENABLE_VALIDATION)));
         if (orchestratorConfiguration.isEnableValidation()) {
             orchestratorConfiguration.setValidatorClasses(Arrays.asList(ServerSettings.getSetting(OrchestratorConstants.JOB_VALIDATOR).split(",")));
+            orchestratorConfiguration.setValidationTimeout(Long.parseLong(ServerSettings.getSetting(OrchestratorConstants.VALIDATION_TIMEOUT, "30000")));
         }
         return orchestratorConfiguration;
     }
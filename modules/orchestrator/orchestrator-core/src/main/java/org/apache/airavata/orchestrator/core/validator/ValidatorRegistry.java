@@ -0,0 +1,223 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.validator;
+
+import org.apache.airavata.model.error.ValidationResults;
+import org.apache.airavata.model.error.ValidatorResult;
+import org.apache.airavata.model.workspace.experiment.Experiment;
+import org.apache.airavata.model.workspace.experiment.TaskDetails;
+import org.apache.airavata.model.workspace.experiment.WorkflowNodeDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one instance of every configured {@link JobMetadataValidator} and runs them against an experiment.
+ * Validators do not depend on each other, so they are run concurrently and the whole validation takes as long as
+ * the slowest validator, bounded by a deadline. A validator which does not finish before the deadline fails the
+ * validation. Implementations must therefore be thread safe.
+ */
+public class ValidatorRegistry {
+    private final static Logger logger = LoggerFactory.getLogger(ValidatorRegistry.class);
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final Map<String, JobMetadataValidator> validators = new LinkedHashMap<String, JobMetadataValidator>();
+    private final Map<String, String> loadErrors = new LinkedHashMap<String, String>();
+    private final Map<String, ValidatorStatistics> statistics = new LinkedHashMap<String, ValidatorStatistics>();
+    private final long timeout;
+    private final ExecutorService executor;
+
+    /**
+     * @param validatorClasses fully qualified names of the validator classes, in the order results are reported
+     * @param timeout          time in milliseconds all validators together are allowed to take
+     */
+    public ValidatorRegistry(List<String> validatorClasses, long timeout) {
+        this.timeout = timeout;
+        if (validatorClasses != null) {
+            for (String validator : validatorClasses) {
+                String className = validator.trim();
+                if (className.isEmpty()) {
+                    continue;
+                }
+                statistics.put(className, new ValidatorStatistics());
+                try {
+                    Class<? extends JobMetadataValidator> vClass = Class.forName(className).asSubclass(JobMetadataValidator.class);
+                    validators.put(className, vClass.newInstance());
+                } catch (Exception e) {
+                    // reported as a failed validation on every experiment, as when the class was loaded per experiment
+                    logger.error("Error loading the validation class: " + className, e);
+                    loadErrors.put(className, "Error loading the validation class: " + e.getMessage());
+                }
+            }
+        }
+        this.executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "orchestrator-validator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Runs all validators and collects their results in configuration order. The validation state of the returned
+     * results is false if at least one validator failed, could not be loaded or did not finish in time.
+     */
+    public ValidationResults validate(final Experiment experiment, final WorkflowNodeDetails workflowNodeDetail,
+                                      final TaskDetails taskDetails) {
+        ValidationResults validationResults = new ValidationResults();
+        validationResults.setValidationState(true);
+        Map<String, Future<ValidatorResult>> futures = new LinkedHashMap<String, Future<ValidatorResult>>();
+        for (final Map.Entry<String, JobMetadataValidator> entry : validators.entrySet()) {
+            futures.put(entry.getKey(), executor.submit(new Callable<ValidatorResult>() {
+                public ValidatorResult call() throws Exception {
+                    long startTime = System.currentTimeMillis();
+                    try {
+                        return entry.getValue().validate(experiment, workflowNodeDetail, taskDetails);
+                    } finally {
+                        statistics.get(entry.getKey()).record(System.currentTimeMillis() - startTime);
+                    }
+                }
+            }));
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        for (String className : statistics.keySet()) {
+            ValidatorResult vResult;
+            if (loadErrors.containsKey(className)) {
+                vResult = failure(loadErrors.get(className));
+            } else {
+                vResult = getResult(className, futures.get(className), deadline);
+            }
+            if (vResult.isResult()) {
+                logger.info("Validation of " + className + " is SUCCESSFUL");
+            } else {
+                logger.error("Validation of " + className + " is FAILED:[error]" + vResult.getErrorDetails());
+                statistics.get(className).recordFailure();
+                // we do not return immediately after the first failure
+                validationResults.setValidationState(false);
+            }
+            validationResults.addToValidationResultList(vResult);
+        }
+        return validationResults;
+    }
+
+    private ValidatorResult getResult(String className, Future<ValidatorResult> future, long deadline) {
+        try {
+            ValidatorResult vResult = future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            return vResult != null ? vResult : failure("Validator " + className + " did not return a result");
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return failure("Validator " + className + " did not complete within " + timeout + " ms");
+        } catch (ExecutionException e) {
+            logger.error("Error running the validation class: " + className, e.getCause());
+            return failure("Error running the validation class: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return failure("Validation was interrupted");
+        }
+    }
+
+    private static ValidatorResult failure(String error) {
+        ValidatorResult vResult = new ValidatorResult();
+        vResult.setResult(false);
+        vResult.setErrorDetails(error);
+        return vResult;
+    }
+
+    public JobMetadataValidator getValidator(String className) {
+        return validators.get(className);
+    }
+
+    /**
+     * @return timing statistics of each configured validator, keyed by class name
+     */
+    public Map<String, ValidatorStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public List<String> getValidatorClasses() {
+        return new ArrayList<String>(statistics.keySet());
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static class ValidatorStatistics {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        private void record(long time) {
+            count.incrementAndGet();
+            totalTime.addAndGet(time);
+            long max = maxTime.get();
+            while (time > max && !maxTime.compareAndSet(max, time)) {
+                max = maxTime.get();
+            }
+        }
+
+        private void recordFailure() {
+            failures.incrementAndGet();
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        public long getAverageTime() {
+            long invocations = count.get();
+            return invocations == 0 ? 0 : totalTime.get() / invocations;
+        }
+
+        public long getMaxTime() {
+            return maxTime.get();
+        }
+
+        @Override
+        public String toString() {
+            return "[count=" + getCount() + ", failures=" + getFailureCount() + ", avg=" + getAverageTime() +
+                    " ms, max=" + getMaxTime() + " ms]";
+        }
+    }
+}
@@ -22,12 +22,11 @@ package org.apache.airavata.orchestrator.cpi.impl;
 
 import org.apache.airavata.model.error.LaunchValidationException;
 import org.apache.airavata.model.error.ValidationResults;
-import org.apache.airavata.model.error.ValidatorResult;
 import org.apache.airavata.model.util.ExperimentModelUtil;
 import org.apache.airavata.model.workspace.experiment.*;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
 import org.apache.airavata.orchestrator.core.job.JobSubmitter;
-import org.apache.airavata.orchestrator.core.validator.JobMetadataValidator;
+import org.apache.airavata.orchestrator.core.validator.ValidatorRegistry;
 import org.apache.airavata.registry.cpi.ChildDataType;
 import org.apache.airavata.registry.cpi.Registry;
 import org.apache.airavata.registry.cpi.RegistryModelType;
@@ -45,6 +44,8 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
     // this is going to be null unless the thread count is 0
     private JobSubmitter jobSubmitter = null;
 
+    private ValidatorRegistry validatorRegistry;
+
 
     public SimpleOrchestratorImpl() throws OrchestratorException {
         try {
@@ -111,42 +112,8 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
         org.apache.airavata.model.error.ValidationResults validationResults = new org.apache.airavata.model.error.ValidationResults();
         validationResults.setValidationState(true); // initially making it to success, if atleast one failed them simply mark it failed.
         if (this.orchestratorConfiguration.isEnableValidation()) {
-            List<String> validatorClzzez = this.orchestratorContext.getOrchestratorConfiguration().getValidatorClasses();
-            ValidatorResult vResult = null;
-            for (String validator : validatorClzzez) {
-                try {
-                    Class<? extends JobMetadataValidator> vClass = Class.forName(validator.trim()).asSubclass(JobMetadataValidator.class);
-                    JobMetadataValidator jobMetadataValidator = vClass.newInstance();
-                    vResult = jobMetadataValidator.validate(experiment, workflowNodeDetail, taskID);
-                    if (vResult.isResult()) {
-                        logger.info("Validation of " + validator + " is SUCCESSFUL");
-                    } else {
-                        logger.error("Validation of " + validator + " is FAILED:[error]" + vResult.getErrorDetails());
-                        //todo we need to store this message to registry
-                        validationResults.setValidationState(false);
-                        // we do not return immediately after the first failure
-                    }
-                } catch (ClassNotFoundException e) {
-                    logger.error("Error loading the validation class: ", validator, e);
-                    vResult = new ValidatorResult();
-                    vResult.setResult(false);
-                    vResult.setErrorDetails("Error loading the validation class: " + e.getMessage());
-                    validationResults.setValidationState(false);
-                } catch (InstantiationException e) {
-                    logger.error("Error loading the validation class: ", validator, e);
-                    vResult = new ValidatorResult();
-                    vResult.setResult(false);
-                    vResult.setErrorDetails("Error loading the validation class: " + e.getMessage());
-                    validationResults.setValidationState(false);
-                } catch (IllegalAccessException e) {
-                    logger.error("Error loading the validation class: ", validator, e);
-                    vResult = new ValidatorResult();
-                    vResult.setResult(false);
-                    vResult.setErrorDetails("Error loading the validation class: " + e.getMessage());
-                    validationResults.setValidationState(false);
-                }
-                validationResults.addToValidationResultList(vResult);
-            }
+            validationResults = getValidatorRegistry().validate(experiment, workflowNodeDetail, taskID);
+            logger.debug("Validator statistics: " + validatorRegistry.getStatistics());
         }
         if(validationResults.isValidationState()){
             return validationResults;
@@ -182,6 +149,17 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
         this.executor = executor;
     }
 
+    /**
+     * Validators are loaded once, on the first validation, and reused for every experiment afterwards.
+     */
+    public synchronized ValidatorRegistry getValidatorRegistry() {
+        if (validatorRegistry == null) {
+            validatorRegistry = new ValidatorRegistry(orchestratorConfiguration.getValidatorClasses(),
+                    orchestratorConfiguration.getValidationTimeout());
+        }
+        return validatorRegistry;
+    }
+
     public JobSubmitter getJobSubmitter() {
         return jobSubmitter;
     }
@@ -194,4 +172,21 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
 
     }
 
+    /**
+     * Stops the launch executor and the validators and releases the connections of the job submitter.
+     */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        synchronized (this) {
+            if (validatorRegistry != null) {
+                validatorRegistry.shutdown();
+            }
+        }
+        if (jobSubmitter != null) {
+            jobSubmitter.shutdown();
+        }
+    }
+
 }
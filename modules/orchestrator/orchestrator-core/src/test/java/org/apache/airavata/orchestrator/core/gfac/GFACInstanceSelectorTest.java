@@ -0,0 +1,82 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.airavata.orchestrator.core.gfac.impl.ConsistentHashGFACInstanceSelector;
+import org.apache.airavata.orchestrator.core.gfac.impl.LeastLoadedGFACInstanceSelector;
+import org.apache.airavata.orchestrator.core.gfac.impl.PowerOfTwoChoicesGFACInstanceSelector;
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+public class GFACInstanceSelectorTest {
+
+    private List<GFACInstance> createInstances(int... loads) {
+        List<GFACInstance> instances = new ArrayList<GFACInstance>();
+        for (int i = 0; i < loads.length; i++) {
+            instances.add(new GFACInstance("gfac-node" + i, "localhost", 8950 + i, loads[i]));
+        }
+        return instances;
+    }
+
+    @Test
+    public void testLeastLoaded() {
+        GFACInstanceSelector selector = new LeastLoadedGFACInstanceSelector();
+        Assert.assertEquals("gfac-node2", selector.select(createInstances(5, 3, 1, 4), "exp", "default").getName());
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesNeverPicksMostLoaded() {
+        GFACInstanceSelector selector = new PowerOfTwoChoicesGFACInstanceSelector();
+        List<GFACInstance> instances = createInstances(100, 0, 0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertFalse("gfac-node0".equals(selector.select(instances, "exp" + i, "default").getName()));
+        }
+        Assert.assertEquals("gfac-node0", selector.select(createInstances(7), "exp", "default").getName());
+    }
+
+    @Test
+    public void testConsistentHashKeepsGatewayOnInstance() {
+        GFACInstanceSelector selector = new ConsistentHashGFACInstanceSelector();
+        List<GFACInstance> instances = createInstances(0, 0, 0, 0);
+        String selected = selector.select(instances, "exp1", "gateway1").getName();
+        Assert.assertEquals(selected, selector.select(instances, "exp2", "gateway1").getName());
+
+        Set<String> used = new HashSet<String>();
+        for (int i = 0; i < 100; i++) {
+            used.add(selector.select(instances, "exp", "gateway" + i).getName());
+        }
+        Assert.assertTrue(used.size() > 1);
+
+        // removing another instance does not move the gateway
+        List<GFACInstance> remaining = new ArrayList<GFACInstance>();
+        for (GFACInstance instance : instances) {
+            if (instance.getName().equals(selected) || remaining.size() < 2) {
+                remaining.add(instance);
+            }
+        }
+        Assert.assertEquals(selected, selector.select(remaining, "exp3", "gateway1").getName());
+    }
+}
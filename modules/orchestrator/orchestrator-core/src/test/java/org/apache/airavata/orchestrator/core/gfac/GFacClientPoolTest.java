@@ -0,0 +1,200 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.gfac;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.airavata.gfac.cpi.GfacService;
+import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
+import org.apache.thrift.TException;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class GFacClientPoolTest {
+
+    private GFacServer server;
+    private GFacClientPool pool;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        server = new GFacServer();
+        pool = new GFacClientPool(2, 2, 5000, 300000, 300000, 5000);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        pool.close();
+        server.stop();
+    }
+
+    @Test
+    public void testCallsReuseTheIdleConnection() throws Exception {
+        Assert.assertEquals("0.1", pool.execute("localhost", server.port, version()));
+        Assert.assertTrue(pool.execute("localhost", server.port, submit("exp1")));
+        Assert.assertEquals(1, pool.getCreatedCount());
+        Assert.assertEquals(1, pool.getNumIdle("localhost", server.port));
+        Assert.assertEquals(0, pool.getFailedValidationCount());
+        Assert.assertEquals(1, server.submitted.get());
+    }
+
+    @Test
+    public void testStaleConnectionIsReplacedBeforeTheCall() throws Exception {
+        Assert.assertEquals("0.1", pool.execute("localhost", server.port, version()));
+        Assert.assertEquals(1, pool.getNumIdle("localhost", server.port));
+
+        // a restarted GFac instance drops the connections the pool still holds
+        server.dropConnections();
+        Assert.assertTrue(pool.execute("localhost", server.port, submit("exp1")));
+
+        Assert.assertEquals(1, pool.getFailedValidationCount());
+        Assert.assertEquals(2, pool.getCreatedCount());
+        Assert.assertEquals(1, pool.getDestroyedCount());
+        Assert.assertEquals(1, pool.getNumIdle("localhost", server.port));
+        Assert.assertEquals(0, pool.getNumActive("localhost", server.port));
+        Assert.assertEquals(1, server.submitted.get());
+    }
+
+    @Test
+    public void testNoConnectionWhenTheInstanceIsDown() throws Exception {
+        Assert.assertEquals("0.1", pool.execute("localhost", server.port, version()));
+        server.stop();
+        try {
+            pool.execute("localhost", server.port, submit("exp1"));
+            Assert.fail("GFac instance is down");
+        } catch (OrchestratorException e) {
+            // the idle connection fails the check and a new one cannot be opened
+        }
+        Assert.assertEquals(1, pool.getFailedValidationCount());
+        Assert.assertEquals(0, pool.getNumActive("localhost", server.port));
+        Assert.assertEquals(0, pool.getNumIdle("localhost", server.port));
+        Assert.assertEquals(0, server.submitted.get());
+    }
+
+    @Test
+    public void testFailedSubmissionIsNotSentAgain() throws Exception {
+        // the connection breaks after GFac took the job but before it replied
+        server.dropOnSubmit = true;
+        try {
+            pool.execute("localhost", server.port, submit("exp1"));
+            Assert.fail("the connection broke during the call");
+        } catch (TTransportException e) {
+            // the caller decides what to do
+        }
+        Assert.assertEquals(1, server.submitted.get());
+        Assert.assertEquals(0, pool.getNumActive("localhost", server.port));
+        Assert.assertEquals(0, pool.getNumIdle("localhost", server.port));
+    }
+
+    private static GFacClientPool.ClientCall<String> version() {
+        return new GFacClientPool.ClientCall<String>() {
+            public String call(GfacService.Client client) throws TException {
+                return client.getGFACServiceVersion();
+            }
+        };
+    }
+
+    private static GFacClientPool.ClientCall<Boolean> submit(final String experimentId) {
+        return new GFacClientPool.ClientCall<Boolean>() {
+            public Boolean call(GfacService.Client client) throws TException {
+                return client.submitJob(experimentId, "task1", "default");
+            }
+        };
+    }
+
+    /**
+     * A GFac service on a local port, which can drop the connections it accepted as a restart would.
+     */
+    private static class GFacServer implements GfacService.Iface {
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final List<TSocket> accepted = new ArrayList<TSocket>();
+        private final int port;
+        private final TServer server;
+        private volatile boolean dropOnSubmit;
+
+        private GFacServer() throws Exception {
+            ServerSocket serverSocket = new ServerSocket(0);
+            port = serverSocket.getLocalPort();
+            TServerSocket transport = new TServerSocket(serverSocket) {
+                @Override
+                protected TSocket acceptImpl() throws TTransportException {
+                    TSocket socket = super.acceptImpl();
+                    synchronized (accepted) {
+                        accepted.add(socket);
+                    }
+                    return socket;
+                }
+            };
+            server = new TThreadPoolServer(new TThreadPoolServer.Args(transport)
+                    .processor(new GfacService.Processor<GfacService.Iface>(this)));
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    server.serve();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!server.isServing() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private void dropConnections() {
+            synchronized (accepted) {
+                for (TSocket socket : accepted) {
+                    socket.close();
+                }
+                accepted.clear();
+            }
+        }
+
+        private void stop() {
+            server.stop();
+            dropConnections();
+        }
+
+        public String getGFACServiceVersion() {
+            return "0.1";
+        }
+
+        public boolean submitJob(String experimentId, String taskId, String gatewayId) {
+            submitted.incrementAndGet();
+            if (dropOnSubmit) {
+                dropConnections();
+            }
+            return true;
+        }
+
+        public boolean cancelJob(String experimentId, String taskId) {
+            return true;
+        }
+    }
+}
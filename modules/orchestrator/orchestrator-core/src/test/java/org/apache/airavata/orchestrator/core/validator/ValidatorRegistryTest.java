@@ -0,0 +1,105 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.orchestrator.core.validator;
+
+import java.util.Arrays;
+
+import org.apache.airavata.model.error.ValidationResults;
+import org.apache.airavata.model.error.ValidatorResult;
+import org.apache.airavata.model.workspace.experiment.Experiment;
+import org.apache.airavata.model.workspace.experiment.TaskDetails;
+import org.apache.airavata.model.workspace.experiment.WorkflowNodeDetails;
+import org.apache.airavata.orchestrator.core.util.SecondValidator;
+import org.apache.airavata.orchestrator.core.util.TestValidator;
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+public class ValidatorRegistryTest {
+
+    public static class SlowValidator implements JobMetadataValidator {
+        public ValidatorResult validate(Experiment experiment, WorkflowNodeDetails workflowNodeDetail, TaskDetails taskID) {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ValidatorResult(true);
+        }
+    }
+
+    private Experiment createExperiment() {
+        Experiment experiment = new Experiment();
+        experiment.setExperimentID("exp1");
+        experiment.setProjectID("project1");
+        return experiment;
+    }
+
+    private TaskDetails createTask() {
+        TaskDetails task = new TaskDetails();
+        task.setTaskID("task1");
+        return task;
+    }
+
+    @Test
+    public void testValidatorsAreReused() {
+        ValidatorRegistry registry = new ValidatorRegistry(Arrays.asList(TestValidator.class.getName(),
+                " " + SecondValidator.class.getName()), 10000);
+        JobMetadataValidator validator = registry.getValidator(TestValidator.class.getName());
+        Assert.assertNotNull(validator);
+
+        for (int i = 0; i < 3; i++) {
+            ValidationResults results = registry.validate(createExperiment(), null, createTask());
+            Assert.assertTrue(results.isValidationState());
+            Assert.assertEquals(2, results.getValidationResultListSize());
+        }
+        Assert.assertSame(validator, registry.getValidator(TestValidator.class.getName()));
+        Assert.assertEquals(3, registry.getStatistics().get(TestValidator.class.getName()).getCount());
+        registry.shutdown();
+    }
+
+    @Test
+    public void testFailuresAreReportedInOrder() {
+        ValidatorRegistry registry = new ValidatorRegistry(Arrays.asList("org.apache.airavata.NoSuchValidator",
+                TestValidator.class.getName()), 10000);
+        Experiment experiment = createExperiment();
+        experiment.setProjectID(null);
+        ValidationResults results = registry.validate(experiment, null, createTask());
+        Assert.assertFalse(results.isValidationState());
+        Assert.assertEquals(2, results.getValidationResultListSize());
+        Assert.assertTrue(results.getValidationResultList().get(0).getErrorDetails().startsWith("Error loading"));
+        Assert.assertEquals("Project ID is not set", results.getValidationResultList().get(1).getErrorDetails());
+        Assert.assertEquals(1, registry.getStatistics().get(TestValidator.class.getName()).getFailureCount());
+        registry.shutdown();
+    }
+
+    @Test
+    public void testSlowValidatorFailsAfterDeadline() {
+        ValidatorRegistry registry = new ValidatorRegistry(Arrays.asList(SlowValidator.class.getName(),
+                TestValidator.class.getName()), 200);
+        long startTime = System.currentTimeMillis();
+        ValidationResults results = registry.validate(createExperiment(), null, createTask());
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 5000);
+        Assert.assertFalse(results.isValidationState());
+        Assert.assertFalse(results.getValidationResultList().get(0).isResult());
+        Assert.assertTrue(results.getValidationResultList().get(1).isResult());
+        registry.shutdown();
+    }
+}
@@ -28,6 +28,16 @@ namespace java org.apache.airavata.orchestrator.cpi
 
 const string ORCHESTRATOR_CPI_VERSION = "0.13.0"
 
+/**
+ * This exception is thrown when the launch queue of the orchestrator is full. The launch was not
+ * accepted and can be retried later.
+ *
+ *  message: contains the number of launches waiting in the queue.
+ */
+exception OrchestratorBusyException {
+  1: required string message
+}
+
 service OrchestratorService {
 
   /** Query orchestrator server to fetch the CPI version */
@@ -38,23 +48,34 @@ service OrchestratorService {
      * experimentID as the handler to the experiment, during the launchExperiment
      * We just have to give the experimentID
      *
+     * The experiment is queued and launched asynchronously, the call returns as soon as
+     * the launch is accepted. Failures during the launch are reported by setting the
+     * experiment status to FAILED.
+     *
      * @param experimentID
-     * @return sucess/failure
+     * @return true when the launch was accepted
+     * @throws OrchestratorBusyException when the launch queue is full
      *
     **/
-  bool launchExperiment (1: required string experimentId),
+  bool launchExperiment (1: required string experimentId)
+  throws (1: OrchestratorBusyException obe),
 
     /**
      * In order to run single applications users should create an associating 
      * WorkflowNodeDetails and a TaskDetails for it and hand it over for execution
      * along with a credential store token for authentication
      *
+     * The task is queued like an experiment, but the call waits for the launch to
+     * finish, so failures are returned to the caller.
+     *
      * @param taskId
      * @param airavataCredStoreToken
-     * @return sucess/failure
+     * @return true when the task was launched
+     * @throws OrchestratorBusyException when the launch queue is full
      *
     **/
-  bool launchTask (1: required string taskId, 2: required string airavataCredStoreToken),
+  bool launchTask (1: required string taskId, 2: required string airavataCredStoreToken)
+  throws (1: OrchestratorBusyException obe),
 
     /**
      *
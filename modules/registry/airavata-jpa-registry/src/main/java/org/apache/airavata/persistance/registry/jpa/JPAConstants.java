@@ -29,4 +29,8 @@ public class JPAConstants {
 	public static final String KEY_DERBY_START_ENABLE = "start.derby.server.mode";
     public static final String VALIDATION_QUERY = "validationQuery";
     public static final String JPA_CACHE_SIZE = "jpa.cache.size";
+    public static final String JPA_QUERY_COMPILATION_CACHE_SIZE = "jpa.query.compilation.cache.size";
+    public static final String JPA_JDBC_BATCH_LIMIT = "jpa.jdbc.batch.limit";
+    public static final String REGISTRY_STATUS_CACHE_SIZE = "registry.status.cache.size";
+    public static final String REGISTRY_STATUS_CACHE_TTL = "registry.status.cache.ttl";
 }
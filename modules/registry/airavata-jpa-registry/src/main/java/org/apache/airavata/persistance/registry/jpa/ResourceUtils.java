@@ -23,6 +23,7 @@ package org.apache.airavata.persistance.registry.jpa;
 import org.apache.airavata.persistance.registry.jpa.model.*;
 import org.apache.airavata.persistance.registry.jpa.resources.*;
 import org.apache.airavata.persistance.registry.jpa.utils.QueryGenerator;
+import org.apache.airavata.persistance.registry.jpa.utils.UnitOfWork;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,12 +41,21 @@ public class ResourceUtils {
     private final static Logger logger = LoggerFactory.getLogger(ResourceUtils.class);
     private static final String PERSISTENCE_UNIT_NAME = "airavata_data";
     protected static EntityManagerFactory factory;
+    private static final ThreadLocal<UnitOfWork> unitOfWork = new ThreadLocal<UnitOfWork>();
 
     public static void reset(){
     	factory=null;
     }
     
     public static EntityManager getEntityManager(){
+        UnitOfWork current = unitOfWork.get();
+        if (current != null) {
+            return current.getEntityManager();
+        }
+        return createEntityManager();
+    }
+
+    private static EntityManager createEntityManager(){
         if (factory == null) {
             String connectionProperties = "DriverClassName=" + Utils.getJDBCDriver() + "," + "Url=" + Utils.getJDBCURL() + "?autoReconnect=true,," +
                     "Username=" + Utils.getJDBCUser() + "," + "Password=" + Utils.getJDBCPassword() + ",validationQuery=" +
@@ -58,9 +68,11 @@ public class ResourceUtils {
             properties.put("openjpa.RuntimeUnenhancedClasses", "unsupported");
             properties.put("openjpa.DataCache","true(CacheSize=" + Utils.getJPACacheSize() + ", SoftReferenceSize=0)");
             properties.put("openjpa.QueryCache","true(CacheSize=" + Utils.getJPACacheSize() + ", SoftReferenceSize=0)");
+            properties.put("openjpa.QueryCompilationCache","true(CacheSize=" + Utils.getJPAQueryCompilationCacheSize() + ", SoftReferenceSize=0)");
             properties.put("openjpa.RemoteCommitProvider","sjvm");
             properties.put("openjpa.Log","DefaultLevel=INFO, Runtime=INFO, Tool=INFO, SQL=INFO");
-            properties.put("openjpa.jdbc.DBDictionary","SupportsMultipleNontransactionalResultSets=false");
+            properties.put("openjpa.jdbc.DBDictionary","SupportsMultipleNontransactionalResultSets=false, BatchLimit=" + Utils.getJDBCBatchLimit());
+            properties.put("openjpa.jdbc.UpdateManager", "batching-operation-order");
 //            properties.put("openjpa.ReadLockLevel", "none");
 //            properties.put("openjpa.WriteLockLevel", "none");
 //            properties.put("openjpa.LockTimeout", "30000");
@@ -73,6 +85,50 @@ public class ResourceUtils {
 		return factory.createEntityManager();
     }
 
+    /**
+     * Starts a unit of work on the calling thread. Until it is committed or rolled back every resource operation
+     * on this thread runs in one shared entity manager and transaction, and the inserts are sent to the database
+     * as JDBC batches when the unit of work is committed. Units of work can be nested, only the outermost one
+     * talks to the database.
+     */
+    public static void beginUnitOfWork(){
+        UnitOfWork current = unitOfWork.get();
+        if (current != null) {
+            current.enter();
+        } else {
+            unitOfWork.set(new UnitOfWork(createEntityManager()));
+        }
+    }
+
+    public static void commitUnitOfWork() throws RegistryException {
+        UnitOfWork current = unitOfWork.get();
+        if (current == null) {
+            throw new RegistryException("There is no active unit of work to commit");
+        }
+        if (!current.exit()) {
+            return;
+        }
+        unitOfWork.remove();
+        try {
+            current.commit();
+        } catch (Exception e) {
+            logger.error("Error while committing the unit of work", e);
+            throw new RegistryException(e);
+        }
+    }
+
+    public static void rollbackUnitOfWork(){
+        UnitOfWork current = unitOfWork.get();
+        if (current == null) {
+            return;
+        }
+        current.setRollbackOnly();
+        if (current.exit()) {
+            unitOfWork.remove();
+            current.rollback();
+        }
+    }
+
     /**
      * @param gatewayName
      * @return
@@ -29,10 +29,14 @@ import org.apache.airavata.persistance.registry.jpa.Resource;
 import org.apache.airavata.persistance.registry.jpa.ResourceType;
 import org.apache.airavata.persistance.registry.jpa.ResourceUtils;
 import org.apache.airavata.persistance.registry.jpa.resources.*;
+import org.apache.airavata.persistance.registry.jpa.utils.ExperimentLoader;
+import org.apache.airavata.persistance.registry.jpa.utils.StatusCache;
 import org.apache.airavata.persistance.registry.jpa.utils.ThriftDataModelConversion;
 import org.apache.airavata.registry.cpi.CompositeIdentifier;
+import org.apache.airavata.registry.cpi.FetchDepth;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.apache.airavata.registry.cpi.RegistryModelType;
+import org.apache.airavata.registry.cpi.ResultOrderType;
 import org.apache.airavata.registry.cpi.utils.Constants;
 import org.apache.airavata.registry.cpi.utils.StatusType;
 
@@ -43,6 +47,13 @@ public class ExperimentRegistry {
     private GatewayResource gatewayResource;
     private WorkerResource workerResource;
     private final static AiravataLogger logger = AiravataLoggerFactory.getLogger(ExperimentRegistry.class);
+    private final static String JOB_STATUS_KEY_SEPARATOR = ",";
+    private final static StatusCache<ExperimentStatus> experimentStatusCache = new StatusCache<ExperimentStatus>(
+            "Experiment", Utils.getStatusCacheSize(), Utils.getStatusCacheTimeToLive());
+    private final static StatusCache<TaskStatus> taskStatusCache = new StatusCache<TaskStatus>(
+            "Task", Utils.getStatusCacheSize(), Utils.getStatusCacheTimeToLive());
+    private final static StatusCache<JobStatus> jobStatusCache = new StatusCache<JobStatus>(
+            "Job", Utils.getStatusCacheSize(), Utils.getStatusCacheTimeToLive());
 
     public ExperimentRegistry(GatewayResource gateway, UserResource user) throws RegistryException {
         gatewayResource = gateway;
@@ -54,7 +65,64 @@ public class ExperimentRegistry {
 
     }
 
+    /**
+     * Saves the experiment together with its inputs, outputs, configuration data, status, workflow nodes and errors
+     * in a single transaction.
+     */
     public String addExperiment(Experiment experiment) throws RegistryException {
+        ResourceUtils.beginUnitOfWork();
+        try {
+            String experimentID = saveExperiment(experiment);
+            ResourceUtils.commitUnitOfWork();
+            return experimentID;
+        } catch (RegistryException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            experimentStatusCache.invalidate(experiment.getExperimentID());
+            throw e;
+        } catch (RuntimeException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            experimentStatusCache.invalidate(experiment.getExperimentID());
+            throw e;
+        }
+    }
+
+    /**
+     * Saves a list of experiments in a single transaction. Either all the experiments are saved or none of them are.
+     * @return experiment ids in the same order as the given experiments
+     */
+    public List<String> addExperiments(List<Experiment> experiments) throws RegistryException {
+        List<String> experimentIDs = new ArrayList<String>();
+        ResourceUtils.beginUnitOfWork();
+        try {
+            for (Experiment experiment : experiments) {
+                experimentIDs.add(saveExperiment(experiment));
+            }
+            ResourceUtils.commitUnitOfWork();
+        } catch (RegistryException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            invalidateExperimentStatuses(experiments);
+            throw e;
+        } catch (RuntimeException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            invalidateExperimentStatuses(experiments);
+            throw e;
+        }
+        return experimentIDs;
+    }
+
+    /**
+     * Drops the cached statuses of every experiment of a rolled back batch, including the one whose save failed,
+     * which got its id but is not in the list of saved ids.
+     */
+    private void invalidateExperimentStatuses(List<Experiment> experiments) {
+        for (Experiment experiment : experiments) {
+            if (experiment.getExperimentID() != null) {
+                experimentStatusCache.invalidate(experiment.getExperimentID());
+            }
+        }
+    }
+
+    private String saveExperiment(Experiment experiment) throws RegistryException {
         String experimentID;
         try {
             if (!ResourceUtils.isUserExist(experiment.getUserName())) {
@@ -430,8 +498,10 @@ public class ExperimentRegistry {
             }
             status.setStatusType(StatusType.EXPERIMENT.toString());
             status.save();
+            experimentStatusCache.put(expId, ThriftDataModelConversion.getExperimentStatus(status));
             logger.debugId(expId, "Updated experiment {} status to {}.", expId, experimentStatus.toString());
         } catch (Exception e) {
+            experimentStatusCache.invalidate(expId);
             logger.errorId(expId, "Error while updating experiment status...", e);
             throw new RegistryException(e);
         }
@@ -499,6 +569,7 @@ public class ExperimentRegistry {
                 statusResource.setState(status.getExecutionState().toString());
             }
             statusResource.save();
+            taskStatusCache.invalidate(taskDetail.getTaskId());
             return String.valueOf(statusResource.getStatusId());
         } catch (Exception e) {
             logger.error("Error while adding task status...", e);
@@ -524,8 +595,10 @@ public class ExperimentRegistry {
             statusResource.setStatusUpdateTime(AiravataUtils.getTime(status.getTimeOfStateChange()));
             statusResource.setState(status.getExecutionState().toString());
             statusResource.save();
+            taskStatusCache.put(taskId, ThriftDataModelConversion.getTaskStatus(statusResource));
             logger.infoId(taskId, "Updated task {} status to {}.", taskId, status.toString());
         } catch (Exception e) {
+            taskStatusCache.invalidate(taskId);
             logger.errorId(taskId, "Error while updating task status to " + status.toString() + "...", e);
             throw new RegistryException(e);
         }
@@ -554,6 +627,7 @@ public class ExperimentRegistry {
                 statusResource.setState(status.getJobState().toString());
             }
             statusResource.save();
+            jobStatusCache.invalidate(getJobStatusKey(ids));
             return String.valueOf(statusResource.getStatusId());
         } catch (Exception e) {
             logger.error("Error while adding job status...", e);
@@ -577,14 +651,45 @@ public class ExperimentRegistry {
             statusResource.setStatusUpdateTime(AiravataUtils.getTime(status.getTimeOfStateChange()));
             statusResource.setState(status.getJobState().toString());
             statusResource.save();
+            jobStatusCache.put(getJobStatusKey(ids), ThriftDataModelConversion.getJobStatus(statusResource));
             logger.infoId(ids.toString(), "Updated job status to {}", status.toString());
             return String.valueOf(statusResource.getStatusId());
         } catch (Exception e) {
+            jobStatusCache.invalidate(getJobStatusKey(ids));
             logger.errorId(ids.toString(), "Error while updating job status to " + status.toString() + " ...", e);
             throw new RegistryException(e);
         }
     }
 
+    /**
+     * Updates the statuses of a set of jobs in a single transaction. Either all the statuses are updated or none
+     * of them are.
+     * @param statuses job statuses keyed by composite ids of task id and job id
+     */
+    public void updateJobStatuses(Map<CompositeIdentifier, JobStatus> statuses) throws RegistryException {
+        ResourceUtils.beginUnitOfWork();
+        try {
+            for (Map.Entry<CompositeIdentifier, JobStatus> entry : statuses.entrySet()) {
+                updateJobStatus(entry.getValue(), entry.getKey());
+            }
+            ResourceUtils.commitUnitOfWork();
+        } catch (RegistryException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            invalidateJobStatuses(statuses.keySet());
+            throw e;
+        } catch (RuntimeException e) {
+            ResourceUtils.rollbackUnitOfWork();
+            invalidateJobStatuses(statuses.keySet());
+            throw e;
+        }
+    }
+
+    private void invalidateJobStatuses(Collection<CompositeIdentifier> ids) {
+        for (CompositeIdentifier id : ids) {
+            jobStatusCache.invalidate(getJobStatusKey(id));
+        }
+    }
+
     /**
      * @param status application status
      * @param ids    composite id will contain taskid and jobid
@@ -1684,6 +1789,10 @@ public class ExperimentRegistry {
     }
 
     public List<Experiment> getExperimentList(String fieldName, Object value) throws RegistryException {
+        return getExperimentList(fieldName, value, FetchDepth.FULL);
+    }
+
+    public List<Experiment> getExperimentList(String fieldName, Object value, FetchDepth fetchDepth) throws RegistryException {
         List<Experiment> experiments = new ArrayList<Experiment>();
         try {
             if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.USER_NAME)) {
@@ -1691,35 +1800,23 @@ public class ExperimentRegistry {
                 resource.setUser((String)value);
                 List<ExperimentResource> resources = resource.getExperiments();
 //                List<ExperimentResource> resources = resource.getExperimentsByCaching((String)value);
-                for (ExperimentResource experimentResource : resources) {
-                    Experiment experiment = ThriftDataModelConversion.getExperiment(experimentResource);
-                    experiments.add(experiment);
-                }
-                return experiments;
+                return ExperimentLoader.getExperiments(resources, fetchDepth);
             } else if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.PROJECT_ID)) {
                 ProjectResource project = workerResource.getProject((String) value);
                 List<ExperimentResource> resources = project.getExperiments();
-                for (ExperimentResource resource : resources) {
-                    Experiment experiment = ThriftDataModelConversion.getExperiment(resource);
-                    experiments.add(experiment);
-                }
-                return experiments;
+                return ExperimentLoader.getExperiments(resources, fetchDepth);
             } else if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.GATEWAY)) {
                 List<ExperimentResource> resources = gatewayResource.getExperiments();
-                for (ExperimentResource resource : resources) {
-                    Experiment experiment = ThriftDataModelConversion.getExperiment(resource);
-                    experiments.add(experiment);
-                }
-                return experiments;
+                return ExperimentLoader.getExperiments(resources, fetchDepth);
             } if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.WORKFLOW_NODE_LIST)) {
             	if (value instanceof List<?>){
-            		return getExperimentList(fieldName,((List<?>) value).get(0));
+            		return getExperimentList(fieldName,((List<?>) value).get(0), fetchDepth);
             	}else if (value instanceof WorkflowNodeDetails){
             		WorkflowNodeDetailResource nodeDetailResource = getWorkflowNodeDetailResource(((WorkflowNodeDetails) value).getNodeInstanceId());
 					if (nodeDetailResource!=null) {
-						return Arrays.asList(new Experiment[] { ThriftDataModelConversion
+						return Arrays.asList(new Experiment[] { ExperimentLoader
 										.getExperiment(nodeDetailResource
-												.getExperimentResource()) });
+												.getExperimentResource(), fetchDepth) });
 					}
             	}else{
             		logger.error("Unsupported field value to retrieve workflow node detail list...");	
@@ -1869,11 +1966,20 @@ public class ExperimentRegistry {
         return null;
     }
 
+    public Experiment getExperiment(String expId, FetchDepth fetchDepth) throws RegistryException {
+        try {
+            return ExperimentLoader.getExperiment(gatewayResource.getExperiment(expId), fetchDepth);
+        } catch (Exception e) {
+            logger.error("Unable to retrieve experiment details of " + expId, e);
+            throw new RegistryException(e);
+        }
+    }
+
     public Object getExperiment(String expId, String fieldName) throws RegistryException {
         try {
             ExperimentResource resource = gatewayResource.getExperiment(expId);
             if (fieldName == null) {
-                return ThriftDataModelConversion.getExperiment(resource);
+                return ExperimentLoader.getExperiment(resource, FetchDepth.FULL);
             } else if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.USER_NAME)) {
                 return resource.getExecutionUser();
             } else if (fieldName.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_NAME)) {
@@ -1958,10 +2064,16 @@ public class ExperimentRegistry {
     }
 
     public ExperimentStatus getExperimentStatus(String expId) throws RegistryException {
+        ExperimentStatus cachedStatus = experimentStatusCache.get(expId);
+        if (cachedStatus != null) {
+            return cachedStatus;
+        }
         try {
             ExperimentResource resource = gatewayResource.getExperiment(expId);
             StatusResource experimentStatus = resource.getExperimentStatus();
-            return ThriftDataModelConversion.getExperimentStatus(experimentStatus);
+            ExperimentStatus status = ThriftDataModelConversion.getExperimentStatus(experimentStatus);
+            experimentStatusCache.put(expId, status);
+            return status;
         } catch (Exception e) {
             logger.error("Error while getting experiment status...", e);
             throw new RegistryException(e);
@@ -2142,12 +2254,18 @@ public class ExperimentRegistry {
     }
 
     public TaskStatus getTaskStatus(String taskId) throws RegistryException {
+        TaskStatus cachedStatus = taskStatusCache.get(taskId);
+        if (cachedStatus != null) {
+            return cachedStatus;
+        }
         try {
             ExperimentResource resource = (ExperimentResource) gatewayResource.create(ResourceType.EXPERIMENT);
             WorkflowNodeDetailResource workflowNode = (WorkflowNodeDetailResource) resource.create(ResourceType.WORKFLOW_NODE_DETAIL);
             TaskDetailResource taskDetail = workflowNode.getTaskDetail(taskId);
             StatusResource taskStatus = taskDetail.getTaskStatus();
-            return ThriftDataModelConversion.getTaskStatus(taskStatus);
+            TaskStatus status = ThriftDataModelConversion.getTaskStatus(taskStatus);
+            taskStatusCache.put(taskId, status);
+            return status;
         } catch (Exception e) {
             logger.error("Error while getting experiment outputs..", e);
             throw new RegistryException(e);
@@ -2171,19 +2289,52 @@ public class ExperimentRegistry {
 
     // ids contains task id + job id
     public JobStatus getJobStatus(CompositeIdentifier ids) throws RegistryException {
+        JobStatus cachedStatus = jobStatusCache.get(getJobStatusKey(ids));
+        if (cachedStatus != null) {
+            return cachedStatus;
+        }
         try {
             ExperimentResource resource = (ExperimentResource) gatewayResource.create(ResourceType.EXPERIMENT);
             WorkflowNodeDetailResource workflowNode = (WorkflowNodeDetailResource) resource.create(ResourceType.WORKFLOW_NODE_DETAIL);
             TaskDetailResource taskDetail = workflowNode.getTaskDetail((String) ids.getTopLevelIdentifier());
             JobDetailResource jobDetail = taskDetail.getJobDetail((String) ids.getSecondLevelIdentifier());
             StatusResource jobStatus = jobDetail.getJobStatus();
-            return ThriftDataModelConversion.getJobStatus(jobStatus);
+            JobStatus status = ThriftDataModelConversion.getJobStatus(jobStatus);
+            jobStatusCache.put(getJobStatusKey(ids), status);
+            return status;
         } catch (Exception e) {
             logger.error("Error while getting job status..", e);
             throw new RegistryException(e);
         }
     }
 
+    /**
+     * Returns the statuses of a set of jobs. Statuses which are not cached are loaded with one query per page of jobs
+     * instead of one per job.
+     * @param ids composite ids of task id and job id
+     * @return job statuses keyed by the given ids, jobs without a status are left out
+     */
+    public Map<CompositeIdentifier, JobStatus> getJobStatuses(List<CompositeIdentifier> ids) throws RegistryException {
+        Map<CompositeIdentifier, JobStatus> statuses = new LinkedHashMap<CompositeIdentifier, JobStatus>();
+        List<CompositeIdentifier> notCached = new ArrayList<CompositeIdentifier>();
+        for (CompositeIdentifier id : ids) {
+            JobStatus cachedStatus = jobStatusCache.get(getJobStatusKey(id));
+            if (cachedStatus != null) {
+                statuses.put(id, cachedStatus);
+            } else {
+                notCached.add(id);
+            }
+        }
+        if (!notCached.isEmpty()) {
+            for (Map.Entry<CompositeIdentifier, StatusResource> entry : workerResource.getJobStatuses(notCached).entrySet()) {
+                JobStatus status = ThriftDataModelConversion.getJobStatus(entry.getValue());
+                jobStatusCache.put(getJobStatusKey(entry.getKey()), status);
+                statuses.put(entry.getKey(), status);
+            }
+        }
+        return statuses;
+    }
+
     public ApplicationStatus getApplicationStatus(CompositeIdentifier ids) throws RegistryException {
         try {
             ExperimentResource resource = (ExperimentResource) gatewayResource.create(ResourceType.EXPERIMENT);
@@ -2297,6 +2448,10 @@ public class ExperimentRegistry {
     public void removeExperiment(String experimentId) throws RegistryException {
         try {
             gatewayResource.remove(ResourceType.EXPERIMENT, experimentId);
+            experimentStatusCache.invalidate(experimentId);
+            // tasks and jobs of the experiment are removed with it, their ids are not known here
+            taskStatusCache.invalidateAll();
+            jobStatusCache.invalidateAll();
         } catch (Exception e) {
             logger.error("Error while removing experiment..", e);
             throw new RegistryException(e);
@@ -2317,6 +2472,8 @@ public class ExperimentRegistry {
         try {
             ExperimentResource experiment = (ExperimentResource) gatewayResource.create(ResourceType.EXPERIMENT);
             experiment.remove(ResourceType.WORKFLOW_NODE_DETAIL, nodeId);
+            taskStatusCache.invalidateAll();
+            jobStatusCache.invalidateAll();
         } catch (Exception e) {
             logger.error("Error while removing workflow node..", e);
             throw new RegistryException(e);
@@ -2328,6 +2485,8 @@ public class ExperimentRegistry {
             ExperimentResource experiment = (ExperimentResource) gatewayResource.create(ResourceType.EXPERIMENT);
             WorkflowNodeDetailResource nodeDetailResource = (WorkflowNodeDetailResource) experiment.create(ResourceType.WORKFLOW_NODE_DETAIL);
             nodeDetailResource.remove(ResourceType.TASK_DETAIL, taskId);
+            taskStatusCache.invalidate(taskId);
+            jobStatusCache.invalidatePrefix(taskId + JOB_STATUS_KEY_SEPARATOR);
         } catch (Exception e) {
             logger.error("Error while removing task details..", e);
             throw new RegistryException(e);
@@ -2340,6 +2499,7 @@ public class ExperimentRegistry {
             WorkflowNodeDetailResource nodeDetailResource = (WorkflowNodeDetailResource) experiment.create(ResourceType.WORKFLOW_NODE_DETAIL);
             TaskDetailResource taskDetailResource = nodeDetailResource.getTaskDetail((String) ids.getTopLevelIdentifier());
             taskDetailResource.remove(ResourceType.JOB_DETAIL, (String) ids.getSecondLevelIdentifier());
+            jobStatusCache.invalidate(getJobStatusKey(ids));
         } catch (Exception e) {
             logger.error("Error while removing job details..", e);
             throw new RegistryException(e);
@@ -2659,48 +2819,79 @@ public class ExperimentRegistry {
     }
 
     public List<ExperimentSummary> searchExperiments (Map<String, String> filters) throws RegistryException{
-        Map<String, String> fil = new HashMap<String, String>();
         if (filters != null && filters.size() != 0){
-            List<ExperimentSummary> experimentSummaries = new ArrayList<ExperimentSummary>();
-            long fromTime = 0;
-            long toTime = 0;
-            try {
+            return searchExperiments(filters, -1, 0, null, null);
+        }
+        return null;
+    }
+
+    /**
+     * Search experiments and return the requested page of experiment summaries. Summaries are built from projection
+     * queries, so the cost of a search depends on the page size rather than on the number of experiments the user has.
+     * @param filters filters keyed by {@link Constants.FieldConstants.ExperimentConstants} field names
+     * @param limit maximum number of summaries to return. Values less than or equal to zero returns all matches
+     * @param offset number of matching experiments to skip
+     * @param orderByIdentifier {@link Constants.FieldConstants.ExperimentConstants} field name to sort on. Defaults to
+     *                          the creation time
+     * @param resultOrderType sort direction. Defaults to descending
+     * @return list of experiment summaries
+     */
+    public List<ExperimentSummary> searchExperiments (Map<String, String> filters, int limit, int offset,
+                                                      Object orderByIdentifier, ResultOrderType resultOrderType) throws RegistryException{
+        Map<String, String> fil = new HashMap<String, String>();
+        String experimentState = null;
+        Timestamp fromTime = null;
+        Timestamp toTime = null;
+        try {
+            if (filters != null){
                 for (String field : filters.keySet()){
-                    if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_NAME)){
-                        fil.put(AbstractResource.ExperimentConstants.EXPERIMENT_NAME, filters.get(field));
-                    }else if (field.equals(Constants.FieldConstants.ExperimentConstants.USER_NAME)){
-                        fil.put(AbstractResource.ExperimentConstants.EXECUTION_USER, filters.get(field));
-                    }else if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_DESC)){
-                        fil.put(AbstractResource.ExperimentConstants.DESCRIPTION, filters.get(field));
-                    }else if (field.equals(Constants.FieldConstants.ExperimentConstants.APPLICATION_ID)){
-                        fil.put(AbstractResource.ExperimentConstants.APPLICATION_ID, filters.get(field));
-                    }else if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_STATUS)){
-                        return searchExperimentsByStatus(ExperimentState.valueOf(filters.get(field)));
+                    if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_STATUS)){
+                        experimentState = ExperimentState.valueOf(filters.get(field)).toString();
                     }else if (field.equals(Constants.FieldConstants.ExperimentConstants.FROM_DATE)){
-                        fromTime = Long.parseLong(filters.get(field));
+                        fromTime = new Timestamp(Long.parseLong(filters.get(field)));
                     }else if (field.equals(Constants.FieldConstants.ExperimentConstants.TO_DATE)){
-                        toTime = Long.parseLong(filters.get(field));
-                    }
-                }
-                if (fromTime != 0 && toTime != 0){
-                    return searchExperimentsByCreationTime(new Timestamp(fromTime), new Timestamp(toTime));
-                }
-                if (fil.containsKey(AbstractResource.ExperimentConstants.APPLICATION_ID)){
-                    return searchExperimentsByApplication(fil);
-                }else {
-                    List<ExperimentResource> experimentResources = workerResource.searchExperiments(fil);
-                    if (experimentResources != null && !experimentResources.isEmpty()){
-                        for (ExperimentResource ex : experimentResources){
-                            experimentSummaries.add(ThriftDataModelConversion.getExperimentSummary(ex));
+                        toTime = new Timestamp(Long.parseLong(filters.get(field)));
+                    }else {
+                        String resourceField = getExperimentResourceField(field);
+                        if (resourceField != null){
+                            fil.put(resourceField, filters.get(field));
                         }
                     }
                 }
-                return experimentSummaries;
-
-            }catch (Exception e){
-                logger.error("Error while retrieving experiment summary from registry", e);
-                throw new RegistryException(e);
             }
+            String orderBy = null;
+            if (orderByIdentifier != null){
+                orderBy = getExperimentResourceField(orderByIdentifier.toString());
+                if (orderBy == null){
+                    throw new IllegalArgumentException("Unsupported order by field : " + orderByIdentifier);
+                }
+            }
+            List<ExperimentSummary> experimentSummaries = new ArrayList<ExperimentSummary>();
+            List<ExperimentSummaryResource> summaryResources = workerResource.searchExperimentSummaries(fil,
+                    experimentState, fromTime, toTime, limit, offset, orderBy, resultOrderType);
+            for (ExperimentSummaryResource summaryResource : summaryResources){
+                experimentSummaries.add(ThriftDataModelConversion.getExperimentSummary(summaryResource));
+            }
+            return experimentSummaries;
+        }catch (Exception e){
+            logger.error("Error while retrieving experiment summary from registry", e);
+            throw new RegistryException(e);
+        }
+    }
+
+    private String getExperimentResourceField (String field){
+        if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_NAME)){
+            return AbstractResource.ExperimentConstants.EXPERIMENT_NAME;
+        }else if (field.equals(Constants.FieldConstants.ExperimentConstants.USER_NAME)){
+            return AbstractResource.ExperimentConstants.EXECUTION_USER;
+        }else if (field.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_DESC)){
+            return AbstractResource.ExperimentConstants.DESCRIPTION;
+        }else if (field.equals(Constants.FieldConstants.ExperimentConstants.APPLICATION_ID)){
+            return AbstractResource.ExperimentConstants.APPLICATION_ID;
+        }else if (field.equals(Constants.FieldConstants.ExperimentConstants.PROJECT_ID)){
+            return AbstractResource.ExperimentConstants.PROJECT_ID;
+        }else if (field.equals(Constants.FieldConstants.ExperimentConstants.CREATION_TIME)){
+            return AbstractResource.ExperimentConstants.CREATION_TIME;
         }
         return null;
     }
@@ -2769,4 +2960,20 @@ public class ExperimentRegistry {
         }
     }
 
+
+    private static String getJobStatusKey(CompositeIdentifier ids) {
+        return ids.getTopLevelIdentifier() + JOB_STATUS_KEY_SEPARATOR + ids.getSecondLevelIdentifier();
+    }
+
+    public static StatusCache<ExperimentStatus> getExperimentStatusCache() {
+        return experimentStatusCache;
+    }
+
+    public static StatusCache<TaskStatus> getTaskStatusCache() {
+        return taskStatusCache;
+    }
+
+    public static StatusCache<JobStatus> getJobStatusCache() {
+        return jobStatusCache;
+    }
 }
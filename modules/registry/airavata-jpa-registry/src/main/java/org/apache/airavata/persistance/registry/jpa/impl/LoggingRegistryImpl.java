@@ -38,10 +38,21 @@ public class LoggingRegistryImpl implements Registry {
         return null;  //To change body of implemented methods use File | Settings | File Templates.
     }
 
+    public List<Object> addAll(ParentDataType dataType, List<?> newObjectsToAdd) throws RegistryException {
+        return null;
+    }
+
     public void update(RegistryModelType dataType, Object newObjectToUpdate, Object identifier) throws RegistryException {
         //To change body of implemented methods use File | Settings | File Templates.
     }
 
+    public void updateAll(RegistryModelType dataType, Map<?, ?> newObjectsToUpdate) throws RegistryException {
+    }
+
+    public Map<Object, Object> getAll(RegistryModelType dataType, List<?> identifiers) throws RegistryException {
+        return null;
+    }
+
     public void update(RegistryModelType dataType, Object identifier, String fieldName, Object value) throws RegistryException {
         //To change body of implemented methods use File | Settings | File Templates.
     }
@@ -50,14 +61,28 @@ public class LoggingRegistryImpl implements Registry {
         return null;  //To change body of implemented methods use File | Settings | File Templates.
     }
 
+    public Object get(RegistryModelType dataType, Object identifier, FetchDepth fetchDepth) throws RegistryException {
+        return null;
+    }
+
     public List<Object> get(RegistryModelType dataType, String fieldName, Object value) throws RegistryException {
         return null;  //To change body of implemented methods use File | Settings | File Templates.
     }
 
+    public List<Object> get(RegistryModelType dataType, String fieldName, Object value, FetchDepth fetchDepth)
+            throws RegistryException {
+        return null;
+    }
+
     public List<Object> search(RegistryModelType dataType, Map<String, String> filters) throws RegistryException {
         return null;
     }
 
+    public List<Object> search(RegistryModelType dataType, Map<String, String> filters, int limit, int offset,
+                               Object orderByIdentifier, ResultOrderType resultOrderType) throws RegistryException {
+        return null;
+    }
+
     public Object getValue(RegistryModelType dataType, Object identifier, String field) throws RegistryException {
         return null;  //To change body of implemented methods use File | Settings | File Templates.
     }
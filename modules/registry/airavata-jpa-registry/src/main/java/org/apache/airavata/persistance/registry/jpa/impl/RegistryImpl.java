@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -111,6 +112,37 @@ public class RegistryImpl implements Registry {
         }
     }
 
+    /**
+     * This method is to add a list of top level objects in to the registry. All the objects are written in a single
+     * transaction, so either all of them are saved or none of them are
+     *
+     * @param dataType        Data type is a predefined type which the programmer should choose according to the objects
+     *                        he is going to save in to registry
+     * @param newObjectsToAdd thrift model objects which need to be saved in to registry
+     * @return list of identifiers of the saved objects in the same order as the given objects
+     */
+    @Override
+    public List<Object> addAll(ParentDataType dataType, List<?> newObjectsToAdd) throws RegistryException {
+        try {
+            List<Object> ids = new ArrayList<Object>();
+            switch (dataType) {
+                case EXPERIMENT:
+                    List<Experiment> experiments = new ArrayList<Experiment>();
+                    for (Object experiment : newObjectsToAdd) {
+                        experiments.add((Experiment) experiment);
+                    }
+                    ids.addAll(experimentRegistry.addExperiments(experiments));
+                    return ids;
+                default:
+                    logger.error("Unsupported top level type..", new UnsupportedOperationException());
+                    throw new UnsupportedOperationException();
+            }
+        } catch (Exception e) {
+            logger.error("Error while adding the resources " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while adding the resources " + dataType.toString(), e);
+        }
+    }
+
     /**
      * This method is to add an object in to the registry
      *
@@ -262,6 +294,34 @@ public class RegistryImpl implements Registry {
 
     }
 
+    /**
+     * This method is to update a set of objects of the same type in a single transaction
+     *
+     * @param dataType           Data type is a predefined type which the programmer should choose according to the
+     *                           objects he is going to update
+     * @param newObjectsToUpdate thrift model objects which need to be updated, keyed by their identifiers
+     */
+    @Override
+    public void updateAll(RegistryModelType dataType, Map<?, ?> newObjectsToUpdate) throws RegistryException {
+        try {
+            switch (dataType) {
+                case JOB_STATUS:
+                    Map<CompositeIdentifier, JobStatus> jobStatuses = new LinkedHashMap<CompositeIdentifier, JobStatus>();
+                    for (Map.Entry<?, ?> entry : newObjectsToUpdate.entrySet()) {
+                        jobStatuses.put((CompositeIdentifier) entry.getKey(), (JobStatus) entry.getValue());
+                    }
+                    experimentRegistry.updateJobStatuses(jobStatuses);
+                    break;
+                default:
+                    logger.error("Unsupported data type...", new UnsupportedOperationException());
+                    throw new UnsupportedOperationException();
+            }
+        } catch (Exception e) {
+            logger.error("Error while updating the resources " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while updating the resources " + dataType.toString(), e);
+        }
+    }
+
     /**
      * This method is to update a specific field of the data model
      *
@@ -313,7 +373,7 @@ public class RegistryImpl implements Registry {
                 case PROJECT:
                     return projectRegistry.getProject((String)identifier);
                 case EXPERIMENT:
-                    return experimentRegistry.getExperiment((String) identifier, null);
+                    return experimentRegistry.getExperiment((String) identifier, FetchDepth.FULL);
                 case EXPERIMENT_CONFIGURATION_DATA:
                     return experimentRegistry.getConfigData((String) identifier, null);
                 case EXPERIMENT_OUTPUT:
@@ -360,6 +420,56 @@ public class RegistryImpl implements Registry {
         }
     }
 
+    /**
+     * This method is to retrieve a set of objects of the same type in one go
+     *
+     * @param dataType    Data type is a predefined type which the programmer should choose according to the objects he
+     *                    is going to retrieve
+     * @param identifiers identifiers of the objects
+     * @return the objects keyed by their identifiers, objects which do not exist are left out
+     */
+    @Override
+    public Map<Object, Object> getAll(RegistryModelType dataType, List<?> identifiers) throws RegistryException {
+        try {
+            switch (dataType) {
+                case JOB_STATUS:
+                    List<CompositeIdentifier> jobIds = new ArrayList<CompositeIdentifier>();
+                    for (Object identifier : identifiers) {
+                        jobIds.add((CompositeIdentifier) identifier);
+                    }
+                    return new LinkedHashMap<Object, Object>(experimentRegistry.getJobStatuses(jobIds));
+                default:
+                    logger.error("Unsupported data type...", new UnsupportedOperationException());
+                    throw new UnsupportedOperationException();
+            }
+        } catch (Exception e) {
+            logger.error("Error while retrieving the resources " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while retrieving the resources " + dataType.toString(), e);
+        }
+    }
+
+    /**
+     * This method is to retrieve object according to the identifier, loading only the given depth of it.
+     *
+     * @param dataType   Data type is a predefined type which the programmer should choose according to the object he
+     *                   is going to save in to registry
+     * @param identifier Identifier which will uniquely identify the data model
+     * @param fetchDepth how much of an experiment to load. Ignored for the other data types
+     * @return object according to the given identifier.
+     */
+    @Override
+    public Object get(RegistryModelType dataType, Object identifier, FetchDepth fetchDepth) throws RegistryException {
+        if (dataType != RegistryModelType.EXPERIMENT) {
+            return get(dataType, identifier);
+        }
+        try {
+            return experimentRegistry.getExperiment((String) identifier, fetchDepth);
+        } catch (Exception e) {
+            logger.error("Error while retrieving the resource " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while retrieving the resource " + dataType.toString() , e);
+        }
+    }
+
     /**
      * This method is to retrieve list of objects according to a given criteria
      *
@@ -434,6 +544,35 @@ public class RegistryImpl implements Registry {
 
     }
 
+    /**
+     * This method is to retrieve list of objects according to a given criteria, loading only the given depth of each
+     * object.
+     *
+     * @param dataType   Data type is a predefined type which the programmer should choose according to the object he
+     *                   is going to save in to registry
+     * @param fieldName  FieldName is the field that filtering should be done
+     * @param value      value for the filtering field
+     * @param fetchDepth how much of each experiment to load. Ignored for the other data types
+     * @return List of objects according to the given criteria
+     */
+    @Override
+    public List<Object> get(RegistryModelType dataType, String fieldName, Object value, FetchDepth fetchDepth)
+            throws RegistryException {
+        if (dataType != RegistryModelType.EXPERIMENT) {
+            return get(dataType, fieldName, value);
+        }
+        try {
+            List<Object> result = new ArrayList<Object>();
+            for (Experiment experiment : experimentRegistry.getExperimentList(fieldName, value, fetchDepth)) {
+                result.add(experiment);
+            }
+            return result;
+        } catch (Exception e) {
+            logger.error("Error while retrieving the resource " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while retrieving the resource " + dataType.toString(), e);
+        }
+    }
+
     public List<Object> search(RegistryModelType dataType, Map<String, String> filters) throws RegistryException {
         try {
             List<Object> result = new ArrayList<Object>();
@@ -460,6 +599,41 @@ public class RegistryImpl implements Registry {
         }
     }
 
+    /**
+     * This method is to retrieve a page of objects according to a given criteria.
+     *
+     * @param dataType          Data type is a predefined type which the programmer should choose according to the object he
+     *                          is going to save in to registry
+     * @param filters           filters is a map of field name and value that you need to use for search filtration
+     * @param limit             maximum number of results to return. A value less than or equal to zero returns all the results
+     * @param offset            number of results to skip from the beginning of the result set
+     * @param orderByIdentifier field name which the results should be ordered by. Can be null
+     * @param resultOrderType   sort direction of the results
+     * @return List of objects according to the given criteria
+     */
+    @Override
+    public List<Object> search(RegistryModelType dataType, Map<String, String> filters, int limit, int offset,
+                               Object orderByIdentifier, ResultOrderType resultOrderType) throws RegistryException {
+        try {
+            List<Object> result = new ArrayList<Object>();
+            switch (dataType) {
+                case EXPERIMENT:
+                    List<ExperimentSummary> experimentSummaries = experimentRegistry.searchExperiments(filters, limit,
+                            offset, orderByIdentifier, resultOrderType);
+                    for (ExperimentSummary ex : experimentSummaries){
+                        result.add(ex);
+                    }
+                    return result;
+                default:
+                    logger.error("Unsupported data type...", new UnsupportedOperationException());
+                    throw new UnsupportedOperationException();
+            }
+        } catch (Exception e) {
+            logger.error("Error while retrieving the resource " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while retrieving the resource " + dataType.toString(), e);
+        }
+    }
+
     /**
      * This method is to retrieve a specific value for a given field.
      *
@@ -86,6 +86,46 @@ public class Utils {
         }
     }
 
+    public static int getJPAQueryCompilationCacheSize (){
+        try {
+            String cache = ServerSettings.getSetting(JPAConstants.JPA_QUERY_COMPILATION_CACHE_SIZE, "1000");
+            return Integer.parseInt(cache);
+        }catch (Exception e){
+            logger.error(e.getMessage(), e);
+            return 1000;
+        }
+    }
+
+    public static int getJDBCBatchLimit (){
+        try {
+            String limit = ServerSettings.getSetting(JPAConstants.JPA_JDBC_BATCH_LIMIT, "100");
+            return Integer.parseInt(limit);
+        }catch (Exception e){
+            logger.error(e.getMessage(), e);
+            return 100;
+        }
+    }
+
+    public static int getStatusCacheSize (){
+        try {
+            String size = ServerSettings.getSetting(JPAConstants.REGISTRY_STATUS_CACHE_SIZE, "10000");
+            return Integer.parseInt(size);
+        }catch (Exception e){
+            logger.error(e.getMessage(), e);
+            return 10000;
+        }
+    }
+
+    public static long getStatusCacheTimeToLive (){
+        try {
+            String ttl = ServerSettings.getSetting(JPAConstants.REGISTRY_STATUS_CACHE_TTL, "5000");
+            return Long.parseLong(ttl);
+        }catch (Exception e){
+            logger.error(e.getMessage(), e);
+            return 5000;
+        }
+    }
+
     public static String getDBType(){
         try{
             String jdbcURL = getJDBCURL();
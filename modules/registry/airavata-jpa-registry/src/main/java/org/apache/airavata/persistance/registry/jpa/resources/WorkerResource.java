@@ -29,18 +29,38 @@ import org.apache.airavata.persistance.registry.jpa.utils.QueryGenerator;
 import org.apache.airavata.registry.cpi.utils.StatusType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.apache.airavata.registry.cpi.CompositeIdentifier;
 import org.apache.airavata.registry.cpi.RegistryException;
+import org.apache.airavata.registry.cpi.ResultOrderType;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
 
 public class WorkerResource extends AbstractResource {
     private final static Logger logger = LoggerFactory.getLogger(WorkerResource.class);
+    private final static String EXPERIMENTS_BY_STATE_QUERY = "SELECT e FROM Status s JOIN s.experiment e " +
+            "WHERE s.state = :state AND s.statusType = :statusType";
+    private final static String EXPERIMENTS_BY_CREATION_TIME_QUERY = "SELECT e FROM Experiment e " +
+            "WHERE e.creationTime > :fromTime AND e.creationTime < :toTime";
+    private final static String EXPERIMENTS_BY_USER_QUERY = "SELECT e from Experiment e WHERE e.executionUser = :executionUser";
+    private final static String STATUSES_BY_EXPERIMENTS_QUERY = "SELECT s FROM Status s " +
+            "WHERE s.expId IN :expIds AND s.statusType = :statusType";
+    private final static String ERRORS_BY_EXPERIMENTS_QUERY = "SELECT d FROM ErrorDetail d WHERE d.expId IN :expIds";
+    private final static String JOB_STATUSES_QUERY = "SELECT s FROM Status s " +
+            "WHERE s.jobId IN :jobIds AND s.statusType = :statusType";
+    private final static int JOB_STATUS_PAGE_SIZE = 500;
+    private final static List<String> SUMMARY_FILTER_FIELDS = Arrays.asList(ExperimentConstants.EXECUTION_USER,
+            ExperimentConstants.EXPERIMENT_NAME, ExperimentConstants.DESCRIPTION, ExperimentConstants.APPLICATION_ID,
+            ExperimentConstants.PROJECT_ID);
     private String user;
 	private GatewayResource gateway;
 
@@ -539,24 +559,12 @@ public class WorkerResource extends AbstractResource {
         List<ProjectResource> result = new ArrayList<ProjectResource>();
         EntityManager em = null;
         try {
-            String query = "SELECT p from Project p WHERE ";
-            if (filters != null && filters.size() != 0) {
-                for (String field : filters.keySet()) {
-                    String filterVal = filters.get(field);
-                    if (field.equals(ProjectConstants.USERNAME)) {
-                        query += "p." + field + "= '" + filterVal + "' AND ";
-                    } else {
-                        if (filterVal.contains("*")){
-                            filterVal = filterVal.replaceAll("\\*", "");
-                        }
-                        query += "p." + field + " LIKE '%" + filterVal + "%' AND ";
-                    }
-                }
-            }
-            query = query.substring(0, query.length() - 5);
+            Map<String, Object> parameters = new TreeMap<String, Object>();
+            String query = buildSearchQuery("SELECT p from Project p", "p", ProjectConstants.USERNAME, filters, parameters);
             em = ResourceUtils.getEntityManager();
             em.getTransaction().begin();
             Query q = em.createQuery(query);
+            setParameters(q, parameters);
             List resultList = q.getResultList();
             for (Object o : resultList) {
                 Project project = (Project) o;
@@ -583,24 +591,12 @@ public class WorkerResource extends AbstractResource {
         List<ExperimentResource> result = new ArrayList<ExperimentResource>();
         EntityManager em = null;
         try {
-            String query = "SELECT e from Experiment e WHERE ";
-            if (filters != null && filters.size() != 0) {
-                for (String field : filters.keySet()) {
-                    String filterVal = filters.get(field);
-                    if (field.equals(ExperimentConstants.EXECUTION_USER)) {
-                        query += "e." + field + "= '" + filterVal + "' AND ";
-                    } else {
-                        if (filterVal.contains("*")){
-                            filterVal = filterVal.replaceAll("\\*", "");
-                        }
-                        query += "e." + field + " LIKE '%" + filterVal + "%' AND ";
-                    }
-                }
-            }
-            query = query.substring(0, query.length() - 5);
+            Map<String, Object> parameters = new TreeMap<String, Object>();
+            String query = buildSearchQuery("SELECT e from Experiment e", "e", ExperimentConstants.EXECUTION_USER, filters, parameters);
             em = ResourceUtils.getEntityManager();
             em.getTransaction().begin();
             Query q = em.createQuery(query);
+            setParameters(q, parameters);
             List resultList = q.getResultList();
             for (Object o : resultList) {
                 Experiment experiment = (Experiment) o;
@@ -627,13 +623,11 @@ public class WorkerResource extends AbstractResource {
         List<ExperimentResource> result = new ArrayList<ExperimentResource>();
         EntityManager em = null;
         try {
-            String query = "SELECT e FROM Status s " +
-                    "JOIN s.experiment e " +
-                    "WHERE s.state='" + experimentState +  "' " +
-                    "AND s.statusType='" + StatusType.EXPERIMENT + "'";
             em = ResourceUtils.getEntityManager();
             em.getTransaction().begin();
-            Query q = em.createQuery(query);
+            Query q = em.createQuery(EXPERIMENTS_BY_STATE_QUERY);
+            q.setParameter("state", experimentState);
+            q.setParameter("statusType", StatusType.EXPERIMENT.toString());
             List resultList = q.getResultList();
             for (Object o : resultList) {
                 Experiment experiment = (Experiment) o;
@@ -660,12 +654,11 @@ public class WorkerResource extends AbstractResource {
         List<ExperimentResource> result = new ArrayList<ExperimentResource>();
         EntityManager em = null;
         try {
-            String query = "SELECT e FROM Experiment e " +
-                    "WHERE e.creationTime > '" + fromTime +  "' " +
-                    "AND e.creationTime <'" + toTime + "'";
             em = ResourceUtils.getEntityManager();
             em.getTransaction().begin();
-            Query q = em.createQuery(query);
+            Query q = em.createQuery(EXPERIMENTS_BY_CREATION_TIME_QUERY);
+            q.setParameter("fromTime", fromTime);
+            q.setParameter("toTime", toTime);
             List resultList = q.getResultList();
             for (Object o : resultList) {
                 Experiment experiment = (Experiment) o;
@@ -688,6 +681,151 @@ public class WorkerResource extends AbstractResource {
         return result;
     }
 
+    /**
+     * Search experiments and return a page of experiment summaries. The page is selected with one projection query
+     * over the experiment table, and the experiment statuses and errors of all the experiments in the page are loaded
+     * with one query each, instead of loading the experiment entities and querying status and errors per experiment.
+     * @param filters filters keyed by experiment field names. Execution user and project id are matched exactly and
+     *                the other fields are matched with LIKE
+     * @param experimentState experiment state to filter on. Can be null
+     * @param fromTime lower bound (exclusive) of the creation time. Can be null
+     * @param toTime upper bound (exclusive) of the creation time. Can be null
+     * @param limit maximum number of summaries to return. Values less than or equal to zero returns all matches
+     * @param offset number of matching experiments to skip
+     * @param orderByIdentifier experiment field to sort on. Defaults to creation time when null
+     * @param resultOrderType sort direction. Defaults to descending when null
+     * @return list of experiment summaries
+     */
+    public List<ExperimentSummaryResource> searchExperimentSummaries(Map<String, String> filters, String experimentState,
+                                                                     Timestamp fromTime, Timestamp toTime,
+                                                                     int limit, int offset, String orderByIdentifier,
+                                                                     ResultOrderType resultOrderType) throws RegistryException{
+        List<ExperimentSummaryResource> result = new ArrayList<ExperimentSummaryResource>();
+        EntityManager em = null;
+        try {
+            Map<String, Object> parameters = new TreeMap<String, Object>();
+            List<String> conditions = new ArrayList<String>();
+            if (filters != null) {
+                for (String field : new TreeSet<String>(filters.keySet())) {
+                    if (!SUMMARY_FILTER_FIELDS.contains(field)) {
+                        logger.error("Unsupported experiment search field : " + field);
+                        throw new IllegalArgumentException("Unsupported experiment search field : " + field);
+                    }
+                    String filterVal = filters.get(field);
+                    if (field.equals(ExperimentConstants.EXECUTION_USER) || field.equals(ExperimentConstants.PROJECT_ID)) {
+                        conditions.add("e." + field + " = :" + field);
+                        parameters.put(field, filterVal);
+                    } else {
+                        conditions.add("e." + field + " LIKE :" + field);
+                        parameters.put(field, "%" + filterVal.replaceAll("\\*", "") + "%");
+                    }
+                }
+            }
+            if (experimentState != null) {
+                conditions.add("EXISTS (SELECT s FROM Status s WHERE s.expId = e.expId " +
+                        "AND s.statusType = :statusType AND s.state = :state)");
+                parameters.put("statusType", StatusType.EXPERIMENT.toString());
+                parameters.put("state", experimentState);
+            }
+            if (fromTime != null) {
+                conditions.add("e.creationTime > :fromTime");
+                parameters.put("fromTime", fromTime);
+            }
+            if (toTime != null) {
+                conditions.add("e.creationTime < :toTime");
+                parameters.put("toTime", toTime);
+            }
+            // JPA 2.0 has no LEFT JOIN ... ON, so the page is selected from the experiments alone and their
+            // statuses are loaded afterwards. Experiments without a status are still returned.
+            StringBuilder query = new StringBuilder("SELECT e.expId, e.projectID, e.creationTime, e.executionUser, " +
+                    "e.expName, e.expDesc, e.applicationId FROM Experiment e");
+            for (int i = 0; i < conditions.size(); i++) {
+                query.append(i == 0 ? " WHERE " : " AND ").append(conditions.get(i));
+            }
+            if (orderByIdentifier == null) {
+                orderByIdentifier = ExperimentConstants.CREATION_TIME;
+            } else if (!SUMMARY_FILTER_FIELDS.contains(orderByIdentifier)
+                    && !orderByIdentifier.equals(ExperimentConstants.CREATION_TIME)) {
+                logger.error("Unsupported experiment order by field : " + orderByIdentifier);
+                throw new IllegalArgumentException("Unsupported experiment order by field : " + orderByIdentifier);
+            }
+            String order = resultOrderType == ResultOrderType.ASC ? " ASC" : " DESC";
+            query.append(" ORDER BY e.").append(orderByIdentifier).append(order)
+                    .append(", e.").append(ExperimentConstants.EXPERIMENT_ID).append(order);
+
+            em = ResourceUtils.getEntityManager();
+            em.getTransaction().begin();
+            Query q = em.createQuery(query.toString());
+            setParameters(q, parameters);
+            if (offset > 0) {
+                q.setFirstResult(offset);
+            }
+            if (limit > 0) {
+                q.setMaxResults(limit);
+            }
+            Map<String, ExperimentSummaryResource> summaries = new LinkedHashMap<String, ExperimentSummaryResource>();
+            for (Object o : q.getResultList()) {
+                Object[] row = (Object[]) o;
+                ExperimentSummaryResource summary = new ExperimentSummaryResource();
+                summary.setExpID((String) row[0]);
+                summary.setProjectID((String) row[1]);
+                summary.setCreationTime((Timestamp) row[2]);
+                summary.setExecutionUser((String) row[3]);
+                summary.setExpName((String) row[4]);
+                summary.setDescription((String) row[5]);
+                summary.setApplicationId((String) row[6]);
+                summaries.put(summary.getExpID(), summary);
+            }
+
+            if (!summaries.isEmpty()) {
+                q = em.createQuery(STATUSES_BY_EXPERIMENTS_QUERY);
+                q.setParameter("expIds", new ArrayList<String>(summaries.keySet()));
+                q.setParameter("statusType", StatusType.EXPERIMENT.toString());
+                for (Object o : q.getResultList()) {
+                    Status experimentStatus = (Status) o;
+                    StatusResource status = new StatusResource();
+                    status.setStatusType(experimentStatus.getStatusType());
+                    status.setState(experimentStatus.getState());
+                    status.setStatusUpdateTime(experimentStatus.getStatusUpdateTime());
+                    summaries.get(experimentStatus.getExpId()).setStatus(status);
+                }
+
+                q = em.createQuery(ERRORS_BY_EXPERIMENTS_QUERY);
+                q.setParameter("expIds", new ArrayList<String>(summaries.keySet()));
+                for (Object o : q.getResultList()) {
+                    ErrorDetail errorDetail = (ErrorDetail) o;
+                    ErrorDetailResource errorDetailResource = new ErrorDetailResource();
+                    errorDetailResource.setErrorId(errorDetail.getErrorID());
+                    errorDetailResource.setCreationTime(errorDetail.getCreationTime());
+                    if (errorDetail.getActualErrorMsg() != null) {
+                        errorDetailResource.setActualErrorMsg(new String(errorDetail.getActualErrorMsg()));
+                    }
+                    errorDetailResource.setUserFriendlyErrorMsg(errorDetail.getUserFriendlyErrorMsg());
+                    errorDetailResource.setTransientPersistent(errorDetail.isTransientPersistent());
+                    errorDetailResource.setErrorCategory(errorDetail.getErrorCategory());
+                    errorDetailResource.setCorrectiveAction(errorDetail.getCorrectiveAction());
+                    errorDetailResource.setActionableGroup(errorDetail.getActionableGroup());
+                    errorDetailResource.setJobId(errorDetail.getJobId());
+                    summaries.get(errorDetail.getExpId()).getErrorDetails().add(errorDetailResource);
+                }
+            }
+            result.addAll(summaries.values());
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        return result;
+    }
+
     /**
      *
      * @return list of experiments for the user
@@ -696,13 +834,13 @@ public class WorkerResource extends AbstractResource {
         List<ExperimentResource> result = new ArrayList<ExperimentResource>();
         EntityManager em = null;
         try {
-            String query = "SELECT e from Experiment e WHERE e.executionUser = '" + user + "'";
             em = ResourceUtils.getEntityManager();
 //        OpenJPAEntityManagerFactory oemf = OpenJPAPersistence.cast(em.getEntityManagerFactory());
 //        QueryResultCache qcache = oemf.getQueryResultCache();
             // qcache.evictAll(Experiment.class);
             em.getTransaction().begin();
-            Query q = em.createQuery(query);
+            Query q = em.createQuery(EXPERIMENTS_BY_USER_QUERY);
+            q.setParameter("executionUser", user);
             List resultList = q.getResultList();
             for (Object o : resultList) {
                 Experiment experiment = (Experiment) o;
@@ -724,4 +862,99 @@ public class WorkerResource extends AbstractResource {
         }
         return result;
     }
+
+    /**
+     * Loads the statuses of a set of jobs with one query per page of {@value #JOB_STATUS_PAGE_SIZE} jobs.
+     * @param ids composite ids of task id and job id
+     * @return job statuses keyed by the given ids, jobs without a status are left out
+     */
+    public Map<CompositeIdentifier, StatusResource> getJobStatuses(List<CompositeIdentifier> ids)
+            throws RegistryException {
+        Map<String, CompositeIdentifier> idsByKey = new LinkedHashMap<String, CompositeIdentifier>();
+        for (CompositeIdentifier id : ids) {
+            idsByKey.put(id.getTopLevelIdentifier() + "," + id.getSecondLevelIdentifier(), id);
+        }
+        List<String> jobIds = new ArrayList<String>();
+        for (CompositeIdentifier id : idsByKey.values()) {
+            jobIds.add((String) id.getSecondLevelIdentifier());
+        }
+        Map<CompositeIdentifier, StatusResource> statuses = new LinkedHashMap<CompositeIdentifier, StatusResource>();
+        EntityManager em = null;
+        try {
+            em = ResourceUtils.getEntityManager();
+            em.getTransaction().begin();
+            for (int i = 0; i < jobIds.size(); i += JOB_STATUS_PAGE_SIZE) {
+                Query q = em.createQuery(JOB_STATUSES_QUERY);
+                q.setParameter("jobIds", jobIds.subList(i, Math.min(jobIds.size(), i + JOB_STATUS_PAGE_SIZE)));
+                q.setParameter("statusType", StatusType.JOB.toString());
+                for (Object o : q.getResultList()) {
+                    Status status = (Status) o;
+                    // job ids are only unique within a task
+                    CompositeIdentifier id = idsByKey.get(status.getTaskId() + "," + status.getJobId());
+                    if (id == null || statuses.containsKey(id)) {
+                        continue;
+                    }
+                    StatusResource statusResource = new StatusResource();
+                    statusResource.setStatusId(status.getStatusId());
+                    statusResource.setJobId(status.getJobId());
+                    statusResource.setStatusType(status.getStatusType());
+                    statusResource.setState(status.getState() == null || status.getState().equals("")
+                            ? "UNKNOWN" : status.getState());
+                    statusResource.setStatusUpdateTime(status.getStatusUpdateTime());
+                    statuses.put(id, statusResource);
+                }
+            }
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Build a parameterized search query. Filter values are always bound as parameters and the filter fields are
+     * visited in sorted order, so the same set of filter fields always produces the same JPQL string and OpenJPA
+     * can reuse the compiled query from its query compilation cache.
+     * @param selectClause select clause of the query
+     * @param alias alias of the searched entity used in the select clause
+     * @param exactMatchField field which is matched exactly. All the other fields are matched with LIKE
+     * @param filters filters keyed by entity field names
+     * @param parameters map to which the query parameters are added
+     * @return JPQL query string
+     */
+    private static String buildSearchQuery(String selectClause, String alias, String exactMatchField,
+                                           Map<String, String> filters, Map<String, Object> parameters) {
+        StringBuilder query = new StringBuilder(selectClause);
+        if (filters != null && filters.size() != 0) {
+            String separator = " WHERE ";
+            for (String field : new TreeSet<String>(filters.keySet())) {
+                String filterVal = filters.get(field);
+                query.append(separator).append(alias).append(".").append(field);
+                if (field.equals(exactMatchField)) {
+                    query.append(" = :").append(field);
+                    parameters.put(field, filterVal);
+                } else {
+                    query.append(" LIKE :").append(field);
+                    parameters.put(field, "%" + filterVal.replaceAll("\\*", "") + "%");
+                }
+                separator = " AND ";
+            }
+        }
+        return query.toString();
+    }
+
+    private static void setParameters(Query query, Map<String, Object> parameters) {
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            query.setParameter(parameter.getKey(), parameter.getValue());
+        }
+    }
 }
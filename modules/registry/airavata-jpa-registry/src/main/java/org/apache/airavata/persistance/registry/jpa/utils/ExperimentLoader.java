@@ -0,0 +1,497 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.persistance.registry.jpa.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.apache.airavata.model.workspace.experiment.DataTransferDetails;
+import org.apache.airavata.model.workspace.experiment.Experiment;
+import org.apache.airavata.model.workspace.experiment.JobDetails;
+import org.apache.airavata.model.workspace.experiment.TaskDetails;
+import org.apache.airavata.model.workspace.experiment.UserConfigurationData;
+import org.apache.airavata.model.workspace.experiment.WorkflowNodeDetails;
+import org.apache.airavata.persistance.registry.jpa.ResourceType;
+import org.apache.airavata.persistance.registry.jpa.ResourceUtils;
+import org.apache.airavata.persistance.registry.jpa.model.AdvancedInputDataHandling;
+import org.apache.airavata.persistance.registry.jpa.model.AdvancedOutputDataHandling;
+import org.apache.airavata.persistance.registry.jpa.model.ApplicationInput;
+import org.apache.airavata.persistance.registry.jpa.model.ApplicationOutput;
+import org.apache.airavata.persistance.registry.jpa.model.Computational_Resource_Scheduling;
+import org.apache.airavata.persistance.registry.jpa.model.DataTransferDetail;
+import org.apache.airavata.persistance.registry.jpa.model.ErrorDetail;
+import org.apache.airavata.persistance.registry.jpa.model.ExperimentConfigData;
+import org.apache.airavata.persistance.registry.jpa.model.Experiment_Input;
+import org.apache.airavata.persistance.registry.jpa.model.Experiment_Output;
+import org.apache.airavata.persistance.registry.jpa.model.JobDetail;
+import org.apache.airavata.persistance.registry.jpa.model.NodeInput;
+import org.apache.airavata.persistance.registry.jpa.model.NodeOutput;
+import org.apache.airavata.persistance.registry.jpa.model.QosParam;
+import org.apache.airavata.persistance.registry.jpa.model.Status;
+import org.apache.airavata.persistance.registry.jpa.model.TaskDetail;
+import org.apache.airavata.persistance.registry.jpa.model.WorkflowNodeDetail;
+import org.apache.airavata.persistance.registry.jpa.resources.*;
+import org.apache.airavata.registry.cpi.FetchDepth;
+import org.apache.airavata.registry.cpi.RegistryException;
+import org.apache.airavata.registry.cpi.utils.StatusType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts experiment resources to thrift experiments up to a {@link FetchDepth}. The children of a page of
+ * experiments are loaded with one query per child table, where {@link ThriftDataModelConversion#getExperiment} runs
+ * a few queries per child type for every experiment. At {@link FetchDepth#FULL} the workflow nodes, tasks, jobs and
+ * data transfers of the page and their children are loaded the same way.
+ */
+public class ExperimentLoader {
+    private final static Logger logger = LoggerFactory.getLogger(ExperimentLoader.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    public static Experiment getExperiment(ExperimentResource resource, FetchDepth fetchDepth) throws RegistryException {
+        if (resource == null) {
+            return null;
+        }
+        List<Experiment> experiments = getExperiments(Arrays.asList(resource), fetchDepth);
+        return experiments.get(0);
+    }
+
+    /**
+     * @return the experiments of the resources in the same order
+     */
+    public static List<Experiment> getExperiments(List<ExperimentResource> resources, FetchDepth fetchDepth)
+            throws RegistryException {
+        List<Experiment> experiments = new ArrayList<Experiment>();
+        for (int i = 0; i < resources.size(); i += PAGE_SIZE) {
+            experiments.addAll(getPage(resources.subList(i, Math.min(resources.size(), i + PAGE_SIZE)), fetchDepth));
+        }
+        return experiments;
+    }
+
+    private static List<Experiment> getPage(List<ExperimentResource> resources, FetchDepth fetchDepth)
+            throws RegistryException {
+        Map<String, Experiment> experiments = new LinkedHashMap<String, Experiment>();
+        for (ExperimentResource resource : resources) {
+            experiments.put(resource.getExpID(), ThriftDataModelConversion.getExperimentMetadata(resource));
+        }
+        List<String> ids = new ArrayList<String>(experiments.keySet());
+        EntityManager em = null;
+        try {
+            em = ResourceUtils.getEntityManager();
+            em.getTransaction().begin();
+            loadStatuses(em, ids, experiments, fetchDepth == FetchDepth.FULL);
+            if (fetchDepth != FetchDepth.SUMMARY) {
+                loadInputsAndOutputs(em, ids, experiments);
+                loadErrors(em, ids, experiments);
+                loadConfigData(em, ids, experiments);
+            }
+            if (fetchDepth == FetchDepth.FULL) {
+                loadWorkflowNodes(em, ids, experiments);
+            }
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        return new ArrayList<Experiment>(experiments.values());
+    }
+
+    private static void loadStatuses(EntityManager em, List<String> ids, Map<String, Experiment> experiments,
+                                     boolean withNodeStatuses) {
+        Query q = em.createQuery("SELECT p FROM Status p WHERE p.expId IN :ids AND p.statusType IN :types");
+        q.setParameter("ids", ids);
+        q.setParameter("types", withNodeStatuses
+                ? Arrays.asList(StatusType.EXPERIMENT.toString(), StatusType.WORKFLOW_NODE.toString())
+                : Arrays.asList(StatusType.EXPERIMENT.toString()));
+        Map<String, List<StatusResource>> nodeStatuses = new HashMap<String, List<StatusResource>>();
+        for (Object result : q.getResultList()) {
+            Status status = (Status) result;
+            StatusResource statusResource = (StatusResource) Utils.getResource(ResourceType.STATUS, status);
+            if (statusResource.getState() == null || statusResource.getState().equals("")) {
+                statusResource.setState("UNKNOWN");
+            }
+            Experiment experiment = experiments.get(status.getExpId());
+            if (StatusType.EXPERIMENT.toString().equals(status.getStatusType())) {
+                if (!experiment.isSetExperimentStatus()) {
+                    experiment.setExperimentStatus(ThriftDataModelConversion.getExperimentStatus(statusResource));
+                }
+            } else {
+                group(nodeStatuses, status.getExpId()).add(statusResource);
+            }
+        }
+        for (Map.Entry<String, List<StatusResource>> entry : nodeStatuses.entrySet()) {
+            experiments.get(entry.getKey()).setStateChangeList(
+                    ThriftDataModelConversion.getWorkflowNodeStatusList(entry.getValue()));
+        }
+    }
+
+    private static void loadInputsAndOutputs(EntityManager em, List<String> ids, Map<String, Experiment> experiments) {
+        Map<String, List<ExperimentInputResource>> inputs = new HashMap<String, List<ExperimentInputResource>>();
+        for (Object result : query(em, "SELECT p FROM Experiment_Input p WHERE p.experiment_id IN :ids", ids)) {
+            Experiment_Input input = (Experiment_Input) result;
+            group(inputs, input.getExperiment_id()).add(
+                    (ExperimentInputResource) Utils.getResource(ResourceType.EXPERIMENT_INPUT, input));
+        }
+        Map<String, List<ExperimentOutputResource>> outputs = new HashMap<String, List<ExperimentOutputResource>>();
+        for (Object result : query(em, "SELECT p FROM Experiment_Output p WHERE p.experiment_id IN :ids", ids)) {
+            Experiment_Output output = (Experiment_Output) result;
+            group(outputs, output.getExperiment_id()).add(
+                    (ExperimentOutputResource) Utils.getResource(ResourceType.EXPERIMENT_OUTPUT, output));
+        }
+        for (Map.Entry<String, Experiment> entry : experiments.entrySet()) {
+            entry.getValue().setExperimentInputs(ThriftDataModelConversion.getExpInputs(inputs.get(entry.getKey())));
+            entry.getValue().setExperimentOutputs(ThriftDataModelConversion.getExpOutputs(outputs.get(entry.getKey())));
+        }
+    }
+
+    private static void loadErrors(EntityManager em, List<String> ids, Map<String, Experiment> experiments) {
+        Map<String, List<ErrorDetailResource>> errors = new HashMap<String, List<ErrorDetailResource>>();
+        for (Object result : query(em, "SELECT p FROM ErrorDetail p WHERE p.expId IN :ids", ids)) {
+            ErrorDetail errorDetail = (ErrorDetail) result;
+            group(errors, errorDetail.getExpId()).add(
+                    (ErrorDetailResource) Utils.getResource(ResourceType.ERROR_DETAIL, errorDetail));
+        }
+        for (Map.Entry<String, List<ErrorDetailResource>> entry : errors.entrySet()) {
+            experiments.get(entry.getKey()).setErrors(ThriftDataModelConversion.getErrorDetailList(entry.getValue()));
+        }
+    }
+
+    /**
+     * Loads the user configuration data with the experiment level scheduling, data handling and QoS parameters, the
+     * rows of which have no task id.
+     */
+    private static void loadConfigData(EntityManager em, List<String> ids, Map<String, Experiment> experiments) {
+        Map<String, UserConfigurationData> configs = new HashMap<String, UserConfigurationData>();
+        for (Object result : query(em, "SELECT p FROM ExperimentConfigData p WHERE p.expId IN :ids", ids)) {
+            ExperimentConfigData configData = (ExperimentConfigData) result;
+            ConfigDataResource resource = (ConfigDataResource) Utils.getResource(ResourceType.CONFIG_DATA, configData);
+            UserConfigurationData data = new UserConfigurationData();
+            data.setAiravataAutoSchedule(resource.isAiravataAutoSchedule());
+            data.setOverrideManualScheduledParams(resource.isOverrideManualParams());
+            data.setShareExperimentPublicly(resource.isShareExp());
+            configs.put(configData.getExpId(), data);
+            experiments.get(configData.getExpId()).setUserConfigurationData(data);
+        }
+        if (configs.isEmpty()) {
+            return;
+        }
+        List<String> configIds = new ArrayList<String>(configs.keySet());
+        for (Object result : query(em, "SELECT p FROM Computational_Resource_Scheduling p WHERE p.expId IN :ids " +
+                "AND p.taskId IS NULL", configIds)) {
+            Computational_Resource_Scheduling scheduling = (Computational_Resource_Scheduling) result;
+            configs.get(scheduling.getExpId()).setComputationalResourceScheduling(
+                    ThriftDataModelConversion.getComputationalResourceScheduling((ComputationSchedulingResource)
+                            Utils.getResource(ResourceType.COMPUTATIONAL_RESOURCE_SCHEDULING, scheduling)));
+        }
+        for (Object result : query(em, "SELECT p FROM AdvancedInputDataHandling p WHERE p.expId IN :ids " +
+                "AND p.taskId IS NULL", configIds)) {
+            AdvancedInputDataHandling handling = (AdvancedInputDataHandling) result;
+            configs.get(handling.getExpId()).setAdvanceInputDataHandling(
+                    ThriftDataModelConversion.getAdvanceInputDataHandling((AdvanceInputDataHandlingResource)
+                            Utils.getResource(ResourceType.ADVANCE_INPUT_DATA_HANDLING, handling)));
+        }
+        for (Object result : query(em, "SELECT p FROM AdvancedOutputDataHandling p WHERE p.expId IN :ids " +
+                "AND p.taskId IS NULL", configIds)) {
+            AdvancedOutputDataHandling handling = (AdvancedOutputDataHandling) result;
+            configs.get(handling.getExpId()).setAdvanceOutputDataHandling(
+                    ThriftDataModelConversion.getAdvanceOutputDataHandling((AdvancedOutputDataHandlingResource)
+                            Utils.getResource(ResourceType.ADVANCE_OUTPUT_DATA_HANDLING, handling)));
+        }
+        for (Object result : query(em, "SELECT p FROM QosParam p WHERE p.expId IN :ids AND p.taskId IS NULL",
+                configIds)) {
+            QosParam qosParam = (QosParam) result;
+            configs.get(qosParam.getExpId()).setQosParams(ThriftDataModelConversion.getQOSParams(
+                    (QosParamResource) Utils.getResource(ResourceType.QOS_PARAM, qosParam)));
+        }
+    }
+
+    /**
+     * Loads the workflow nodes of the experiments with their inputs, outputs, statuses, errors and tasks. The tasks
+     * are loaded with their inputs, outputs, statuses, errors, scheduling and data handling, jobs and data transfers.
+     * Every child table is read once for the whole page, in the order its rows are returned, and the first status of
+     * the matching type is used like the resource getters do.
+     */
+    private static void loadWorkflowNodes(EntityManager em, List<String> ids, Map<String, Experiment> experiments) {
+        Map<String, WorkflowNodeDetails> nodes = new LinkedHashMap<String, WorkflowNodeDetails>();
+        Map<String, List<WorkflowNodeDetails>> nodesByExperiment = new HashMap<String, List<WorkflowNodeDetails>>();
+        for (Object result : query(em, "SELECT p FROM WorkflowNodeDetail p WHERE p.expId IN :ids", ids)) {
+            WorkflowNodeDetail nodeDetail = (WorkflowNodeDetail) result;
+            WorkflowNodeDetails node = ThriftDataModelConversion.getWorkflowNodeMetadata((WorkflowNodeDetailResource)
+                    Utils.getResource(ResourceType.WORKFLOW_NODE_DETAIL, nodeDetail));
+            nodes.put(nodeDetail.getNodeId(), node);
+            group(nodesByExperiment, nodeDetail.getExpId()).add(node);
+        }
+        if (nodes.isEmpty()) {
+            return;
+        }
+        List<String> nodeIds = new ArrayList<String>(nodes.keySet());
+
+        Map<String, List<NodeInputResource>> nodeInputs = new HashMap<String, List<NodeInputResource>>();
+        for (Object result : query(em, "SELECT p FROM NodeInput p WHERE p.nodeId IN :ids", nodeIds)) {
+            NodeInput input = (NodeInput) result;
+            group(nodeInputs, input.getNodeId()).add(
+                    (NodeInputResource) Utils.getResource(ResourceType.NODE_INPUT, input));
+        }
+        Map<String, List<NodeOutputResource>> nodeOutputs = new HashMap<String, List<NodeOutputResource>>();
+        for (Object result : query(em, "SELECT p FROM NodeOutput p WHERE p.nodeId IN :ids", nodeIds)) {
+            NodeOutput output = (NodeOutput) result;
+            group(nodeOutputs, output.getNodeId()).add(
+                    (NodeOutputResource) Utils.getResource(ResourceType.NODE_OUTPUT, output));
+        }
+        Map<String, StatusResource> nodeStatuses = new HashMap<String, StatusResource>();
+        for (Object result : query(em, "SELECT p FROM Status p WHERE p.nodeId IN :ids", nodeIds)) {
+            Status status = (Status) result;
+            putFirst(nodeStatuses, status.getNodeId(), StatusType.WORKFLOW_NODE, status);
+        }
+        Map<String, List<ErrorDetailResource>> nodeErrors = new HashMap<String, List<ErrorDetailResource>>();
+        for (Object result : query(em, "SELECT p FROM ErrorDetail p WHERE p.nodeId IN :ids", nodeIds)) {
+            ErrorDetail errorDetail = (ErrorDetail) result;
+            group(nodeErrors, errorDetail.getNodeId()).add(
+                    (ErrorDetailResource) Utils.getResource(ResourceType.ERROR_DETAIL, errorDetail));
+        }
+        Map<String, List<TaskDetails>> nodeTasks = loadTasks(em, nodeIds);
+
+        for (Map.Entry<String, WorkflowNodeDetails> entry : nodes.entrySet()) {
+            String nodeId = entry.getKey();
+            WorkflowNodeDetails node = entry.getValue();
+            node.setNodeInputs(ThriftDataModelConversion.getNodeInputs(nodeInputs.get(nodeId)));
+            node.setNodeOutputs(ThriftDataModelConversion.getNodeOutputs(nodeOutputs.get(nodeId)));
+            List<TaskDetails> tasks = nodeTasks.get(nodeId);
+            node.setTaskDetailsList(tasks == null ? new ArrayList<TaskDetails>() : tasks);
+            node.setWorkflowNodeStatus(ThriftDataModelConversion.getWorkflowNodeStatus(nodeStatuses.get(nodeId)));
+            node.setErrors(ThriftDataModelConversion.getErrorDetailList(nodeErrors.get(nodeId)));
+        }
+        for (Map.Entry<String, List<WorkflowNodeDetails>> entry : nodesByExperiment.entrySet()) {
+            experiments.get(entry.getKey()).setWorkflowNodeDetailsList(entry.getValue());
+        }
+    }
+
+    /**
+     * @return the tasks of the workflow nodes, grouped by node id
+     */
+    private static Map<String, List<TaskDetails>> loadTasks(EntityManager em, List<String> nodeIds) {
+        Map<String, TaskDetails> tasks = new LinkedHashMap<String, TaskDetails>();
+        Map<String, List<TaskDetails>> tasksByNode = new HashMap<String, List<TaskDetails>>();
+        for (Object result : query(em, "SELECT p FROM TaskDetail p WHERE p.nodeId IN :ids", nodeIds)) {
+            TaskDetail taskDetail = (TaskDetail) result;
+            TaskDetails task = ThriftDataModelConversion.getTaskDetailMetadata((TaskDetailResource)
+                    Utils.getResource(ResourceType.TASK_DETAIL, taskDetail));
+            tasks.put(taskDetail.getTaskId(), task);
+            group(tasksByNode, taskDetail.getNodeId()).add(task);
+        }
+        if (tasks.isEmpty()) {
+            return tasksByNode;
+        }
+        List<String> taskIds = new ArrayList<String>(tasks.keySet());
+
+        Map<String, List<ApplicationInputResource>> inputs = new HashMap<String, List<ApplicationInputResource>>();
+        for (Object result : query(em, "SELECT p FROM ApplicationInput p WHERE p.taskId IN :ids", taskIds)) {
+            ApplicationInput input = (ApplicationInput) result;
+            group(inputs, input.getTaskId()).add(
+                    (ApplicationInputResource) Utils.getResource(ResourceType.APPLICATION_INPUT, input));
+        }
+        Map<String, List<ApplicationOutputResource>> outputs = new HashMap<String, List<ApplicationOutputResource>>();
+        for (Object result : query(em, "SELECT p FROM ApplicationOutput p WHERE p.taskId IN :ids", taskIds)) {
+            ApplicationOutput output = (ApplicationOutput) result;
+            group(outputs, output.getTaskId()).add(
+                    (ApplicationOutputResource) Utils.getResource(ResourceType.APPLICATION_OUTPUT, output));
+        }
+        Map<String, StatusResource> statuses = new HashMap<String, StatusResource>();
+        for (Object result : query(em, "SELECT p FROM Status p WHERE p.taskId IN :ids", taskIds)) {
+            Status status = (Status) result;
+            putFirst(statuses, status.getTaskId(), StatusType.TASK, status);
+        }
+        Map<String, List<ErrorDetailResource>> errors = new HashMap<String, List<ErrorDetailResource>>();
+        for (Object result : query(em, "SELECT p FROM ErrorDetail p WHERE p.taskId IN :ids", taskIds)) {
+            ErrorDetail errorDetail = (ErrorDetail) result;
+            group(errors, errorDetail.getTaskId()).add(
+                    (ErrorDetailResource) Utils.getResource(ResourceType.ERROR_DETAIL, errorDetail));
+        }
+        for (Object result : query(em, "SELECT p FROM Computational_Resource_Scheduling p WHERE p.taskId IN :ids",
+                taskIds)) {
+            Computational_Resource_Scheduling scheduling = (Computational_Resource_Scheduling) result;
+            TaskDetails task = tasks.get(scheduling.getTaskId());
+            if (!task.isSetTaskScheduling()) {
+                task.setTaskScheduling(ThriftDataModelConversion.getComputationalResourceScheduling(
+                        (ComputationSchedulingResource) Utils.getResource(
+                                ResourceType.COMPUTATIONAL_RESOURCE_SCHEDULING, scheduling)));
+            }
+        }
+        for (Object result : query(em, "SELECT p FROM AdvancedInputDataHandling p WHERE p.taskId IN :ids", taskIds)) {
+            AdvancedInputDataHandling handling = (AdvancedInputDataHandling) result;
+            TaskDetails task = tasks.get(handling.getTaskId());
+            if (!task.isSetAdvancedInputDataHandling()) {
+                task.setAdvancedInputDataHandling(ThriftDataModelConversion.getAdvanceInputDataHandling(
+                        (AdvanceInputDataHandlingResource) Utils.getResource(
+                                ResourceType.ADVANCE_INPUT_DATA_HANDLING, handling)));
+            }
+        }
+        for (Object result : query(em, "SELECT p FROM AdvancedOutputDataHandling p WHERE p.taskId IN :ids", taskIds)) {
+            AdvancedOutputDataHandling handling = (AdvancedOutputDataHandling) result;
+            TaskDetails task = tasks.get(handling.getTaskId());
+            if (!task.isSetAdvancedOutputDataHandling()) {
+                task.setAdvancedOutputDataHandling(ThriftDataModelConversion.getAdvanceOutputDataHandling(
+                        (AdvancedOutputDataHandlingResource) Utils.getResource(
+                                ResourceType.ADVANCE_OUTPUT_DATA_HANDLING, handling)));
+            }
+        }
+        Map<String, List<JobDetails>> jobs = loadJobs(em, taskIds);
+        Map<String, List<DataTransferDetails>> transfers = loadDataTransfers(em, taskIds);
+
+        for (Map.Entry<String, TaskDetails> entry : tasks.entrySet()) {
+            String taskId = entry.getKey();
+            TaskDetails task = entry.getValue();
+            task.setApplicationInputs(ThriftDataModelConversion.getApplicationInputs(inputs.get(taskId)));
+            task.setApplicationOutputs(ThriftDataModelConversion.getApplicationOutputs(outputs.get(taskId)));
+            task.setTaskStatus(ThriftDataModelConversion.getTaskStatus(statuses.get(taskId)));
+            List<JobDetails> taskJobs = jobs.get(taskId);
+            task.setJobDetailsList(taskJobs == null ? new ArrayList<JobDetails>() : taskJobs);
+            task.setErrors(ThriftDataModelConversion.getErrorDetailList(errors.get(taskId)));
+            List<DataTransferDetails> taskTransfers = transfers.get(taskId);
+            task.setDataTransferDetailsList(taskTransfers == null ? new ArrayList<DataTransferDetails>() : taskTransfers);
+        }
+        return tasksByNode;
+    }
+
+    /**
+     * @return the jobs of the tasks, grouped by task id. Job statuses and errors are matched by job id only, like
+     * {@link JobDetailResource} does.
+     */
+    private static Map<String, List<JobDetails>> loadJobs(EntityManager em, List<String> taskIds) {
+        List<JobDetails> jobs = new ArrayList<JobDetails>();
+        Map<String, List<JobDetails>> jobsByTask = new HashMap<String, List<JobDetails>>();
+        for (Object result : query(em, "SELECT p FROM JobDetail p WHERE p.taskId IN :ids", taskIds)) {
+            JobDetail jobDetail = (JobDetail) result;
+            JobDetails job = ThriftDataModelConversion.getJobDetailMetadata((JobDetailResource)
+                    Utils.getResource(ResourceType.JOB_DETAIL, jobDetail));
+            jobs.add(job);
+            group(jobsByTask, jobDetail.getTaskId()).add(job);
+        }
+        if (jobs.isEmpty()) {
+            return jobsByTask;
+        }
+        Set<String> jobIds = new LinkedHashSet<String>();
+        for (JobDetails job : jobs) {
+            jobIds.add(job.getJobID());
+        }
+        Map<String, StatusResource> jobStatuses = new HashMap<String, StatusResource>();
+        Map<String, StatusResource> applicationStatuses = new HashMap<String, StatusResource>();
+        for (Object result : query(em, "SELECT p FROM Status p WHERE p.jobId IN :ids",
+                new ArrayList<String>(jobIds))) {
+            Status status = (Status) result;
+            putFirst(jobStatuses, status.getJobId(), StatusType.JOB, status);
+            putFirst(applicationStatuses, status.getJobId(), StatusType.APPLICATION, status);
+        }
+        Map<String, List<ErrorDetailResource>> errors = new HashMap<String, List<ErrorDetailResource>>();
+        for (Object result : query(em, "SELECT p FROM ErrorDetail p WHERE p.jobId IN :ids",
+                new ArrayList<String>(jobIds))) {
+            ErrorDetail errorDetail = (ErrorDetail) result;
+            group(errors, errorDetail.getJobId()).add(
+                    (ErrorDetailResource) Utils.getResource(ResourceType.ERROR_DETAIL, errorDetail));
+        }
+        for (JobDetails job : jobs) {
+            job.setJobStatus(ThriftDataModelConversion.getJobStatus(jobStatuses.get(job.getJobID())));
+            job.setApplicationStatus(ThriftDataModelConversion.getApplicationStatus(
+                    applicationStatuses.get(job.getJobID())));
+            job.setErrors(ThriftDataModelConversion.getErrorDetailList(errors.get(job.getJobID())));
+        }
+        return jobsByTask;
+    }
+
+    /**
+     * @return the data transfers of the tasks, grouped by task id
+     */
+    private static Map<String, List<DataTransferDetails>> loadDataTransfers(EntityManager em, List<String> taskIds) {
+        Map<String, DataTransferDetails> transfers = new LinkedHashMap<String, DataTransferDetails>();
+        Map<String, List<DataTransferDetails>> transfersByTask = new HashMap<String, List<DataTransferDetails>>();
+        for (Object result : query(em, "SELECT p FROM DataTransferDetail p WHERE p.taskId IN :ids", taskIds)) {
+            DataTransferDetail transferDetail = (DataTransferDetail) result;
+            DataTransferDetails transfer = ThriftDataModelConversion.getDataTransferMetadata(
+                    (DataTransferDetailResource) Utils.getResource(ResourceType.DATA_TRANSFER_DETAIL, transferDetail));
+            transfers.put(transferDetail.getTransferId(), transfer);
+            group(transfersByTask, transferDetail.getTaskId()).add(transfer);
+        }
+        if (transfers.isEmpty()) {
+            return transfersByTask;
+        }
+        Map<String, StatusResource> statuses = new HashMap<String, StatusResource>();
+        for (Object result : query(em, "SELECT p FROM Status p WHERE p.transferId IN :ids",
+                new ArrayList<String>(transfers.keySet()))) {
+            Status status = (Status) result;
+            putFirst(statuses, status.getTransferId(), StatusType.DATA_TRANSFER, status);
+        }
+        for (Map.Entry<String, DataTransferDetails> entry : transfers.entrySet()) {
+            entry.getValue().setTransferStatus(ThriftDataModelConversion.getTransferStatus(statuses.get(entry.getKey())));
+        }
+        return transfersByTask;
+    }
+
+    /**
+     * Keeps the first status of the given type for each key
+     */
+    private static void putFirst(Map<String, StatusResource> statuses, String key, StatusType statusType,
+                                 Status status) {
+        if (statusType.toString().equals(status.getStatusType()) && !statuses.containsKey(key)) {
+            statuses.put(key, (StatusResource) Utils.getResource(ResourceType.STATUS, status));
+        }
+    }
+
+    /**
+     * Runs the query for at most {@link #PAGE_SIZE} ids at a time, so the IN list stays bounded when a page of
+     * experiments has many workflow nodes, tasks or jobs
+     */
+    private static List<Object> query(EntityManager em, String queryString, List<String> ids) {
+        List<Object> results = new ArrayList<Object>();
+        for (int i = 0; i < ids.size(); i += PAGE_SIZE) {
+            Query q = em.createQuery(queryString);
+            q.setParameter("ids", ids.subList(i, Math.min(ids.size(), i + PAGE_SIZE)));
+            results.addAll(q.getResultList());
+        }
+        return results;
+    }
+
+    private static <T> List<T> group(Map<String, List<T>> groups, String key) {
+        List<T> group = groups.get(key);
+        if (group == null) {
+            group = new ArrayList<T>();
+            groups.put(key, group);
+        }
+        return group;
+    }
+}
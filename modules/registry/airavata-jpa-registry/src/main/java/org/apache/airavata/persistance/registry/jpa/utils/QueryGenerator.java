@@ -21,15 +21,20 @@
 
 package org.apache.airavata.persistance.registry.jpa.utils;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 
+/**
+ * Generates parameterized select and delete queries for a table. Matches are kept sorted by column name and the
+ * match values are always bound as parameters, so every query for the same table and set of columns has the same
+ * JPQL string and is compiled only once by OpenJPA's query compilation cache.
+ */
 public class QueryGenerator {
 	private String tableName;
-	private Map<String,Object> matches=new HashMap<String, Object>();
+	private Map<String,Object> matches=new TreeMap<String, Object>();
 	private static final String SELECT_OBJ="p";
 	private static final String DELETE_OBJ="p";
 	private static final String TABLE_OBJ="p";
@@ -77,25 +82,19 @@ public class QueryGenerator {
 
 	private Query generateQueryWithParameters(EntityManager entityManager,
 			String queryString) {
-		Map<String,Object> queryParameters=new HashMap<String, Object>();
-		if (matches.size()>0){
-			String matchString = "";
-			int paramCount=0;
-			for (String colName : matches.keySet()) {
-				String paramName="param"+paramCount;
-				queryParameters.put(paramName, matches.get(colName));
-				if (!matchString.equals("")){
-					matchString+=" AND ";
-				}
-				matchString+=TABLE_OBJ+"."+colName+" =:"+paramName;
-				paramCount++;
-			}
-			queryString+=" WHERE "+matchString;
+		StringBuilder query = new StringBuilder(queryString);
+		int paramCount=0;
+		for (String colName : matches.keySet()) {
+			query.append(paramCount == 0 ? " WHERE " : " AND ");
+			query.append(TABLE_OBJ).append(".").append(colName).append(" =:param").append(paramCount);
+			paramCount++;
 		}
-		Query query = entityManager.createQuery(queryString);
-		for (String paramName : queryParameters.keySet()) {
-			query.setParameter(paramName, queryParameters.get(paramName));
+		Query jpaQuery = entityManager.createQuery(query.toString());
+		paramCount=0;
+		for (Object matchValue : matches.values()) {
+			jpaQuery.setParameter("param"+paramCount, matchValue);
+			paramCount++;
 		}
-		return query;
+		return jpaQuery;
 	}
 }
@@ -0,0 +1,189 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.persistance.registry.jpa.utils;
+
+import org.apache.thrift.TBase;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, least recently used cache of status objects keyed by the id of the experiment, task or job they
+ * belong to. Entries expire after a configurable time to live, so statuses written by registry instances running
+ * in other processes are picked up after at most that long. Values are copied on the way in and out because the
+ * thrift models are mutable.
+ */
+public class StatusCache<V extends TBase<V, ?>> {
+    private final String name;
+    private final int maxSize;
+    private final long timeToLive;
+    private final LinkedHashMap<String, Entry<V>> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param name       name of the cache, used when reporting statistics
+     * @param maxSize    maximum number of statuses kept. A value less than or equal to zero disables the cache
+     * @param timeToLive time in milliseconds an entry is served for before it is read from the database again
+     */
+    public StatusCache(String name, int maxSize, long timeToLive) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > StatusCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return a copy of the cached status or null if there is no live entry for the key
+     */
+    public V get(String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(timeToLive)) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copy(entry.value);
+    }
+
+    public void put(String key, V value) {
+        if (!isEnabled() || key == null) {
+            return;
+        }
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+        Entry<V> entry = new Entry<V>(copy(value));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void invalidate(String key) {
+        if (!isEnabled() || key == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry whose key starts with the given prefix, used when a parent object is removed and the
+     * statuses of its children go with it.
+     */
+    public void invalidatePrefix(String prefix) {
+        if (!isEnabled() || prefix == null) {
+            return;
+        }
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return name + " status cache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private V copy(V value) {
+        return (V) value.deepCopy();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long createdTime = System.currentTimeMillis();
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private boolean isExpired(long timeToLive) {
+            return timeToLive > 0 && System.currentTimeMillis() - createdTime > timeToLive;
+        }
+    }
+}
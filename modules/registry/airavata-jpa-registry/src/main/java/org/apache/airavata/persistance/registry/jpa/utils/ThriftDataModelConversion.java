@@ -63,6 +63,7 @@ import org.apache.airavata.persistance.registry.jpa.resources.ComputationSchedul
 import org.apache.airavata.persistance.registry.jpa.resources.ConfigDataResource;
 import org.apache.airavata.persistance.registry.jpa.resources.DataTransferDetailResource;
 import org.apache.airavata.persistance.registry.jpa.resources.ErrorDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentSummaryResource;
 import org.apache.airavata.persistance.registry.jpa.resources.ExperimentInputResource;
 import org.apache.airavata.persistance.registry.jpa.resources.ExperimentOutputResource;
 import org.apache.airavata.persistance.registry.jpa.resources.ExperimentResource;
@@ -108,20 +109,7 @@ public class ThriftDataModelConversion {
 
     public static Experiment getExperiment(ExperimentResource experimentResource) throws RegistryException {
         if (experimentResource != null){
-            Experiment experiment = new Experiment();
-            if (experimentResource.getProject()!= null){
-                experiment.setProjectID(experimentResource.getProject().getId());
-            }
-            experiment.setExperimentID(experimentResource.getExpID());
-            experiment.setCreationTime(experimentResource.getCreationTime().getTime());
-            experiment.setUserName(experimentResource.getExecutionUser());
-            experiment.setName(experimentResource.getExpName());
-            experiment.setDescription(experimentResource.getDescription());
-            experiment.setApplicationId(experimentResource.getApplicationId());
-            experiment.setApplicationVersion(experimentResource.getApplicationVersion());
-            experiment.setWorkflowTemplateId(experimentResource.getWorkflowTemplateId());
-            experiment.setWorkflowTemplateVersion(experimentResource.getWorkflowTemplateVersion());
-            experiment.setWorkflowExecutionInstanceId(experimentResource.getWorkflowExecutionId());
+            Experiment experiment = getExperimentMetadata(experimentResource);
             List<ExperimentInputResource> experimentInputs = experimentResource.getExperimentInputs();
             experiment.setExperimentInputs(getExpInputs(experimentInputs));
             List<ExperimentOutputResource> experimentOutputs = experimentResource.getExperimentOutputs();
@@ -153,6 +141,27 @@ public class ThriftDataModelConversion {
         return null;
     }
 
+    /**
+     * @return the experiment with only the fields of the experiment table set
+     */
+    public static Experiment getExperimentMetadata(ExperimentResource experimentResource) {
+        Experiment experiment = new Experiment();
+        if (experimentResource.getProject()!= null){
+            experiment.setProjectID(experimentResource.getProject().getId());
+        }
+        experiment.setExperimentID(experimentResource.getExpID());
+        experiment.setCreationTime(experimentResource.getCreationTime().getTime());
+        experiment.setUserName(experimentResource.getExecutionUser());
+        experiment.setName(experimentResource.getExpName());
+        experiment.setDescription(experimentResource.getDescription());
+        experiment.setApplicationId(experimentResource.getApplicationId());
+        experiment.setApplicationVersion(experimentResource.getApplicationVersion());
+        experiment.setWorkflowTemplateId(experimentResource.getWorkflowTemplateId());
+        experiment.setWorkflowTemplateVersion(experimentResource.getWorkflowTemplateVersion());
+        experiment.setWorkflowExecutionInstanceId(experimentResource.getWorkflowExecutionId());
+        return experiment;
+    }
+
     public static ExperimentSummary getExperimentSummary(ExperimentResource experimentResource) throws RegistryException {
         if (experimentResource != null){
             ExperimentSummary experimentSummary = new ExperimentSummary();
@@ -178,6 +187,29 @@ public class ThriftDataModelConversion {
         return null;
     }
 
+    public static ExperimentSummary getExperimentSummary(ExperimentSummaryResource summaryResource) {
+        if (summaryResource != null){
+            ExperimentSummary experimentSummary = new ExperimentSummary();
+            experimentSummary.setProjectID(summaryResource.getProjectID());
+            experimentSummary.setExperimentID(summaryResource.getExpID());
+            experimentSummary.setCreationTime(summaryResource.getCreationTime().getTime());
+            experimentSummary.setUserName(summaryResource.getExecutionUser());
+            experimentSummary.setName(summaryResource.getExpName());
+            experimentSummary.setDescription(summaryResource.getDescription());
+            experimentSummary.setApplicationId(summaryResource.getApplicationId());
+            StatusResource experimentStatus = summaryResource.getStatus();
+            if (experimentStatus != null){
+                experimentSummary.setExperimentStatus(getExperimentStatus(experimentStatus));
+            }
+            List<ErrorDetailResource> errorDetails = summaryResource.getErrorDetails();
+            if (errorDetails!= null && !errorDetails.isEmpty()){
+                experimentSummary.setErrors(getErrorDetailList(errorDetails));
+            }
+            return experimentSummary;
+        }
+        return null;
+    }
+
     public static DataObjectType getInputOutput(Object object){
         if (object != null){
             DataObjectType dataObjectType = new DataObjectType();
@@ -398,10 +430,7 @@ public class ThriftDataModelConversion {
 
     public static WorkflowNodeDetails getWorkflowNodeDetails(WorkflowNodeDetailResource nodeDetailResource) throws RegistryException {
         if (nodeDetailResource != null){
-            WorkflowNodeDetails wfNode = new WorkflowNodeDetails();
-            wfNode.setNodeInstanceId(nodeDetailResource.getNodeInstanceId());
-            wfNode.setCreationTime(nodeDetailResource.getCreationTime().getTime());
-            wfNode.setNodeName(nodeDetailResource.getNodeName());
+            WorkflowNodeDetails wfNode = getWorkflowNodeMetadata(nodeDetailResource);
             List<NodeInputResource> nodeInputs = nodeDetailResource.getNodeInputs();
             wfNode.setNodeInputs(getNodeInputs(nodeInputs));
             List<NodeOutputResource> nodeOutputs = nodeDetailResource.getNodeOutputs();
@@ -411,13 +440,24 @@ public class ThriftDataModelConversion {
             wfNode.setWorkflowNodeStatus(getWorkflowNodeStatus(nodeDetailResource.getWorkflowNodeStatus()));
             List<ErrorDetailResource> errorDetails = nodeDetailResource.getErrorDetails();
             wfNode.setErrors(getErrorDetailList(errorDetails));
-            wfNode.setExecutionUnit(ExecutionUnit.valueOf(nodeDetailResource.getExecutionUnit()));
-            wfNode.setExecutionUnitData(nodeDetailResource.getExecutionUnitData());
             return wfNode;
         }
         return null;
     }
 
+    /**
+     * @return the workflow node with only the fields of the workflow node table set
+     */
+    public static WorkflowNodeDetails getWorkflowNodeMetadata(WorkflowNodeDetailResource nodeDetailResource) {
+        WorkflowNodeDetails wfNode = new WorkflowNodeDetails();
+        wfNode.setNodeInstanceId(nodeDetailResource.getNodeInstanceId());
+        wfNode.setCreationTime(nodeDetailResource.getCreationTime().getTime());
+        wfNode.setNodeName(nodeDetailResource.getNodeName());
+        wfNode.setExecutionUnit(ExecutionUnit.valueOf(nodeDetailResource.getExecutionUnit()));
+        wfNode.setExecutionUnitData(nodeDetailResource.getExecutionUnitData());
+        return wfNode;
+    }
+
     public static List<WorkflowNodeDetails> getWfNodeList (List<WorkflowNodeDetailResource> resources) throws RegistryException {
         List<WorkflowNodeDetails> workflowNodeDetailsList = new ArrayList<WorkflowNodeDetails>();
         if (resources != null && !resources.isEmpty()){
@@ -430,16 +470,12 @@ public class ThriftDataModelConversion {
 
     public static TaskDetails getTaskDetail (TaskDetailResource taskDetailResource) throws RegistryException {
         if (taskDetailResource != null){
-            TaskDetails taskDetails = new TaskDetails();
+            TaskDetails taskDetails = getTaskDetailMetadata(taskDetailResource);
             String taskId = taskDetailResource.getTaskId();
-            taskDetails.setTaskID(taskId);
-            taskDetails.setApplicationId(taskDetailResource.getApplicationId());
-            taskDetails.setApplicationVersion(taskDetailResource.getApplicationVersion());
             List<ApplicationInputResource> applicationInputs = taskDetailResource.getApplicationInputs();
             taskDetails.setApplicationInputs(getApplicationInputs(applicationInputs));
             List<ApplicationOutputResource> applicationOutputs = taskDetailResource.getApplicationOutputs();
             taskDetails.setApplicationOutputs(getApplicationOutputs(applicationOutputs));
-            taskDetails.setApplicationDeploymentId(taskDetailResource.getApplicationDeploymentId());
             if (taskDetailResource.isExists(ResourceType.COMPUTATIONAL_RESOURCE_SCHEDULING, taskId)){
                 ComputationSchedulingResource computationScheduling = taskDetailResource.getComputationScheduling(taskId);
                 taskDetails.setTaskScheduling(getComputationalResourceScheduling(computationScheduling));
@@ -465,6 +501,18 @@ public class ThriftDataModelConversion {
         return null;
     }
 
+    /**
+     * @return the task with only the fields of the task table set
+     */
+    public static TaskDetails getTaskDetailMetadata(TaskDetailResource taskDetailResource) {
+        TaskDetails taskDetails = new TaskDetails();
+        taskDetails.setTaskID(taskDetailResource.getTaskId());
+        taskDetails.setApplicationId(taskDetailResource.getApplicationId());
+        taskDetails.setApplicationVersion(taskDetailResource.getApplicationVersion());
+        taskDetails.setApplicationDeploymentId(taskDetailResource.getApplicationDeploymentId());
+        return taskDetails;
+    }
+
     public static List<TaskDetails> getTaskDetailsList (List<TaskDetailResource> resources) throws RegistryException {
         List<TaskDetails> taskDetailsList = new ArrayList<TaskDetails>();
         if (resources != null && !resources.isEmpty()){
@@ -488,22 +536,30 @@ public class ThriftDataModelConversion {
 
     public static JobDetails getJobDetail(JobDetailResource jobDetailResource) throws RegistryException {
         if (jobDetailResource != null){
-            JobDetails jobDetails = new JobDetails();
-            jobDetails.setJobID(jobDetailResource.getJobId());
-            jobDetails.setJobDescription(jobDetailResource.getJobDescription());
-            jobDetails.setCreationTime(jobDetailResource.getCreationTime().getTime());
+            JobDetails jobDetails = getJobDetailMetadata(jobDetailResource);
             StatusResource jobStatus = jobDetailResource.getJobStatus();
             jobDetails.setJobStatus(getJobStatus(jobStatus));
             StatusResource applicationStatus = jobDetailResource.getApplicationStatus();
             jobDetails.setApplicationStatus(getApplicationStatus(applicationStatus));
             List<ErrorDetailResource> errorDetails = jobDetailResource.getErrorDetails();
             jobDetails.setErrors(getErrorDetailList(errorDetails));
-            jobDetails.setComputeResourceConsumed(jobDetailResource.getComputeResourceConsumed());
             return jobDetails;
         }
         return null;
     }
 
+    /**
+     * @return the job with only the fields of the job table set
+     */
+    public static JobDetails getJobDetailMetadata(JobDetailResource jobDetailResource) {
+        JobDetails jobDetails = new JobDetails();
+        jobDetails.setJobID(jobDetailResource.getJobId());
+        jobDetails.setJobDescription(jobDetailResource.getJobDescription());
+        jobDetails.setCreationTime(jobDetailResource.getCreationTime().getTime());
+        jobDetails.setComputeResourceConsumed(jobDetailResource.getComputeResourceConsumed());
+        return jobDetails;
+    }
+
     public static ErrorDetails getErrorDetails (ErrorDetailResource resource){
         if (resource != null){
             ErrorDetails errorDetails = new ErrorDetails();
@@ -532,16 +588,24 @@ public class ThriftDataModelConversion {
 
     public static DataTransferDetails getDataTransferDetail (DataTransferDetailResource resource) throws RegistryException {
         if (resource != null){
-            DataTransferDetails details = new DataTransferDetails();
-            details.setTransferID(resource.getTransferId());
-            details.setCreationTime(resource.getCreationTime().getTime());
-            details.setTransferDescription(resource.getTransferDescription());
+            DataTransferDetails details = getDataTransferMetadata(resource);
             details.setTransferStatus(getTransferStatus(resource.getDataTransferStatus()));
             return details;
         }
         return null;
     }
 
+    /**
+     * @return the data transfer with only the fields of the data transfer table set
+     */
+    public static DataTransferDetails getDataTransferMetadata(DataTransferDetailResource resource) {
+        DataTransferDetails details = new DataTransferDetails();
+        details.setTransferID(resource.getTransferId());
+        details.setCreationTime(resource.getCreationTime().getTime());
+        details.setTransferDescription(resource.getTransferDescription());
+        return details;
+    }
+
     public static List<DataTransferDetails> getDataTransferlList (List<DataTransferDetailResource> resources) throws RegistryException {
         List<DataTransferDetails> transferDetailsList = new ArrayList<DataTransferDetails>();
         if (resources != null && !resources.isEmpty()){
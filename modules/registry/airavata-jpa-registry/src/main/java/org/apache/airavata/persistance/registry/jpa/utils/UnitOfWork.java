@@ -0,0 +1,163 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.persistance.registry.jpa.utils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * A thread bound unit of work which lets a sequence of resource saves share a single entity manager and
+ * transaction. While a unit of work is active {@link org.apache.airavata.persistance.registry.jpa.ResourceUtils#getEntityManager()}
+ * hands out a view of the shared entity manager on which close() does nothing and whose transaction begin/commit
+ * calls only track nesting, so the existing resource code works unchanged and everything is written to the
+ * database in one flush when the outermost unit of work commits.
+ */
+public class UnitOfWork {
+    private final EntityManager entityManager;
+    private final EntityManager sharedView;
+    private final EntityTransaction sharedTransaction;
+    private int nesting;
+    private int transactionDepth;
+    private boolean rollbackOnly;
+
+    public UnitOfWork(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.sharedTransaction = (EntityTransaction) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(),
+                new Class[]{EntityTransaction.class}, new TransactionHandler());
+        this.sharedView = (EntityManager) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(),
+                new Class[]{EntityManager.class}, new EntityManagerHandler());
+        entityManager.getTransaction().begin();
+    }
+
+    public EntityManager getEntityManager() {
+        return sharedView;
+    }
+
+    public void enter() {
+        nesting++;
+    }
+
+    /**
+     * @return true if this was the outermost unit of work and the caller should complete it
+     */
+    public boolean exit() {
+        return nesting-- == 0;
+    }
+
+    public void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    public void commit() {
+        EntityTransaction transaction = entityManager.getTransaction();
+        try {
+            if (rollbackOnly) {
+                transaction.rollback();
+                throw new IllegalStateException("Unit of work was marked for rollback, no changes were saved");
+            }
+            transaction.commit();
+        } finally {
+            close();
+        }
+    }
+
+    public void rollback() {
+        try {
+            EntityTransaction transaction = entityManager.getTransaction();
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void close() {
+        if (entityManager.isOpen()) {
+            entityManager.close();
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class EntityManagerHandler implements InvocationHandler {
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                return null;
+            } else if (name.equals("getTransaction")) {
+                return sharedTransaction;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return UnitOfWork.invoke(entityManager, method, args);
+        }
+    }
+
+    private class TransactionHandler implements InvocationHandler {
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("begin")) {
+                transactionDepth++;
+                return null;
+            } else if (name.equals("commit")) {
+                if (rollbackOnly) {
+                    throw new IllegalStateException("Unit of work was marked for rollback");
+                }
+                transactionDepth--;
+                return null;
+            } else if (name.equals("rollback")) {
+                rollbackOnly = true;
+                transactionDepth--;
+                return null;
+            } else if (name.equals("isActive")) {
+                return transactionDepth > 0;
+            } else if (name.equals("setRollbackOnly")) {
+                rollbackOnly = true;
+                return null;
+            } else if (name.equals("getRollbackOnly")) {
+                return rollbackOnly;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return UnitOfWork.invoke(entityManager.getTransaction(), method, args);
+        }
+    }
+}
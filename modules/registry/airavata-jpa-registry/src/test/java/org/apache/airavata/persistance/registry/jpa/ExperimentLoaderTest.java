@@ -0,0 +1,213 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+
+package org.apache.airavata.persistance.registry.jpa;
+
+import static org.junit.Assert.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.airavata.model.workspace.experiment.Experiment;
+import org.apache.airavata.model.workspace.experiment.JobDetails;
+import org.apache.airavata.model.workspace.experiment.JobState;
+import org.apache.airavata.model.workspace.experiment.TaskDetails;
+import org.apache.airavata.model.workspace.experiment.TaskState;
+import org.apache.airavata.model.workspace.experiment.TransferState;
+import org.apache.airavata.model.workspace.experiment.WorkflowNodeDetails;
+import org.apache.airavata.model.workspace.experiment.WorkflowNodeState;
+import org.apache.airavata.persistance.registry.jpa.resources.ApplicationInputResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ComputationSchedulingResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ConfigDataResource;
+import org.apache.airavata.persistance.registry.jpa.resources.DataTransferDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ErrorDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentInputResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentResource;
+import org.apache.airavata.persistance.registry.jpa.resources.JobDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.NodeInputResource;
+import org.apache.airavata.persistance.registry.jpa.resources.StatusResource;
+import org.apache.airavata.persistance.registry.jpa.resources.TaskDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.WorkflowNodeDetailResource;
+import org.apache.airavata.persistance.registry.jpa.utils.ExperimentLoader;
+import org.apache.airavata.persistance.registry.jpa.utils.ThriftDataModelConversion;
+import org.apache.airavata.registry.cpi.FetchDepth;
+import org.apache.airavata.registry.cpi.utils.StatusType;
+import org.junit.After;
+import org.junit.Test;
+
+public class ExperimentLoaderTest extends AbstractResourceTest {
+    private static final int EXPERIMENT_COUNT = 3;
+    private List<ExperimentResource> experimentResources = new ArrayList<ExperimentResource>();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Timestamp now = getCurrentTimestamp();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            ExperimentResource experimentResource = (ExperimentResource) getGatewayResource().create(ResourceType.EXPERIMENT);
+            experimentResource.setExpID("loaderExp" + i);
+            experimentResource.setExecutionUser(getWorkerResource().getUser());
+            experimentResource.setProject(getProjectResource());
+            experimentResource.setCreationTime(now);
+            experimentResource.setApplicationId("loaderApplication");
+            experimentResource.setExpName("LoaderExperiment" + i);
+            experimentResource.save();
+            experimentResources.add(experimentResource);
+
+            StatusResource statusResource = (StatusResource) experimentResource.create(ResourceType.STATUS);
+            statusResource.setExperimentResource(experimentResource);
+            statusResource.setStatusType(StatusType.EXPERIMENT.toString());
+            statusResource.setState("CREATED");
+            statusResource.setStatusUpdateTime(now);
+            statusResource.save();
+
+            ExperimentInputResource inputResource = (ExperimentInputResource) experimentResource.create(ResourceType.EXPERIMENT_INPUT);
+            inputResource.setExperimentResource(experimentResource);
+            inputResource.setExperimentKey("input" + i);
+            inputResource.setValue("value" + i);
+            inputResource.setInputType("STRING");
+            inputResource.save();
+        }
+        ExperimentResource configured = experimentResources.get(0);
+        ConfigDataResource configDataResource = (ConfigDataResource) configured.create(ResourceType.CONFIG_DATA);
+        configDataResource.setAiravataAutoSchedule(true);
+        configDataResource.save();
+        ComputationSchedulingResource schedulingResource = (ComputationSchedulingResource) configured.create(ResourceType.COMPUTATIONAL_RESOURCE_SCHEDULING);
+        schedulingResource.setResourceHostId("loaderResource");
+        schedulingResource.setCpuCount(16);
+        schedulingResource.setQueueName("normal");
+        schedulingResource.setJobStartTime(now);
+        schedulingResource.save();
+
+        WorkflowNodeDetailResource nodeDetailResource = (WorkflowNodeDetailResource) configured.create(ResourceType.WORKFLOW_NODE_DETAIL);
+        nodeDetailResource.setExperimentResource(configured);
+        nodeDetailResource.setNodeInstanceId("loaderNode");
+        nodeDetailResource.setNodeName("loaderNode");
+        nodeDetailResource.setExecutionUnit("APPLICATION");
+        nodeDetailResource.setCreationTime(now);
+        nodeDetailResource.save();
+        NodeInputResource nodeInputResource = (NodeInputResource) nodeDetailResource.create(ResourceType.NODE_INPUT);
+        nodeInputResource.setInputKey("nodeInput");
+        nodeInputResource.setInputType("STRING");
+        nodeInputResource.setValue("nodeValue");
+        nodeInputResource.save();
+        saveStatus(configured, (StatusResource) nodeDetailResource.create(ResourceType.STATUS),
+                StatusType.WORKFLOW_NODE, "EXECUTING");
+
+        TaskDetailResource taskDetailResource = (TaskDetailResource) nodeDetailResource.create(ResourceType.TASK_DETAIL);
+        taskDetailResource.setTaskId("loaderTask");
+        taskDetailResource.setApplicationId("loaderApplication");
+        taskDetailResource.setApplicationVersion("1.0");
+        taskDetailResource.setCreationTime(now);
+        taskDetailResource.save();
+        ApplicationInputResource applicationInputResource = (ApplicationInputResource) taskDetailResource.create(ResourceType.APPLICATION_INPUT);
+        applicationInputResource.setInputKey("taskInput");
+        applicationInputResource.setInputType("STRING");
+        applicationInputResource.setValue("taskValue");
+        applicationInputResource.save();
+        saveStatus(configured, (StatusResource) taskDetailResource.create(ResourceType.STATUS), StatusType.TASK, "STARTED");
+
+        JobDetailResource jobDetailResource = (JobDetailResource) taskDetailResource.create(ResourceType.JOB_DETAIL);
+        jobDetailResource.setJobId("loaderJob");
+        jobDetailResource.setJobDescription("loaderJobDescription");
+        jobDetailResource.setCreationTime(now);
+        jobDetailResource.save();
+        StatusResource jobStatusResource = (StatusResource) taskDetailResource.create(ResourceType.STATUS);
+        jobStatusResource.setJobId("loaderJob");
+        saveStatus(configured, jobStatusResource, StatusType.JOB, "QUEUED");
+
+        DataTransferDetailResource transferDetailResource = (DataTransferDetailResource) taskDetailResource.create(ResourceType.DATA_TRANSFER_DETAIL);
+        transferDetailResource.setTransferId("loaderTransfer");
+        transferDetailResource.setTransferDescription("loaderTransferDescription");
+        transferDetailResource.setCreationTime(now);
+        transferDetailResource.save();
+        StatusResource transferStatusResource = (StatusResource) transferDetailResource.create(ResourceType.STATUS);
+        saveStatus(configured, transferStatusResource, StatusType.DATA_TRANSFER, "UPLOAD");
+
+        ErrorDetailResource errorDetailResource = (ErrorDetailResource) taskDetailResource.create(ResourceType.ERROR_DETAIL);
+        errorDetailResource.setExperimentResource(configured);
+        errorDetailResource.setNodeDetail(nodeDetailResource);
+        errorDetailResource.setJobId("loaderJob");
+        errorDetailResource.setCreationTime(now);
+        errorDetailResource.setActualErrorMsg("loaderError");
+        errorDetailResource.setErrorCategory("APPLICATION_FAILURE");
+        errorDetailResource.setCorrectiveAction("RETRY_SUBMISSION");
+        errorDetailResource.setActionableGroup("USER");
+        errorDetailResource.save();
+    }
+
+    private void saveStatus(ExperimentResource experimentResource, StatusResource statusResource, StatusType statusType,
+                            String state) throws Exception {
+        statusResource.setExperimentResource(experimentResource);
+        statusResource.setStatusType(statusType.toString());
+        statusResource.setState(state);
+        statusResource.setStatusUpdateTime(getCurrentTimestamp());
+        statusResource.save();
+    }
+
+    @Test
+    public void testFullDepthMatchesConversion() throws Exception {
+        List<Experiment> experiments = ExperimentLoader.getExperiments(experimentResources, FetchDepth.FULL);
+        assertEquals(EXPERIMENT_COUNT, experiments.size());
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            assertEquals(ThriftDataModelConversion.getExperiment(experimentResources.get(i)), experiments.get(i));
+        }
+        assertEquals("loaderResource", experiments.get(0).getUserConfigurationData()
+                .getComputationalResourceScheduling().getResourceHostId());
+        assertEquals(1, experiments.get(0).getWorkflowNodeDetailsListSize());
+
+        WorkflowNodeDetails node = experiments.get(0).getWorkflowNodeDetailsList().get(0);
+        assertEquals(WorkflowNodeState.EXECUTING, node.getWorkflowNodeStatus().getWorkflowNodeState());
+        assertEquals(1, node.getNodeInputsSize());
+        assertEquals(1, node.getErrorsSize());
+        TaskDetails task = node.getTaskDetailsList().get(0);
+        assertEquals(TaskState.STARTED, task.getTaskStatus().getExecutionState());
+        assertEquals(1, task.getApplicationInputsSize());
+        assertEquals(1, task.getErrorsSize());
+        JobDetails job = task.getJobDetailsList().get(0);
+        assertEquals(JobState.QUEUED, job.getJobStatus().getJobState());
+        assertEquals(1, job.getErrorsSize());
+        assertEquals(TransferState.UPLOAD, task.getDataTransferDetailsList().get(0).getTransferStatus().getTransferState());
+    }
+
+    @Test
+    public void testShallowAndSummaryDepths() throws Exception {
+        Experiment shallow = ExperimentLoader.getExperiments(experimentResources, FetchDepth.SHALLOW).get(0);
+        assertEquals("CREATED", shallow.getExperimentStatus().getExperimentState().toString());
+        assertEquals(1, shallow.getExperimentInputsSize());
+        assertTrue(shallow.getUserConfigurationData().isAiravataAutoSchedule());
+        assertFalse(shallow.isSetWorkflowNodeDetailsList());
+
+        Experiment summary = ExperimentLoader.getExperiments(experimentResources, FetchDepth.SUMMARY).get(0);
+        assertEquals("LoaderExperiment0", summary.getName());
+        assertEquals("CREATED", summary.getExperimentStatus().getExperimentState().toString());
+        assertFalse(summary.isSetExperimentInputs());
+        assertFalse(summary.isSetUserConfigurationData());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            getGatewayResource().remove(ResourceType.EXPERIMENT, "loaderExp" + i);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+
+package org.apache.airavata.persistance.registry.jpa;
+
+import static org.junit.Assert.*;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.airavata.persistance.registry.jpa.resources.AbstractResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ErrorDetailResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentSummaryResource;
+import org.apache.airavata.persistance.registry.jpa.resources.StatusResource;
+import org.apache.airavata.registry.cpi.ResultOrderType;
+import org.apache.airavata.registry.cpi.utils.StatusType;
+import org.junit.After;
+import org.junit.Test;
+
+public class ExperimentSummaryResourceTest extends AbstractResourceTest {
+    private static final int EXPERIMENT_COUNT = 5;
+    private long baseTime;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        baseTime = System.currentTimeMillis();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            ExperimentResource experimentResource = (ExperimentResource) getGatewayResource().create(ResourceType.EXPERIMENT);
+            experimentResource.setExpID("summaryExp" + i);
+            experimentResource.setExecutionUser(getWorkerResource().getUser());
+            experimentResource.setProject(getProjectResource());
+            experimentResource.setCreationTime(new Timestamp(baseTime + i * 1000));
+            experimentResource.setApplicationId("summaryApplication");
+            experimentResource.setDescription("Summary Test");
+            experimentResource.setExpName("SummaryExperiment" + i);
+            experimentResource.save();
+
+            StatusResource statusResource = (StatusResource) experimentResource.create(ResourceType.STATUS);
+            statusResource.setExperimentResource(experimentResource);
+            statusResource.setStatusType(StatusType.EXPERIMENT.toString());
+            statusResource.setState(i % 2 == 0 ? "CREATED" : "LAUNCHED");
+            statusResource.setStatusUpdateTime(new Timestamp(baseTime));
+            statusResource.save();
+        }
+        ExperimentResource erroredExperiment = (ExperimentResource) getGatewayResource().get(ResourceType.EXPERIMENT, "summaryExp0");
+        ErrorDetailResource errorDetailResource = (ErrorDetailResource) erroredExperiment.create(ResourceType.ERROR_DETAIL);
+        errorDetailResource.setExperimentResource(erroredExperiment);
+        errorDetailResource.setCreationTime(new Timestamp(baseTime));
+        errorDetailResource.setActualErrorMsg("test error");
+        errorDetailResource.setUserFriendlyErrorMsg("test error");
+        errorDetailResource.setErrorCategory("APPLICATION_FAILURE");
+        errorDetailResource.setCorrectiveAction("RETRY_SUBMISSION");
+        errorDetailResource.setActionableGroup("USER");
+        errorDetailResource.save();
+    }
+
+    @Test
+    public void testPagination() throws Exception {
+        Map<String, String> filters = new HashMap<String, String>();
+        filters.put(AbstractResource.ExperimentConstants.EXPERIMENT_NAME, "SummaryExperiment");
+        List<ExperimentSummaryResource> firstPage = getWorkerResource().searchExperimentSummaries(filters, null,
+                null, null, 2, 0, AbstractResource.ExperimentConstants.CREATION_TIME, ResultOrderType.ASC);
+        List<ExperimentSummaryResource> secondPage = getWorkerResource().searchExperimentSummaries(filters, null,
+                null, null, 2, 2, AbstractResource.ExperimentConstants.CREATION_TIME, ResultOrderType.ASC);
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals("summaryExp0", firstPage.get(0).getExpID());
+        assertEquals("summaryExp2", secondPage.get(0).getExpID());
+        assertEquals("CREATED", firstPage.get(0).getStatus().getState());
+        assertEquals(1, firstPage.get(0).getErrorDetails().size());
+        assertTrue(firstPage.get(1).getErrorDetails().isEmpty());
+    }
+
+    @Test
+    public void testStateAndTimeFilters() throws Exception {
+        Map<String, String> filters = new HashMap<String, String>();
+        filters.put(AbstractResource.ExperimentConstants.EXECUTION_USER, getWorkerResource().getUser());
+        List<ExperimentSummaryResource> launched = getWorkerResource().searchExperimentSummaries(filters, "LAUNCHED",
+                null, null, -1, 0, null, null);
+        assertEquals(2, launched.size());
+        List<ExperimentSummaryResource> recent = getWorkerResource().searchExperimentSummaries(filters, null,
+                new Timestamp(baseTime + 2500), new Timestamp(baseTime + EXPERIMENT_COUNT * 1000), -1, 0, null, null);
+        assertEquals(2, recent.size());
+        assertEquals("summaryExp4", recent.get(0).getExpID());
+    }
+
+    @Test
+    public void testProjectFilterMatchesExactly() throws Exception {
+        String projectId = getProjectResource().getId();
+        Map<String, String> filters = new HashMap<String, String>();
+        filters.put(AbstractResource.ExperimentConstants.PROJECT_ID, projectId);
+        assertEquals(EXPERIMENT_COUNT, getWorkerResource().searchExperimentSummaries(filters, null, null, null, -1, 0,
+                null, null).size());
+        filters.put(AbstractResource.ExperimentConstants.PROJECT_ID, projectId.substring(0, projectId.length() - 1));
+        assertTrue(getWorkerResource().searchExperimentSummaries(filters, null, null, null, -1, 0, null, null).isEmpty());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            getGatewayResource().remove(ResourceType.EXPERIMENT, "summaryExp" + i);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+
+package org.apache.airavata.persistance.registry.jpa;
+
+import org.apache.airavata.persistance.registry.jpa.resources.AbstractResource;
+import org.apache.airavata.persistance.registry.jpa.resources.Utils;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchQueryCompilationTest extends AbstractResourceTest {
+    private static final int SEARCHES = 100;
+
+    @Test
+    public void testSearchesWithDistinctValuesReuseCompiledQuery() throws Exception {
+        Map<String, String> filters = new HashMap<String, String>();
+        filters.put(AbstractResource.ExperimentConstants.EXPERIMENT_NAME, "warmup");
+        getWorkerResource().searchExperiments(filters);
+
+        int compiledBefore = getCompiledQueryCount();
+        for (int i = 0; i < SEARCHES; i++) {
+            filters.put(AbstractResource.ExperimentConstants.EXPERIMENT_NAME, "search" + i);
+            getWorkerResource().searchExperiments(filters);
+        }
+        int compiledAfter = getCompiledQueryCount();
+
+        assertEquals("Filter values must be bound as parameters, not compiled into new queries",
+                compiledBefore, compiledAfter);
+        assertTrue(compiledAfter <= Utils.getJPAQueryCompilationCacheSize());
+    }
+
+    private static int getCompiledQueryCount() {
+        ResourceUtils.getEntityManager().close();
+        return ((OpenJPAEntityManagerFactorySPI) ResourceUtils.factory).getConfiguration()
+                .getQueryCompilationCacheInstance().size();
+    }
+}
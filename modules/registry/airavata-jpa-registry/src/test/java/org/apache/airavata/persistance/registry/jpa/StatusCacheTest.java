@@ -0,0 +1,86 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+
+package org.apache.airavata.persistance.registry.jpa;
+
+import static org.junit.Assert.*;
+
+import org.apache.airavata.model.workspace.experiment.ExperimentState;
+import org.apache.airavata.model.workspace.experiment.ExperimentStatus;
+import org.apache.airavata.persistance.registry.jpa.utils.StatusCache;
+import org.junit.Test;
+
+public class StatusCacheTest {
+
+    private ExperimentStatus status(ExperimentState state) {
+        ExperimentStatus status = new ExperimentStatus();
+        status.setExperimentState(state);
+        return status;
+    }
+
+    @Test
+    public void testHitsMissesAndCopies() {
+        StatusCache<ExperimentStatus> cache = new StatusCache<ExperimentStatus>("Test", 10, 0);
+        assertNull(cache.get("exp1"));
+        cache.put("exp1", status(ExperimentState.CREATED));
+        ExperimentStatus cached = cache.get("exp1");
+        assertEquals(ExperimentState.CREATED, cached.getExperimentState());
+        cached.setExperimentState(ExperimentState.FAILED);
+        assertEquals(ExperimentState.CREATED, cache.get("exp1").getExperimentState());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        cache.invalidate("exp1");
+        assertNull(cache.get("exp1"));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        StatusCache<ExperimentStatus> cache = new StatusCache<ExperimentStatus>("Test", 2, 0);
+        cache.put("exp1", status(ExperimentState.CREATED));
+        cache.put("exp2", status(ExperimentState.CREATED));
+        cache.get("exp1");
+        cache.put("exp3", status(ExperimentState.CREATED));
+        assertNotNull(cache.get("exp1"));
+        assertNull(cache.get("exp2"));
+        assertEquals(1, cache.getEvictionCount());
+
+        StatusCache<ExperimentStatus> expiringCache = new StatusCache<ExperimentStatus>("Test", 2, 1);
+        expiringCache.put("exp1", status(ExperimentState.CREATED));
+        Thread.sleep(10);
+        assertNull(expiringCache.get("exp1"));
+        assertEquals(1, expiringCache.getEvictionCount());
+    }
+
+    @Test
+    public void testPrefixInvalidationAndDisabledCache() {
+        StatusCache<ExperimentStatus> cache = new StatusCache<ExperimentStatus>("Test", 10, 0);
+        cache.put("task1,job1", status(ExperimentState.LAUNCHED));
+        cache.put("task1,job2", status(ExperimentState.LAUNCHED));
+        cache.put("task2,job1", status(ExperimentState.LAUNCHED));
+        cache.invalidatePrefix("task1,");
+        assertEquals(1, cache.size());
+
+        StatusCache<ExperimentStatus> disabled = new StatusCache<ExperimentStatus>("Test", 0, 0);
+        disabled.put("exp1", status(ExperimentState.CREATED));
+        assertNull(disabled.get("exp1"));
+        assertEquals(0, disabled.getMissCount());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+
+package org.apache.airavata.persistance.registry.jpa;
+
+import static org.junit.Assert.*;
+
+import java.sql.Timestamp;
+
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentInputResource;
+import org.apache.airavata.persistance.registry.jpa.resources.ExperimentResource;
+import org.apache.airavata.persistance.registry.jpa.resources.StatusResource;
+import org.apache.airavata.registry.cpi.utils.StatusType;
+import org.junit.After;
+import org.junit.Test;
+
+public class UnitOfWorkTest extends AbstractResourceTest {
+    private static final int EXPERIMENT_COUNT = 3;
+
+    private void saveExperimentGraph(String experimentId) throws Exception {
+        ExperimentResource experimentResource = (ExperimentResource) getGatewayResource().create(ResourceType.EXPERIMENT);
+        experimentResource.setExpID(experimentId);
+        experimentResource.setExecutionUser(getWorkerResource().getUser());
+        experimentResource.setProject(getProjectResource());
+        experimentResource.setCreationTime(new Timestamp(System.currentTimeMillis()));
+        experimentResource.setExpName("UnitOfWorkExperiment");
+        experimentResource.save();
+
+        ExperimentInputResource inputResource = (ExperimentInputResource) experimentResource.create(ResourceType.EXPERIMENT_INPUT);
+        inputResource.setExperimentResource(experimentResource);
+        inputResource.setExperimentKey("input");
+        inputResource.setValue("value");
+        inputResource.setInputType("STRING");
+        inputResource.save();
+
+        StatusResource statusResource = (StatusResource) experimentResource.create(ResourceType.STATUS);
+        statusResource.setExperimentResource(experimentResource);
+        statusResource.setStatusType(StatusType.EXPERIMENT.toString());
+        statusResource.setState("CREATED");
+        statusResource.setStatusUpdateTime(new Timestamp(System.currentTimeMillis()));
+        statusResource.save();
+    }
+
+    @Test
+    public void testCommit() throws Exception {
+        ResourceUtils.beginUnitOfWork();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            saveExperimentGraph("unitOfWorkExp" + i);
+        }
+        ResourceUtils.commitUnitOfWork();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            assertTrue(getGatewayResource().isExists(ResourceType.EXPERIMENT, "unitOfWorkExp" + i));
+            ExperimentResource experiment = getGatewayResource().getExperiment("unitOfWorkExp" + i);
+            assertEquals(1, experiment.getExperimentInputs().size());
+            assertEquals("CREATED", experiment.getExperimentStatus().getState());
+        }
+    }
+
+    @Test
+    public void testRollback() throws Exception {
+        ResourceUtils.beginUnitOfWork();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            saveExperimentGraph("unitOfWorkExp" + i);
+        }
+        ResourceUtils.rollbackUnitOfWork();
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            assertFalse(getGatewayResource().isExists(ResourceType.EXPERIMENT, "unitOfWorkExp" + i));
+        }
+    }
+
+    @Test
+    public void testNestedUnitOfWork() throws Exception {
+        ResourceUtils.beginUnitOfWork();
+        ResourceUtils.beginUnitOfWork();
+        saveExperimentGraph("unitOfWorkExp0");
+        ResourceUtils.commitUnitOfWork();
+        assertTrue(getGatewayResource().isExists(ResourceType.EXPERIMENT, "unitOfWorkExp0"));
+        ResourceUtils.rollbackUnitOfWork();
+        assertFalse(getGatewayResource().isExists(ResourceType.EXPERIMENT, "unitOfWorkExp0"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (int i = 0; i < EXPERIMENT_COUNT; i++) {
+            if (getGatewayResource().isExists(ResourceType.EXPERIMENT, "unitOfWorkExp" + i)) {
+                getGatewayResource().remove(ResourceType.EXPERIMENT, "unitOfWorkExp" + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.airavata.registry.cpi;
+
+/**
+ * How much of an experiment the registry loads. The cheaper depths are meant for listings, where the whole tree of
+ * every experiment would be loaded just to show a few fields
+ */
+public enum FetchDepth {
+    /**
+     * Experiment fields and the experiment status
+     */
+    SUMMARY,
+    /**
+     * Summary plus the experiment inputs, outputs, errors and user configuration data
+     */
+    SHALLOW,
+    /**
+     * The complete experiment, including the workflow node statuses and the workflow node details with their tasks,
+     * jobs and data transfers
+     */
+    FULL
+}
@@ -38,6 +38,16 @@ public interface Registry {
      */
     public Object add(ParentDataType dataType, Object newObjectToAdd) throws RegistryException ;
 
+    /**
+     * This method is to add a list of top level objects in to the registry in one go. Either all the objects are
+     * saved or none of them are
+     * @param dataType Data type is a predefined type which the programmer should choose according to the objects
+     *                 he is going to save in to registry
+     * @param newObjectsToAdd thrift model objects which need to be saved in to registry
+     * @return list of identifiers of the saved objects in the same order as the given objects
+     */
+    public List<Object> addAll(ParentDataType dataType, List<?> newObjectsToAdd) throws RegistryException ;
+
     /**
      * This method is to add an object in to the registry
      * @param dataType Data type is a predefined type which the programmer should choose according to the object he
@@ -65,6 +75,15 @@ public interface Registry {
      */
     public void update(RegistryModelType dataType, Object newObjectToUpdate, Object identifier) throws RegistryException;
 
+    /**
+     * This method is to update a set of objects of the same type in one go. Either all the objects are updated or
+     * none of them are
+     * @param dataType Data type is a predefined type which the programmer should choose according to the objects he
+     *                 is going to update
+     * @param newObjectsToUpdate thrift model objects which need to be updated, keyed by their identifiers
+     */
+    public void updateAll(RegistryModelType dataType, Map<?, ?> newObjectsToUpdate) throws RegistryException;
+
 
     /**
      * This method is to update a specific field of the data model
@@ -91,6 +110,27 @@ public interface Registry {
      */
     public Object get(RegistryModelType dataType, Object identifier) throws RegistryException;
 
+    /**
+     * This method is to retrieve a set of objects of the same type in one go, instead of calling
+     * {@link #get(RegistryModelType, Object)} for each of them
+     * @param dataType Data type is a predefined type which the programmer should choose according to the objects he
+     *                 is going to retrieve
+     * @param identifiers identifiers of the objects
+     * @return the objects keyed by their identifiers, objects which do not exist are left out
+     */
+    public Map<Object, Object> getAll(RegistryModelType dataType, List<?> identifiers) throws RegistryException;
+
+    /**
+     * This method is to retrieve object according to the identifier, loading only the given depth of it. The depth
+     * applies to experiments; other data types are returned as by {@link #get(RegistryModelType, Object)}
+     * @param dataType Data type is a predefined type which the programmer should choose according to the object he
+     *                 is going to save in to registry
+     * @param identifier Identifier which will uniquely identify the data model
+     * @param fetchDepth how much of the object to load
+     * @return object according to the given identifier.
+     */
+    public Object get(RegistryModelType dataType, Object identifier, FetchDepth fetchDepth) throws RegistryException;
+
     /**
      * This method is to retrieve list of objects according to a given criteria
      * @param dataType Data type is a predefined type which the programmer should choose according to the object he
@@ -102,6 +142,21 @@ public interface Registry {
      */
     public List<Object> get(RegistryModelType dataType, String fieldName, Object value) throws RegistryException;
 
+    /**
+     * This method is to retrieve list of objects according to a given criteria, loading only the given depth of each
+     * object. The children of the objects are loaded with one query per child type for a page of objects instead of
+     * one query per object. The depth applies to experiments; other data types are returned as by
+     * {@link #get(RegistryModelType, String, Object)}
+     * @param dataType Data type is a predefined type which the programmer should choose according to the object he
+     *                 is going to save in to registry
+     * @param fieldName FieldName is the field that filtering should be done
+     * @param value value for the filtering field
+     * @param fetchDepth how much of each object to load
+     * @return List of objects according to the given criteria
+     */
+    public List<Object> get(RegistryModelType dataType, String fieldName, Object value, FetchDepth fetchDepth)
+            throws RegistryException;
+
     /**
      * This method is to retrieve list of objects according to a given criteria
      * @param dataType Data type is a predefined type which the programmer should choose according to the object he
@@ -111,6 +166,21 @@ public interface Registry {
      */
     public List<Object> search(RegistryModelType dataType, Map<String, String> filters) throws RegistryException;
 
+    /**
+     * This method is to retrieve a page of objects according to a given criteria. Only the requested page is
+     * loaded from the database, so this should be preferred over the non paginated search for large result sets.
+     * @param dataType Data type is a predefined type which the programmer should choose according to the object he
+     *                 is going to save in to registry
+     * @param filters filters is a map of field name and value that you need to use for search filtration
+     * @param limit maximum number of results to return. A value less than or equal to zero returns all the results
+     * @param offset number of results to skip from the beginning of the result set
+     * @param orderByIdentifier field name which the results should be ordered by. Can be null
+     * @param resultOrderType sort direction of the results. Ignored if orderByIdentifier is null
+     * @return List of objects according to the given criteria
+     */
+    public List<Object> search(RegistryModelType dataType, Map<String, String> filters, int limit, int offset,
+                               Object orderByIdentifier, ResultOrderType resultOrderType) throws RegistryException;
+
     /**
      * This method is to retrieve a specific value for a given field.
      * @param dataType Data type is a predefined type which the programmer should choose according to the object he
@@ -31,7 +31,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -135,6 +137,12 @@ public class WorkflowInterpreter implements AbstractActivityListener{
 
 	public static final String WORKFLOW_STARTED = "Workflow Running";
 	public static final String WORKFLOW_FINISHED = "Workflow Finished";
+
+	/**
+	 * Milliseconds to wait for node state changes before all the waiting nodes are evaluated again, which picks up
+	 * conditions that do not come with a state change.
+	 */
+	private static final long RESCAN_INTERVAL = 1000;
     private final Publisher publisher;
 
     private WorkflowInterpreterConfiguration config;
@@ -147,6 +155,8 @@ public class WorkflowInterpreter implements AbstractActivityListener{
 
 	private Map<Node,WorkflowNodeDetails> nodeInstanceList;
 
+	private WorkflowNodeScheduler scheduler;
+
 	private Experiment experiment;
 	private Registry registry;
 
@@ -192,7 +202,7 @@ public class WorkflowInterpreter implements AbstractActivityListener{
             }
         }
 		//TODO set act of provenance
-		nodeInstanceList=new HashMap<Node, WorkflowNodeDetails>();
+		nodeInstanceList=new ConcurrentHashMap<Node, WorkflowNodeDetails>();
         setWorkflowInterpreterConfigurationThreadLocal(config);
         awaitingTasks = new HashMap<String, Node>();
         nodeOutputData = new HashMap<Node, Map<String,String>>();
@@ -270,99 +280,97 @@ public class WorkflowInterpreter implements AbstractActivityListener{
                 publishNodeStatusChange(WorkflowNodeState.COMPLETED, node.getID(), experiment.getExperimentID());
 			}
 
-			while (this.getWorkflow().getExecutionState() != WorkflowExecutionState.STOPPED) {
-                ArrayList<Thread> threadList = new ArrayList<Thread>();
-                if (getRemainNodesDynamically() == 0) {
-                    notifyViaInteractor(WorkflowExecutionMessage.EXECUTION_STATE_CHANGED, WorkflowExecutionState.STOPPED);
-                }
-                // ok we have paused sleep
-                if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED) {
-                	log.info("Workflow execution "+experiment.getExperimentID()+" is paused.");
-	                while (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED) {
-	                    try {
-	                        Thread.sleep(400);
-	                    } catch (InterruptedException e) {
-	                        e.printStackTrace();
-	                    }
-	                }
-	                if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.STOPPED) {
-	                	continue;
-	                }
-	                log.info("Workflow execution "+experiment.getExperimentID()+" is resumed.");
-                }
-                // get task list and execute them
-                ArrayList<Node> readyNodes = this.getReadyNodesDynamically();
-				for (final Node node : readyNodes) {
-					if (node.isBreak()) {
-						this.notifyPause();
-						break;
-					}
-					if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED
-							|| this.getWorkflow().getExecutionState() == WorkflowExecutionState.STOPPED) {
-						break;
+			scheduler = new WorkflowNodeScheduler(this.getGraph(), experiment.getExperimentID());
+			scheduler.start();
+			try {
+				// null means all the waiting nodes have to be evaluated
+				Collection<Node> candidates = null;
+				while (this.getWorkflow().getExecutionState() != WorkflowExecutionState.STOPPED) {
+					if (getRemainNodesDynamically() == 0) {
+						notifyViaInteractor(WorkflowExecutionMessage.EXECUTION_STATE_CHANGED, WorkflowExecutionState.STOPPED);
 					}
-                	WorkflowNodeDetails workflowNodeDetails = createWorkflowNodeDetails(node);
-                    // Since this is an independent node execution we can run these nodes in separate threads.
-                    Thread th = new Thread() {
-                        public synchronized void run() {
-                            try {
-                                executeDynamically(node);
-                            } catch (WorkflowException e) {
-                                log.error("Error execution workflow Node : " + node.getID());
-                                return;
-                            } catch (TException e) {
-								// TODO Auto-generated catch block
-								e.printStackTrace();
-							} catch (RegistryException e) {
-								// TODO Auto-generated catch block
+					// ok we have paused sleep
+					if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED) {
+						log.info("Workflow execution "+experiment.getExperimentID()+" is paused.");
+						while (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED) {
+							try {
+								Thread.sleep(400);
+							} catch (InterruptedException e) {
 								e.printStackTrace();
-							} catch (AiravataException e) {
-                                e.printStackTrace();
-                            }
-                        }
-                    };
-                	updateWorkflowNodeStatus(workflowNodeDetails, WorkflowNodeState.INVOKED);
-                    publishNodeStatusChange(WorkflowNodeState.INVOKED, node.getID(), experiment.getExperimentID());
-                    threadList.add(th);
-                    th.start();
-					if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.STEP) {
-						this.getWorkflow().setExecutionState(WorkflowExecutionState.PAUSED);
-						//TODO update experiment state to suspend
-						break;
+							}
+						}
+						if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.STOPPED) {
+							continue;
+						}
+						log.info("Workflow execution "+experiment.getExperimentID()+" is resumed.");
+						candidates = null;
 					}
-				}
-                //This thread waits until parallel nodes get finished to send the outputs dynamically.
-               for(Thread th:threadList){
-                   try {
-                       th.join();
-                   } catch (InterruptedException e) {
-                       e.printStackTrace();  //To change body of catch statement use File | Settings | File Templates.
-                   }
-               }
-                // Above statement set the nodeCount back to 0.
-
-				// TODO commented this for foreach, fix this.
-				sendOutputsDynamically();
-				// Dry run sleep a lil bit to release load
-				if (readyNodes.size() == 0) {
-					// when there are no ready nodes and no running nodes
-					// and there are failed nodes then workflow is stuck because
-					// of failure
-					// so we should pause the execution
-					if (InterpreterUtil.getRunningNodeCountDynamically(this.getGraph()) == 0
-							/**&& InterpreterUtil.getFailedNodeCountDynamically(this.getGraph()) != 0**/) {
-                        //Since airavata only support workflow interpreter server mode we do not want to keep thread in sleep mode
-                        // continuously, so we make the workflow stop when there's nothing to do.
-						this.getWorkflow().setExecutionState(WorkflowExecutionState.STOPPED);
+					boolean fullScan = candidates == null;
+					// get task list and execute them
+					ArrayList<Node> readyNodes = this.getReadyNodesDynamically(
+							fullScan ? InterpreterUtil.getWaitingNodesDynamically(this.getGraph()) : candidates);
+					for (final Node node : readyNodes) {
+						if (node.isBreak()) {
+							this.notifyPause();
+							break;
+						}
+						if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.PAUSED
+								|| this.getWorkflow().getExecutionState() == WorkflowExecutionState.STOPPED) {
+							break;
+						}
+						WorkflowNodeDetails workflowNodeDetails = createWorkflowNodeDetails(node);
+						updateWorkflowNodeStatus(workflowNodeDetails, WorkflowNodeState.INVOKED);
+						publishNodeStatusChange(WorkflowNodeState.INVOKED, node.getID(), experiment.getExperimentID());
+						// The node only depends on nodes which are done, so it runs independent of the other running nodes.
+						scheduler.dispatch(node, new Runnable() {
+							public void run() {
+								try {
+									executeDynamically(node);
+								} catch (WorkflowException e) {
+									log.error("Error execution workflow Node : " + node.getID(), e);
+								} catch (TException e) {
+									log.error("Error execution workflow Node : " + node.getID(), e);
+								} catch (RegistryException e) {
+									log.error("Error execution workflow Node : " + node.getID(), e);
+								} catch (AiravataException e) {
+									log.error("Error execution workflow Node : " + node.getID(), e);
+								}
+							}
+						});
+						if (this.getWorkflow().getExecutionState() == WorkflowExecutionState.STEP) {
+							this.getWorkflow().setExecutionState(WorkflowExecutionState.PAUSED);
+							//TODO update experiment state to suspend
+							break;
+						}
 					}
 
+					// TODO commented this for foreach, fix this.
+					sendOutputsDynamically();
+					if (readyNodes.size() == 0 && scheduler.getInFlightCount() == 0
+							&& InterpreterUtil.getRunningNodeCountDynamically(this.getGraph()) == 0) {
+						if (fullScan) {
+							// when there are no ready nodes and no running nodes
+							// and there are failed nodes then workflow is stuck because
+							// of failure
+							// so we should pause the execution
+							//Since airavata only support workflow interpreter server mode we do not want to keep thread in sleep mode
+							// continuously, so we make the workflow stop when there's nothing to do.
+							this.getWorkflow().setExecutionState(WorkflowExecutionState.STOPPED);
+						} else {
+							// nothing is running any more, make sure no waiting node is left behind
+							candidates = null;
+						}
+						continue;
+					}
 					try {
-						Thread.sleep(400);
+						candidates = scheduler.awaitChangedNodes(RESCAN_INTERVAL);
 					} catch (InterruptedException e) {
 						log.error("Workflow Excecution is interrupted !");
-                        return;
+						return;
 					}
 				}
+			} finally {
+				scheduler.shutdown();
 			}
 
 			if (InterpreterUtil.getFailedNodeCountDynamically(this.getGraph()) == 0) {
@@ -1283,13 +1291,17 @@ public class WorkflowInterpreter implements AbstractActivityListener{
 		return list;
 	}
 
-	private ArrayList<Node> getReadyNodesDynamically() {
+	/**
+	 * @param candidates nodes to evaluate; only the waiting nodes which are not dispatched yet can be ready
+	 */
+	private ArrayList<Node> getReadyNodesDynamically(Collection<Node> candidates) {
 		ArrayList<Node> list = new ArrayList<Node>();
-		ArrayList<Node> waiting = InterpreterUtil.getWaitingNodesDynamically(this.getGraph());
-//		ArrayList<Node> finishedNodes = InterpreterUtil.getFinishedNodesDynamically(this.getGraph());
         // This is to support repeat the same application in the workflow.
-        List<String> finishedNodeIds = InterpreterUtil.getFinishedNodesIds(this.getGraph());
-        for (Node node : waiting) {
+        Set<String> finishedNodeIds = scheduler.getFinishedNodeIds();
+        for (Node node : candidates) {
+			if (node.getState() != NodeExecutionState.WAITING || scheduler.isDispatched(node)) {
+				continue;
+			}
 			Component component = node.getComponent();
 			if (component instanceof WSComponent
 					|| component instanceof DynamicComponent
@@ -1431,6 +1443,16 @@ public class WorkflowInterpreter implements AbstractActivityListener{
 		return list;
 	}
 
+	/**
+	 * @return queueing and run times of the workflow nodes by node id, empty before the workflow was scheduled
+	 */
+	public Map<String, WorkflowNodeScheduler.NodeStatistics> getNodeStatistics() {
+		if (scheduler == null) {
+			return new HashMap<String, WorkflowNodeScheduler.NodeStatistics>();
+		}
+		return scheduler.getStatistics();
+	}
+
     public static void setWorkflowInterpreterConfigurationThreadLocal(WorkflowInterpreterConfiguration workflowInterpreterConfiguration) {
         WorkflowInterpreter.workflowInterpreterConfigurationThreadLocal.set(workflowInterpreterConfiguration);
     }
@@ -0,0 +1,265 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.airavata.workflow.engine.interpretor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.workflow.model.graph.ControlPort;
+import org.apache.airavata.workflow.model.graph.DataPort;
+import org.apache.airavata.workflow.model.graph.Node;
+import org.apache.airavata.workflow.model.graph.Node.NodeExecutionState;
+import org.apache.airavata.workflow.model.graph.impl.NodeImpl;
+import org.apache.airavata.workflow.model.graph.ws.WSGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the node state changes of a workflow graph for the {@link WorkflowInterpreter} and runs the nodes it
+ * dispatches on a bounded pool of threads. Every state change is queued, so the interpreter only has to re-evaluate
+ * the nodes downstream of the nodes which changed instead of rescanning the whole graph, and a node can be started as
+ * soon as its own dependencies are done, independent of the other running nodes.
+ */
+public class WorkflowNodeScheduler {
+    private static final Logger log = LoggerFactory.getLogger(WorkflowNodeScheduler.class);
+
+    /**
+     * Maximum number of workflow nodes of a single workflow which are launched concurrently.
+     */
+    public static final String SCHEDULER_THREADS = "workflow.scheduler.threads";
+
+    private static final String DEFAULT_SCHEDULER_THREADS = "10";
+
+    private final WSGraph graph;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Node> changedNodes = new LinkedBlockingQueue<Node>();
+    private final Set<String> finishedNodeIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Set<Node> dispatchedNodes = Collections.newSetFromMap(new ConcurrentHashMap<Node, Boolean>());
+    private final Map<Node, Node.NodeObserver> observers = new HashMap<Node, Node.NodeObserver>();
+    private final Map<Node, List<Node>> successors = new HashMap<Node, List<Node>>();
+    private final Map<String, NodeStatistics> statistics = new ConcurrentHashMap<String, NodeStatistics>();
+
+    public WorkflowNodeScheduler(WSGraph graph, final String name) {
+        this(graph, name, Integer.parseInt(ServerSettings.getSetting(SCHEDULER_THREADS, DEFAULT_SCHEDULER_THREADS)));
+    }
+
+    public WorkflowNodeScheduler(WSGraph graph, final String name, int threads) {
+        this.graph = graph;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "workflow-node-" + name + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts listening to the state changes of the nodes of the graph.
+     */
+    public void start() {
+        for (final NodeImpl node : graph.getNodes()) {
+            List<Node> next = new ArrayList<Node>();
+            for (DataPort port : node.getOutputPorts()) {
+                next.addAll(port.getToNodes());
+            }
+            for (ControlPort port : node.getControlOutPorts()) {
+                next.addAll(port.getToNodes());
+            }
+            successors.put(node, next);
+            if (node.getState() == NodeExecutionState.FINISHED) {
+                finishedNodeIds.add(node.getID());
+            }
+            Node.NodeObserver observer = new Node.NodeObserver() {
+                public void nodeUpdated(Node.NodeUpdateType type) {
+                    if (type == Node.NodeUpdateType.STATE_CHANGED) {
+                        stateChanged(node);
+                    }
+                }
+            };
+            observers.put(node, observer);
+            node.registerObserver(observer);
+        }
+    }
+
+    private void stateChanged(Node node) {
+        NodeExecutionState state = node.getState();
+        if (state == NodeExecutionState.FINISHED) {
+            finishedNodeIds.add(node.getID());
+        } else {
+            finishedNodeIds.remove(node.getID());
+        }
+        if (state == NodeExecutionState.FINISHED || state == NodeExecutionState.FAILED) {
+            NodeStatistics nodeStatistics = statistics.get(node.getID());
+            if (nodeStatistics != null && nodeStatistics.finished(state)) {
+                log.debug("Workflow node " + node.getID() + " " + state + ", waited " + nodeStatistics.getQueueTime()
+                        + " ms, ran " + nodeStatistics.getRunTime() + " ms");
+            }
+        }
+        changedNodes.offer(node);
+    }
+
+    /**
+     * Ids of the nodes which are in the finished state.
+     */
+    public Set<String> getFinishedNodeIds() {
+        return finishedNodeIds;
+    }
+
+    /**
+     * Waits for node state changes.
+     *
+     * @return the nodes downstream of the nodes which changed state since the last call, or null if nothing changed
+     *         within the timeout
+     */
+    public Collection<Node> awaitChangedNodes(long timeout) throws InterruptedException {
+        Node changed = changedNodes.poll(timeout, TimeUnit.MILLISECONDS);
+        if (changed == null) {
+            return null;
+        }
+        List<Node> changes = new ArrayList<Node>();
+        changes.add(changed);
+        changedNodes.drainTo(changes);
+        Set<Node> candidates = new LinkedHashSet<Node>();
+        for (Node node : changes) {
+            // a node which went back to waiting, e.g. in a loop, needs to be evaluated itself
+            candidates.add(node);
+            List<Node> next = successors.get(node);
+            if (next != null) {
+                candidates.addAll(next);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Whether the node was dispatched and its task did not complete yet.
+     */
+    public boolean isDispatched(Node node) {
+        return dispatchedNodes.contains(node);
+    }
+
+    /**
+     * Number of dispatched nodes whose task did not complete yet.
+     */
+    public int getInFlightCount() {
+        return dispatchedNodes.size();
+    }
+
+    public void dispatch(final Node node, final Runnable task) {
+        final NodeStatistics nodeStatistics = new NodeStatistics();
+        statistics.put(node.getID(), nodeStatistics);
+        dispatchedNodes.add(node);
+        executor.execute(new Runnable() {
+            public void run() {
+                nodeStatistics.started();
+                try {
+                    task.run();
+                } finally {
+                    dispatchedNodes.remove(node);
+                    // wake up the interpreter even if the task did not change the state of the node
+                    changedNodes.offer(node);
+                }
+            }
+        });
+    }
+
+    /**
+     * Queueing and run times of the nodes dispatched so far, by node id. A node which was dispatched more than once
+     * reports its last run.
+     */
+    public Map<String, NodeStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void shutdown() {
+        for (Map.Entry<Node, Node.NodeObserver> entry : observers.entrySet()) {
+            entry.getKey().removeObserver(entry.getValue());
+        }
+        observers.clear();
+        executor.shutdown();
+    }
+
+    /**
+     * Times of a single node run. The queue time is the time between the dispatch of the node and the start of its
+     * task; the run time is the time from the start of the task until the node finished or failed, which for
+     * application nodes includes the remote job.
+     */
+    public static class NodeStatistics {
+        private final long dispatchTime = System.currentTimeMillis();
+        private volatile long startTime;
+        private volatile long endTime;
+        private volatile NodeExecutionState finalState;
+
+        private void started() {
+            startTime = System.currentTimeMillis();
+        }
+
+        private synchronized boolean finished(NodeExecutionState state) {
+            if (startTime == 0 || endTime != 0) {
+                return false;
+            }
+            endTime = System.currentTimeMillis();
+            finalState = state;
+            return true;
+        }
+
+        /**
+         * @return milliseconds the node waited for a thread, or -1 if it did not start yet
+         */
+        public long getQueueTime() {
+            return startTime == 0 ? -1 : startTime - dispatchTime;
+        }
+
+        /**
+         * @return milliseconds the node ran, or -1 if it did not finish yet
+         */
+        public long getRunTime() {
+            return endTime == 0 ? -1 : endTime - startTime;
+        }
+
+        /**
+         * @return FINISHED or FAILED once the node completed, null before
+         */
+        public NodeExecutionState getFinalState() {
+            return finalState;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.airavata.workflow.engine.interpretor;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.airavata.workflow.model.component.system.InputComponent;
+import org.apache.airavata.workflow.model.component.system.OutputComponent;
+import org.apache.airavata.workflow.model.graph.Node;
+import org.apache.airavata.workflow.model.graph.Node.NodeExecutionState;
+import org.apache.airavata.workflow.model.graph.ws.WSGraph;
+import org.apache.airavata.workflow.model.graph.ws.WSGraphFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkflowNodeSchedulerTest {
+    private Node input1;
+    private Node output1;
+    private Node input2;
+    private Node output2;
+    private WorkflowNodeScheduler scheduler;
+
+    /**
+     * Two independent branches, input1 -> output1 and input2 -> output2.
+     */
+    @Before
+    public void setUp() throws Exception {
+        WSGraph graph = WSGraphFactory.createGraph();
+        input1 = new InputComponent().createNode(graph);
+        output1 = new OutputComponent().createNode(graph);
+        input2 = new InputComponent().createNode(graph);
+        output2 = new OutputComponent().createNode(graph);
+        graph.addEdge(input1.getOutputPort(0), output1.getInputPort(0));
+        graph.addEdge(input2.getOutputPort(0), output2.getInputPort(0));
+        scheduler = new WorkflowNodeScheduler(graph, "test", 1);
+        scheduler.start();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testIndependentNodeIsDispatchedWhileASlowNodeRuns() throws Exception {
+        scheduler.shutdown();
+        WSGraph graph = WSGraphFactory.createGraph();
+        Node slow = new InputComponent().createNode(graph);
+        Node fast = new InputComponent().createNode(graph);
+        scheduler = new WorkflowNodeScheduler(graph, "test", 2);
+        scheduler.start();
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch fastRan = new CountDownLatch(1);
+        scheduler.dispatch(slow, new Runnable() {
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        scheduler.dispatch(fast, new Runnable() {
+            public void run() {
+                fastRan.countDown();
+            }
+        });
+        try {
+            Assert.assertTrue(fastRan.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(scheduler.isDispatched(slow));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testChangedNodesAreReturnedWithTheirSuccessors() throws Exception {
+        input1.setState(NodeExecutionState.FINISHED);
+
+        Collection<Node> candidates = scheduler.awaitChangedNodes(1000);
+        Assert.assertNotNull(candidates);
+        Assert.assertEquals(2, candidates.size());
+        Assert.assertTrue(candidates.contains(input1));
+        Assert.assertTrue(candidates.contains(output1));
+        Assert.assertTrue(scheduler.getFinishedNodeIds().contains(input1.getID()));
+        Assert.assertFalse(scheduler.getFinishedNodeIds().contains(input2.getID()));
+    }
+
+    @Test
+    public void testNothingChangedWithinTheQuietInterval() throws Exception {
+        input2.setState(NodeExecutionState.FINISHED);
+        Assert.assertNotNull(scheduler.awaitChangedNodes(1000));
+
+        // null makes the interpreter evaluate all the waiting nodes again
+        long start = System.currentTimeMillis();
+        Assert.assertNull(scheduler.awaitChangedNodes(200));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 190);
+    }
+
+    @Test
+    public void testNodeStatisticsRecordQueueAndRunTimes() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        // a single thread, so output2 waits until input1 finished
+        scheduler.dispatch(input1, new Runnable() {
+            public void run() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                input1.setState(NodeExecutionState.FINISHED);
+            }
+        });
+        scheduler.dispatch(output2, new Runnable() {
+            public void run() {
+                output2.setState(NodeExecutionState.FAILED);
+                done.countDown();
+            }
+        });
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        WorkflowNodeScheduler.NodeStatistics first = scheduler.getStatistics().get(input1.getID());
+        Assert.assertEquals(NodeExecutionState.FINISHED, first.getFinalState());
+        Assert.assertTrue(first.getQueueTime() >= 0);
+        Assert.assertTrue(first.getRunTime() >= 190);
+
+        WorkflowNodeScheduler.NodeStatistics second = scheduler.getStatistics().get(output2.getID());
+        Assert.assertEquals(NodeExecutionState.FAILED, second.getFinalState());
+        Assert.assertTrue(second.getQueueTime() >= 190);
+        Assert.assertTrue(second.getRunTime() >= 0);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.airavata.common.utils.StringUtil;
 import org.apache.airavata.common.utils.XMLUtil;
@@ -95,6 +96,7 @@ public abstract class NodeImpl implements Node {
     
     private NodeExecutionState state = NodeExecutionState.WAITING;
     
+    // observers are added and removed while other threads change the state of the node
     private List<NodeObserver> observers;
 
     /**
@@ -114,7 +116,7 @@ public abstract class NodeImpl implements Node {
         this.outputPortIDs = new ArrayList<String>();
         this.controlOutPortIDs = new ArrayList<String>();
         
-        observers=new ArrayList<Node.NodeObserver>();
+        observers=new CopyOnWriteArrayList<Node.NodeObserver>();
     }
 
     protected NodeImpl(Graph graph) {
@@ -699,9 +701,7 @@ public abstract class NodeImpl implements Node {
     
     @Override
     public void removeObserver(NodeObserver o) {
-    	if (observers.contains(o)) {
-			observers.remove(o);
-		}
+    	observers.remove(o);
     }
     
     private void triggerNodeObservers(NodeUpdateType type){
@@ -75,6 +75,8 @@ public class WsmgCommonConstants {
 //    public static final String CONFIGURATION_FILE_NAME = "configuration.file.name";
     public static final String CONFIG_JDBC_URL = "broker.jdbc.url";
     public static final String CONFIG_JDBC_DRIVER = "broker.jdbc.driver";
+    public static final String CONFIG_JDBC_USER = "broker.jdbc.user";
+    public static final String CONFIG_JDBC_PASSWORD = "broker.jdbc.password";
     public static final String CONFIG_START_DELIVERY_THREADS = "broker.start.delivery.thread";
     public static final String CONFIG_DELIVERY_METHOD = "broker.delivery.method";
     public static final String CONFIG_STORAGE_TYPE = "broker.storage.type";
@@ -80,6 +80,18 @@ public class ConnectionPool {
         initialize(initialConnections, maxConnections, waitIfBusy);
     }
 
+    public ConnectionPool(String driver, String url, String username, String password, int initialConnections,
+            int maxConnections, boolean waitIfBusy, boolean autoCommit, int transactionIsolation) throws SQLException {
+        this.driver = driver;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.urlType = "speratedURL";
+        this.autoCommit = autoCommit;
+        this.transactionIsolation = transactionIsolation;
+        initialize(initialConnections, maxConnections, waitIfBusy);
+    }
+
     public ConnectionPool(String driver, String jdbcUrl, int initialConnections, int maxConnections,
             boolean waitIfBusy, boolean autoCommit, int transactionIsolation) throws SQLException {
         this.driver = driver;
@@ -26,23 +26,64 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
+import org.apache.airavata.common.utils.DBUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * JDBC helper of the messenger storage. When DBUtil pooling is enabled (jdbc.pool.enabled) connections come from the
+ * shared DBUtil pool of the database, otherwise from a ConnectionPool of this storage. Connections from the shared
+ * pool get the auto commit and isolation level of this storage while borrowed, and their previous settings back when
+ * they are returned with {@link #closeConnection}, so the other users of the pool are not affected.
+ */
 public class JdbcStorage {
     private static Logger log = LoggerFactory.getLogger(JdbcStorage.class);
 
     private ConnectionPool connectionPool;
 
+    private DataSource dataSource;
+
+    private boolean autoCommit;
+
+    private int transactionIsolation = Connection.TRANSACTION_NONE;
+
+    /**
+     * Settings the borrowed shared pool connections had before this storage changed them.
+     */
+    private final Map<Connection, OriginalSettings> borrowed = new ConcurrentHashMap<Connection, OriginalSettings>();
+
     public JdbcStorage(String jdbcUrl, String jdbcDriver) {
         // default init connection and max connection
         this(3, 50, jdbcUrl, jdbcDriver, true);
     }
 
     public JdbcStorage(int initCon, int maxCon, String url, String driver, boolean enableTransactions) {
+        this(initCon, maxCon, url, null, null, driver, enableTransactions);
+    }
+
+    /**
+     * Creates a storage connecting as the given database user. With DBUtil pooling the connections come from the same
+     * pool as every other DBUtil of this url and user. Without a user name the credentials are expected in the url.
+     */
+    public JdbcStorage(int initCon, int maxCon, String url, String userName, String password, String driver,
+            boolean enableTransactions) {
         try {
-            if (enableTransactions) {
+            if (DBUtil.isPoolingEnabled()) {
+                dataSource = new DBUtil(url, userName, password, driver).getDataSource();
+                autoCommit = !enableTransactions;
+                if (enableTransactions) {
+                    transactionIsolation = Connection.TRANSACTION_SERIALIZABLE;
+                }
+            } else if (userName != null) {
+                connectionPool = new ConnectionPool(driver, url, userName, password, initCon, maxCon, true,
+                        !enableTransactions, enableTransactions ? Connection.TRANSACTION_SERIALIZABLE
+                                : Connection.TRANSACTION_NONE);
+            } else if (enableTransactions) {
                 connectionPool = new ConnectionPool(driver, url, initCon, maxCon, true, false,
                         Connection.TRANSACTION_SERIALIZABLE);
             } else {
@@ -59,7 +100,7 @@ public class JdbcStorage {
      * @return
      */
     public boolean isAutoCommit() {
-        return connectionPool.isAutoCommit();
+        return dataSource != null ? autoCommit : connectionPool.isAutoCommit();
     }
 
     public void commit(Connection conn) {
@@ -96,7 +137,7 @@ public class JdbcStorage {
 
         Connection conn = null;
         try {
-            conn = connectionPool.getConnection();
+            conn = getConnection();
         } catch (SQLException e) {
             e.printStackTrace();
             log.error(e.getMessage(), e);
@@ -104,6 +145,28 @@ public class JdbcStorage {
         return conn;
     }
 
+    private Connection getConnection() throws SQLException {
+        if (dataSource == null) {
+            return connectionPool.getConnection();
+        }
+        Connection conn = dataSource.getConnection();
+        try {
+            // the pool is shared, so set what this storage expects on every borrowed connection
+            OriginalSettings original = new OriginalSettings(conn.getAutoCommit(), conn.getTransactionIsolation());
+            borrowed.put(conn, original);
+            if (original.autoCommit != autoCommit) {
+                conn.setAutoCommit(autoCommit);
+            }
+            if (transactionIsolation != Connection.TRANSACTION_NONE && original.isolation != transactionIsolation) {
+                conn.setTransactionIsolation(transactionIsolation);
+            }
+        } catch (SQLException e) {
+            closeConnection(conn);
+            throw e;
+        }
+        return conn;
+    }
+
     /**
      * This method is provided so that you can have better control over the statement. For example: You can use
      * stmt.setString to convert quotation mark automatically in an UPDATE statement
@@ -144,7 +207,7 @@ public class JdbcStorage {
         Connection conn = null;
         PreparedStatement stmt = null;
         try {
-            conn = connectionPool.getConnection();
+            conn = getConnection();
             stmt = conn.prepareStatement(query);
             ResultSet rs = stmt.executeQuery();
             rs.next();
@@ -181,11 +244,56 @@ public class JdbcStorage {
     }
 
     public void closeConnection(Connection conn) {
-        if (conn != null) {
+        if (conn == null) {
+            return;
+        }
+        if (dataSource == null) {
             connectionPool.free(conn);
+            return;
+        }
+        OriginalSettings original = borrowed.remove(conn);
+        try {
+            if (original != null) {
+                restore(conn, original);
+            }
+        } catch (SQLException e) {
+            log.error("Cannot restore the settings of the connection before returning it to the pool", e);
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.error("Cannot return connection to the pool", e);
+        }
+    }
+
+    private void restore(Connection conn, OriginalSettings original) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            // isolation can't be changed in the middle of a transaction, drop what the caller left uncommitted
+            conn.rollback();
+        }
+        if (conn.getTransactionIsolation() != original.isolation) {
+            conn.setTransactionIsolation(original.isolation);
+        }
+        if (conn.getAutoCommit() != original.autoCommit) {
+            conn.setAutoCommit(original.autoCommit);
+        }
+    }
+
+    /** The auto-commit and isolation settings a connection had when it was borrowed. */
+    private static class OriginalSettings {
+        private final boolean autoCommit;
+        private final int isolation;
+
+        private OriginalSettings(boolean autoCommit, int isolation) {
+            this.autoCommit = autoCommit;
+            this.isolation = isolation;
         }
     }
 
+    /**
+     * Closes the connections of this storage's ConnectionPool. The shared DBUtil pool is left open for its other
+     * users.
+     */
     public void closeAllConnections() {
         if (connectionPool != null)
             connectionPool.dispose();
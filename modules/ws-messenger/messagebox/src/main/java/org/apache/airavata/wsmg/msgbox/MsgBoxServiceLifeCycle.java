@@ -141,7 +141,9 @@ public class MsgBoxServiceLifeCycle implements ServiceLifeCycle {
         if (useDatabase.equalsIgnoreCase(TRUE)) {
             String jdbcUrl = confmanager.getConfig(ConfigKeys.MSG_BOX_JDBC_URL);
             String jdbcDriver = confmanager.getConfig(ConfigKeys.MSG_BOX_JDBC_DRIVER);
-            msgBoxStorage = new DatabaseStorageImpl(jdbcUrl, jdbcDriver, time);
+            String jdbcUser = confmanager.getConfig(ConfigKeys.MSG_BOX_JDBC_USER, null);
+            String jdbcPassword = confmanager.getConfig(ConfigKeys.MSG_BOX_JDBC_PASSWORD, null);
+            msgBoxStorage = new DatabaseStorageImpl(jdbcUrl, jdbcUser, jdbcPassword, jdbcDriver, time);
         } else {
             msgBoxStorage = new InMemoryImpl(time);
         }
@@ -50,7 +50,12 @@ public class DatabaseStorageImpl implements MsgBoxStorage {
     private JdbcStorage db;
 
     public DatabaseStorageImpl(String jdbcUrl, String jdbcDriver, long timeOfOldMessage) {
-        db = new JdbcStorage(10, 50, jdbcUrl, jdbcDriver, true);
+        this(jdbcUrl, null, null, jdbcDriver, timeOfOldMessage);
+    }
+
+    public DatabaseStorageImpl(String jdbcUrl, String jdbcUser, String jdbcPassword, String jdbcDriver,
+            long timeOfOldMessage) {
+        db = new JdbcStorage(10, 50, jdbcUrl, jdbcUser, jdbcPassword, jdbcDriver, true);
 
         Connection conn = null;
         try {
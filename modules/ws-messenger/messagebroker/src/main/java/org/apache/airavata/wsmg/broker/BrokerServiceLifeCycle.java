@@ -202,7 +202,9 @@ public class BrokerServiceLifeCycle implements ServiceLifeCycle {
         } else {
             String jdbcUrl = configMan.getConfig(WsmgCommonConstants.CONFIG_JDBC_URL);
             String jdbcDriver = configMan.getConfig(WsmgCommonConstants.CONFIG_JDBC_DRIVER);
-            WsmgPersistantStorage persis = new WsmgPersistantStorage(jdbcUrl, jdbcDriver);
+            String jdbcUser = configMan.getConfig(WsmgCommonConstants.CONFIG_JDBC_USER, null);
+            String jdbcPassword = configMan.getConfig(WsmgCommonConstants.CONFIG_JDBC_PASSWORD, null);
+            WsmgPersistantStorage persis = new WsmgPersistantStorage(jdbcUrl, jdbcUser, jdbcPassword, jdbcDriver);
 
             wsmgConfig.setStorage(persis);
             wsmgConfig.setQueue(persis);
@@ -66,8 +66,12 @@ public class WsmgPersistantStorage implements WsmgStorage, WsmgQueue {
     private JdbcStorage db;
 
     public WsmgPersistantStorage(String jdbcUrl, String jdbcDriver) {
+        this(jdbcUrl, null, null, jdbcDriver);
+    }
+
+    public WsmgPersistantStorage(String jdbcUrl, String jdbcUser, String jdbcPassword, String jdbcDriver) {
 
-        db = new JdbcStorage(jdbcUrl, jdbcDriver);
+        db = new JdbcStorage(3, 50, jdbcUrl, jdbcUser, jdbcPassword, jdbcDriver, true);
 
         Connection conn = null;
         try {
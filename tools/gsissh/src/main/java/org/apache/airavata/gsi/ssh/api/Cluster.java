@@ -71,6 +71,22 @@ public interface Cluster {
      */
     public void scpFrom(String remoteFile, String localFile) throws SSHApiException;
 
+    /**
+     * This will copy a set of local files to the configured cluster, several files at a time
+     * @param transfers remote file locations keyed by the local file paths to copy there
+     * @throws SSHApiException throws exception during error
+     */
+    public void scpTo(Map<String, String> transfers) throws SSHApiException;
+
+    /**
+     * This will copy a set of remote files in to a local directory, several files at a time
+     * @param remoteFiles remote file paths, these have to be full qualified paths
+     * @param localDirectory local directory to copy the files in to
+     * @return the local file paths, in the order of the remote files
+     * @throws SSHApiException
+     */
+    public List<String> scpFrom(List<String> remoteFiles, String localDirectory) throws SSHApiException;
+
     /**
      * This will copy a remote file in path rFile to local file lFile
      * @param remoteFile remote file path, this has to be a full qualified path
@@ -133,10 +149,17 @@ public interface Cluster {
 
     /**
      * This method can be used to get created ssh session
-     * to reuse the created session.
+     * to reuse the created session. The session must be given back with releaseSession.
      * @throws SSHApiException
      */
     public Session getSession() throws SSHApiException;
+
+    /**
+     * Gives back a session got with getSession
+     * @param session the session
+     * @param invalid true if the operation on the session failed, so it is not reused
+     */
+    public void releaseSession(Session session, boolean invalid);
     
     /**
      * This method can be used to close the connections initialized
@@ -0,0 +1,135 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gsi.ssh.api.job;
+
+import org.apache.airavata.gsi.ssh.impl.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statuses of the jobs listed in the output of a user based monitor command (qstat -u, squeue -u), indexed by job
+ * id and by job name. Job names are truncated by the resource managers, so names are indexed by their first
+ * {@link #JOB_NAME_PREFIX_LENGTH} characters. When a job id or name shows up more than once the first line wins.
+ */
+public class JobStatusIndex {
+    private static final Logger log = LoggerFactory.getLogger(JobStatusIndex.class);
+
+    public static final int JOB_NAME_PREFIX_LENGTH = 8;
+
+    private final Map<String, JobStatus> byJobId = new HashMap<String, JobStatus>();
+    private final Map<String, JobStatus> byJobName = new HashMap<String, JobStatus>();
+
+    public void add(String jobId, String jobName, JobStatus status) {
+        if (jobId != null && !byJobId.containsKey(jobId)) {
+            byJobId.put(jobId, status);
+        }
+        if (jobName != null) {
+            String prefix = namePrefix(jobName);
+            if (!byJobName.containsKey(prefix)) {
+                byJobName.put(prefix, status);
+            }
+        }
+    }
+
+    public JobStatus getByJobId(String jobId) {
+        return byJobId.get(jobId);
+    }
+
+    public JobStatus getByJobName(String jobName) {
+        return byJobName.get(namePrefix(jobName));
+    }
+
+    public int size() {
+        return byJobId.size();
+    }
+
+    /**
+     * Fills the statuses of a status map keyed by "jobId,jobName" the way the monitors build it. Jobs are looked up
+     * by name first, as the job ids printed by some resource managers are truncated, and then by id. Jobs which are
+     * not listed keep the status they had.
+     */
+    public void resolve(Map<String, JobStatus> statusMap) {
+        resolve(statusMap, false);
+    }
+
+    /**
+     * Like {@link #resolve(Map)}, but looks jobs up by their full id, and by name only when a job has no id. For
+     * resource managers which print complete job ids, since many jobs share the same name prefix.
+     */
+    public void resolveByJobId(Map<String, JobStatus> statusMap) {
+        resolve(statusMap, true);
+    }
+
+    private void resolve(Map<String, JobStatus> statusMap, boolean byJobId) {
+        for (Map.Entry<String, JobStatus> entry : statusMap.entrySet()) {
+            String key = entry.getKey();
+            int separator = key.indexOf(',');
+            String jobId = separator < 0 ? key : key.substring(0, separator);
+            String jobName = separator < 0 ? null : key.substring(separator + 1);
+            JobStatus status;
+            if (byJobId) {
+                status = jobId.length() > 0 ? getByJobId(jobId) : jobName == null ? null : getByJobName(jobName);
+            } else {
+                status = jobName == null ? null : getByJobName(jobName);
+                if (status == null) {
+                    status = getByJobId(jobId);
+                }
+            }
+            if (status != null) {
+                entry.setValue(status);
+            } else {
+                log.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobId);
+            }
+        }
+    }
+
+    /**
+     * Splits a line of tabular command output in to its whitespace separated columns.
+     */
+    public static List<String> columns(String line) {
+        List<String> columns = new ArrayList<String>();
+        int length = line.length();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                if (start >= 0) {
+                    columns.add(line.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            columns.add(line.substring(start));
+        }
+        return columns;
+    }
+
+    private static String namePrefix(String jobName) {
+        return jobName.length() > JOB_NAME_PREFIX_LENGTH ? jobName.substring(0, JOB_NAME_PREFIX_LENGTH) : jobName;
+    }
+}
@@ -56,4 +56,13 @@ public interface OutputParser {
      * @param rawOutput
      */
     public void parse(String userName,Map<String,JobStatus> statusMap, String rawOutput)throws SSHApiException;
+
+    /**
+     * This can be used to read the output of the user based monitor command once and look up the statuses of
+     * any number of jobs in it afterwards
+     * @param userName
+     * @param rawOutput
+     * @return statuses of all the jobs listed in the output
+     */
+    public JobStatusIndex parseStatusIndex(String userName, String rawOutput)throws SSHApiException;
 }
@@ -158,37 +158,32 @@ public class PBSOutputParser implements OutputParser {
 
     public void parse(String userName, Map<String, JobStatus> statusMap, String rawOutput) {
         log.debug(rawOutput);
-        String[]    info = rawOutput.split("\n");
-//        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            String jobName = jobID.split(",")[1];
-            boolean found = false;
-            for (int i = 0; i < info.length; i++) {
-                if (info[i].contains(jobName.substring(0,8))) {
-                    // now starts processing this line
-                    log.info(info[i]);
-                    String correctLine = info[i];
-                    String[] columns = correctLine.split(" ");
-                    List<String> columnList = new ArrayList<String>();
-                    for (String s : columns) {
-                        if (!"".equals(s)) {
-                            columnList.add(s);
-                        }
-                    }
-//                    lastStop = i + 1;
-                    try {
-                        statusMap.put(jobID, JobStatus.valueOf(columnList.get(9)));
-                    }catch(IndexOutOfBoundsException e){
-                        statusMap.put(jobID, JobStatus.valueOf("U"));
-                    }
-                    found = true;
-                    break;
+        parseStatusIndex(userName, rawOutput).resolve(statusMap);
+    }
+
+    /**
+     * Indexes the output of qstat -u, where the job id is the first column, the job name the fourth and the job
+     * state the tenth.
+     */
+    public JobStatusIndex parseStatusIndex(String userName, String rawOutput) {
+        JobStatusIndex index = new JobStatusIndex();
+        for (String line : rawOutput.split("\n")) {
+            List<String> columns = JobStatusIndex.columns(line);
+            if (columns.size() < 4) {
+                continue;
+            }
+            JobStatus status = JobStatus.U;
+            if (columns.size() > 9) {
+                try {
+                    status = JobStatus.valueOf(columns.get(9));
+                } catch (IllegalArgumentException e) {
+                    // header and separator lines
+                    continue;
                 }
             }
-            if(!found)
-            log.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobID.split(",")[0]);
+            index.add(columns.get(0), columns.get(3), status);
         }
+        return index;
     }
 
-
 }
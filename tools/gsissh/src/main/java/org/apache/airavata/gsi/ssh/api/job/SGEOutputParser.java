@@ -135,33 +135,33 @@ public class SGEOutputParser implements OutputParser{
 
     public void parse(String userName, Map<String, JobStatus> statusMap, String rawOutput) {
         log.debug(rawOutput);
-        String[] info = rawOutput.split("\n");
-        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            for(int i=lastStop;i<info.length;i++){
-               if(jobID.split(",")[0].contains(info[i].split(" ")[0]) && !"".equals(info[i].split(" ")[0])){
-                   // now starts processing this line
-                   log.info(info[i]);
-                   String correctLine = info[i];
-                   String[] columns = correctLine.split(" ");
-                   List<String> columnList = new ArrayList<String>();
-                   for (String s : columns) {
-                       if (!"".equals(s)) {
-                           columnList.add(s);
-                       }
-                   }
-                   lastStop = i+1;
-                   if ("E".equals(columnList.get(4))) {
-                       // There is another status with the same letter E other than error status
-                       // to avoid that we make a small tweek to the job status
-                       columnList.set(4, "Er");
-                   }
-                   statusMap.put(jobID, JobStatus.valueOf(columnList.get(4)));
-                   break;
-               }
+        parseStatusIndex(userName, rawOutput).resolveByJobId(statusMap);
+    }
+
+    /**
+     * Indexes the output of qstat -u, where the job id is the first column, the job name the third and the job
+     * state the fifth.
+     */
+    public JobStatusIndex parseStatusIndex(String userName, String rawOutput) {
+        JobStatusIndex index = new JobStatusIndex();
+        for (String line : rawOutput.split("\n")) {
+            List<String> columns = JobStatusIndex.columns(line);
+            if (columns.size() < 5) {
+                continue;
+            }
+            String state = columns.get(4);
+            if ("E".equals(state)) {
+                // There is another status with the same letter E other than error status
+                // to avoid that we make a small tweek to the job status
+                state = "Er";
+            }
+            try {
+                index.add(columns.get(0), columns.get(2), JobStatus.valueOf(state));
+            } catch (IllegalArgumentException e) {
+                // header line
             }
         }
+        return index;
     }
 
-
 }
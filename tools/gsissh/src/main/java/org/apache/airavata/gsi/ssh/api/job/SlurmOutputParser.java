@@ -150,41 +150,37 @@ public class SlurmOutputParser implements OutputParser {
 
     public void parse(String userName, Map<String, JobStatus> statusMap, String rawOutput) throws SSHApiException {
         log.debug(rawOutput);
-        String[] info = rawOutput.split("\n");
-        String lastString = info[info.length - 1];
-        if (lastString.contains("JOBID") || lastString.contains("PARTITION")) {
+        JobStatusIndex index = parseStatusIndex(userName, rawOutput);
+        if (index.size() == 0) {
             log.info("There are no jobs with this username ... ");
             return;
         }
-//        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            String jobId = jobID.split(",")[0];
-            String jobName = jobID.split(",")[1];
-            boolean found = false;
-            for (int i = 0; i < info.length; i++) {
-                if (info[i].contains(jobName.substring(0, 8))) {
-                    // now starts processing this line
-                    log.info(info[i]);
-                    String correctLine = info[i];
-                    String[] columns = correctLine.split(" ");
-                    List<String> columnList = new ArrayList<String>();
-                    for (String s : columns) {
-                        if (!"".equals(s)) {
-                            columnList.add(s);
-                        }
-                    }
-                    try {
-                        statusMap.put(jobID, JobStatus.valueOf(columnList.get(4)));
-                    } catch (IndexOutOfBoundsException e) {
-                        statusMap.put(jobID, JobStatus.valueOf("U"));
-                    }
-                    found = true;
-                    break;
-                }
+        index.resolve(statusMap);
+    }
+
+    /**
+     * Indexes the output of squeue -u, where the job id is the first column, the job name the third and the job
+     * state the fifth.
+     */
+    public JobStatusIndex parseStatusIndex(String userName, String rawOutput) throws SSHApiException {
+        JobStatusIndex index = new JobStatusIndex();
+        for (String line : rawOutput.split("\n")) {
+            List<String> columns = JobStatusIndex.columns(line);
+            if (columns.size() < 3) {
+                continue;
             }
-            if (!found) {
-                log.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobId);
+            JobStatus status = JobStatus.U;
+            if (columns.size() > 4) {
+                try {
+                    status = JobStatus.valueOf(columns.get(4));
+                } catch (IllegalArgumentException e) {
+                    // header line
+                    continue;
+                }
             }
+            index.add(columns.get(0), columns.get(2), status);
         }
+        return index;
     }
+
 }
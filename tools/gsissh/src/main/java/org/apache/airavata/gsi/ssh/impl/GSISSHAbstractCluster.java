@@ -33,7 +33,6 @@ import org.apache.airavata.gsi.ssh.util.CommonUtils;
 import org.apache.airavata.gsi.ssh.util.SSHAPIUIKeyboardInteractive;
 import org.apache.airavata.gsi.ssh.util.SSHKeyPasswordHandler;
 import org.apache.airavata.gsi.ssh.util.SSHUtils;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +48,8 @@ import java.net.URL;
 import java.security.SecureRandom;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class GSISSHAbstractCluster implements Cluster {
     static {
@@ -58,6 +59,7 @@ public class GSISSHAbstractCluster implements Cluster {
     }
 
     private static final Logger log = LoggerFactory.getLogger(GSISSHAbstractCluster.class);
+    private static final ConcurrentMap<String, Templates> jobTemplates = new ConcurrentHashMap<String, Templates>();
     public static final String X509_CERT_DIR = "X509_CERT_DIR";
     public static final String SSH_SESSION_TIMEOUT = "ssh.session.timeout";
 
@@ -67,7 +69,9 @@ public class GSISSHAbstractCluster implements Cluster {
 
     private AuthenticationInfo authenticationInfo;
 
-    private Session session;
+    private SSHSessionPool sessionPool;
+
+    private SSHTransferEngine transferEngine;
 
     private ConfigReader configReader;
 
@@ -78,31 +82,45 @@ public class GSISSHAbstractCluster implements Cluster {
     }
 
     public  GSISSHAbstractCluster(ServerInfo serverInfo, AuthenticationInfo authenticationInfo) throws SSHApiException {
-
-        reconnect(serverInfo, authenticationInfo);
-    }
-
-    private synchronized void reconnect(ServerInfo serverInfo, AuthenticationInfo authenticationInfo) throws SSHApiException {
         this.serverInfo = serverInfo;
 
         this.authenticationInfo = authenticationInfo;
 
-        if (authenticationInfo instanceof GSIAuthenticationInfo) {
-            System.setProperty(X509_CERT_DIR, (String) ((GSIAuthenticationInfo) authenticationInfo).getProperties().
-                    get("X509_CERT_DIR"));
-        }
-
-
         try {
             this.configReader = new ConfigReader();
         } catch (IOException e) {
             throw new SSHApiException("Unable to load system configurations.", e);
         }
+
+        this.sessionPool = new SSHSessionPool(serverInfo.getUserName() + "@" + serverInfo.getHost() + ":" +
+                serverInfo.getPort(), new SSHSessionPool.SessionFactory() {
+            public Session createSession() throws SSHApiException {
+                return connect();
+            }
+        }, configReader);
+        this.transferEngine = new SSHTransferEngine(serverInfo.getHost(), sessionPool, configReader);
+
+        // open the first session right away so that connection problems show up when the cluster is created
+        try {
+            sessionPool.release(sessionPool.borrow(), false);
+        } catch (SSHApiException e) {
+            sessionPool.close();
+            throw e;
+        }
+    }
+
+    private Session connect() throws SSHApiException {
+        if (authenticationInfo instanceof GSIAuthenticationInfo) {
+            System.setProperty(X509_CERT_DIR, (String) ((GSIAuthenticationInfo) authenticationInfo).getProperties().
+                    get("X509_CERT_DIR"));
+        }
+
         JSch jSch = new ExtendedJSch();
 
         log.debug("Connecting to server - " + serverInfo.getHost() + ":" + serverInfo.getPort() + " with user name - "
                 + serverInfo.getUserName());
 
+        Session session;
         try {
             session = jSch.getSession(serverInfo.getUserName(), serverInfo.getHost(), serverInfo.getPort());
             session.setTimeout(Integer.parseInt(configReader.getConfiguration(SSH_SESSION_TIMEOUT)));
@@ -219,13 +237,29 @@ public class GSISSHAbstractCluster implements Cluster {
                     " connecting user name - "
                     + serverInfo.getUserName(), e);
         }
+        return session;
+    }
+
+    /**
+     * Runs the command on a channel leased from the session pool. A failure to open the channel means the session
+     * is broken, so it is dropped from the pool.
+     */
+    private void executeCommand(RawCommandInfo rawCommandInfo, CommandOutput commandOutput) throws SSHApiException {
+        Session session = sessionPool.borrow();
+        boolean invalid = true;
+        try {
+            CommandExecutor.executeCommand(rawCommandInfo, session, commandOutput);
+            invalid = false;
+        } finally {
+            sessionPool.release(session, invalid);
+        }
     }
 
-    public synchronized JobDescriptor cancelJob(String jobID) throws SSHApiException {
+    public JobDescriptor cancelJob(String jobID) throws SSHApiException {
        RawCommandInfo rawCommandInfo = jobManagerConfiguration.getCancelCommand(jobID);
 
         StandardOutReader stdOutReader = new StandardOutReader();
-        CommandExecutor.executeCommand(rawCommandInfo, this.getSession(), stdOutReader);
+        executeCommand(rawCommandInfo, stdOutReader);
         String outputifAvailable = getOutputifAvailable(stdOutReader, "Error reading output of job submission",rawCommandInfo.getBaseCommand(jobManagerConfiguration.getInstalledPath()));
         // this might not be the case for all teh resources, if so Cluster implementation can override this method
         // because here after cancelling we try to get the job description and return it back
@@ -244,7 +278,7 @@ public class GSISSHAbstractCluster implements Cluster {
         }
     }
 
-    public synchronized String submitBatchJobWithScript(String scriptPath, String workingDirectory) throws SSHApiException {
+    public String submitBatchJobWithScript(String scriptPath, String workingDirectory) throws SSHApiException {
         this.scpTo(workingDirectory, scriptPath);
 
         // since this is a constant we do not ask users to fill this
@@ -254,7 +288,7 @@ public class GSISSHAbstractCluster implements Cluster {
 
         RawCommandInfo rawCommandInfo = jobManagerConfiguration.getSubmitCommand(workingDirectory,scriptPath);
         StandardOutReader standardOutReader = new StandardOutReader();
-        CommandExecutor.executeCommand(rawCommandInfo, this.session, standardOutReader);
+        executeCommand(rawCommandInfo, standardOutReader);
 
         //Check whether pbs submission is successful or not, if it failed throw and exception in submitJob method
         // with the error thrown in qsub command
@@ -264,23 +298,11 @@ public class GSISSHAbstractCluster implements Cluster {
         return  outputParser.parse(outputifAvailable);
     }
 
-    public synchronized String submitBatchJob(JobDescriptor jobDescriptor) throws SSHApiException {
-        TransformerFactory factory = TransformerFactory.newInstance();
-        URL resource = this.getClass().getClassLoader().getResource(jobManagerConfiguration.getJobDescriptionTemplateName());
-
-        if (resource == null) {
-            String error = "System configuration file '" + jobManagerConfiguration.getJobDescriptionTemplateName()
-                    + "' not found in the classpath";
-            throw new SSHApiException(error);
-        }
-
-        Source xslt = new StreamSource(new File(resource.getPath()));
-        Transformer transformer;
+    public String submitBatchJob(JobDescriptor jobDescriptor) throws SSHApiException {
         StringWriter results = new StringWriter();
-        File tempPBSFile = null;
         try {
             // generate the pbs script using xslt
-            transformer = factory.newTransformer(xslt);
+            Transformer transformer = getTemplates(jobManagerConfiguration).newTransformer();
             Source text = new StreamSource(new ByteArrayInputStream(jobDescriptor.toXML().getBytes()));
             transformer.transform(text, new StreamResult(results));
             String scriptContent = results.toString().replaceAll("^[ |\t]*\n$", "");
@@ -289,19 +311,16 @@ public class GSISSHAbstractCluster implements Cluster {
             }
 //            log.debug("generated PBS:" + results.toString());
 
-            // creating a temporary file using pbs script generated above
+            // the script is copied straight from memory, so the name only has to be unique in the working directory
             int number = new SecureRandom().nextInt();
             number = (number < 0 ? -number : number);
+            String scriptName = Integer.toString(number) + jobManagerConfiguration.getScriptExtension();
 
-            tempPBSFile = new File(Integer.toString(number) + jobManagerConfiguration.getScriptExtension());
-            FileUtils.writeStringToFile(tempPBSFile, scriptContent);
-
-            //reusing submitBatchJobWithScript method to submit a job
             String jobID = null;
             int retry = 3;
             while(retry>0) {
                 try {
-                    jobID = this.submitBatchJobWithScript(tempPBSFile.getAbsolutePath(),
+                    jobID = this.submitBatchJobWithScript(scriptName, scriptContent.getBytes(),
                             jobDescriptor.getWorkingDirectory());
                     retry=0;
                 } catch (SSHApiException e) {
@@ -329,34 +348,71 @@ public class GSISSHAbstractCluster implements Cluster {
             throw new SSHApiException("Error parsing PBS transformation", e);
         } catch (TransformerException e) {
             throw new SSHApiException("Error generating PBS script", e);
+        }
+    }
+
+    private String submitBatchJobWithScript(String scriptName, byte[] scriptContent, String workingDirectory) throws SSHApiException {
+        Session session = sessionPool.borrow();
+        boolean invalid = false;
+        try {
+            log.info("Transfering job script " + scriptName + " To:" + serverInfo.getHost() + ":" + workingDirectory);
+            SSHUtils.scpTo(workingDirectory, scriptName, scriptContent, session);
         } catch (IOException e) {
-            throw new SSHApiException("An exception occurred while connecting to server." +
-                    "Connecting server - " + serverInfo.getHost() + ":" + serverInfo.getPort() +
-                    " connecting user name - "
-                    + serverInfo.getUserName(), e);
+            invalid = true;
+            throw new SSHApiException("Failed during scping job script " + scriptName + " to remote directory "
+                    + serverInfo.getHost() + ":" + workingDirectory, e);
+        } catch (JSchException e) {
+            invalid = true;
+            throw new SSHApiException("Failed during scping job script " + scriptName + " to remote directory "
+                    + serverInfo.getHost() + ":" + workingDirectory, e);
         } finally {
-            if (tempPBSFile != null) {
-                tempPBSFile.delete();
-            }
+            sessionPool.release(session, invalid);
         }
-    }
 
+        RawCommandInfo rawCommandInfo = jobManagerConfiguration.getSubmitCommand(workingDirectory, scriptName);
+        StandardOutReader standardOutReader = new StandardOutReader();
+        executeCommand(rawCommandInfo, standardOutReader);
+        String outputifAvailable = getOutputifAvailable(standardOutReader,"Error reading output of job submission",rawCommandInfo.getBaseCommand(jobManagerConfiguration.getInstalledPath()));
+        OutputParser outputParser = jobManagerConfiguration.getParser();
+        return  outputParser.parse(outputifAvailable);
+    }
 
+    /**
+     * Compiled job script templates are thread safe, so every template is compiled once and shared by all clusters.
+     */
+    private static Templates getTemplates(JobManagerConfiguration configuration) throws SSHApiException,
+            TransformerConfigurationException {
+        String templateName = configuration.getJobDescriptionTemplateName();
+        Templates templates = jobTemplates.get(templateName);
+        if (templates == null) {
+            URL resource = GSISSHAbstractCluster.class.getClassLoader().getResource(templateName);
+            if (resource == null) {
+                String error = "System configuration file '" + templateName + "' not found in the classpath";
+                throw new SSHApiException(error);
+            }
+            templates = TransformerFactory.newInstance().newTemplates(new StreamSource(resource.toExternalForm()));
+            Templates existing = jobTemplates.putIfAbsent(templateName, templates);
+            if (existing != null) {
+                templates = existing;
+            }
+        }
+        return templates;
+    }
 
-    public synchronized JobDescriptor getJobDescriptorById(String jobID) throws SSHApiException {
+    public JobDescriptor getJobDescriptorById(String jobID) throws SSHApiException {
         RawCommandInfo rawCommandInfo = jobManagerConfiguration.getMonitorCommand(jobID);
         StandardOutReader stdOutReader = new StandardOutReader();
-        CommandExecutor.executeCommand(rawCommandInfo, this.getSession(), stdOutReader);
+        executeCommand(rawCommandInfo, stdOutReader);
         String result = getOutputifAvailable(stdOutReader, "Error getting job information from the resource !",rawCommandInfo.getBaseCommand(jobManagerConfiguration.getInstalledPath()));
         JobDescriptor jobDescriptor = new JobDescriptor();
         jobManagerConfiguration.getParser().parse(jobDescriptor,result);
         return jobDescriptor;
     }
 
-    public synchronized JobStatus getJobStatus(String jobID) throws SSHApiException {
+    public JobStatus getJobStatus(String jobID) throws SSHApiException {
         RawCommandInfo rawCommandInfo = jobManagerConfiguration.getMonitorCommand(jobID);
         StandardOutReader stdOutReader = new StandardOutReader();
-        CommandExecutor.executeCommand(rawCommandInfo, this.getSession(), stdOutReader);
+        executeCommand(rawCommandInfo, stdOutReader);
         String result = getOutputifAvailable(stdOutReader, "Error getting job information from the resource !", rawCommandInfo.getBaseCommand(jobManagerConfiguration.getInstalledPath()));
         return jobManagerConfiguration.getParser().parse(jobID, result);
     }
@@ -375,104 +431,46 @@ public class GSISSHAbstractCluster implements Cluster {
         this.jobManagerConfiguration = jobManagerConfiguration;
     }
 
-    public synchronized void scpTo(String remoteFile, String localFile) throws SSHApiException {
-        int retry = 3;
-        while (retry > 0) {
-            try {
-                if (!session.isConnected()) {
-                    session.connect();
-                }
-                log.info("Transfering file:/" + localFile + " To:" + serverInfo.getHost() + ":" + remoteFile);
-                SSHUtils.scpTo(remoteFile, localFile, session);
-                retry = 0;
-            } catch (IOException e) {
-                retry--;
-                reconnect(serverInfo, authenticationInfo);
-                if (retry == 0) {
-                    throw new SSHApiException("Failed during scping local file:" + localFile + " to remote file "
-                            + serverInfo.getHost() + ":rFile", e);
-                }
-            } catch (JSchException e) {
-                retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
-                if (retry == 0) {
-                    throw new SSHApiException("Failed during scping local file:" + localFile + " to remote file "
-                            + serverInfo.getHost() + ":rFile", e);
-                }
-            }
-        }
+    public void scpTo(String remoteFile, String localFile) throws SSHApiException {
+        transferEngine.upload(localFile, remoteFile);
     }
 
-    public synchronized void scpFrom(String remoteFile, String localFile) throws SSHApiException {
-        int retry = 3;
-        while(retry>0) {
-            try {
-                if (!session.isConnected()) {
-                    session.connect();
-                }
-                log.info("Transfering from:" + serverInfo.getHost() + ":" + remoteFile + " To:" + "file:/" + localFile);
-                SSHUtils.scpFrom(remoteFile, localFile, session);
-                retry=0;
-            } catch (IOException e) {
-                retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
-                if (retry == 0) {
-                    throw new SSHApiException("Failed during scping local file:" + localFile + " to remote file "
-                            + serverInfo.getHost() + ":rFile", e);
-                }else{
-                    log.error("Error performing scp but doing a retry");
-                }
-            } catch (JSchException e) {
-                retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
-                if(retry==0) {
-                    throw new SSHApiException("Failed during scping local file:" + localFile + " to remote file "
-                            + serverInfo.getHost() + ":rFile", e);
-                }else{
-                    log.error("Error performing scp but doing a retry");
-                }
-            }
-        }
+    public void scpFrom(String remoteFile, String localFile) throws SSHApiException {
+        transferEngine.download(remoteFile, localFile);
+    }
+
+    public void scpTo(Map<String, String> transfers) throws SSHApiException {
+        transferEngine.upload(transfers);
+    }
+
+    public List<String> scpFrom(List<String> remoteFiles, String localDirectory) throws SSHApiException {
+        return transferEngine.download(remoteFiles, localDirectory);
     }
     
-    public synchronized void scpThirdParty(String remoteFileSource, String remoteFileTarget) throws SSHApiException {
+    public void scpThirdParty(String remoteFileSource, String remoteFileTarget) throws SSHApiException {
+        Session session = sessionPool.borrow();
+        boolean invalid = false;
         try {
-            if(!session.isConnected()){
-                session.connect();
-            }
             log.info("Transfering from:" + remoteFileSource + " To: " + remoteFileTarget);
             SSHUtils.scpThirdParty(remoteFileSource, remoteFileTarget, session);
         } catch (IOException e) {
             throw new SSHApiException("Failed during scping  file:" + remoteFileSource + " to remote file "
                     +remoteFileTarget , e);
         } catch (JSchException e) {
+            invalid = true;
             throw new SSHApiException("Failed during scping  file:" + remoteFileSource + " to remote file "
                     +remoteFileTarget, e);
+        } finally {
+            sessionPool.release(session, invalid);
         }
     }
 
-    public synchronized void makeDirectory(String directoryPath) throws SSHApiException {
+    public void makeDirectory(String directoryPath) throws SSHApiException {
         int retry = 3;
         while (retry > 0) {
+            Session session = sessionPool.borrow();
+            boolean invalid = false;
             try {
-                if (!session.isConnected()) {
-                    session.connect();
-                }
                 log.info("Creating directory: " + serverInfo.getHost() + ":" + directoryPath);
                 SSHUtils.makeDirectory(directoryPath, session);
                 retry = 0;
@@ -481,103 +479,95 @@ public class GSISSHAbstractCluster implements Cluster {
                         + serverInfo.getHost() + ":rFile", e);
             } catch (JSchException e) {
                 retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
+                invalid = true;
                 if (retry == 0) {
                     throw new SSHApiException("Failed during creating directory :" + directoryPath + " to remote file "
                             + serverInfo.getHost() + ":rFile", e);
                 }
             } catch (SSHApiException e) {
                 retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
+                invalid = true;
                 if (retry == 0) {
                     throw new SSHApiException("Failed during creating directory :" + directoryPath + " to remote file "
                             + serverInfo.getHost() + ":rFile", e);
                 }
+            } finally {
+                sessionPool.release(session, invalid);
+            }
+            if (invalid) {
+                sleepBeforeRetry();
             }
         }
     }
 
-    public synchronized List<String> listDirectory(String directoryPath) throws SSHApiException {
+    public List<String> listDirectory(String directoryPath) throws SSHApiException {
         int retry = 3;
         List<String> files = null;
         while (retry > 0) {
+            Session session = sessionPool.borrow();
+            boolean invalid = false;
             try {
-                if (!session.isConnected()) {
-                    session.connect();
-                }
                 log.info("Listing directory: " + serverInfo.getHost() + ":" + directoryPath);
                 files = SSHUtils.listDirectory(directoryPath, session);
                 retry=0;
             } catch (IOException e) {
-                e.printStackTrace();
+                log.error("Error listing directory " + directoryPath, e);
                 retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
+                invalid = true;
                 if (retry == 0) {
                     throw new SSHApiException("Failed during listing directory:" + directoryPath + " to remote file ", e);
                 }
             } catch (JSchException e) {
                 retry--;
-                reconnect(serverInfo, authenticationInfo);
+                invalid = true;
                 if (retry == 0) {
                     throw new SSHApiException("Failed during listing directory :" + directoryPath + " to remote file ", e);
                 }
             }catch (SSHApiException e) {
                 retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
+                invalid = true;
                 if (retry == 0) {
                     throw new SSHApiException("Failed during listing directory :" + directoryPath + " to remote file "
                             + serverInfo.getHost() + ":rFile", e);
                 }
+            } finally {
+                sessionPool.release(session, invalid);
+            }
+            if (invalid) {
+                sleepBeforeRetry();
             }
         }
         return files;
     }
 
-    public synchronized void getJobStatuses(String userName, Map<String,JobStatus> jobIDs)throws SSHApiException {
+    public void getJobStatuses(String userName, Map<String,JobStatus> jobIDs)throws SSHApiException {
         int retry = 3;
         RawCommandInfo rawCommandInfo = jobManagerConfiguration.getUserBasedMonitorCommand(userName);
         StandardOutReader stdOutReader = new StandardOutReader();
         while (retry > 0){
             try {
-                CommandExecutor.executeCommand(rawCommandInfo, this.getSession(), stdOutReader);
+                executeCommand(rawCommandInfo, stdOutReader);
                 retry=0;
             } catch (SSHApiException e) {
                 retry--;
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-                reconnect(serverInfo, authenticationInfo);
                 if (retry == 0) {
                     throw new SSHApiException("Failed Getting statuses  to remote file", e);
                 }
+                sleepBeforeRetry();
             }
         }
         String result = getOutputifAvailable(stdOutReader, "Error getting job information from the resource !", rawCommandInfo.getBaseCommand(jobManagerConfiguration.getInstalledPath()));
         jobManagerConfiguration.getParser().parse(userName,jobIDs, result);
     }
 
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public ServerInfo getServerInfo() {
         return serverInfo;
     }
@@ -587,12 +577,25 @@ public class GSISSHAbstractCluster implements Cluster {
     }
 
     /**
-     * This gaurantee to return a valid session
+     * Leases a channel on one of the pooled sessions. The session is shared with the other users of this cluster,
+     * so it must be given back with {@link #releaseSession(Session, boolean)} once the caller's channel is closed.
      *
      * @return
      */
-    public Session getSession() {
-        return this.session;
+    public Session getSession() throws SSHApiException {
+        return sessionPool.borrow();
+    }
+
+    public void releaseSession(Session session, boolean invalid) {
+        sessionPool.release(session, invalid);
+    }
+
+    public SSHSessionPool getSessionPool() {
+        return sessionPool;
+    }
+
+    public SSHTransferEngine getTransferEngine() {
+        return transferEngine;
     }
 
     /**
@@ -620,7 +623,10 @@ public class GSISSHAbstractCluster implements Cluster {
         return stdOutputString;
     }
 
+    /**
+     * Closes the sessions which are not in use. The cluster stays usable and reconnects on its next operation.
+     */
     public void disconnect() throws SSHApiException {
-//        getSession().disconnect();
+        sessionPool.clear();
     }
 }
@@ -0,0 +1,467 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gsi.ssh.impl;
+
+import com.jcraft.jsch.Session;
+import org.apache.airavata.gsi.ssh.api.SSHApiException;
+import org.apache.airavata.gsi.ssh.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of SSH sessions to a single user and host. Every operation leases a channel on one of the pooled sessions
+ * instead of locking a single session, so concurrent operations run in parallel. A session carries up to
+ * {@link #MAX_CHANNELS_PER_SESSION} channels at a time, which should match the MaxSessions setting of the remote
+ * sshd, and a new session is only opened once all existing ones are full. When the pool is at its session limit
+ * callers wait a bounded time for a channel to be released.
+ * <p/>
+ * A background task sends keep alive messages on idle sessions and closes sessions which have been idle for too
+ * long or failed their keep alive, so a broken connection is detected before it is handed out.
+ * <p/>
+ * A new session failing to authenticate, for example because the credentials expired, closes the pool, so the
+ * owner of the pool knows it has to be rebuilt with fresh credentials.
+ */
+public class SSHSessionPool {
+    private static final Logger log = LoggerFactory.getLogger(SSHSessionPool.class);
+
+    public static final String MAX_SESSIONS = "ssh.pool.max.sessions";
+    public static final String MAX_CHANNELS_PER_SESSION = "ssh.pool.max.channels.per.session";
+    public static final String MAX_WAIT = "ssh.pool.max.wait";
+    public static final String IDLE_TIMEOUT = "ssh.pool.idle.timeout";
+    public static final String KEEP_ALIVE_INTERVAL = "ssh.pool.keepalive.interval";
+
+    private static final int DEFAULT_MAX_SESSIONS = 5;
+    private static final int DEFAULT_MAX_CHANNELS_PER_SESSION = 10;
+    private static final long DEFAULT_MAX_WAIT = 60000;
+    private static final long DEFAULT_IDLE_TIMEOUT = 600000;
+    private static final long DEFAULT_KEEP_ALIVE_INTERVAL = 60000;
+
+    private static final ScheduledExecutorService maintenanceExecutor =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "ssh-session-pool-maintenance-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /**
+     * Opens a new, connected session to the host this pool belongs to.
+     */
+    public interface SessionFactory {
+        Session createSession() throws SSHApiException;
+    }
+
+    private final String name;
+    private final SessionFactory sessionFactory;
+    private final int maxSessions;
+    private final int maxChannelsPerSession;
+    private final long maxWait;
+    private final long idleTimeout;
+    private final long keepAliveInterval;
+
+    private final List<PooledSession> sessions = new ArrayList<PooledSession>();
+    private int pendingSessions;
+    private boolean closed;
+    private final ScheduledFuture<?> maintenanceTask;
+
+    private final AtomicLong createdSessions = new AtomicLong();
+    private final AtomicLong destroyedSessions = new AtomicLong();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong keepAliveFailures = new AtomicLong();
+
+    public SSHSessionPool(String name, SessionFactory sessionFactory, ConfigReader configReader) {
+        this(name, sessionFactory,
+                getInt(configReader, MAX_SESSIONS, DEFAULT_MAX_SESSIONS),
+                getInt(configReader, MAX_CHANNELS_PER_SESSION, DEFAULT_MAX_CHANNELS_PER_SESSION),
+                getLong(configReader, MAX_WAIT, DEFAULT_MAX_WAIT),
+                getLong(configReader, IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT),
+                getLong(configReader, KEEP_ALIVE_INTERVAL, DEFAULT_KEEP_ALIVE_INTERVAL));
+    }
+
+    /**
+     * @param name                  name of the pool, usually user@host:port, used in logs and errors
+     * @param sessionFactory        opens new sessions
+     * @param maxSessions           maximum number of sessions kept open to the host
+     * @param maxChannelsPerSession maximum number of channels leased on a single session at a time
+     * @param maxWait               time in milliseconds a caller waits for a channel before failing
+     * @param idleTimeout           time in milliseconds after which an unused session is closed
+     * @param keepAliveInterval     time in milliseconds between keep alive messages on idle sessions
+     */
+    public SSHSessionPool(String name, SessionFactory sessionFactory, int maxSessions, int maxChannelsPerSession,
+                          long maxWait, long idleTimeout, long keepAliveInterval) {
+        this.name = name;
+        this.sessionFactory = sessionFactory;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.maxChannelsPerSession = Math.max(1, maxChannelsPerSession);
+        this.maxWait = maxWait;
+        this.idleTimeout = idleTimeout;
+        this.keepAliveInterval = keepAliveInterval;
+        long period = Math.max(1000, keepAliveInterval > 0 ? keepAliveInterval : idleTimeout);
+        this.maintenanceTask = maintenanceExecutor.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                try {
+                    maintain();
+                } catch (Throwable e) {
+                    log.error("Error while checking the sessions of pool " + SSHSessionPool.this.name, e);
+                }
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Leases a channel on one of the pooled sessions, opening a new session if every existing one is fully used
+     * and the pool is below its session limit. Every leased session must be given back with
+     * {@link #release(Session, boolean)}.
+     */
+    public Session borrow() throws SSHApiException {
+        long deadline = System.currentTimeMillis() + maxWait;
+        boolean waited = false;
+        synchronized (this) {
+            while (true) {
+                if (closed) {
+                    throw new SSHApiException("SSH session pool " + name + " is closed");
+                }
+                PooledSession pooledSession = leastLoadedSession();
+                if (pooledSession != null) {
+                    pooledSession.lease();
+                    leases.incrementAndGet();
+                    return pooledSession.session;
+                }
+                if (sessions.size() + pendingSessions < maxSessions) {
+                    pendingSessions++;
+                    break;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    timeouts.incrementAndGet();
+                    throw new SSHApiException("Timed out after " + maxWait + " ms waiting for a free SSH channel to "
+                            + name + ", all " + maxSessions + " sessions are in use");
+                }
+                if (!waited) {
+                    waits.incrementAndGet();
+                    waited = true;
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SSHApiException("Interrupted while waiting for a free SSH channel to " + name, e);
+                }
+            }
+        }
+
+        // connecting takes a while, so it is done without holding the pool lock
+        Session session = null;
+        try {
+            session = sessionFactory.createSession();
+        } catch (SSHApiException e) {
+            if (isAuthenticationFailure(e)) {
+                log.warn("Authentication to " + name + " failed, closing its SSH session pool", e);
+                close();
+            }
+            throw e;
+        } finally {
+            synchronized (this) {
+                pendingSessions--;
+                if (session != null) {
+                    PooledSession pooledSession = new PooledSession(session);
+                    pooledSession.lease();
+                    pooledSession.invalid = closed;
+                    sessions.add(pooledSession);
+                    createdSessions.incrementAndGet();
+                    leases.incrementAndGet();
+                    log.debug("Opened SSH session " + sessions.size() + " of pool " + name);
+                }
+                notifyAll();
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Gives back a channel leased with {@link #borrow()}.
+     *
+     * @param session the leased session
+     * @param invalid true if the operation failed in a way that suggests the session is broken. An invalid
+     *                session is not leased again and is closed once its last channel is released
+     */
+    public synchronized void release(Session session, boolean invalid) {
+        PooledSession pooledSession = find(session);
+        if (pooledSession == null) {
+            // the pool was cleared while the session was leased
+            return;
+        }
+        pooledSession.release();
+        if (invalid) {
+            pooledSession.invalid = true;
+        }
+        if (pooledSession.invalid && pooledSession.leased == 0) {
+            destroy(pooledSession);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Closes the sessions which are not in use. Sessions which are in use are closed when they are released, the
+     * pool itself stays usable and opens new sessions on demand.
+     */
+    public synchronized void clear() {
+        Iterator<PooledSession> iterator = sessions.iterator();
+        while (iterator.hasNext()) {
+            PooledSession pooledSession = iterator.next();
+            if (pooledSession.leased == 0) {
+                iterator.remove();
+                disconnect(pooledSession);
+            } else {
+                pooledSession.invalid = true;
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * Closes the pool and all of its idle sessions. Borrowing from a closed pool fails.
+     */
+    public void close() {
+        maintenanceTask.cancel(false);
+        synchronized (this) {
+            closed = true;
+        }
+        clear();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes sessions which have been idle longer than the idle timeout and sends a keep alive message on the
+     * remaining idle sessions, closing the ones which do not respond.
+     */
+    void maintain() {
+        List<PooledSession> idleSessions = new ArrayList<PooledSession>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Iterator<PooledSession> iterator = sessions.iterator();
+            while (iterator.hasNext()) {
+                PooledSession pooledSession = iterator.next();
+                if (pooledSession.leased > 0) {
+                    continue;
+                }
+                if (pooledSession.invalid || !isConnected(pooledSession.session)
+                        || (idleTimeout > 0 && now - pooledSession.lastUsed > idleTimeout)) {
+                    iterator.remove();
+                    disconnect(pooledSession);
+                } else if (keepAliveInterval > 0 && now - pooledSession.lastChecked >= keepAliveInterval) {
+                    idleSessions.add(pooledSession);
+                }
+            }
+        }
+        for (PooledSession pooledSession : idleSessions) {
+            try {
+                sendKeepAlive(pooledSession.session);
+                pooledSession.lastChecked = System.currentTimeMillis();
+            } catch (Exception e) {
+                keepAliveFailures.incrementAndGet();
+                log.info("SSH session of pool " + name + " did not respond to a keep alive, closing it", e);
+                synchronized (this) {
+                    pooledSession.invalid = true;
+                    if (pooledSession.leased == 0) {
+                        destroy(pooledSession);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if opening a session failed because the credentials were rejected or have expired
+     */
+    protected boolean isAuthenticationFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && (message.startsWith("Auth ") || message.contains("expired"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isConnected(Session session) {
+        return session.isConnected();
+    }
+
+    protected void sendKeepAlive(Session session) throws Exception {
+        session.sendKeepAliveMsg();
+    }
+
+    protected void disconnect(Session session) {
+        session.disconnect();
+    }
+
+    private PooledSession leastLoadedSession() {
+        PooledSession leastLoaded = null;
+        Iterator<PooledSession> iterator = sessions.iterator();
+        while (iterator.hasNext()) {
+            PooledSession pooledSession = iterator.next();
+            if (pooledSession.invalid || !isConnected(pooledSession.session)) {
+                pooledSession.invalid = true;
+                if (pooledSession.leased == 0) {
+                    iterator.remove();
+                    disconnect(pooledSession);
+                }
+                continue;
+            }
+            if (pooledSession.leased < maxChannelsPerSession
+                    && (leastLoaded == null || pooledSession.leased < leastLoaded.leased)) {
+                leastLoaded = pooledSession;
+            }
+        }
+        return leastLoaded;
+    }
+
+    private PooledSession find(Session session) {
+        for (PooledSession pooledSession : sessions) {
+            if (pooledSession.session == session) {
+                return pooledSession;
+            }
+        }
+        return null;
+    }
+
+    private void destroy(PooledSession pooledSession) {
+        sessions.remove(pooledSession);
+        disconnect(pooledSession);
+    }
+
+    private void disconnect(PooledSession pooledSession) {
+        destroyedSessions.incrementAndGet();
+        try {
+            disconnect(pooledSession.session);
+        } catch (Exception e) {
+            log.debug("Error while closing SSH session of pool " + name, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public int getMaxChannelsPerSession() {
+        return maxChannelsPerSession;
+    }
+
+    public synchronized int getSessionCount() {
+        return sessions.size();
+    }
+
+    public synchronized int getLeasedChannelCount() {
+        int leased = 0;
+        for (PooledSession pooledSession : sessions) {
+            leased += pooledSession.leased;
+        }
+        return leased;
+    }
+
+    public long getCreatedSessionCount() {
+        return createdSessions.get();
+    }
+
+    public long getDestroyedSessionCount() {
+        return destroyedSessions.get();
+    }
+
+    public long getLeaseCount() {
+        return leases.get();
+    }
+
+    public long getWaitCount() {
+        return waits.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    public long getKeepAliveFailureCount() {
+        return keepAliveFailures.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SSH session pool " + name + " [sessions=" + getSessionCount() + ", leasedChannels="
+                + getLeasedChannelCount() + ", created=" + getCreatedSessionCount() + ", destroyed="
+                + getDestroyedSessionCount() + ", leases=" + getLeaseCount() + ", waits=" + getWaitCount()
+                + ", timeouts=" + getTimeoutCount() + ", keepAliveFailures=" + getKeepAliveFailureCount() + "]";
+    }
+
+    private static int getInt(ConfigReader configReader, String key, int defaultValue) {
+        String value = configReader.getConfiguration(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static long getLong(ConfigReader configReader, String key, long defaultValue) {
+        String value = configReader.getConfiguration(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    private static class PooledSession {
+        private final Session session;
+        private int leased;
+        private boolean invalid;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile long lastChecked = lastUsed;
+
+        private PooledSession(Session session) {
+            this.session = session;
+        }
+
+        private void lease() {
+            leased++;
+            lastUsed = System.currentTimeMillis();
+        }
+
+        private void release() {
+            leased--;
+            lastUsed = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,650 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gsi.ssh.impl;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+import org.apache.airavata.gsi.ssh.api.SSHApiException;
+import org.apache.airavata.gsi.ssh.config.ConfigReader;
+import org.apache.airavata.gsi.ssh.util.SSHUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves files between the local file system and a remote host over SFTP channels leased from the session pool of a
+ * cluster. Data is copied through a large buffer straight into a {@link FileChannel}. A batch of files is transferred
+ * concurrently, each file on its own channel.
+ * <p/>
+ * With {@link #RESUME_TRANSFERS} enabled a file is written to a "&lt;name&gt;.part" file next to its target and
+ * renamed once it is complete. A transfer which was interrupted is resumed from its part file, but only if the part
+ * file still carries the modification time of the source it was written from, so the bytes written so far are a
+ * prefix of the same source. A target which has the size and modification time of the source, as left by a previous
+ * complete transfer, is skipped. Resuming is off by default and every file is copied in full.
+ * <p/>
+ * Hosts which do not offer the sftp subsystem, and remote paths with wildcards, fall back to scp.
+ * <p/>
+ * The transfer statistics of a host are logged after every batch, and after every file at debug level.
+ */
+public class SSHTransferEngine {
+    private static final Logger log = LoggerFactory.getLogger(SSHTransferEngine.class);
+
+    public static final String BUFFER_SIZE = "ssh.transfer.buffer.size";
+    public static final String PARALLEL_TRANSFERS = "ssh.transfer.parallel.files";
+    public static final String RESUME_TRANSFERS = "ssh.transfer.resume";
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final int DEFAULT_PARALLEL_TRANSFERS = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String PART_SUFFIX = ".part";
+
+    private static final ConcurrentMap<String, TransferStatistics> hostStatistics =
+            new ConcurrentHashMap<String, TransferStatistics>();
+
+    private static final ExecutorService transferExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ssh-file-transfer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final String host;
+    private final SSHSessionPool sessionPool;
+    private final int bufferSize;
+    private final int parallelTransfers;
+    private final boolean resume;
+    private final TransferStatistics statistics;
+
+    public SSHTransferEngine(String host, SSHSessionPool sessionPool, ConfigReader configReader) {
+        this(host, sessionPool,
+                getInt(configReader, BUFFER_SIZE, DEFAULT_BUFFER_SIZE),
+                getInt(configReader, PARALLEL_TRANSFERS, DEFAULT_PARALLEL_TRANSFERS),
+                configReader.getConfiguration(RESUME_TRANSFERS) != null
+                        && Boolean.parseBoolean(configReader.getConfiguration(RESUME_TRANSFERS).trim()));
+    }
+
+    public SSHTransferEngine(String host, SSHSessionPool sessionPool, int bufferSize, int parallelTransfers,
+                             boolean resume) {
+        this.host = host;
+        this.sessionPool = sessionPool;
+        this.bufferSize = Math.max(8 * 1024, bufferSize);
+        this.parallelTransfers = Math.max(1, parallelTransfers);
+        this.resume = resume;
+        this.statistics = getStatistics(host);
+    }
+
+    /**
+     * Copies a remote file to the local file system.
+     *
+     * @param remoteFile remote file path
+     * @param localPath  local file, or an existing directory to copy the file in to
+     * @return path of the local file
+     */
+    public String download(String remoteFile, String localPath) throws SSHApiException {
+        File localFile = new File(localPath);
+        if (localFile.isDirectory()) {
+            localFile = new File(localFile, fileName(remoteFile));
+        }
+        final File target = localFile;
+        final String source = remotePath(remoteFile);
+        log.info("Transfering from:" + host + ":" + remoteFile + " To:" + "file:/" + target.getAbsolutePath());
+        transfer(new Transfer() {
+            public void sftp(ChannelSftp sftp) throws SftpException, IOException {
+                get(new SftpFileSystem(sftp), source, target);
+            }
+
+            public void scp(Session session) throws IOException, JSchException, SSHApiException {
+                SSHUtils.scpFrom(source, target.getAbsolutePath(), session);
+            }
+        }, hasWildcard(source), "Failed during scping remote file:" + host + ":" + remoteFile + " to local file " +
+                target.getAbsolutePath());
+        return target.getAbsolutePath();
+    }
+
+    /**
+     * Copies a local file to the remote host.
+     *
+     * @param localFile  local file path
+     * @param remotePath remote file, or an existing remote directory to copy the file in to
+     */
+    public void upload(String localFile, String remotePath) throws SSHApiException {
+        final File source = new File(localFile);
+        final String target = remotePath(remotePath);
+        log.info("Transfering file:/" + localFile + " To:" + host + ":" + remotePath);
+        transfer(new Transfer() {
+            public void sftp(ChannelSftp sftp) throws SftpException, IOException {
+                put(new SftpFileSystem(sftp), source, target);
+            }
+
+            public void scp(Session session) throws IOException, JSchException, SSHApiException {
+                SSHUtils.scpTo(target, source.getAbsolutePath(), session);
+            }
+        }, source.isDirectory(), "Failed during scping local file:" + localFile + " to remote file " + host + ":" +
+                remotePath);
+    }
+
+    /**
+     * Copies a set of remote files in to a local directory, transferring up to {@link #PARALLEL_TRANSFERS} files at
+     * the same time.
+     *
+     * Every file is written to the local directory under its own name, so two remote files with the same name are
+     * refused before anything is copied instead of overwriting each other.
+     *
+     * @return paths of the local files, in the order of the remote files
+     */
+    public List<String> download(List<String> remoteFiles, final String localDirectory) throws SSHApiException {
+        Map<String, String> names = new HashMap<String, String>();
+        for (String remoteFile : remoteFiles) {
+            String other = names.put(fileName(remoteFile), remoteFile);
+            if (other != null) {
+                throw new SSHApiException("Remote files " + host + ":" + other + " and " + host + ":" + remoteFile +
+                        " would both be copied to " + new File(localDirectory, fileName(remoteFile)).getAbsolutePath());
+            }
+        }
+        final String[] localFiles = new String[remoteFiles.size()];
+        runAll(remoteFiles, new FileTask() {
+            public void run(int index, String remoteFile) throws SSHApiException {
+                localFiles[index] = download(remoteFile, localDirectory);
+            }
+        });
+        log.info(statistics.toString());
+        return Arrays.asList(localFiles);
+    }
+
+    /**
+     * Copies a set of local files to the given remote paths, transferring up to {@link #PARALLEL_TRANSFERS} files at
+     * the same time.
+     *
+     * @param transfers remote paths keyed by the local files to copy there
+     */
+    public void upload(final Map<String, String> transfers) throws SSHApiException {
+        runAll(new ArrayList<String>(transfers.keySet()), new FileTask() {
+            public void run(int index, String localFile) throws SSHApiException {
+                upload(localFile, transfers.get(localFile));
+            }
+        });
+        log.info(statistics.toString());
+    }
+
+    public TransferStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return transfer statistics of every host files were transferred to or from
+     */
+    public static Collection<TransferStatistics> getAllStatistics() {
+        return Collections.unmodifiableCollection(hostStatistics.values());
+    }
+
+    /**
+     * @return transfer statistics of all the clusters talking to the given host
+     */
+    public static TransferStatistics getStatistics(String host) {
+        TransferStatistics statistics = hostStatistics.get(host);
+        if (statistics == null) {
+            statistics = new TransferStatistics(host);
+            TransferStatistics existing = hostStatistics.putIfAbsent(host, statistics);
+            if (existing != null) {
+                statistics = existing;
+            }
+        }
+        return statistics;
+    }
+
+    private interface Transfer {
+        void sftp(ChannelSftp sftp) throws SftpException, IOException;
+
+        void scp(Session session) throws IOException, JSchException, SSHApiException;
+    }
+
+    /**
+     * The remote file operations a transfer needs, so transfers can be run against something else than an sftp
+     * channel.
+     */
+    interface RemoteFileSystem {
+        /**
+         * @return size in bytes, modification time in seconds and whether the path is a directory, or null if the
+         *         path does not exist
+         */
+        RemoteFile stat(String path) throws SftpException, IOException;
+
+        InputStream get(String path, long offset) throws SftpException, IOException;
+
+        OutputStream put(String path, boolean append) throws SftpException, IOException;
+
+        void setMtime(String path, int mtime) throws SftpException, IOException;
+
+        void rename(String oldPath, String newPath) throws SftpException, IOException;
+
+        void rm(String path) throws SftpException, IOException;
+    }
+
+    static class RemoteFile {
+        final long size;
+        final int mtime;
+        final boolean directory;
+
+        RemoteFile(long size, int mtime, boolean directory) {
+            this.size = size;
+            this.mtime = mtime;
+            this.directory = directory;
+        }
+    }
+
+    private static class SftpFileSystem implements RemoteFileSystem {
+        private final ChannelSftp sftp;
+
+        private SftpFileSystem(ChannelSftp sftp) {
+            this.sftp = sftp;
+        }
+
+        public RemoteFile stat(String path) throws SftpException {
+            try {
+                SftpATTRS attributes = sftp.stat(path);
+                return new RemoteFile(attributes.getSize(), attributes.getMTime(), attributes.isDir());
+            } catch (SftpException e) {
+                if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                    return null;
+                }
+                throw e;
+            }
+        }
+
+        public InputStream get(String path, long offset) throws SftpException {
+            return sftp.get(path, null, offset);
+        }
+
+        public OutputStream put(String path, boolean append) throws SftpException {
+            return sftp.put(path, null, append ? ChannelSftp.APPEND : ChannelSftp.OVERWRITE, 0);
+        }
+
+        public void setMtime(String path, int mtime) throws SftpException {
+            sftp.setMtime(path, mtime);
+        }
+
+        public void rename(String oldPath, String newPath) throws SftpException {
+            sftp.rename(oldPath, newPath);
+        }
+
+        public void rm(String path) throws SftpException {
+            sftp.rm(path);
+        }
+    }
+
+    private interface FileTask {
+        void run(int index, String file) throws SSHApiException;
+    }
+
+    private void transfer(Transfer transfer, boolean scpOnly, String errorMessage) throws SSHApiException {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            Session session = sessionPool.borrow();
+            boolean invalid = false;
+            try {
+                ChannelSftp sftp = scpOnly ? null : openSftp(session);
+                if (sftp == null) {
+                    transfer.scp(session);
+                } else {
+                    try {
+                        transfer.sftp(sftp);
+                    } finally {
+                        sftp.disconnect();
+                    }
+                }
+                statistics.files.incrementAndGet();
+                statistics.nanos.addAndGet(System.nanoTime() - start);
+                if (log.isDebugEnabled()) {
+                    log.debug(statistics.toString());
+                }
+                return;
+            } catch (SftpException e) {
+                // the remote side refused the operation, retrying on another session will not help
+                statistics.failures.incrementAndGet();
+                throw new SSHApiException(errorMessage, e);
+            } catch (Exception e) {
+                invalid = true;
+                if (attempt == MAX_ATTEMPTS) {
+                    statistics.failures.incrementAndGet();
+                    throw new SSHApiException(errorMessage, e);
+                }
+                log.error("Error performing file transfer but doing a retry", e);
+            } finally {
+                sessionPool.release(session, invalid);
+            }
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SSHApiException(errorMessage, e);
+            }
+        }
+    }
+
+    /**
+     * @return a connected sftp channel, or null if the host does not offer the sftp subsystem
+     */
+    private ChannelSftp openSftp(Session session) throws JSchException {
+        ChannelSftp sftp = (ChannelSftp) session.openChannel("sftp");
+        try {
+            sftp.connect();
+            return sftp;
+        } catch (JSchException e) {
+            sftp.disconnect();
+            if (!session.isConnected()) {
+                throw e;
+            }
+            log.debug("sftp is not available on " + host + ", falling back to scp", e);
+            return null;
+        }
+    }
+
+    void get(RemoteFileSystem remote, String remoteFile, File localFile) throws SftpException, IOException {
+        RemoteFile source = remote.stat(remoteFile);
+        if (source == null) {
+            throw new SftpException(ChannelSftp.SSH_FX_NO_SUCH_FILE, "No such file " + remoteFile);
+        }
+        long remoteModified = source.mtime * 1000L;
+        if (!resume) {
+            download(remote, remoteFile, localFile, 0);
+            localFile.setLastModified(remoteModified);
+            return;
+        }
+        if (localFile.isFile() && localFile.length() == source.size && localFile.lastModified() == remoteModified) {
+            log.info("Local file " + localFile.getAbsolutePath() + " is already up to date, skipping the transfer");
+            statistics.skipped.incrementAndGet();
+            return;
+        }
+
+        File partFile = new File(localFile.getPath() + PART_SUFFIX);
+        long offset = 0;
+        if (partFile.isFile() && partFile.lastModified() == remoteModified && partFile.length() < source.size) {
+            offset = partFile.length();
+            statistics.resumed.incrementAndGet();
+        }
+        try {
+            download(remote, remoteFile, partFile, offset);
+        } finally {
+            // ties the part file to this version of the source, a changed source is copied again from the start
+            partFile.setLastModified(remoteModified);
+        }
+        if (partFile.length() != source.size) {
+            throw new IOException("Transferred " + partFile.length() + " bytes of " + remoteFile + ", expected "
+                    + source.size);
+        }
+        if (localFile.exists() && !localFile.delete()) {
+            throw new IOException("Unable to replace " + localFile.getAbsolutePath());
+        }
+        if (!partFile.renameTo(localFile)) {
+            throw new IOException("Unable to rename " + partFile.getAbsolutePath() + " to " + localFile.getName());
+        }
+        // the modification time marks the file as complete, so a later transfer of the same file can be skipped
+        localFile.setLastModified(remoteModified);
+    }
+
+    private void download(RemoteFileSystem remote, String remoteFile, File localFile, long offset)
+            throws SftpException, IOException {
+        RandomAccessFile file = new RandomAccessFile(localFile, "rw");
+        try {
+            FileChannel channel = file.getChannel();
+            channel.truncate(offset);
+            channel.position(offset);
+            InputStream in = remote.get(remoteFile, offset);
+            try {
+                byte[] buffer = new byte[bufferSize];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        channel.write(byteBuffer);
+                    }
+                    statistics.bytes.addAndGet(read);
+                }
+            } finally {
+                in.close();
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    void put(RemoteFileSystem remote, File localFile, String remotePath) throws SftpException, IOException {
+        String remoteFile = remotePath;
+        RemoteFile target = remote.stat(remoteFile);
+        if (target != null && target.directory) {
+            remoteFile = remoteFile + "/" + localFile.getName();
+            target = remote.stat(remoteFile);
+        }
+        long localSize = localFile.length();
+        int localModified = (int) (localFile.lastModified() / 1000);
+        if (!resume) {
+            upload(remote, localFile, remoteFile, 0);
+            remote.setMtime(remoteFile, localModified);
+            return;
+        }
+        if (target != null && !target.directory && target.size == localSize && target.mtime == localModified) {
+            log.info("Remote file " + remoteFile + " is already up to date, skipping the transfer");
+            statistics.skipped.incrementAndGet();
+            return;
+        }
+
+        String partFile = remoteFile + PART_SUFFIX;
+        RemoteFile part = remote.stat(partFile);
+        long offset = 0;
+        if (part != null && !part.directory && part.mtime == localModified && part.size < localSize) {
+            offset = part.size;
+            statistics.resumed.incrementAndGet();
+        }
+        try {
+            upload(remote, localFile, partFile, offset);
+        } finally {
+            // ties the part file to this version of the source, a changed source is copied again from the start
+            try {
+                remote.setMtime(partFile, localModified);
+            } catch (Exception e) {
+                log.debug("Unable to set the modification time of " + partFile, e);
+            }
+        }
+        part = remote.stat(partFile);
+        if (part == null || part.size != localSize) {
+            throw new IOException("Transferred " + (part == null ? 0 : part.size) + " bytes of "
+                    + localFile.getAbsolutePath() + ", expected " + localSize);
+        }
+        if (target != null) {
+            // sftp does not rename over an existing file
+            remote.rm(remoteFile);
+        }
+        remote.rename(partFile, remoteFile);
+        remote.setMtime(remoteFile, localModified);
+    }
+
+    private void upload(RemoteFileSystem remote, File localFile, String remoteFile, long offset)
+            throws SftpException, IOException {
+        RandomAccessFile file = new RandomAccessFile(localFile, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            channel.position(offset);
+            // when resuming the channel appends to the part written before
+            OutputStream out = remote.put(remoteFile, offset > 0);
+            try {
+                ByteBuffer byteBuffer = ByteBuffer.allocate(bufferSize);
+                while (channel.read(byteBuffer) >= 0) {
+                    byteBuffer.flip();
+                    out.write(byteBuffer.array(), 0, byteBuffer.limit());
+                    statistics.bytes.addAndGet(byteBuffer.limit());
+                    byteBuffer.clear();
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    private void runAll(List<String> files, final FileTask task) throws SSHApiException {
+        if (files.size() <= 1 || parallelTransfers == 1) {
+            for (int i = 0; i < files.size(); i++) {
+                task.run(i, files.get(i));
+            }
+            return;
+        }
+        final List<String> pending = files;
+        final AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<Future<?>>();
+        for (int i = 0; i < Math.min(parallelTransfers, files.size()); i++) {
+            workers.add(transferExecutor.submit(new Callable<Void>() {
+                public Void call() throws SSHApiException {
+                    int index;
+                    while ((index = next.getAndIncrement()) < pending.size()) {
+                        task.run(index, pending.get(index));
+                    }
+                    return null;
+                }
+            }));
+        }
+        SSHApiException failure = null;
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new SSHApiException("Interrupted while transferring files to " + host, e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof SSHApiException ? (SSHApiException) e.getCause() :
+                            new SSHApiException("Error while transferring files to " + host, e);
+                }
+                // stop the other workers from picking up new files
+                next.set(pending.size());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * sftp does not expand the home directory, but resolves relative paths against it.
+     */
+    private static String remotePath(String path) {
+        return path.startsWith("~/") ? path.substring(2) : path;
+    }
+
+    private static boolean hasWildcard(String path) {
+        return path.indexOf('*') >= 0 || path.indexOf('?') >= 0 || path.indexOf('[') >= 0;
+    }
+
+    private static String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static int getInt(ConfigReader configReader, String key, int defaultValue) {
+        String value = configReader.getConfiguration(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Files, bytes and time spent transferring to and from a single host.
+     */
+    public static class TransferStatistics {
+        private final String host;
+        private final AtomicLong files = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong resumed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        private TransferStatistics(String host) {
+            this.host = host;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public long getFileCount() {
+            return files.get();
+        }
+
+        public long getByteCount() {
+            return bytes.get();
+        }
+
+        public long getResumedCount() {
+            return resumed.get();
+        }
+
+        public long getSkippedCount() {
+            return skipped.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        /**
+         * @return bytes per second over all transfers, concurrent transfers count their time separately
+         */
+        public double getThroughput() {
+            long elapsed = nanos.get();
+            return elapsed == 0 ? 0 : bytes.get() * 1000000000.0 / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "Transfers to " + host + " [files=" + getFileCount() + ", bytes=" + getByteCount() + ", resumed="
+                    + getResumedCount() + ", skipped=" + getSkippedCount() + ", failures=" + getFailureCount()
+                    + ", throughput=" + String.format("%.1f", getThroughput() / 1024 / 1024) + " MB/s]";
+        }
+    }
+}
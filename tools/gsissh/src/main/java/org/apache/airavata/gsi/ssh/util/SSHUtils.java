@@ -40,6 +40,11 @@ import java.util.List;
 public class SSHUtils {
     private static final org.slf4j.Logger log = LoggerFactory.getLogger(SSHUtils.class);
 
+    /**
+     * Buffer used by the session based scp methods, large enough to keep the channel window full
+     */
+    public static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
     static {
         JSch.setConfig("gssapi-with-mic.x509", "org.apache.airavata.gsi.ssh.GSSContextX509");
         JSch.setConfig("userauth.gssapi-with-mic", "com.jcraft.jsch.UserAuthGSSAPIWithMICGSSCredentials");
@@ -291,7 +296,7 @@ public class SSHUtils {
 
         // send a content of lFile
         fis = new FileInputStream(localFile);
-        byte[] buf = new byte[1024];
+        byte[] buf = new byte[TRANSFER_BUFFER_SIZE];
         while (true) {
             int len = fis.read(buf, 0, buf.length);
             if (len <= 0) break;
@@ -320,6 +325,70 @@ public class SSHUtils {
         return remoteFile;
     }
 
+    /**
+     * This will write the given content to a file in a remote directory, without the content ever touching the
+     * local disk
+     *
+     * @param remoteDirectory remote directory to create the file in
+     * @param fileName        name of the remote file, this should not include '/'
+     * @param content         content of the file
+     * @param session
+     * @return returns the final remote file path
+     * @throws IOException
+     * @throws JSchException
+     * @throws SSHApiException
+     */
+    public static String scpTo(String remoteDirectory, String fileName, byte[] content, Session session) throws IOException, JSchException, SSHApiException {
+        // exec 'scp -t rdir' remotely
+        String command = "scp -t " + remoteDirectory;
+        Channel channel = session.openChannel("exec");
+
+        StandardOutReader stdOutReader = new StandardOutReader();
+        ((ChannelExec) channel).setErrStream(stdOutReader.getStandardError());
+        ((ChannelExec) channel).setCommand(command);
+
+        // get I/O streams for remote scp
+        OutputStream out = channel.getOutputStream();
+        InputStream in = channel.getInputStream();
+
+        channel.connect();
+        try {
+            if (checkAck(in) != 0) {
+                String error = "Error Reading input Stream";
+                log.error(error);
+                throw new SSHApiException(error);
+            }
+
+            // send "C0644 filesize filename"
+            command = "C0644 " + content.length + " " + fileName + "\n";
+            out.write(command.getBytes());
+            out.flush();
+            if (checkAck(in) != 0) {
+                String error = "Error Reading input Stream";
+                log.error(error);
+                throw new SSHApiException(error);
+            }
+
+            out.write(content);
+            // send '\0'
+            out.write(0);
+            out.flush();
+            if (checkAck(in) != 0) {
+                String error = "Error Reading input Stream";
+                log.error(error);
+                throw new SSHApiException(error);
+            }
+            out.close();
+            stdOutReader.onOutput(channel);
+        } finally {
+            channel.disconnect();
+        }
+        if (stdOutReader.getStdErrorString().contains("scp:")) {
+            throw new SSHApiException(stdOutReader.getStdErrorString());
+        }
+        return remoteDirectory + "/" + fileName;
+    }
+
     /**
      * This method will copy a remote file to a local directory
      *
@@ -349,7 +418,7 @@ public class SSHUtils {
 
             channel.connect();
 
-            byte[] buf = new byte[1024];
+            byte[] buf = new byte[TRANSFER_BUFFER_SIZE];
 
             // send '\0'
             buf[0] = 0;
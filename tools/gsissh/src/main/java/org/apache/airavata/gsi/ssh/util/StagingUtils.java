@@ -0,0 +1,119 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+package org.apache.airavata.gsi.ssh.util;
+
+import org.apache.airavata.gsi.ssh.api.Cluster;
+import org.apache.airavata.gsi.ssh.api.SSHApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stages the input files of a job into its input data directory on the cluster. Inputs starting with "scp:" are
+ * copied from another remote host, local inputs (with or without a "file:" prefix) are uploaded, and an upload is
+ * tried up to three times.
+ */
+public class StagingUtils {
+    private static final Logger log = LoggerFactory.getLogger(StagingUtils.class);
+
+    private static final int UPLOAD_ATTEMPTS = 3;
+
+    private static final long UPLOAD_RETRY_DELAY = 2000;
+
+    /**
+     * @return the path of the staged file on the cluster
+     */
+    public static String stageInputFile(Cluster cluster, String inputDataDirectory, String input)
+            throws SSHApiException {
+        String targetFile = getTargetFile(inputDataDirectory, input);
+        if (input.startsWith("scp:")) {
+            cluster.scpThirdParty(input.substring(input.indexOf(":") + 1), targetFile);
+        } else {
+            Map<String, String> transfers = new LinkedHashMap<String, String>();
+            transfers.put(getLocalFile(input), targetFile);
+            upload(cluster, transfers);
+        }
+        return targetFile;
+    }
+
+    /**
+     * Stages the inputs of an array parameter. Inputs from other remote hosts are copied one at a time, the local
+     * ones are uploaded together, several at a time.
+     *
+     * @return the paths of the staged files on the cluster, in the order of the inputs
+     */
+    public static List<String> stageInputFiles(Cluster cluster, String inputDataDirectory, List<String> inputs)
+            throws SSHApiException {
+        List<String> targetFiles = new ArrayList<String>();
+        Map<String, String> transfers = new LinkedHashMap<String, String>();
+        for (String input : inputs) {
+            if (input.startsWith("scp:")) {
+                targetFiles.add(stageInputFile(cluster, inputDataDirectory, input));
+                continue;
+            }
+            String targetFile = getTargetFile(inputDataDirectory, input);
+            transfers.put(getLocalFile(input), targetFile);
+            targetFiles.add(targetFile);
+        }
+        if (!transfers.isEmpty()) {
+            upload(cluster, transfers);
+        }
+        return targetFiles;
+    }
+
+    private static void upload(Cluster cluster, Map<String, String> transfers) throws SSHApiException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (transfers.size() == 1) {
+                    Map.Entry<String, String> transfer = transfers.entrySet().iterator().next();
+                    cluster.scpTo(transfer.getValue(), transfer.getKey());
+                } else {
+                    cluster.scpTo(transfers);
+                }
+                return;
+            } catch (SSHApiException e) {
+                if (attempt == UPLOAD_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Uploading input files failed, retrying: " + e.getLocalizedMessage());
+            }
+            try {
+                Thread.sleep(UPLOAD_RETRY_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SSHApiException("Interrupted while uploading input files", e);
+            }
+        }
+    }
+
+    private static String getTargetFile(String inputDataDirectory, String input) {
+        return inputDataDirectory + File.separator + input.substring(input.lastIndexOf(File.separator) + 1);
+    }
+
+    private static String getLocalFile(String input) {
+        return input.startsWith("file") ? input.substring(input.indexOf(":") + 1) : input;
+    }
+}
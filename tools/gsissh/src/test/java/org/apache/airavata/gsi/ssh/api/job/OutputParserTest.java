@@ -0,0 +1,145 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.gsi.ssh.api.job;
+
+import org.apache.airavata.gsi.ssh.impl.JobStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OutputParserTest {
+    private static final int JOBS = 1000;
+
+    private static final String PBS_OUTPUT = "gordon-fe2.sdsc.edu: \n" +
+            "                                                                         Req'd  Req'd   Elap\n" +
+            "Job ID               Username Queue    Jobname          SessID NDS   TSK Memory Time  S Time\n" +
+            "-------------------- -------- -------- ---------------- ------ ----- --- ------ ----- - -----\n" +
+            "1234567.gordon-fe2.l us3      normal   100012345         12345     1  16    --  01:00 R 00:10\n" +
+            "1234568.gordon-fe2.l us3      normal   100067890           --      1  16    --  01:00 Q   -- \n";
+
+    private static final String SLURM_OUTPUT =
+            "             JOBID PARTITION     NAME     USER ST       TIME  NODES NODELIST(REASON)\n" +
+            "           2718281    normal 10001234    us3  R       5:12      1 c401-101\n" +
+            "           2718282    normal 10005678    us3 PD       0:00      1 (Priority)\n";
+
+    private static final String SGE_OUTPUT =
+            "job-ID  prior   name       user         state submit/start at     queue                          slots ja-task-ID\n" +
+            "-----------------------------------------------------------------------------------------------------------------\n" +
+            "424242 0.50500 A100012345 us3          r     08/18/2014 10:10:10 all.q@compute-0-1.local            1\n" +
+            "424243 0.00000 A100067890 us3          E     08/18/2014 10:10:12                                    1\n" +
+            "424244 0.00000 A100012399 us3          qw    08/18/2014 10:10:14                                    1\n";
+
+    @Test
+    public void testPBSStatuses() throws Exception {
+        Map<String, JobStatus> statuses = statusMap("1234567.gordon-fe2.local,100012345",
+                "1234568.gordon-fe2.local,100067890", "1234569.gordon-fe2.local,100099999");
+        new PBSOutputParser().parse("us3", statuses, PBS_OUTPUT);
+        Assert.assertEquals(statuses.get("1234567.gordon-fe2.local,100012345"), JobStatus.R);
+        Assert.assertEquals(statuses.get("1234568.gordon-fe2.local,100067890"), JobStatus.Q);
+        Assert.assertEquals(statuses.get("1234569.gordon-fe2.local,100099999"), JobStatus.U);
+    }
+
+    @Test
+    public void testSlurmStatuses() throws Exception {
+        Map<String, JobStatus> statuses = statusMap("2718281,1000123456", "2718282,1000567890");
+        new SlurmOutputParser().parse("us3", statuses, SLURM_OUTPUT);
+        Assert.assertEquals(statuses.get("2718281,1000123456"), JobStatus.R);
+        Assert.assertEquals(statuses.get("2718282,1000567890"), JobStatus.PD);
+    }
+
+    @Test
+    public void testSGEStatuses() throws Exception {
+        Map<String, JobStatus> statuses = statusMap("424242,A100012345", "424243,A100067890");
+        new SGEOutputParser().parse("us3", statuses, SGE_OUTPUT);
+        Assert.assertEquals(statuses.get("424242,A100012345"), JobStatus.r);
+        Assert.assertEquals(statuses.get("424243,A100067890"), JobStatus.Er);
+
+        // jobs sharing a name prefix keep their own states
+        statuses = statusMap("424244,A100012399", ",A100067890");
+        new SGEOutputParser().parse("us3", statuses, SGE_OUTPUT);
+        Assert.assertEquals(statuses.get("424244,A100012399"), JobStatus.qw);
+        Assert.assertEquals(statuses.get(",A100067890"), JobStatus.Er);
+    }
+
+    @Test
+    public void testSGEResolvesByJobId() throws Exception {
+        // the id decides, even when the name belongs to another listed job
+        Map<String, JobStatus> statuses = statusMap("424242,A100067890", "424244,A100012345");
+        new SGEOutputParser().parse("us3", statuses, SGE_OUTPUT);
+        Assert.assertEquals(statuses.get("424242,A100067890"), JobStatus.r);
+        Assert.assertEquals(statuses.get("424244,A100012345"), JobStatus.qw);
+    }
+
+    @Test
+    public void testPBSStatusesOfManyJobs() throws Exception {
+        StringBuilder output = new StringBuilder(PBS_OUTPUT.substring(0, PBS_OUTPUT.indexOf("1234567")));
+        for (int i = 0; i < JOBS; i++) {
+            output.append(jobId(i)).append(".login1.exa us3      normal   ").append(jobName(i))
+                    .append("           --      1  16    --  01:00 ").append(i % 2 == 0 ? "Q" : "R").append("   -- \n");
+        }
+        Map<String, JobStatus> statuses = statusMap(JOBS);
+        new PBSOutputParser().parse("us3", statuses, output.toString());
+        for (int i = 0; i < JOBS; i++) {
+            Assert.assertEquals(statuses.get(jobId(i) + "," + jobName(i)), i % 2 == 0 ? JobStatus.Q : JobStatus.R);
+        }
+    }
+
+    @Test
+    public void testSlurmStatusesOfManyJobs() throws Exception {
+        StringBuilder output = new StringBuilder(SLURM_OUTPUT.substring(0, SLURM_OUTPUT.indexOf('\n') + 1));
+        for (int i = 0; i < JOBS; i++) {
+            output.append("           ").append(jobId(i)).append("    normal ").append(jobName(i).substring(0, 8))
+                    .append("      us3 ").append(i % 2 == 0 ? "PD" : " R").append("       0:00      1 c401-101\n");
+        }
+        Map<String, JobStatus> statuses = statusMap(JOBS);
+        new SlurmOutputParser().parse("us3", statuses, output.toString());
+        for (int i = 0; i < JOBS; i++) {
+            Assert.assertEquals(statuses.get(jobId(i) + "," + jobName(i)), i % 2 == 0 ? JobStatus.PD : JobStatus.R);
+        }
+    }
+
+    private static Map<String, JobStatus> statusMap(int jobs) {
+        Map<String, JobStatus> statuses = new TreeMap<String, JobStatus>();
+        for (int i = 0; i < jobs; i++) {
+            statuses.put(jobId(i) + "," + jobName(i), JobStatus.U);
+        }
+        return statuses;
+    }
+
+    private static String jobId(int i) {
+        return String.valueOf(1000000 + i);
+    }
+
+    private static String jobName(int i) {
+        return String.valueOf(100000000 + i * 1000);
+    }
+
+    private static Map<String, JobStatus> statusMap(String... keys) {
+        Map<String, JobStatus> statuses = new TreeMap<String, JobStatus>();
+        for (String key : keys) {
+            statuses.put(key, JobStatus.U);
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.gsi.ssh.impl;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import org.apache.airavata.gsi.ssh.api.SSHApiException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SSHSessionPoolTest {
+
+    @Test
+    public void testChannelsAreMultiplexedOverSessions() throws Exception {
+        TestPool pool = new TestPool(2, 3, 100);
+        Set<Session> sessions = new HashSet<Session>();
+        for (int i = 0; i < 6; i++) {
+            sessions.add(pool.borrow());
+        }
+        Assert.assertEquals(sessions.size(), 2);
+        Assert.assertEquals(pool.getCreatedSessionCount(), 2);
+        Assert.assertEquals(pool.getLeasedChannelCount(), 6);
+        pool.close();
+    }
+
+    @Test
+    public void testBorrowWaitsAndTimesOutWhenPoolIsFull() throws Exception {
+        TestPool pool = new TestPool(1, 1, 100);
+        final Session session = pool.borrow();
+        try {
+            pool.borrow();
+            Assert.fail("Borrowing from a full pool should time out");
+        } catch (SSHApiException e) {
+            // expected
+        }
+        Assert.assertEquals(pool.getTimeoutCount(), 1);
+
+        final TestPool waitingPool = new TestPool(1, 1, 5000);
+        final Session leased = waitingPool.borrow();
+        Thread releaser = new Thread() {
+            public void run() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                waitingPool.release(leased, false);
+            }
+        };
+        releaser.start();
+        Assert.assertSame(waitingPool.borrow(), leased);
+        Assert.assertEquals(waitingPool.getWaitCount(), 1);
+        pool.release(session, false);
+        pool.close();
+        waitingPool.close();
+    }
+
+    @Test
+    public void testBrokenSessionsAreReplaced() throws Exception {
+        TestPool pool = new TestPool(2, 2, 100);
+        Session first = pool.borrow();
+        pool.release(first, true);
+        Assert.assertEquals(pool.getSessionCount(), 0);
+        Assert.assertTrue(pool.disconnected.contains(first));
+
+        Session second = pool.borrow();
+        Assert.assertNotSame(second, first);
+        pool.release(second, false);
+        pool.unresponsive.add(second);
+        Thread.sleep(10);
+        pool.maintain();
+        Assert.assertEquals(pool.getSessionCount(), 0);
+        Assert.assertEquals(pool.getKeepAliveFailureCount(), 1);
+        pool.close();
+    }
+
+    @Test
+    public void testAuthenticationFailureClosesPool() throws Exception {
+        TestPool pool = new TestPool(2, 2, 100, new SSHSessionPool.SessionFactory() {
+            public Session createSession() throws SSHApiException {
+                throw new SSHApiException("An exception occurred while connecting to server.", new JSchException("Auth fail"));
+            }
+        });
+        try {
+            pool.borrow();
+            Assert.fail("The authentication failure was not reported");
+        } catch (SSHApiException e) {
+            // expected
+        }
+        Assert.assertTrue(pool.isClosed());
+
+        TestPool unreachable = new TestPool(2, 2, 100, new SSHSessionPool.SessionFactory() {
+            public Session createSession() throws SSHApiException {
+                throw new SSHApiException("An exception occurred while connecting to server.",
+                        new JSchException("timeout: socket is not established"));
+            }
+        });
+        try {
+            unreachable.borrow();
+            Assert.fail("The connection failure was not reported");
+        } catch (SSHApiException e) {
+            // expected
+        }
+        Assert.assertFalse(unreachable.isClosed());
+        unreachable.close();
+    }
+
+    private static class TestPool extends SSHSessionPool {
+        // the maintenance thread reads these while the test updates them
+        private final Set<Session> disconnected = Collections.synchronizedSet(new HashSet<Session>());
+        private final Set<Session> unresponsive = Collections.synchronizedSet(new HashSet<Session>());
+
+        private TestPool(int maxSessions, int maxChannelsPerSession, long maxWait) {
+            this(maxSessions, maxChannelsPerSession, maxWait, new SessionFactory() {
+                public Session createSession() throws SSHApiException {
+                    try {
+                        return new JSch().getSession("test", "localhost", 22);
+                    } catch (JSchException e) {
+                        throw new SSHApiException("Unable to create session", e);
+                    }
+                }
+            });
+        }
+
+        private TestPool(int maxSessions, int maxChannelsPerSession, long maxWait, SessionFactory sessionFactory) {
+            super("test@localhost:22", sessionFactory, maxSessions, maxChannelsPerSession, maxWait, 600000, 1);
+        }
+
+        @Override
+        protected boolean isConnected(Session session) {
+            return !disconnected.contains(session);
+        }
+
+        @Override
+        protected void sendKeepAlive(Session session) throws Exception {
+            if (unresponsive.contains(session)) {
+                throw new Exception("No response");
+            }
+        }
+
+        @Override
+        protected void disconnect(Session session) {
+            disconnected.add(session);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.airavata.gsi.ssh.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+public class SSHTransferEngineTest {
+    private static final long SOURCE_MODIFIED = 1400000000000L;
+
+    private File localDir;
+    private File remoteDir;
+    private LocalRemoteFileSystem remote;
+    private int engines;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        localDir = createDirectory("local");
+        remoteDir = createDirectory("remote");
+        remote = new LocalRemoteFileSystem(remoteDir);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        delete(localDir);
+        delete(remoteDir);
+    }
+
+    @Test
+    public void testFreshTransfers() throws Exception {
+        SSHTransferEngine engine = engine(true);
+        byte[] data = data(100000);
+        write(new File(remoteDir, "out.dat"), data, SOURCE_MODIFIED);
+        File local = new File(localDir, "out.dat");
+        engine.get(remote, "out.dat", local);
+        Assert.assertTrue(Arrays.equals(read(local), data));
+        Assert.assertEquals(local.lastModified(), SOURCE_MODIFIED);
+        Assert.assertFalse(new File(localDir, "out.dat.part").exists());
+
+        write(new File(localDir, "in.dat"), data, SOURCE_MODIFIED);
+        engine.put(remote, new File(localDir, "in.dat"), "in.dat");
+        Assert.assertTrue(Arrays.equals(read(new File(remoteDir, "in.dat")), data));
+        Assert.assertFalse(new File(remoteDir, "in.dat.part").exists());
+        Assert.assertEquals(engine.getStatistics().getByteCount(), 2 * data.length);
+        Assert.assertEquals(engine.getStatistics().getResumedCount(), 0);
+    }
+
+    @Test
+    public void testInterruptedTransfersAreResumedFromTheirPartFile() throws Exception {
+        SSHTransferEngine engine = engine(true);
+        byte[] data = data(100000);
+        write(new File(remoteDir, "out.dat"), data, SOURCE_MODIFIED);
+        write(new File(localDir, "out.dat.part"), Arrays.copyOf(data, 40000), SOURCE_MODIFIED);
+        File local = new File(localDir, "out.dat");
+        engine.get(remote, "out.dat", local);
+        Assert.assertTrue(Arrays.equals(read(local), data));
+        Assert.assertFalse(new File(localDir, "out.dat.part").exists());
+
+        write(new File(localDir, "in.dat"), data, SOURCE_MODIFIED);
+        write(new File(remoteDir, "in.dat.part"), Arrays.copyOf(data, 70000), SOURCE_MODIFIED);
+        engine.put(remote, new File(localDir, "in.dat"), "in.dat");
+        Assert.assertTrue(Arrays.equals(read(new File(remoteDir, "in.dat")), data));
+        Assert.assertFalse(new File(remoteDir, "in.dat.part").exists());
+
+        Assert.assertEquals(engine.getStatistics().getResumedCount(), 2);
+        Assert.assertEquals(engine.getStatistics().getByteCount(), 60000 + 30000);
+    }
+
+    @Test
+    public void testCompleteTargetsAreSkipped() throws Exception {
+        SSHTransferEngine engine = engine(true);
+        write(new File(remoteDir, "out.dat"), data(1000), SOURCE_MODIFIED);
+        byte[] existing = new byte[1000];
+        write(new File(localDir, "out.dat"), existing, SOURCE_MODIFIED);
+        engine.get(remote, "out.dat", new File(localDir, "out.dat"));
+        Assert.assertTrue(Arrays.equals(read(new File(localDir, "out.dat")), existing));
+        Assert.assertEquals(engine.getStatistics().getSkippedCount(), 1);
+        Assert.assertEquals(engine.getStatistics().getByteCount(), 0);
+
+        // without resuming every file is copied in full
+        SSHTransferEngine copyAll = engine(false);
+        copyAll.get(remote, "out.dat", new File(localDir, "out.dat"));
+        Assert.assertTrue(Arrays.equals(read(new File(localDir, "out.dat")), data(1000)));
+        Assert.assertEquals(copyAll.getStatistics().getSkippedCount(), 0);
+    }
+
+    @Test
+    public void testPartFilesOfAnotherSourceAreNotResumed() throws Exception {
+        SSHTransferEngine engine = engine(true);
+        byte[] data = data(100000);
+        write(new File(remoteDir, "out.dat"), data, SOURCE_MODIFIED);
+        // left by a transfer of an older version of the file
+        write(new File(localDir, "out.dat.part"), new byte[40000], SOURCE_MODIFIED - 60000);
+        File local = new File(localDir, "out.dat");
+        engine.get(remote, "out.dat", local);
+        Assert.assertTrue(Arrays.equals(read(local), data));
+
+        write(new File(localDir, "in.dat"), data, SOURCE_MODIFIED);
+        write(new File(remoteDir, "in.dat.part"), new byte[70000], SOURCE_MODIFIED - 60000);
+        // an existing target which is not a prefix of the source is replaced, not appended to
+        write(new File(remoteDir, "in.dat"), new byte[50000], SOURCE_MODIFIED - 60000);
+        engine.put(remote, new File(localDir, "in.dat"), "in.dat");
+        Assert.assertTrue(Arrays.equals(read(new File(remoteDir, "in.dat")), data));
+
+        Assert.assertEquals(engine.getStatistics().getResumedCount(), 0);
+        Assert.assertEquals(engine.getStatistics().getByteCount(), 2 * data.length);
+    }
+
+    private SSHTransferEngine engine(boolean resume) {
+        return new SSHTransferEngine("transfer-test-" + (++engines) + "-" + System.nanoTime(), null, 8 * 1024, 1,
+                resume);
+    }
+
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + 7);
+        }
+        return data;
+    }
+
+    private static void write(File file, byte[] data, long lastModified) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+        file.setLastModified(lastModified);
+    }
+
+    private static byte[] read(File file) throws IOException {
+        byte[] data = new byte[(int) file.length()];
+        InputStream in = new FileInputStream(file);
+        try {
+            int offset = 0;
+            while (offset < data.length) {
+                offset += in.read(data, offset, data.length - offset);
+            }
+        } finally {
+            in.close();
+        }
+        return data;
+    }
+
+    private static File createDirectory(String prefix) throws IOException {
+        File directory = File.createTempFile(prefix, "");
+        directory.delete();
+        directory.mkdirs();
+        return directory;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * A remote file system on a local directory, which like sftp does not rename over an existing file.
+     */
+    private static class LocalRemoteFileSystem implements SSHTransferEngine.RemoteFileSystem {
+        private final File root;
+
+        private LocalRemoteFileSystem(File root) {
+            this.root = root;
+        }
+
+        public SSHTransferEngine.RemoteFile stat(String path) {
+            File file = new File(root, path);
+            if (!file.exists()) {
+                return null;
+            }
+            return new SSHTransferEngine.RemoteFile(file.length(), (int) (file.lastModified() / 1000),
+                    file.isDirectory());
+        }
+
+        public InputStream get(String path, long offset) throws IOException {
+            InputStream in = new FileInputStream(new File(root, path));
+            long skipped = 0;
+            while (skipped < offset) {
+                skipped += in.skip(offset - skipped);
+            }
+            return in;
+        }
+
+        public OutputStream put(String path, boolean append) throws IOException {
+            return new FileOutputStream(new File(root, path), append);
+        }
+
+        public void setMtime(String path, int mtime) {
+            new File(root, path).setLastModified(mtime * 1000L);
+        }
+
+        public void rename(String oldPath, String newPath) throws IOException {
+            File target = new File(root, newPath);
+            if (target.exists() || !new File(root, oldPath).renameTo(target)) {
+                throw new IOException("Unable to rename " + oldPath + " to " + newPath);
+            }
+        }
+
+        public void rm(String path) throws IOException {
+            if (!new File(root, path).delete()) {
+                throw new IOException("Unable to remove " + path);
+            }
+        }
+    }
+}